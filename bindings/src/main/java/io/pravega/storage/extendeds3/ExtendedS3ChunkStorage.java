@@ -20,6 +20,7 @@ import com.emc.object.s3.request.AbortMultipartUploadRequest;
 import com.emc.object.s3.request.CompleteMultipartUploadRequest;
 import com.emc.object.s3.request.CopyPartRequest;
 import com.emc.object.s3.request.PutObjectRequest;
+import com.emc.object.s3.request.UploadPartRequest;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import io.pravega.common.io.StreamHelpers;
@@ -37,12 +38,16 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.http.HttpStatus;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.InputStream;
 
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.concurrent.GuardedBy;
 
 /**
  * {@link ChunkStorage} for extended S3 based storage.
@@ -51,6 +56,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
  *
  * This implementation works under the assumption that data is only appended and never modified.
  * The concat operation is implemented as multi part copy.
+ * When the chunk is written in a single operation (i.e. append is not supported) and the write is at least
+ * {@link ExtendedS3StorageConfig#getMultipartUploadThreshold()} bytes, the object is created using multi part upload, with
+ * up to {@link ExtendedS3StorageConfig#getMultipartUploadConcurrency()} parts being uploaded concurrently.
  */
 
 @Slf4j
@@ -62,6 +70,7 @@ public class ExtendedS3ChunkStorage extends BaseChunkStorage {
     private final boolean shouldClose;
     private final AtomicBoolean closed;
     private final boolean supportsAppend;
+    private final Executor executor;
 
     //endregion
 
@@ -73,6 +82,7 @@ public class ExtendedS3ChunkStorage extends BaseChunkStorage {
         this.closed = new AtomicBoolean(false);
         this.shouldClose = shouldClose;
         this.supportsAppend = supportsAppend;
+        this.executor = executor;
     }
     //endregion
 
@@ -266,10 +276,13 @@ public class ExtendedS3ChunkStorage extends BaseChunkStorage {
     protected ChunkHandle doCreateWithContent(String chunkName, int length, InputStream data) throws ChunkStorageException {
         try {
             val objectPath = getObjectPath(chunkName);
-
-            S3ObjectMetadata metadata = new S3ObjectMetadata().withContentType("application/octet-stream").withContentLength(length);
-            val request = new PutObjectRequest(this.config.getBucket(), objectPath, data).withObjectMetadata(metadata);
-            client.putObject(request);
+            if (shouldUseMultipartUpload(length)) {
+                doMultipartUpload(objectPath, length, data);
+            } else {
+                S3ObjectMetadata metadata = new S3ObjectMetadata().withContentType("application/octet-stream").withContentLength(length);
+                val request = new PutObjectRequest(this.config.getBucket(), objectPath, data).withObjectMetadata(metadata);
+                client.putObject(request);
+            }
 
             return ChunkHandle.writeHandle(chunkName);
         } catch (Exception e) {
@@ -277,6 +290,32 @@ public class ExtendedS3ChunkStorage extends BaseChunkStorage {
         }
     }
 
+    private boolean shouldUseMultipartUpload(int length) {
+        return config.getMultipartUploadThreshold() > 0
+                && length >= config.getMultipartUploadThreshold()
+                && length > config.getMultipartUploadPartSize();
+    }
+
+    private void doMultipartUpload(String objectPath, int length, InputStream data) throws Exception {
+        String uploadId = client.initiateMultipartUpload(config.getBucket(), objectPath);
+        try {
+            val partEtags = new MultipartUpload(objectPath, uploadId, data, length).run();
+
+            //Close the upload
+            client.completeMultipartUpload(new CompleteMultipartUploadRequest(config.getBucket(),
+                    objectPath, uploadId).withParts(partEtags));
+        } catch (Exception e) {
+            // Do not let a failure to abort the upload hide the reason why it failed.
+            try {
+                client.abortMultipartUpload(new AbortMultipartUploadRequest(config.getBucket(), objectPath, uploadId));
+            } catch (Exception abortEx) {
+                log.warn("Unable to abort multipart upload {} for {}.", uploadId, objectPath, abortEx);
+                e.addSuppressed(abortEx);
+            }
+            throw e;
+        }
+    }
+
     @Override
     protected boolean checkExists(String chunkName) throws ChunkStorageException {
         try {
@@ -355,4 +394,130 @@ public class ExtendedS3ChunkStorage extends BaseChunkStorage {
 
     //endregion
 
+    //region MultipartUpload
+
+    /**
+     * Uploads the parts of a single multi part upload.
+     *
+     * Parts are read sequentially from the source {@link InputStream}, but up to
+     * {@link ExtendedS3StorageConfig#getMultipartUploadConcurrency()} of them are uploaded concurrently: the calling thread
+     * uploads parts itself and additional helpers are started on the executor. The calling thread never waits for a helper
+     * that has not yet started, so this cannot deadlock even if the executor has no free threads.
+     */
+    private class MultipartUpload {
+        private final String objectPath;
+        private final String uploadId;
+        private final InputStream data;
+        private final int partCount;
+        @GuardedBy("lock")
+        private int remaining;
+        @GuardedBy("lock")
+        private int nextPartNumber = 1;
+        @GuardedBy("lock")
+        private int activeHelpers;
+        @GuardedBy("lock")
+        private boolean acceptingHelpers = true;
+        @GuardedBy("lock")
+        private Exception failure;
+        @GuardedBy("lock")
+        private final SortedSet<MultipartPartETag> partEtags = new TreeSet<>();
+        private final Object lock = new Object();
+
+        MultipartUpload(String objectPath, String uploadId, InputStream data, int length) {
+            this.objectPath = objectPath;
+            this.uploadId = uploadId;
+            this.data = data;
+            this.remaining = length;
+            int partSize = config.getMultipartUploadPartSize();
+            this.partCount = length / partSize + (length % partSize == 0 ? 0 : 1);
+        }
+
+        /**
+         * Uploads all the parts.
+         *
+         * @return The ETags of the uploaded parts, which can be used to complete the upload.
+         * @throws Exception If any of the parts could not be read or uploaded.
+         */
+        SortedSet<MultipartPartETag> run() throws Exception {
+            int helperCount = Math.min(config.getMultipartUploadConcurrency(), partCount) - 1;
+            for (int i = 0; i < helperCount; i++) {
+                try {
+                    executor.execute(this::runHelper);
+                } catch (RejectedExecutionException ex) {
+                    // Not a problem; the calling thread will upload the remaining parts.
+                    log.debug("Unable to start multipart upload helper for {}.", objectPath, ex);
+                    break;
+                }
+            }
+
+            uploadParts();
+            synchronized (lock) {
+                acceptingHelpers = false;
+                while (activeHelpers > 0) {
+                    lock.wait();
+                }
+
+                if (failure != null) {
+                    throw failure;
+                }
+                return partEtags;
+            }
+        }
+
+        private void runHelper() {
+            synchronized (lock) {
+                if (!acceptingHelpers) {
+                    // The upload is already done.
+                    return;
+                }
+                activeHelpers++;
+            }
+
+            try {
+                uploadParts();
+            } finally {
+                synchronized (lock) {
+                    activeHelpers--;
+                    lock.notifyAll();
+                }
+            }
+        }
+
+        private void uploadParts() {
+            try {
+                while (true) {
+                    UploadPartRequest request;
+                    synchronized (lock) {
+                        if (remaining == 0 || failure != null) {
+                            return;
+                        }
+
+                        // The source can only be read sequentially, but the upload itself is done outside of the lock.
+                        int partLength = Math.min(remaining, config.getMultipartUploadPartSize());
+                        byte[] buffer = new byte[partLength];
+                        int bytesRead = StreamHelpers.readAll(data, buffer, 0, partLength);
+                        if (bytesRead != partLength) {
+                            throw new EOFException(String.format("Expected %d bytes, read %d bytes.", partLength, bytesRead));
+                        }
+                        remaining -= partLength;
+                        request = new UploadPartRequest(config.getBucket(), objectPath, uploadId, nextPartNumber++,
+                                new ByteArrayInputStream(buffer)).withContentLength((long) partLength);
+                    }
+
+                    MultipartPartETag etag = client.uploadPart(request);
+                    synchronized (lock) {
+                        partEtags.add(etag);
+                    }
+                }
+            } catch (Exception ex) {
+                synchronized (lock) {
+                    if (failure == null) {
+                        failure = ex;
+                    }
+                }
+            }
+        }
+    }
+
+    //endregion
 }
@@ -31,6 +31,14 @@ public class ExtendedS3StorageConfig {
     public static final Property<String> PREFIX = Property.named("prefix", "/");
     public static final Property<Boolean> USENONEMATCH = Property.named("noneMatch.enable", false, "useNoneMatch");
     public static final Property<Integer> SMALL_OBJECT_THRESHOLD = Property.named("concat.smallObject.threshold.size", 1024 * 1024, "smallObjectSizeLimitForConcat");
+    public static final Property<Integer> MULTIPART_UPLOAD_THRESHOLD = Property.named("multipart.upload.threshold.size", 0);
+    public static final Property<Integer> MULTIPART_UPLOAD_PART_SIZE = Property.named("multipart.upload.part.size", 5 * 1024 * 1024);
+
+    /**
+     * Minimum size in bytes of each part (except the last one) of a multipart upload, as required by S3.
+     */
+    public static final int MIN_MULTIPART_UPLOAD_PART_SIZE = 5 * 1024 * 1024;
+    public static final Property<Integer> MULTIPART_UPLOAD_CONCURRENCY = Property.named("multipart.upload.concurrency.max", 4);
 
     private static final String COMPONENT_CODE = "extendeds3";
     private static final String PATH_SEPARATOR = "/";
@@ -84,6 +92,25 @@ public class ExtendedS3StorageConfig {
     @Getter
     private final int smallObjectSizeLimitForConcat;
 
+    /**
+     * Size of chunk writes in bytes at or above which new objects are created using multipart upload, with their parts
+     * being uploaded concurrently. If 0, multipart upload is not used for writes.
+     */
+    @Getter
+    private final int multipartUploadThreshold;
+
+    /**
+     * Size in bytes of each part (except the last one) of a multipart upload.
+     */
+    @Getter
+    private final int multipartUploadPartSize;
+
+    /**
+     * Maximum number of parts of a single multipart upload that may be uploaded concurrently.
+     */
+    @Getter
+    private final int multipartUploadConcurrency;
+
     //endregion
 
     //region Constructor
@@ -103,6 +130,19 @@ public class ExtendedS3StorageConfig {
         this.prefix = givenPrefix.endsWith(PATH_SEPARATOR) ? givenPrefix : givenPrefix + PATH_SEPARATOR;
         this.useNoneMatch = properties.getBoolean(USENONEMATCH);
         this.smallObjectSizeLimitForConcat = properties.getInt(SMALL_OBJECT_THRESHOLD);
+        this.multipartUploadThreshold = properties.getInt(MULTIPART_UPLOAD_THRESHOLD);
+        if (this.multipartUploadThreshold < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", MULTIPART_UPLOAD_THRESHOLD));
+        }
+        this.multipartUploadPartSize = properties.getInt(MULTIPART_UPLOAD_PART_SIZE);
+        if (this.multipartUploadPartSize < MIN_MULTIPART_UPLOAD_PART_SIZE) {
+            throw new ConfigurationException(String.format("Property '%s' must be at least %d.", MULTIPART_UPLOAD_PART_SIZE,
+                    MIN_MULTIPART_UPLOAD_PART_SIZE));
+        }
+        this.multipartUploadConcurrency = properties.getInt(MULTIPART_UPLOAD_CONCURRENCY);
+        if (this.multipartUploadConcurrency <= 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", MULTIPART_UPLOAD_CONCURRENCY));
+        }
     }
 
     /**
@@ -9,12 +9,23 @@
  */
 package io.pravega.storage.extendeds3;
 
+import com.emc.object.s3.S3Exception;
+import com.emc.object.s3.request.AbortMultipartUploadRequest;
+import io.pravega.segmentstore.storage.chunklayer.ChunkNotFoundException;
 import io.pravega.segmentstore.storage.chunklayer.ChunkStorage;
+import io.pravega.segmentstore.storage.chunklayer.ChunkStorageException;
 import io.pravega.segmentstore.storage.chunklayer.ChunkStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.ChunkedRollingStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.SimpleStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.SystemJournalTests;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Random;
 import lombok.val;
+import org.apache.http.HttpStatus;
+import org.junit.Assert;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -184,4 +195,142 @@ public class ExtendedS3SimpleStorageTests extends SimpleStorageTests {
             return ret;
         }
     }
+
+    /**
+     * {@link ChunkedRollingStorageTests} tests for {@link ExtendedS3ChunkStorage} based {@link io.pravega.segmentstore.storage.Storage}
+     * that creates chunks using multi part upload.
+     */
+    public static class MultipartUploadExtendedS3StorageRollingTests extends ChunkedRollingStorageTests {
+        private ExtendedS3TestContext testContext = null;
+
+        @Before
+        public void setUp() throws Exception {
+            this.testContext = new ExtendedS3TestContext();
+        }
+
+        @After
+        public void tearDown() throws Exception {
+            if (this.testContext != null) {
+                this.testContext.close();
+            }
+        }
+
+        @Override
+        protected ChunkStorage getChunkStorage() {
+            return new ExtendedS3ChunkStorage(testContext.client, getMultipartUploadConfig(testContext, 3), executorService(), false, false);
+        }
+    }
+
+    /**
+     * Tests for multi part upload in {@link ExtendedS3ChunkStorage}.
+     */
+    public static class MultipartUploadTests extends ThreadPooledTestSuite {
+        private static final int PART_SIZE = ExtendedS3StorageConfig.MIN_MULTIPART_UPLOAD_PART_SIZE;
+        private ExtendedS3TestContext testContext = null;
+
+        @Override
+        protected int getThreadPoolSize() {
+            return 3;
+        }
+
+        @Before
+        public void setUp() throws Exception {
+            this.testContext = new ExtendedS3TestContext();
+        }
+
+        @After
+        public void tearDown() throws Exception {
+            if (this.testContext != null) {
+                this.testContext.close();
+            }
+        }
+
+        /**
+         * Tests that chunks created using multi part upload have the correct content, irrespective of how many parts are
+         * uploaded concurrently.
+         */
+        @Test
+        public void testCreateWithContent() throws Exception {
+            val rnd = new Random(0);
+            for (int concurrency = 1; concurrency <= 4; concurrency++) {
+                val chunkStorage = new ExtendedS3ChunkStorage(testContext.client, getMultipartUploadConfig(testContext, concurrency),
+                        executorService(), false, false);
+                for (int length : new int[]{2 * PART_SIZE + 1, 3 * PART_SIZE + 3}) {
+                    val chunkName = String.format("chunk_%d_%d", concurrency, length);
+                    val data = new byte[length];
+                    rnd.nextBytes(data);
+                    val handle = chunkStorage.createWithContent(chunkName, length, new ByteArrayInputStream(data)).join();
+                    Assert.assertEquals(length, chunkStorage.getInfo(chunkName).join().getLength());
+
+                    val readBuffer = new byte[length];
+                    Assert.assertEquals(length, (int) chunkStorage.read(handle, 0, length, readBuffer, 0).join());
+                    Assert.assertArrayEquals("Unexpected content for " + chunkName, data, readBuffer);
+                }
+            }
+        }
+
+        /**
+         * Tests that a failed multi part upload does not create the chunk.
+         */
+        @Test
+        public void testCreateWithContentFailure() {
+            val chunkStorage = new ExtendedS3ChunkStorage(testContext.client, getMultipartUploadConfig(testContext, 3),
+                    executorService(), false, false);
+            val chunkName = "chunk";
+            val length = 3 * PART_SIZE;
+
+            // The input is shorter than advertised, so the last part cannot be read.
+            AssertExtensions.assertFutureThrows(
+                    "Expected upload to fail.",
+                    chunkStorage.createWithContent(chunkName, length, new ByteArrayInputStream(new byte[length - 1])),
+                    ex -> ex instanceof ChunkStorageException);
+            AssertExtensions.assertFutureThrows(
+                    "Not expecting chunk to exist.",
+                    chunkStorage.getInfo(chunkName),
+                    ex -> ex instanceof ChunkNotFoundException);
+        }
+
+        /**
+         * Tests that a failure to abort a failed multi part upload does not hide the reason why the upload failed.
+         */
+        @Test
+        public void testCreateWithContentAbortFailure() {
+            val abortException = new S3Exception("Intentional", HttpStatus.SC_INTERNAL_SERVER_ERROR);
+            val client = new S3ClientMock(testContext.s3Config, testContext.s3Mock) {
+                @Override
+                public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+                    throw abortException;
+                }
+            };
+            val chunkStorage = new ExtendedS3ChunkStorage(client, getMultipartUploadConfig(testContext, 3),
+                    executorService(), false, false);
+            val length = 3 * PART_SIZE;
+            val future = chunkStorage.createWithContent("chunk", length, new ByteArrayInputStream(new byte[length - 1]));
+            AssertExtensions.assertFutureThrows(
+                    "Expected upload to fail.",
+                    future,
+                    ex -> ex instanceof ChunkStorageException);
+
+            // The original failure must be reported, with the abort failure suppressed.
+            Throwable ex = future.handle((r, e) -> e).join();
+            boolean found = false;
+            while (ex != null && !found) {
+                found = Arrays.asList(ex.getSuppressed()).contains(abortException);
+                ex = ex.getCause();
+            }
+
+            Assert.assertTrue("Expected abort failure to be suppressed.", found);
+        }
+    }
+
+    private static ExtendedS3StorageConfig getMultipartUploadConfig(ExtendedS3TestContext testContext, int concurrency) {
+        return ExtendedS3StorageConfig.builder()
+                .with(ExtendedS3StorageConfig.CONFIGURI, testContext.configUri)
+                .with(ExtendedS3StorageConfig.BUCKET, testContext.adapterConfig.getBucket())
+                .with(ExtendedS3StorageConfig.PREFIX, "samplePrefix")
+                .with(ExtendedS3StorageConfig.MULTIPART_UPLOAD_THRESHOLD, 2 * MultipartUploadTests.PART_SIZE)
+                .with(ExtendedS3StorageConfig.MULTIPART_UPLOAD_PART_SIZE, MultipartUploadTests.PART_SIZE)
+                .with(ExtendedS3StorageConfig.MULTIPART_UPLOAD_CONCURRENCY, concurrency)
+                .build();
+    }
 }
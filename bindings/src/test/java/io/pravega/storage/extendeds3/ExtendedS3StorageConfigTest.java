@@ -10,6 +10,7 @@
 package io.pravega.storage.extendeds3;
 
 import io.pravega.common.util.ConfigBuilder;
+import io.pravega.common.util.ConfigurationException;
 import io.pravega.common.util.Property;
 import org.junit.Test;
 
@@ -28,6 +29,41 @@ public class ExtendedS3StorageConfigTest {
         assertEquals("password", config.getSecretKey());
         assertEquals("testBucket", config.getBucket());
         assertEquals("testPrefix/", config.getPrefix());
+        assertEquals(0, config.getMultipartUploadThreshold());
+        assertEquals(5 * 1024 * 1024, config.getMultipartUploadPartSize());
+        assertEquals(4, config.getMultipartUploadConcurrency());
+    }
+
+    @Test
+    public void testMultipartUploadConfig() {
+        ConfigBuilder<ExtendedS3StorageConfig> builder = ExtendedS3StorageConfig.builder();
+        builder.with(Property.named("configUri"), "http://127.0.0.1:9020?namespace=sampleNamespace&identity=user&secretKey=password")
+                .with(Property.named("bucket"), "testBucket")
+                .with(Property.named("multipart.upload.threshold.size"), 10 * 1024 * 1024)
+                .with(Property.named("multipart.upload.part.size"), 6 * 1024 * 1024)
+                .with(Property.named("multipart.upload.concurrency.max"), 2);
+        ExtendedS3StorageConfig config = builder.build();
+        assertEquals(10 * 1024 * 1024, config.getMultipartUploadThreshold());
+        assertEquals(6 * 1024 * 1024, config.getMultipartUploadPartSize());
+        assertEquals(2, config.getMultipartUploadConcurrency());
+    }
+
+    @Test (expected = ConfigurationException.class)
+    public void testInvalidMultipartUploadPartSize() {
+        ConfigBuilder<ExtendedS3StorageConfig> builder = ExtendedS3StorageConfig.builder();
+        builder.with(Property.named("configUri"), "http://127.0.0.1:9020?namespace=sampleNamespace&identity=user&secretKey=password")
+                .with(Property.named("bucket"), "testBucket")
+                .with(Property.named("multipart.upload.part.size"), 0);
+        builder.build();
+    }
+
+    @Test (expected = ConfigurationException.class)
+    public void testMultipartUploadPartSizeTooSmall() {
+        ConfigBuilder<ExtendedS3StorageConfig> builder = ExtendedS3StorageConfig.builder();
+        builder.with(Property.named("configUri"), "http://127.0.0.1:9020?namespace=sampleNamespace&identity=user&secretKey=password")
+                .with(Property.named("bucket"), "testBucket")
+                .with(Property.named("multipart.upload.part.size"), ExtendedS3StorageConfig.MIN_MULTIPART_UPLOAD_PART_SIZE - 1);
+        builder.build();
     }
 
     @Test (expected = IllegalArgumentException.class)
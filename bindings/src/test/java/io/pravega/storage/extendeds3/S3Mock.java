@@ -18,6 +18,7 @@ import com.emc.object.s3.bean.CopyPartResult;
 import com.emc.object.s3.bean.DeleteObjectsResult;
 import com.emc.object.s3.bean.GetObjectResult;
 import com.emc.object.s3.bean.ListObjectsResult;
+import com.emc.object.s3.bean.MultipartPartETag;
 import com.emc.object.s3.bean.ObjectKey;
 import com.emc.object.s3.bean.PutObjectResult;
 import com.emc.object.s3.bean.S3Object;
@@ -27,6 +28,7 @@ import com.emc.object.s3.request.CopyPartRequest;
 import com.emc.object.s3.request.DeleteObjectsRequest;
 import com.emc.object.s3.request.PutObjectRequest;
 import com.emc.object.s3.request.SetObjectAclRequest;
+import com.emc.object.s3.request.UploadPartRequest;
 import io.pravega.common.io.StreamHelpers;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
@@ -54,7 +56,7 @@ public class S3Mock {
     //region Private
 
     @GuardedBy("objects")
-    private final Map<String, Map<Integer, CopyPartRequest>> multipartUploads;
+    private final Map<String, Map<Integer, MultipartPart>> multipartUploads;
     private final AtomicLong multipartNextId = new AtomicLong(0);
     @GuardedBy("objects")
     private final Map<String, ObjectData> objects;
@@ -169,16 +171,8 @@ public class S3Mock {
     public CopyPartResult copyPart(CopyPartRequest request) {
         String objectName = getObjectName(request.getBucketName(), request.getKey());
         synchronized (this.objects) {
-            Map<Integer, CopyPartRequest> partMap = this.multipartUploads.get(objectName);
-            if (partMap == null) {
-                throw new S3Exception("NoSuchUpload", HttpStatus.SC_NOT_FOUND, "NoSuchUpload", "");
-            }
-            if (partMap.containsKey(request.getPartNumber())) {
-                // Overwriting may or may not be accepted in real S3, but in our case, we consider this as a bug so
-                // we want to make sure we don't do it.
-                throw new S3Exception("Part exists already.", HttpStatus.SC_BAD_REQUEST, "InvalidArgument", "");
-            }
-            partMap.put(request.getPartNumber(), request);
+            Map<Integer, MultipartPart> partMap = getPartMap(objectName, request.getPartNumber());
+            partMap.put(request.getPartNumber(), new MultipartPart(request, null));
             CopyPartResult result = new CopyPartResult();
             result.setPartNumber(request.getPartNumber());
             result.setETag(request.getUploadId());
@@ -186,6 +180,36 @@ public class S3Mock {
         }
     }
 
+    public MultipartPartETag uploadPart(UploadPartRequest request) {
+        String objectName = getObjectName(request.getBucketName(), request.getKey());
+        final BufferView content;
+        try {
+            content = new ByteArraySegment(((InputStream) request.getObject()).readAllBytes());
+        } catch (IOException ex) {
+            throw new S3Exception("Copy error", HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        }
+
+        synchronized (this.objects) {
+            Map<Integer, MultipartPart> partMap = getPartMap(objectName, request.getPartNumber());
+            partMap.put(request.getPartNumber(), new MultipartPart(null, content));
+            return new MultipartPartETag(request.getPartNumber(), request.getUploadId());
+        }
+    }
+
+    @GuardedBy("objects")
+    private Map<Integer, MultipartPart> getPartMap(String objectName, int partNumber) {
+        Map<Integer, MultipartPart> partMap = this.multipartUploads.get(objectName);
+        if (partMap == null) {
+            throw new S3Exception("NoSuchUpload", HttpStatus.SC_NOT_FOUND, "NoSuchUpload", "");
+        }
+        if (partMap.containsKey(partNumber)) {
+            // Overwriting may or may not be accepted in real S3, but in our case, we consider this as a bug so
+            // we want to make sure we don't do it.
+            throw new S3Exception("Part exists already.", HttpStatus.SC_BAD_REQUEST, "InvalidArgument", "");
+        }
+        return partMap;
+    }
+
     public void deleteObject(String bucketName, String key) {
         String objectName = getObjectName(bucketName, key);
         synchronized (this.objects) {
@@ -269,12 +293,14 @@ public class S3Mock {
     public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
         String objectName = getObjectName(request.getBucketName(), request.getKey());
         synchronized (this.objects) {
-            Map<Integer, CopyPartRequest> partMap = this.multipartUploads.get(objectName);
+            Map<Integer, MultipartPart> partMap = this.multipartUploads.get(objectName);
             if (partMap == null) {
                 throw new S3Exception("NoSuchKey", HttpStatus.SC_NOT_FOUND, "NoSuchKey", "");
             }
 
-            if (!this.objects.containsKey(objectName)) {
+            boolean hasUploadedParts = partMap.values().stream().anyMatch(p -> p.content != null);
+            if (!hasUploadedParts && !this.objects.containsKey(objectName)) {
+                // Multipart copies are only used for concatenating onto existing objects.
                 throw new S3Exception("NoSuchKey", HttpStatus.SC_NOT_FOUND, "NoSuchKey", "");
             }
 
@@ -289,7 +315,12 @@ public class S3Mock {
                     // Make sure all the parts are there.
                     throw new S3Exception("InvalidPart", HttpStatus.SC_BAD_REQUEST, "InvalidPart", "");
                 }
-                String partObjectName = getObjectName(e.getValue().getBucketName(), e.getValue().getSourceKey());
+                if (e.getValue().content != null) {
+                    builder.add(e.getValue().content);
+                    return;
+                }
+                CopyPartRequest copyRequest = e.getValue().copyRequest;
+                String partObjectName = getObjectName(copyRequest.getBucketName(), copyRequest.getSourceKey());
                 ObjectData od = this.objects.get(partObjectName);
                 if (od == null) {
                     throw new S3Exception("NoSuchKey", HttpStatus.SC_NOT_FOUND, "NoSuchKey", "");
@@ -297,7 +328,13 @@ public class S3Mock {
                 builder.add(od.content);
             });
 
-            this.objects.get(objectName).content = builder.build();
+            ObjectData target = this.objects.get(objectName);
+            if (target == null) {
+                // Completing a multipart upload creates the object if it does not already exist.
+                this.objects.put(objectName, new ObjectData(builder.build(), null));
+            } else {
+                target.content = builder.build();
+            }
             this.multipartUploads.remove(request.getKey());
         }
 
@@ -307,7 +344,7 @@ public class S3Mock {
     public void abortMultipartUpload(AbortMultipartUploadRequest request) {
         String objectName = getObjectName(request.getBucketName(), request.getKey());
         synchronized (this.objects) {
-            Map<Integer, CopyPartRequest> partMap = this.multipartUploads.remove(objectName);
+            Map<Integer, MultipartPart> partMap = this.multipartUploads.remove(objectName);
             if (partMap == null) {
                 throw new S3Exception("NoSuchKey", HttpStatus.SC_NOT_FOUND, "NoSuchKey", "");
             }
@@ -337,5 +374,14 @@ public class S3Mock {
         volatile AccessControlList acl;
     }
 
+    /**
+     * A part of a multipart upload. Exactly one of copyRequest (for copied parts) or content (for uploaded parts) is set.
+     */
+    @AllArgsConstructor
+    private static class MultipartPart {
+        final CopyPartRequest copyRequest;
+        final BufferView content;
+    }
+
     //endregion
 }
@@ -231,6 +231,26 @@ public interface KeyValueTable<KeyT, ValueT> extends AutoCloseable {
      */
     CompletableFuture<Void> removeAll(@Nullable String keyFamily, @NonNull Iterable<TableKey<KeyT>> keys);
 
+    /**
+     * Inserts new or updates existing {@link TableEntry} instances and removes {@link TableKey} instances, all of which
+     * belong to the same Key Family, in a single atomic operation (either all changes or none will be accepted).
+     *
+     * @param keyFamily The Key Family for all provided {@link TableEntry} and {@link TableKey} instances.
+     * @param entries   An {@link Iterable} of {@link TableEntry} instances to insert or update. These follow the same
+     *                  rules as {@link #replaceAll}.
+     * @param keys      An {@link Iterable} of {@link TableKey} instances to remove. These follow the same rules as
+     *                  {@link #removeAll}. A Key may not be both in entries and keys.
+     * @return A CompletableFuture that, when completed, will contain a List of {@link Version} instances which
+     * represent the versions for the inserted/updated keys. The size of this list will be the same as the number of
+     * items in entries and the versions will be in the same order as the entries. Notable exceptions:
+     * <ul>
+     * <li>{@link ConditionalTableUpdateException} If at least one condition (for either an update or a removal) was not
+     * satisfied. See the {@link KeyValueTable} doc for more details on Conditional Update Responses.
+     * </ul>
+     */
+    CompletableFuture<List<Version>> update(@NonNull String keyFamily, @NonNull Iterable<TableEntry<KeyT, ValueT>> entries,
+                                            @NonNull Iterable<TableKey<KeyT>> keys);
+
     /**
      * Gets the latest value for the a Key that belong to a specific Key Family.
      *
@@ -268,6 +288,27 @@ public interface KeyValueTable<KeyT, ValueT> extends AutoCloseable {
     AsyncIterator<IteratorItem<TableKey<KeyT>>> keyIterator(@NonNull String keyFamily, int maxKeysAtOnce,
                                                             @Nullable IteratorState state);
 
+    /**
+     * Creates a new Iterator over all the {@link TableKey}s in this {@link KeyValueTable} that belong to a specific
+     * Key Family and are within the given range. The range is evaluated on the server and Keys are compared using the
+     * bitwise lexicographic order of their serializations.
+     *
+     * @param keyFamily     The Key Family for which to iterate over keys.
+     * @param fromKey       (Optional) The lower bound of the iteration (inclusive). If null, the iteration will begin
+     *                      with the smallest Key in the Key Family.
+     * @param toKey         (Optional) The upper bound of the iteration (exclusive). If null, the iteration will end with
+     *                      the largest Key in the Key Family.
+     * @param maxKeysAtOnce The maximum number of {@link TableKey}s to return with each call to
+     *                      {@link AsyncIterator#getNext()}.
+     * @param state         (Optional) An {@link IteratorState} that represents a continuation token that can be used to
+     *                      resume a previously interrupted iteration. This can be obtained by invoking
+     *                      {@link IteratorItem#getState()}. The same range must be provided when resuming an iteration.
+     * @return An {@link AsyncIterator} that can be used to iterate over all the Keys in this {@link KeyValueTable} that
+     * belong to a specific Key Family and are within the given range.
+     */
+    AsyncIterator<IteratorItem<TableKey<KeyT>>> keyIterator(@NonNull String keyFamily, @Nullable KeyT fromKey, @Nullable KeyT toKey,
+                                                            int maxKeysAtOnce, @Nullable IteratorState state);
+
     /**
      * Creates a new Iterator over all the {@link TableEntry} instances in this {@link KeyValueTable} that belong to a
      * specific Key Family.
@@ -284,6 +325,28 @@ public interface KeyValueTable<KeyT, ValueT> extends AutoCloseable {
     AsyncIterator<IteratorItem<TableEntry<KeyT, ValueT>>> entryIterator(@NonNull String keyFamily, int maxEntriesAtOnce,
                                                                         @Nullable IteratorState state);
 
+    /**
+     * Creates a new Iterator over all the {@link TableEntry} instances in this {@link KeyValueTable} that belong to a
+     * specific Key Family and whose Keys are within the given range. The range is evaluated on the server and Keys are
+     * compared using the bitwise lexicographic order of their serializations.
+     *
+     * @param keyFamily        The Key Family for which to iterate over entries.
+     * @param fromKey          (Optional) The lower bound of the iteration (inclusive). If null, the iteration will
+     *                         begin with the smallest Key in the Key Family.
+     * @param toKey            (Optional) The upper bound of the iteration (exclusive). If null, the iteration will end
+     *                         with the largest Key in the Key Family.
+     * @param maxEntriesAtOnce The maximum number of {@link TableEntry} instances to return with each call to
+     *                         {@link AsyncIterator#getNext()}.
+     * @param state            (Optional) An {@link IteratorState} that represents a continuation token that can be used
+     *                         to resume a previously interrupted iteration. This can be obtained by invoking
+     *                         {@link IteratorItem#getState()}. The same range must be provided when resuming an iteration.
+     * @return An {@link AsyncIterator} that can be used to iterate over all the Entries in this {@link KeyValueTable}
+     * that belong to a specific Key Family and whose Keys are within the given range.
+     */
+    AsyncIterator<IteratorItem<TableEntry<KeyT, ValueT>>> entryIterator(@NonNull String keyFamily, @Nullable KeyT fromKey,
+                                                                        @Nullable KeyT toKey, int maxEntriesAtOnce,
+                                                                        @Nullable IteratorState state);
+
     /**
      * Closes the {@link KeyValueTable}. No more updates, removals, retrievals or iterators may be performed using it.
      *
@@ -27,6 +27,16 @@ class IteratorArgs {
      * that begin with the specified prefix.
      */
     private final ByteBuf keyPrefixFilter;
+    /**
+     * Optional. If specified, all items returned by {@link AsyncIterator#getNext()} will have {@link TableSegmentKey}s
+     * that are greater than or equal to this key. Only applies to Sorted Table Segments.
+     */
+    private final ByteBuf fromKey;
+    /**
+     * Optional. If specified, all items returned by {@link AsyncIterator#getNext()} will have {@link TableSegmentKey}s
+     * that are smaller than this key. Only applies to Sorted Table Segments.
+     */
+    private final ByteBuf toKey;
     /**
      * The maximum number of items to return with each call to {@link AsyncIterator#getNext()}.
      */
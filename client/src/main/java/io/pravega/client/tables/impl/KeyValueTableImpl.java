@@ -181,6 +181,15 @@ public class KeyValueTableImpl<KeyT, ValueT> implements KeyValueTable<KeyT, Valu
         return removeFromSegment(s, toTableSegmentKeys(s, keyFamily, keys));
     }
 
+    @Override
+    public CompletableFuture<List<Version>> update(@NonNull String keyFamily, @NonNull Iterable<TableEntry<KeyT, ValueT>> entries,
+                                                   @NonNull Iterable<TableKey<KeyT>> keys) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        TableSegment s = this.selector.getTableSegment(keyFamily);
+        return s.update(toTableSegmentEntries(s, keyFamily, entries, e -> e), toTableSegmentKeys(s, keyFamily, keys))
+                .thenApply(versions -> versions.stream().map(v -> new VersionImpl(s.getSegmentId(), v)).collect(Collectors.toList()));
+    }
+
     @Override
     public CompletableFuture<TableEntry<KeyT, ValueT>> get(@Nullable String keyFamily, @NonNull KeyT key) {
         return getAll(keyFamily, Collections.singleton(key))
@@ -206,18 +215,31 @@ public class KeyValueTableImpl<KeyT, ValueT> implements KeyValueTable<KeyT, Valu
     @Override
     public AsyncIterator<IteratorItem<TableKey<KeyT>>> keyIterator(@NonNull String keyFamily, int maxKeysAtOnce,
                                                                    @Nullable IteratorState state) {
+        return keyIterator(keyFamily, null, null, maxKeysAtOnce, state);
+    }
+
+    @Override
+    public AsyncIterator<IteratorItem<TableKey<KeyT>>> keyIterator(@NonNull String keyFamily, @Nullable KeyT fromKey, @Nullable KeyT toKey,
+                                                                   int maxKeysAtOnce, @Nullable IteratorState state) {
         Exceptions.checkNotClosed(this.closed.get(), this);
         TableSegment ts = this.selector.getTableSegment(keyFamily);
-        IteratorArgs args = getIteratorArgs(ts, keyFamily, maxKeysAtOnce, state);
+        IteratorArgs args = getIteratorArgs(ts, keyFamily, fromKey, toKey, maxKeysAtOnce, state);
         return ts.keyIterator(args).thenApply(si -> fromSegmentIteratorItem(ts, keyFamily, si, this::fromTableSegmentKey));
     }
 
     @Override
     public AsyncIterator<IteratorItem<TableEntry<KeyT, ValueT>>> entryIterator(@NonNull String keyFamily, int maxEntriesAtOnce,
                                                                                @Nullable IteratorState state) {
+        return entryIterator(keyFamily, null, null, maxEntriesAtOnce, state);
+    }
+
+    @Override
+    public AsyncIterator<IteratorItem<TableEntry<KeyT, ValueT>>> entryIterator(@NonNull String keyFamily, @Nullable KeyT fromKey,
+                                                                               @Nullable KeyT toKey, int maxEntriesAtOnce,
+                                                                               @Nullable IteratorState state) {
         Exceptions.checkNotClosed(this.closed.get(), this);
         TableSegment ts = this.selector.getTableSegment(keyFamily);
-        IteratorArgs args = getIteratorArgs(ts, keyFamily, maxEntriesAtOnce, state);
+        IteratorArgs args = getIteratorArgs(ts, keyFamily, fromKey, toKey, maxEntriesAtOnce, state);
         return ts.entryIterator(args).thenApply(si -> fromSegmentIteratorItem(ts, keyFamily, si, this::fromTableSegmentEntry));
     }
 
@@ -275,7 +297,7 @@ public class KeyValueTableImpl<KeyT, ValueT> implements KeyValueTable<KeyT, Valu
                 .thenApply(entries -> entries.stream().map(e -> fromTableSegmentEntry(s, e, expectedKeyFamily)).collect(Collectors.toList()));
     }
 
-    private IteratorArgs getIteratorArgs(TableSegment ts, String keyFamily, int maxItemsAtOnce, IteratorState state) {
+    private IteratorArgs getIteratorArgs(TableSegment ts, String keyFamily, KeyT fromKey, KeyT toKey, int maxItemsAtOnce, IteratorState state) {
         IteratorState segmentIteratorState = null;
         if (state != null) {
             val kvtState = KeyValueTableIteratorState.fromBytes(state.toBytes());
@@ -290,6 +312,8 @@ public class KeyValueTableImpl<KeyT, ValueT> implements KeyValueTable<KeyT, Valu
 
         return IteratorArgs.builder()
                 .keyPrefixFilter(Unpooled.wrappedBuffer(KEY_FAMILY_SERIALIZER.serialize(keyFamily)))
+                .fromKey(fromKey == null ? null : serializeKey(keyFamily, fromKey))
+                .toKey(toKey == null ? null : serializeKey(keyFamily, toKey))
                 .maxItemsAtOnce(maxItemsAtOnce)
                 .state(segmentIteratorState)
                 .build();
@@ -135,6 +135,22 @@ public interface TableSegment extends AutoCloseable {
      */
     CompletableFuture<Void> remove(Iterator<TableSegmentKey> keys);
 
+    /**
+     * Inserts new or updates existing Table Entries and removes keys from this Table Segment.
+     * All changes are performed atomically (either all or none will be accepted) and all conditions (for both entries
+     * and keys) are validated together on the server.
+     *
+     * @param entries An Iterator containing the entries to insert or update. See {@link #put(Iterator)}.
+     * @param keys    An Iterator containing the keys to remove. See {@link #remove(Iterator)}. A key may not be both
+     *                updated and removed.
+     * @return A CompletableFuture that, when completed, will contain a List of {@link TableSegmentKeyVersion} instances
+     * which represent the versions for the inserted/updated keys (in the same order as the entries). Notable exceptions:
+     * <ul>
+     * <li>{@link ConditionalTableUpdateException} If at least one condition was not satisfied.
+     * </ul>
+     */
+    CompletableFuture<List<TableSegmentKeyVersion>> update(Iterator<TableSegmentEntry> entries, Iterator<TableSegmentKey> keys);
+
     /**
      * Gets the latest value for the given Key.
      *
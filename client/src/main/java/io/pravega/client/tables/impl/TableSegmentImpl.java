@@ -142,6 +142,23 @@ class TableSegmentImpl implements TableSegment {
         });
     }
 
+    @Override
+    public CompletableFuture<List<TableSegmentKeyVersion>> update(@NonNull Iterator<TableSegmentEntry> tableEntries,
+                                                                 @NonNull Iterator<TableSegmentKey> tableKeys) {
+        val wireEntries = entriesToWireCommand(tableEntries);
+        val wireKeys = keysToWireCommand(tableKeys);
+
+        // Each of the above validated its own size, but they are sent as part of the same request.
+        checkBatchSize(wireEntries.getEntries().size() + wireKeys.size(),
+                wireEntries.getEntries().stream().mapToInt(e -> e.getKey().size() + e.getValue().size()).sum()
+                        + wireKeys.stream().mapToInt(WireCommands.TableKey::size).sum());
+        return execute((state, requestId) -> {
+            val request = new WireCommands.UpdateAndRemoveTableKeys(requestId, this.segmentName, state.getToken(), wireEntries, wireKeys);
+            return sendRequest(request, state, WireCommands.TableEntriesUpdated.class)
+                    .thenApply(this::fromWireCommand);
+        });
+    }
+
     @Override
     public CompletableFuture<List<TableSegmentEntry>> get(@NonNull Iterator<ByteBuf> keys) {
         val wireKeys = rawKeysToWireCommand(keys);
@@ -182,7 +199,7 @@ class TableSegmentImpl implements TableSegment {
     public AsyncIterator<IteratorItem<TableSegmentKey>> keyIterator(@NonNull IteratorArgs args) {
         return new TableSegmentIterator<>(
                 s -> fetchIteratorItems(args, s, WireCommands.ReadTableKeys::new, WireCommands.TableKeysRead.class,
-                        WireCommands.TableKeysRead::getContinuationToken, this::fromWireCommand),
+                        WireCommands.TableKeysRead::getContinuationToken, this::fromWireCommand, TableSegmentKey::getKey),
                 args.getState())
                 .asSequential(this.connectionPool.getInternalExecutor());
     }
@@ -191,7 +208,8 @@ class TableSegmentImpl implements TableSegment {
     public AsyncIterator<IteratorItem<TableSegmentEntry>> entryIterator(@NonNull IteratorArgs args) {
         return new TableSegmentIterator<>(
                 s -> fetchIteratorItems(args, s, WireCommands.ReadTableEntries::new, WireCommands.TableEntriesRead.class,
-                        WireCommands.TableEntriesRead::getContinuationToken, reply -> fromWireCommand(reply.getEntries())),
+                        WireCommands.TableEntriesRead::getContinuationToken, reply -> fromWireCommand(reply.getEntries()),
+                        e -> e.getKey().getKey()),
                 args.getState())
                 .asSequential(this.connectionPool.getInternalExecutor());
     }
@@ -206,6 +224,7 @@ class TableSegmentImpl implements TableSegment {
      * @param replyClass         Expected {@link WireCommand} reply type.
      * @param getStateToken      Extracts the continuation token (as a {@link ByteBuf}) from the reply.
      * @param getResult          Extracts the result from the reply.
+     * @param getKey             Extracts the key from an item.
      * @param <ItemT>            Type of the items returned.
      * @param <RequestT>         Wire Command Request Type.
      * @param <ReplyT>           Wire Command Reply Type.
@@ -214,12 +233,15 @@ class TableSegmentImpl implements TableSegment {
      */
     private <ItemT, RequestT extends Request & WireCommand, ReplyT extends Reply & WireCommand> CompletableFuture<IteratorItem<ItemT>> fetchIteratorItems(
             IteratorArgs args, IteratorState iteratorState, CreateIteratorRequest<RequestT> newIteratorRequest,
-            Class<ReplyT> replyClass, Function<ReplyT, ByteBuf> getStateToken, Function<ReplyT, List<ItemT>> getResult) {
+            Class<ReplyT> replyClass, Function<ReplyT, ByteBuf> getStateToken, Function<ReplyT, List<ItemT>> getResult,
+            Function<ItemT, ByteBuf> getKey) {
         val token = (iteratorState == null) ? IteratorStateImpl.EMPTY : iteratorState;
         val prefixFilter = args.getKeyPrefixFilter() == null ? Unpooled.EMPTY_BUFFER : args.getKeyPrefixFilter();
+        val fromKey = args.getFromKey() == null ? Unpooled.EMPTY_BUFFER : args.getFromKey();
+        val toKey = args.getToKey() == null ? Unpooled.EMPTY_BUFFER : args.getToKey();
         return execute((state, requestId) -> {
             val request = newIteratorRequest.apply(requestId, this.segmentName, state.getToken(), args.getMaxItemsAtOnce(),
-                    IteratorStateImpl.copyOf(token).getToken(), prefixFilter);
+                    IteratorStateImpl.copyOf(token).getToken(), prefixFilter, fromKey, toKey);
             return sendRequest(request, state, replyClass)
                     .thenApply(reply -> {
                         val newState = IteratorStateImpl.fromBytes(getStateToken.apply(reply));
@@ -229,15 +251,27 @@ class TableSegmentImpl implements TableSegment {
                             return null;
                         }
 
-                        val keys = getResult.apply(reply);
-                        return new IteratorItem<>(newState, keys);
+                        List<ItemT> items = getResult.apply(reply);
+                        if (args.getFromKey() != null || args.getToKey() != null) {
+                            // Segment Stores that predate range iterators ignore the bounds (and return every item that
+                            // matches the prefix filter), so we must exclude any items outside of the range ourselves.
+                            items = items.stream().filter(item -> isInRange(getKey.apply(item), args)).collect(Collectors.toList());
+                        }
+
+                        return new IteratorItem<>(newState, items);
                     });
         });
     }
 
+    private boolean isInRange(ByteBuf key, IteratorArgs args) {
+        return (args.getFromKey() == null || key.compareTo(args.getFromKey()) >= 0)
+                && (args.getToKey() == null || key.compareTo(args.getToKey()) < 0);
+    }
+
     @FunctionalInterface
     private interface CreateIteratorRequest<V extends Request & WireCommand> {
-        V apply(long requestId, String segmentName, String delegationToken, int maxEntriesAtOnce, ByteBuf stateToken, ByteBuf prefixFilter);
+        V apply(long requestId, String segmentName, String delegationToken, int maxEntriesAtOnce, ByteBuf stateToken, ByteBuf prefixFilter,
+                ByteBuf fromKey, ByteBuf toKey);
     }
 
     //endregion
@@ -22,6 +22,7 @@ import io.pravega.common.util.BitConverter;
 import io.pravega.test.common.AssertExtensions;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Random;
@@ -301,6 +302,62 @@ public abstract class KeyValueTableTestBase extends KeyValueTableTestSetup {
         checkValues(iteration.get(), versions, kvt);
     }
 
+    /**
+     * Tests the ability to atomically update and remove multiple keys using {@link KeyValueTable#update}.
+     */
+    @Test
+    public void testMultiKeyUpdateAndRemove() {
+        val versions = new Versions();
+        @Cleanup
+        val kvt = createKeyValueTable();
+
+        // Conditional Insert.
+        val iteration = new AtomicInteger(0);
+        forEveryKeyFamily(false, (keyFamily, keyIds) -> {
+            val entries = keyIds.stream().map(keyId -> TableEntry.notExists(getKey(keyId), getValue(keyId, iteration.get()))).collect(Collectors.toList());
+            val keyVersions = kvt.update(keyFamily, entries, Collections.emptyList()).join();
+            for (int i = 0; i < keyIds.size(); i++) {
+                versions.add(keyFamily, keyIds.get(i), keyVersions.get(i));
+            }
+        });
+        checkValues(iteration.get(), versions, kvt);
+
+        // Conditionally update the even keys and remove the odd ones.
+        iteration.incrementAndGet();
+        forEveryKeyFamily(false, (keyFamily, keyIds) -> {
+            val hint = String.format("(KF=%s)", keyFamily);
+            val toUpdate = keyIds.stream().filter(keyId -> keyId % 2 == 0).collect(Collectors.toList());
+            val toRemove = keyIds.stream().filter(keyId -> keyId % 2 == 1).collect(Collectors.toList());
+            val entries = toUpdate.stream()
+                    .map(keyId -> TableEntry.versioned(getKey(keyId), versions.get(keyFamily, keyId), getValue(keyId, iteration.get())))
+                    .collect(Collectors.toList());
+
+            // Failed update (bad version for one of the removals). Nothing should be changed.
+            val badKeys = toRemove.stream()
+                    .map(keyId -> TableKey.versioned(getKey(keyId), alterVersion(versions.get(keyFamily, keyId), false, keyId == toRemove.get(0))))
+                    .collect(Collectors.toList());
+            AssertExtensions.assertSuppliedFutureThrows(
+                    "update did not throw for bad version." + hint,
+                    () -> kvt.update(keyFamily, entries, badKeys),
+                    ex -> ex instanceof BadKeyVersionException);
+            Assert.assertEquals("Not expecting any change after failed update" + hint,
+                    getValue(toRemove.get(0), iteration.get() - 1), kvt.get(keyFamily, getKey(toRemove.get(0))).join().getValue());
+
+            // Correct update.
+            val keys = toRemove.stream()
+                    .map(keyId -> TableKey.versioned(getKey(keyId), versions.get(keyFamily, keyId)))
+                    .collect(Collectors.toList());
+            val keyVersions = kvt.update(keyFamily, entries, keys).join();
+            Assert.assertEquals("Unexpected result size" + hint, toUpdate.size(), keyVersions.size());
+            for (int i = 0; i < toUpdate.size(); i++) {
+                versions.add(keyFamily, toUpdate.get(i), keyVersions.get(i));
+            }
+            toRemove.forEach(keyId -> versions.remove(keyFamily, keyId));
+        });
+        checkSegmentDistributions(versions);
+        checkValues(iteration.get(), versions, kvt);
+    }
+
     /**
      * Verifies that overflowing (larger than limit) {@link TableEntry} instances are rejected.
      */
@@ -449,6 +506,40 @@ public abstract class KeyValueTableTestBase extends KeyValueTableTestSetup {
         checkIterator(kvt, KeyValueTable::entryIterator, TableEntry::getKey, e -> e, this::areEqual);
     }
 
+    @Test
+    public void testRangeIterators() {
+        @Cleanup
+        val kvt = createKeyValueTable();
+        forEveryKey((keyFamily, keyId) -> kvt.putIfAbsent(keyFamily, getKey(keyId), getValue(keyId, 0)).join());
+
+        val itemsAtOnce = getKeysPerKeyFamily() / 5;
+        forEveryKeyFamily(false, (keyFamily, keyIds) -> {
+            val hint = String.format("(KF=%s)", keyFamily);
+            val fromKey = getKey(keyIds.size() / 4);
+            val toKey = getKey(keyIds.size() * 3 / 4);
+            val expectedKeys = keyIds.stream().map(this::getKey).filter(k -> k >= fromKey && k < toKey).sorted().collect(Collectors.toList());
+
+            // Key iterator.
+            val actualKeys = new ArrayList<Integer>();
+            kvt.keyIterator(keyFamily, fromKey, toKey, itemsAtOnce, null)
+                    .forEachRemaining(ii -> ii.getItems().forEach(k -> actualKeys.add(k.getKey())), executorService()).join();
+            actualKeys.sort(Integer::compareTo);
+            AssertExtensions.assertListEquals("Unexpected keys from range key iterator" + hint, expectedKeys, actualKeys, Integer::equals);
+
+            // Entry iterator.
+            val actualEntries = new ArrayList<TableEntry<Integer, String>>();
+            kvt.entryIterator(keyFamily, fromKey, toKey, itemsAtOnce, null)
+                    .forEachRemaining(ii -> actualEntries.addAll(ii.getItems()), executorService()).join();
+            actualEntries.sort(Comparator.comparingInt(e -> e.getKey().getKey()));
+            Assert.assertEquals("Unexpected entry count from range entry iterator" + hint, expectedKeys.size(), actualEntries.size());
+            for (int i = 0; i < expectedKeys.size(); i++) {
+                int key = expectedKeys.get(i);
+                Assert.assertEquals("Unexpected key from range entry iterator" + hint, key, (int) actualEntries.get(i).getKey().getKey());
+                Assert.assertEquals("Unexpected value from range entry iterator" + hint, getValue(key, 0), actualEntries.get(i).getValue());
+            }
+        });
+    }
+
     private <ItemT> void checkIterator(KeyValueTable<Integer, String> keyValueTable, InvokeIterator<ItemT> invokeIterator,
                                        Function<ItemT, TableKey<Integer>> getKeyFromItem,
                                        Function<TableEntry<Integer, String>, ItemT> getItemFromEntry,
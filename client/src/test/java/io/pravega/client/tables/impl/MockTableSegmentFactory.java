@@ -154,6 +154,39 @@ class MockTableSegmentFactory implements TableSegmentFactory {
             }, this.executorService);
         }
 
+        @Override
+        public CompletableFuture<List<TableSegmentKeyVersion>> update(Iterator<TableSegmentEntry> entries, Iterator<TableSegmentKey> keys) {
+            return CompletableFuture.supplyAsync(() -> {
+                synchronized (this.data) {
+                    Exceptions.checkNotClosed(this.closed, this);
+                    val result = new ArrayList<TableSegmentKeyVersion>();
+                    val toUpdate = new HashMap<ByteBuf, EntryValue>();
+                    val toRemove = new ArrayList<ByteBuf>();
+                    AtomicInteger serializationLength = new AtomicInteger();
+                    entries.forEachRemaining(e -> {
+                        checkVersion(e.getKey());
+                        checkLengths(e);
+                        serializationLength.addAndGet(e.getKey().getKey().readableBytes() + e.getValue().readableBytes());
+                        long version = this.nextVersion.getAndIncrement();
+                        toUpdate.put(e.getKey().getKey().copy(), new EntryValue(e.getValue().copy(), version));
+                        result.add(TableSegmentKeyVersion.from(version));
+                    });
+                    keys.forEachRemaining(k -> {
+                        checkVersion(k);
+                        Preconditions.checkArgument(!toUpdate.containsKey(k.getKey()), "Key cannot be both updated and removed.");
+                        serializationLength.addAndGet(k.getKey().readableBytes());
+                        toRemove.add(k.getKey());
+                    });
+                    checkBatchSize(toUpdate.size() + toRemove.size(), serializationLength.get());
+
+                    // All conditions have been validated; apply everything at once.
+                    this.data.putAll(toUpdate);
+                    toRemove.forEach(this.data::remove);
+                    return result;
+                }
+            }, this.executorService);
+        }
+
         @Override
         public CompletableFuture<List<TableSegmentEntry>> get(Iterator<ByteBuf> keys) {
             return CompletableFuture.supplyAsync(() -> {
@@ -190,7 +223,7 @@ class MockTableSegmentFactory implements TableSegmentFactory {
             // but we can take a snapshot now and iterate through that. This doesn't necessarily break the Table Segment
             // contract as it makes no guarantees about whether (or when) concurrent updates will make it into an ongoing
             // iteration.
-            List<T> iteratorItems = getFilteredEntries(args.getKeyPrefixFilter(), converter);
+            List<T> iteratorItems = getFilteredEntries(args.getKeyPrefixFilter(), args.getFromKey(), args.getToKey(), converter);
             val position = new AtomicInteger(0);
             if (args.getState() != null) {
                 position.set(args.getState().toBytes().getInt());
@@ -208,13 +241,15 @@ class MockTableSegmentFactory implements TableSegmentFactory {
             }, this.executorService);
         }
 
-        private <T> List<T> getFilteredEntries(ByteBuf prefix, IteratorConverter<T> converter) {
+        private <T> List<T> getFilteredEntries(ByteBuf prefix, ByteBuf fromKey, ByteBuf toKey, IteratorConverter<T> converter) {
             Assert.assertNotNull("Key Family iterations require a prefix.", prefix);
             AssertExtensions.assertGreaterThan("Key Family iterations require a prefix.",
                     KeyFamilySerializer.PREFIX_LENGTH, prefix.readableBytes());
             synchronized (this.data) {
                 return this.data.entrySet().stream()
                         .filter(e -> startsWith(e.getKey(), prefix))
+                        .filter(e -> fromKey == null || e.getKey().compareTo(fromKey) >= 0)
+                        .filter(e -> toKey == null || e.getKey().compareTo(toKey) < 0)
                         .map(e -> converter.apply(e.getKey().copy(), e.getValue().value.copy(), e.getValue().version))
                         .collect(Collectors.toList());
             }
@@ -257,6 +257,36 @@ public class TableSegmentImplTest extends ThreadPooledTestSuite {
                 this::entryEquals);
     }
 
+    /**
+     * Tests the {@link TableSegmentImpl#keyIterator} method with a key range, when the server does not apply the range
+     * (i.e., it is older and ignores it). Items outside of the range must be excluded.
+     */
+    @Test
+    public void testKeyIteratorRange() throws Exception {
+        @Cleanup
+        val context = new TestContext();
+        val allEntries = IntStream.range(0, 10)
+                                  .mapToObj(i -> versionedEntry(i * 10L, Integer.toString(i * 10), 1L))
+                                  .collect(Collectors.toList());
+        val iterator = context.segment.keyIterator(IteratorArgs.builder()
+                                                               .maxItemsAtOnce(allEntries.size())
+                                                               .fromKey(buf(20L))
+                                                               .toKey(buf(50L))
+                                                               .build());
+        val iteratorFuture = iterator.getNext();
+        val request = (WireCommands.ReadTableKeys) context.getConnection().getLastSentWireCommand();
+        Assert.assertEquals("Unexpected fromKey sent.", buf(20L), request.getFromKey());
+        Assert.assertEquals("Unexpected toKey sent.", buf(50L), request.getToKey());
+
+        // Reply with all the keys.
+        val allKeys = allEntries.stream().map(TableSegmentEntry::getKey).collect(Collectors.toList());
+        context.sendReply(new WireCommands.TableKeysRead(context.getConnection().getLastRequestId(), SEGMENT.getScopedName(),
+                toWireKeys(allKeys), IteratorStateImpl.fromBytes(Unpooled.wrappedBuffer("1".getBytes())).getToken()));
+        val iteratorResult = iteratorFuture.get(SHORT_TIMEOUT, TimeUnit.MILLISECONDS);
+        val expectedKeys = allKeys.subList(2, 5);
+        AssertExtensions.assertListEquals("Unexpected result.", expectedKeys, iteratorResult.getItems(), this::keyEquals);
+    }
+
     private <T> void testIterator(Function<IteratorArgs, AsyncIterator<IteratorItem<T>>> newIterator,
                                   Supplier<ByteBuf> getLastRequestContinuationToken,
                                   Supplier<ByteBuf> getLastRequestPrefix,
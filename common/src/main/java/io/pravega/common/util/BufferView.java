@@ -261,6 +261,19 @@ public interface BufferView {
          */
         BufferView readSlice(int length);
 
+        /**
+         * Advances the reader position by the given number of bytes, without reading them.
+         *
+         * The default implementation invokes {@link #readSlice} and discards the result. Derived classes should override
+         * it with one that does not create any intermediate objects (if the {@link BufferView} implementation allows it).
+         *
+         * @param length The number of bytes to skip.
+         * @throws OutOfBoundsException If {@link #available()} is less than length.
+         */
+        default void skip(int length) {
+            readSlice(length);
+        }
+
         /**
          * Copies all the remaining bytes from this {@link BufferView.Reader} into a new {@link ArrayView}. The reader
          * position will be set to the end of the {@link BufferView}.
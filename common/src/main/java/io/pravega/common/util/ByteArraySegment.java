@@ -327,6 +327,15 @@ public class ByteArraySegment extends AbstractBufferView implements ArrayView {
                 throw new OutOfBoundsException();
             }
         }
+
+        @Override
+        public void skip(int length) {
+            if (length < 0 || length > available()) {
+                throw new OutOfBoundsException();
+            }
+
+            this.position += length;
+        }
     }
 
     //endregion
@@ -250,6 +250,13 @@ class CompositeBufferView extends AbstractBufferView implements BufferView {
                 return BufferView.empty();
             }
 
+            BufferView.Reader first = getCurrent();
+            if (first != null && first.available() >= length) {
+                // Fast path: the slice is fully contained within a single component; no need for a composite.
+                this.available -= length;
+                return first.readSlice(length);
+            }
+
             ArrayList<BufferView> components = new ArrayList<>();
             int remaining = length;
             while (remaining > 0) {
@@ -266,6 +273,25 @@ class CompositeBufferView extends AbstractBufferView implements BufferView {
             return new CompositeBufferView(components, length);
         }
 
+        @Override
+        public void skip(final int length) {
+            if (length < 0 || length > available()) {
+                throw new OutOfBoundsException();
+            }
+
+            int remaining = length;
+            while (remaining > 0) {
+                BufferView.Reader current = getCurrent();
+                assert current != null;
+                int currentLength = Math.min(current.available(), remaining);
+                current.skip(currentLength);
+                this.available -= currentLength;
+                remaining -= currentLength;
+            }
+
+            assert this.available >= 0;
+        }
+
         private BufferView.Reader getCurrent() {
             if (this.current == null || this.current.available() == 0) {
                 this.current = this.readers.hasNext() ? this.readers.next() : null;
@@ -462,6 +462,15 @@ public class CompositeByteArraySegment extends AbstractBufferView implements Com
                 throw new OutOfBoundsException();
             }
         }
+
+        @Override
+        public void skip(int length) {
+            if (length < 0 || length > available()) {
+                throw new OutOfBoundsException();
+            }
+
+            this.position += length;
+        }
     }
 
     //endregion
@@ -0,0 +1,394 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.common.util;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * SortedIndex backed by an ordered list of fixed-capacity Slabs. Each Slab stores the keys of its entries in a sorted
+ * primitive long array, alongside a parallel array of entry references.
+ * <p>
+ * Compared to a tree-based index, this does not allocate a node object per entry (only one Slab per {@link #getSlabCapacity()}
+ * entries), it needs about 12 bytes of overhead per entry (versus 30-40 for a tree node) and it performs key lookups
+ * using binary searches over contiguous primitive arrays, which makes for much better CPU cache locality. Entries that
+ * are inserted in increasing key order (the most common case for Segment Read Indices) are always appended to the last
+ * Slab, which is filled to capacity before a new Slab is allocated.
+ * <p>
+ * Note: This class is not thread-safe and requires external synchronization when in a multi-threaded environment.
+ *
+ * @param <V> The type of the IndexEntries.
+ */
+@NotThreadSafe
+public class SlabIndex<V extends SortedIndex.IndexEntry> implements SortedIndex<V> {
+    //region Members
+
+    /**
+     * The default number of entries in a Slab.
+     */
+    public static final int DEFAULT_SLAB_CAPACITY = 256;
+    private static final int MIN_SLAB_CAPACITY = 4;
+    private final int slabCapacity;
+    private final ArrayList<Slab> slabs;
+    private transient int size;
+    private transient int modCount;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the SlabIndex class with a Slab capacity of {@link #DEFAULT_SLAB_CAPACITY}.
+     */
+    public SlabIndex() {
+        this(DEFAULT_SLAB_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance of the SlabIndex class.
+     *
+     * @param slabCapacity The maximum number of entries in a single Slab.
+     * @throws IllegalArgumentException If slabCapacity is less than 4.
+     */
+    public SlabIndex(int slabCapacity) {
+        Preconditions.checkArgument(slabCapacity >= MIN_SLAB_CAPACITY, "slabCapacity must be at least %s.", MIN_SLAB_CAPACITY);
+        this.slabCapacity = slabCapacity;
+        this.slabs = new ArrayList<>();
+        this.size = 0;
+        this.modCount = 0;
+    }
+
+    //endregion
+
+    //region Properties
+
+    /**
+     * Gets a value indicating the maximum number of entries in a single Slab.
+     *
+     * @return The Slab capacity.
+     */
+    public int getSlabCapacity() {
+        return this.slabCapacity;
+    }
+
+    /**
+     * Gets a value indicating the number of Slabs currently allocated.
+     *
+     * @return The Slab count.
+     */
+    int getSlabCount() {
+        return this.slabs.size();
+    }
+
+    //endregion
+
+    //region SortedIndex Implementation
+
+    @Override
+    public void clear() {
+        this.slabs.clear();
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public V put(V item) {
+        Preconditions.checkNotNull(item, "item");
+        final long key = item.key();
+        this.modCount++;
+        if (this.slabs.isEmpty()) {
+            this.slabs.add(newSlab(item));
+            this.size++;
+            return null;
+        }
+
+        // If the key is smaller than everything else, it will be inserted in the first Slab.
+        int slabIndex = Math.max(0, findSlab(key));
+        Slab slab = this.slabs.get(slabIndex);
+        int pos = slab.search(key);
+        if (pos >= 0) {
+            // Key already exists; replace its entry.
+            V oldItem = slab.getItem(pos);
+            slab.items[pos] = item;
+            return oldItem;
+        }
+
+        pos = -pos - 1;
+        if (slab.count == this.slabCapacity) {
+            if (pos == slab.count) {
+                // Key is larger than anything in this Slab (but smaller than the first key in the next Slab, if any).
+                // Do not split the Slab; if we are appending at the end (i.e., sequential insertions) or the next Slab is
+                // full too, insert a new Slab, otherwise prepend to the next Slab.
+                Slab next = slabIndex < this.slabs.size() - 1 ? this.slabs.get(slabIndex + 1) : null;
+                if (next == null || next.count == this.slabCapacity) {
+                    this.slabs.add(slabIndex + 1, newSlab(item));
+                } else {
+                    next.insert(0, key, item);
+                }
+
+                this.size++;
+                return null;
+            }
+
+            // Split the Slab in two and insert the key into the appropriate half.
+            Slab upper = slab.split();
+            this.slabs.add(slabIndex + 1, upper);
+            if (pos > slab.count) {
+                pos -= slab.count;
+                slab = upper;
+            }
+        }
+
+        slab.insert(pos, key, item);
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public V remove(long key) {
+        int slabIndex = findSlab(key);
+        if (slabIndex < 0) {
+            return null;
+        }
+
+        Slab slab = this.slabs.get(slabIndex);
+        int pos = slab.search(key);
+        if (pos < 0) {
+            return null;
+        }
+
+        V result = slab.getItem(pos);
+        slab.remove(pos);
+        this.size--;
+        this.modCount++;
+        if (slab.count == 0) {
+            this.slabs.remove(slabIndex);
+        } else {
+            // Merge with an adjacent Slab if both are sparse; this keeps the memory overhead in check.
+            final int mergeThreshold = this.slabCapacity / 2;
+            if (slabIndex < this.slabs.size() - 1 && slab.count + this.slabs.get(slabIndex + 1).count <= mergeThreshold) {
+                slab.append(this.slabs.remove(slabIndex + 1));
+            } else if (slabIndex > 0 && slab.count + this.slabs.get(slabIndex - 1).count <= mergeThreshold) {
+                this.slabs.get(slabIndex - 1).append(this.slabs.remove(slabIndex));
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public V get(long key) {
+        int slabIndex = findSlab(key);
+        if (slabIndex < 0) {
+            return null;
+        }
+
+        Slab slab = this.slabs.get(slabIndex);
+        int pos = slab.search(key);
+        return pos < 0 ? null : slab.getItem(pos);
+    }
+
+    @Override
+    public V getCeiling(long key) {
+        if (this.slabs.isEmpty()) {
+            return null;
+        }
+
+        int slabIndex = findSlab(key);
+        if (slabIndex < 0) {
+            // Key is smaller than everything in the index.
+            return this.slabs.get(0).getItem(0);
+        }
+
+        Slab slab = this.slabs.get(slabIndex);
+        int pos = slab.search(key);
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+
+        if (pos < slab.count) {
+            return slab.getItem(pos);
+        }
+
+        // Everything in this Slab is smaller than the key; the answer (if any) is the first entry in the next Slab.
+        return slabIndex < this.slabs.size() - 1 ? this.slabs.get(slabIndex + 1).getItem(0) : null;
+    }
+
+    @Override
+    public V getFloor(long key) {
+        int slabIndex = findSlab(key);
+        if (slabIndex < 0) {
+            return null;
+        }
+
+        // The first key in this Slab is smaller than or equal to the sought key, so we are guaranteed to find something.
+        Slab slab = this.slabs.get(slabIndex);
+        int pos = slab.search(key);
+        if (pos < 0) {
+            pos = -pos - 2;
+        }
+
+        return slab.getItem(pos);
+    }
+
+    @Override
+    public V getFirst() {
+        return this.slabs.isEmpty() ? null : this.slabs.get(0).getItem(0);
+    }
+
+    @Override
+    public V getLast() {
+        if (this.slabs.isEmpty()) {
+            return null;
+        }
+
+        Slab last = this.slabs.get(this.slabs.size() - 1);
+        return last.getItem(last.count - 1);
+    }
+
+    @Override
+    public void forEach(Consumer<V> consumer) {
+        Preconditions.checkNotNull(consumer, "consumer");
+        final int originalModCount = this.modCount;
+        for (int slabIndex = 0; slabIndex < this.slabs.size(); slabIndex++) {
+            Slab slab = this.slabs.get(slabIndex);
+            for (int pos = 0; pos < slab.count; pos++) {
+                consumer.accept(slab.getItem(pos));
+                if (originalModCount != this.modCount) {
+                    throw new ConcurrentModificationException("SlabIndex has been modified; forEach cannot continue.");
+                }
+            }
+        }
+    }
+
+    //endregion
+
+    //region Helpers
+
+    /**
+     * Locates the Slab with the largest first key that is smaller than or equal to the given key.
+     *
+     * @param key The key to search.
+     * @return The index of the Slab, or -1 if there is no such Slab (the index is empty or all keys are larger than the
+     * given one).
+     */
+    private int findSlab(long key) {
+        int low = 0;
+        int high = this.slabs.size() - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (this.slabs.get(mid).keys[0] <= key) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return result;
+    }
+
+    private Slab newSlab(V item) {
+        Slab slab = new Slab(this.slabCapacity);
+        slab.insert(0, item.key(), item);
+        return slab;
+    }
+
+    //endregion
+
+    //region Slab
+
+    /**
+     * A fixed-capacity, sorted block of entries.
+     */
+    private class Slab {
+        final long[] keys;
+        final Object[] items;
+        int count;
+
+        Slab(int capacity) {
+            this.keys = new long[capacity];
+            this.items = new Object[capacity];
+            this.count = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        V getItem(int pos) {
+            return (V) this.items[pos];
+        }
+
+        int search(long key) {
+            return Arrays.binarySearch(this.keys, 0, this.count, key);
+        }
+
+        void insert(int pos, long key, V item) {
+            int toMove = this.count - pos;
+            if (toMove > 0) {
+                System.arraycopy(this.keys, pos, this.keys, pos + 1, toMove);
+                System.arraycopy(this.items, pos, this.items, pos + 1, toMove);
+            }
+
+            this.keys[pos] = key;
+            this.items[pos] = item;
+            this.count++;
+        }
+
+        void remove(int pos) {
+            int toMove = this.count - pos - 1;
+            if (toMove > 0) {
+                System.arraycopy(this.keys, pos + 1, this.keys, pos, toMove);
+                System.arraycopy(this.items, pos + 1, this.items, pos, toMove);
+            }
+
+            this.count--;
+            this.items[this.count] = null; // Do not hold on to references we no longer need.
+        }
+
+        /**
+         * Moves the upper half of this Slab's entries into a new Slab.
+         *
+         * @return The new Slab.
+         */
+        Slab split() {
+            Slab upper = new Slab(this.keys.length);
+            int lowerCount = this.count / 2;
+            upper.count = this.count - lowerCount;
+            System.arraycopy(this.keys, lowerCount, upper.keys, 0, upper.count);
+            System.arraycopy(this.items, lowerCount, upper.items, 0, upper.count);
+            Arrays.fill(this.items, lowerCount, this.count, null);
+            this.count = lowerCount;
+            return upper;
+        }
+
+        /**
+         * Appends all the entries from the given Slab to this one. The given Slab's keys must all be larger than this
+         * Slab's keys.
+         *
+         * @param other The Slab to append.
+         */
+        void append(Slab other) {
+            System.arraycopy(other.keys, 0, this.keys, this.count, other.count);
+            System.arraycopy(other.items, 0, this.items, this.count, other.count);
+            this.count += other.count;
+        }
+    }
+
+    //endregion
+}
@@ -203,6 +203,24 @@ public abstract class BufferViewTestBase {
             AssertExtensions.assertThrows("ReadSlice.End offset " + offset,
                     () -> readSliceReader.readSlice(1), ex -> ex instanceof BufferView.Reader.OutOfBoundsException);
 
+            // Skip (alternate skipping and reading bytes).
+            val skipReader = bufferView.slice(offset, length).getBufferViewReader();
+            int skipLength = 0;
+            position = 0;
+            while (skipReader.available() > 0) {
+                int toSkip = Math.min(skipLength, skipReader.available());
+                skipReader.skip(toSkip);
+                position += toSkip;
+                Assert.assertEquals("skip/available offset " + offset, length - position, skipReader.available());
+                if (skipReader.available() > 0) {
+                    Assert.assertEquals("skip/readByte offset " + offset, expectedData[offset + position], skipReader.readByte());
+                    position++;
+                }
+                skipLength++;
+            }
+            AssertExtensions.assertThrows("Skip.End offset " + offset,
+                    () -> skipReader.skip(1), ex -> ex instanceof BufferView.Reader.OutOfBoundsException);
+
             // ReadByte.
             val readByteReader = bufferView.slice(offset, length).getBufferViewReader();
             val readByteResult = new byte[length];
@@ -54,6 +54,26 @@ abstract class SortedIndexTestBase {
         }
     }
 
+    /**
+     * Unit tests for the SlabIndex class.
+     */
+    public static class SlabIndexTests extends SortedIndexTestBase {
+        @Override
+        protected SortedIndex<TestEntry> createIndex() {
+            return new SlabIndex<>();
+        }
+    }
+
+    /**
+     * Unit tests for the SlabIndex class, using very small Slabs (to exercise splitting and merging).
+     */
+    public static class SmallSlabIndexTests extends SortedIndexTestBase {
+        @Override
+        protected SortedIndex<TestEntry> createIndex() {
+            return new SlabIndex<>(4);
+        }
+    }
+
     //endregion
 
     //region Test Definitions
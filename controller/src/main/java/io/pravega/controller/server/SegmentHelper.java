@@ -45,16 +45,20 @@ import io.pravega.shared.protocol.netty.WireCommands;
 
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -91,6 +95,7 @@ public class SegmentHelper implements AutoCloseable {
             .put(WireCommands.MergeSegments.class, ImmutableSet.of(WireCommands.SegmentsMerged.class,
                     WireCommands.NoSuchSegment.class))
             .put(WireCommands.UpdateTableEntries.class, ImmutableSet.of(WireCommands.TableEntriesUpdated.class))
+            .put(WireCommands.UpdateTableEntriesBatch.class, ImmutableSet.of(WireCommands.TableEntriesBatchUpdated.class))
             .put(WireCommands.RemoveTableKeys.class, ImmutableSet.of(WireCommands.TableKeysRemoved.class,
                     WireCommands.TableKeyDoesNotExist.class))
             .put(WireCommands.ReadTable.class, ImmutableSet.of(WireCommands.TableRead.class))
@@ -102,6 +107,8 @@ public class SegmentHelper implements AutoCloseable {
             ImmutableMap.<Class<? extends Request>, Set<Class<? extends Reply>>>builder()
             .put(WireCommands.UpdateTableEntries.class, ImmutableSet.of(WireCommands.TableKeyDoesNotExist.class, 
                     WireCommands.TableKeyBadVersion.class, WireCommands.NoSuchSegment.class))
+            .put(WireCommands.UpdateTableEntriesBatch.class, ImmutableSet.of(WireCommands.TableKeyDoesNotExist.class,
+                    WireCommands.TableKeyBadVersion.class, WireCommands.NoSuchSegment.class))
             .put(WireCommands.RemoveTableKeys.class, ImmutableSet.of(WireCommands.TableKeyBadVersion.class, WireCommands.NoSuchSegment.class))
             .put(WireCommands.DeleteTableSegment.class, ImmutableSet.of(WireCommands.TableSegmentNotEmpty.class))
             .put(WireCommands.ReadTable.class, ImmutableSet.of(WireCommands.NoSuchSegment.class))
@@ -109,10 +116,25 @@ public class SegmentHelper implements AutoCloseable {
             .put(WireCommands.ReadTableEntries.class, ImmutableSet.of(WireCommands.NoSuchSegment.class))
             .build();
 
+    /**
+     * The reasons for which the update of individual tables may fail as part of
+     * {@link #updateTableEntriesBatch(Map, String, long)}, without failing the whole batch.
+     */
+    private static final Set<WireCommandFailedException.Reason> TABLE_BATCH_FAILURE_REASONS = ImmutableSet.of(
+            WireCommandFailedException.Reason.TableKeyBadVersion, WireCommandFailedException.Reason.TableKeyDoesNotExist,
+            WireCommandFailedException.Reason.SegmentDoesNotExist);
+
+    /**
+     * How long to send individual table updates (instead of batched ones) to a Segment Store that did not accept a
+     * batched update.
+     */
+    private static final Duration TABLE_BATCH_UNSUPPORTED_EXPIRATION = Duration.ofMinutes(10);
+
     private final HostControllerStore hostStore;
     private final ConnectionPool connectionPool;
     private final ScheduledExecutorService executorService;
     private final AtomicReference<Duration> timeout;
+    private final Map<Controller.NodeUri, Long> tableBatchUnsupportedHosts = new ConcurrentHashMap<>();
 
     public SegmentHelper(final ConnectionPool connectionPool, HostControllerStore hostStore, ScheduledExecutorService executorService) {
         this.connectionPool = connectionPool;
@@ -423,6 +445,154 @@ public class SegmentHelper implements AutoCloseable {
                 });
     }
 
+    /**
+     * This method sends WireCommands to update table entries in multiple tables. All the updates for tables which are
+     * owned by the same Segment Store are sent in a single WireCommand. Each table's update is atomic, however there is
+     * no atomicity across tables. If a Segment Store does not accept the batched WireCommand (i.e., it is running an
+     * older version that does not support it), the updates for its tables are sent individually instead.
+     *
+     * @param entriesByTable  A Map of qualified table names to the List of {@link TableSegmentEntry} instances to be
+     *                        updated in each.
+     * @param delegationToken The token to be presented to the Segment Store.
+     * @param clientRequestId Request id.
+     * @return A CompletableFuture that, when completed normally, will contain a Map of qualified table names to the
+     * current versions of each {@link TableSegmentEntry} for that table.
+     * If the update of any of the tables failed due to a missing or mismatched key version or a missing table, the
+     * future will be failed with a {@link TableBatchUpdateFailedException} which indicates which tables failed (and why)
+     * as well as the current key versions for the tables which were successfully updated.
+     * If the operation failed otherwise, the future will be failed with the causing exception. If the exception can be
+     * retried then the future will be failed with {@link WireCommandFailedException}.
+     */
+    public CompletableFuture<Map<String, List<TableSegmentKeyVersion>>> updateTableEntriesBatch(final Map<String, List<TableSegmentEntry>> entriesByTable,
+                                                                                                String delegationToken,
+                                                                                                final long clientRequestId) {
+        final Map<Controller.NodeUri, Map<String, List<TableSegmentEntry>>> entriesByUri = new HashMap<>();
+        entriesByTable.forEach((tableName, entries) ->
+                entriesByUri.computeIfAbsent(getTableUri(tableName), u -> new LinkedHashMap<>()).put(tableName, entries));
+
+        final List<CompletableFuture<TableBatchResult>> futures = entriesByUri.entrySet().stream().map(e -> {
+            final Controller.NodeUri uri = e.getKey();
+            if (!isTableBatchSupported(uri)) {
+                return updateTableEntriesIndividually(e.getValue(), delegationToken, clientRequestId);
+            }
+
+            return Futures.exceptionallyComposeExpecting(
+                    sendTableEntriesBatch(uri, e.getValue(), delegationToken, clientRequestId),
+                    ex -> ex instanceof WireCommandFailedException
+                            && (((WireCommandFailedException) ex).getReason() == WireCommandFailedException.Reason.ConnectionDropped
+                            || ((WireCommandFailedException) ex).getReason() == WireCommandFailedException.Reason.ConnectionFailed),
+                    () -> {
+                        // Segment Stores that do not support this command close the connection when receiving it.
+                        log.info(clientRequestId, "Unable to send batched table updates to {}; sending individual updates instead.", uri);
+                        tableBatchUnsupportedHosts.put(uri, System.nanoTime() + TABLE_BATCH_UNSUPPORTED_EXPIRATION.toNanos());
+                        return updateTableEntriesIndividually(e.getValue(), delegationToken, clientRequestId);
+                    });
+        }).collect(Collectors.toList());
+
+        return Futures.allOfWithResults(futures)
+                .thenApply(results -> {
+                    Map<String, List<TableSegmentKeyVersion>> updatedVersions = new HashMap<>();
+                    Map<String, WireCommandFailedException.Reason> failedTables = new LinkedHashMap<>();
+                    results.forEach(r -> {
+                        updatedVersions.putAll(r.getUpdatedVersions());
+                        failedTables.putAll(r.getFailedTables());
+                    });
+                    if (!failedTables.isEmpty()) {
+                        throw new TableBatchUpdateFailedException(failedTables, updatedVersions);
+                    }
+
+                    return updatedVersions;
+                });
+    }
+
+    private boolean isTableBatchSupported(Controller.NodeUri uri) {
+        Long expiration = tableBatchUnsupportedHosts.get(uri);
+        if (expiration == null) {
+            return true;
+        } else if (expiration - System.nanoTime() <= 0) {
+            // Give it another chance; the Segment Store may have been upgraded in the meantime.
+            tableBatchUnsupportedHosts.remove(uri, expiration);
+            return true;
+        }
+
+        return false;
+    }
+
+    private CompletableFuture<TableBatchResult> sendTableEntriesBatch(final Controller.NodeUri uri,
+                                                                      final Map<String, List<TableSegmentEntry>> entriesByTable,
+                                                                      String delegationToken,
+                                                                      final long clientRequestId) {
+        final WireCommandType type = WireCommandType.UPDATE_TABLE_ENTRIES_BATCH;
+        final Map<String, WireCommands.TableEntries> tableEntries = new LinkedHashMap<>();
+        entriesByTable.forEach((tableName, entries) -> {
+            List<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>> wireCommandEntries = entries.stream().map(te -> {
+                final WireCommands.TableKey key = convertToWireCommand(te.getKey());
+                final WireCommands.TableValue value = new WireCommands.TableValue(te.getValue());
+                return new AbstractMap.SimpleImmutableEntry<>(key, value);
+            }).collect(Collectors.toList());
+            tableEntries.put(tableName, new WireCommands.TableEntries(wireCommandEntries));
+        });
+
+        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
+        final long requestId = connection.getFlow().asLong();
+        WireCommands.UpdateTableEntriesBatch request = new WireCommands.UpdateTableEntriesBatch(requestId, delegationToken, tableEntries);
+        String tableNames = String.join(",", tableEntries.keySet());
+        return sendRequest(connection, requestId, request)
+                .thenApply(rpl -> {
+                    handleReply(clientRequestId, rpl, connection, tableNames, WireCommands.UpdateTableEntriesBatch.class, type);
+                    WireCommands.TableEntriesBatchUpdated reply = (WireCommands.TableEntriesBatchUpdated) rpl;
+                    TableBatchResult result = new TableBatchResult();
+                    reply.getUpdatedVersions().forEach((tableName, versions) -> result.getUpdatedVersions().put(tableName,
+                            versions.stream().map(TableSegmentKeyVersion::from).collect(Collectors.toList())));
+                    reply.getFailedSegments().forEach((tableName, errorCode) -> result.getFailedTables().put(tableName,
+                            getTableBatchFailureReason(clientRequestId, tableName, errorCode)));
+                    return result;
+                });
+    }
+
+    @SneakyThrows(ConnectionFailedException.class)
+    private WireCommandFailedException.Reason getTableBatchFailureReason(long callerRequestId, String tableName,
+                                                                         WireCommands.TableEntriesBatchUpdated.ErrorCode errorCode) {
+        switch (errorCode) {
+            case TABLE_KEY_BAD_VERSION:
+                return WireCommandFailedException.Reason.TableKeyBadVersion;
+            case TABLE_KEY_DOES_NOT_EXIST:
+                return WireCommandFailedException.Reason.TableKeyDoesNotExist;
+            case NO_SUCH_SEGMENT:
+                return WireCommandFailedException.Reason.SegmentDoesNotExist;
+            default:
+                log.error(callerRequestId, "Unexpected failure {} for table {}.", errorCode, tableName);
+                throw new ConnectionFailedException("Unexpected failure " + errorCode + " for table " + tableName);
+        }
+    }
+
+    private CompletableFuture<TableBatchResult> updateTableEntriesIndividually(final Map<String, List<TableSegmentEntry>> entriesByTable,
+                                                                               String delegationToken,
+                                                                               final long clientRequestId) {
+        final Map<String, CompletableFuture<List<TableSegmentKeyVersion>>> futures = new LinkedHashMap<>();
+        entriesByTable.forEach((tableName, entries) ->
+                futures.put(tableName, updateTableEntries(tableName, entries, delegationToken, clientRequestId)));
+        return Futures.allOf(futures.values())
+                .handle((r, ex) -> {
+                    TableBatchResult result = new TableBatchResult();
+                    futures.forEach((tableName, future) -> {
+                        if (Futures.isSuccessful(future)) {
+                            result.getUpdatedVersions().put(tableName, future.join());
+                            return;
+                        }
+
+                        Throwable failure = Exceptions.unwrap(Futures.getException(future));
+                        if (failure instanceof WireCommandFailedException
+                                && TABLE_BATCH_FAILURE_REASONS.contains(((WireCommandFailedException) failure).getReason())) {
+                            result.getFailedTables().put(tableName, ((WireCommandFailedException) failure).getReason());
+                        } else {
+                            throw new CompletionException(failure);
+                        }
+                    });
+                    return result;
+                });
+    }
+
     /**
      * This method sends a WireCommand to remove table keys.
      *
@@ -708,4 +878,13 @@ public class SegmentHelper implements AutoCloseable {
     public void close() {
         connectionPool.close();
     }
+
+    /**
+     * The outcome of updating a group of tables via {@link #updateTableEntriesBatch(Map, String, long)}.
+     */
+    @Getter
+    private static class TableBatchResult {
+        private final Map<String, List<TableSegmentKeyVersion>> updatedVersions = new HashMap<>();
+        private final Map<String, WireCommandFailedException.Reason> failedTables = new LinkedHashMap<>();
+    }
 }
@@ -372,6 +372,11 @@ class SegmentStoreConnectionManager implements AutoCloseable {
             execute(ReplyProcessor::tableEntriesUpdated, tableEntriesUpdated);
         }
 
+        @Override
+        public void tableEntriesBatchUpdated(WireCommands.TableEntriesBatchUpdated tableEntriesBatchUpdated) {
+            execute(ReplyProcessor::tableEntriesBatchUpdated, tableEntriesBatchUpdated);
+        }
+
         @Override
         public void tableKeysRemoved(WireCommands.TableKeysRemoved tableKeysRemoved) {
             execute(ReplyProcessor::tableKeysRemoved, tableKeysRemoved);
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.controller.server;
+
+import io.pravega.client.tables.impl.TableSegmentKeyVersion;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Exception that is thrown whenever the update of one or more tables in a batch update has failed. Since there is no
+ * atomicity across tables, the other tables in the batch may have been updated successfully. The {@link #getReason()}
+ * of this exception is the reason for which the first of the failed tables could not be updated.
+ */
+public class TableBatchUpdateFailedException extends WireCommandFailedException {
+    private static final long serialVersionUID = 1L;
+    /**
+     * A Map of qualified table names to the reason for which the update of each such table has failed.
+     */
+    @Getter
+    private final Map<String, Reason> failedTables;
+    /**
+     * A Map of qualified table names to the current versions of the updated keys, for each table that was successfully
+     * updated.
+     */
+    @Getter
+    private final Map<String, List<TableSegmentKeyVersion>> updatedVersions;
+
+    /**
+     * Creates a new instance of the TableBatchUpdateFailedException class.
+     *
+     * @param failedTables    A Map of qualified table names to the reason for which the update of each has failed. Must
+     *                        not be empty.
+     * @param updatedVersions A Map of qualified table names to the current versions of the updated keys, for the tables
+     *                        that were successfully updated.
+     */
+    public TableBatchUpdateFailedException(Map<String, Reason> failedTables, Map<String, List<TableSegmentKeyVersion>> updatedVersions) {
+        super("Failed tables " + failedTables, WireCommandType.UPDATE_TABLE_ENTRIES_BATCH, failedTables.values().iterator().next());
+        this.failedTables = failedTables;
+        this.updatedVersions = updatedVersions;
+    }
+}
@@ -46,4 +46,10 @@ public class WireCommandFailedException extends RuntimeException implements Retr
         this.type = type;
         this.reason = reason;
     }
+
+    protected WireCommandFailedException(String message, WireCommandType type, Reason reason) {
+        super(String.format("WireCommandFailed with type %s reason %s: %s", type.toString(), reason.toString(), message));
+        this.type = type;
+        this.reason = reason;
+    }
 }
@@ -33,8 +33,10 @@ import io.pravega.controller.store.stream.StoreException;
 import io.pravega.controller.util.RetryHelper;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -271,6 +273,54 @@ public class PravegaTablesStoreHelper {
                 .whenComplete((r, ex) -> releaseEntries(entries));
     }
 
+    /**
+     * Method to update entries in multiple tables at once. Updates for tables that are owned by the same segment store
+     * are sent together in a single request, which saves round-trips when several tables need to be updated together.
+     * The update of each table is atomic (all or none of its entries are updated), however there is no atomicity across
+     * tables.
+     *
+     * @param entriesByTable map of table names to the entries to update in each table. Each entry maps a key to its new
+     *                       value and the previous key version. If the version is null, the key is expected to not exist.
+     * @return CompletableFuture which when completed will have the new versions of each key, grouped by table name.
+     * If the update of any of the tables failed, the future will be failed with a {@link StoreException} whose cause is
+     * a {@link io.pravega.controller.server.TableBatchUpdateFailedException} indicating which tables failed.
+     */
+    public CompletableFuture<Map<String, Map<String, Version>>> updateEntries(Map<String, Map<String, VersionedMetadata<byte[]>>> entriesByTable) {
+        log.trace("updateEntries called for tables: {}", entriesByTable.keySet());
+        Map<String, List<String>> keysByTable = new HashMap<>();
+        Map<String, List<TableSegmentEntry>> entries = new HashMap<>();
+        entriesByTable.forEach((tableName, toUpdate) -> {
+            List<String> keys = new ArrayList<>(toUpdate.size());
+            List<TableSegmentEntry> tableEntries = new ArrayList<>(toUpdate.size());
+            toUpdate.forEach((key, value) -> {
+                byte[] keyBytes = key.getBytes(Charsets.UTF_8);
+                keys.add(key);
+                tableEntries.add(value.getVersion() == null
+                        ? TableSegmentEntry.notExists(keyBytes, value.getObject())
+                        : TableSegmentEntry.versioned(keyBytes, value.getObject(), value.getVersion().asLongVersion().getLongValue()));
+            });
+            keysByTable.put(tableName, keys);
+            entries.put(tableName, tableEntries);
+        });
+
+        return withRetries(() -> segmentHelper.updateTableEntriesBatch(entries, authToken.get(), RequestTag.NON_EXISTENT_ID),
+                () -> String.format("updateEntries: tables: %s", entriesByTable.keySet()), true)
+                .thenApplyAsync(versionsByTable -> {
+                    Map<String, Map<String, Version>> result = new HashMap<>();
+                    versionsByTable.forEach((tableName, versions) -> {
+                        List<String> keys = keysByTable.get(tableName);
+                        Map<String, Version> keyVersions = new HashMap<>();
+                        for (int i = 0; i < keys.size(); i++) {
+                            keyVersions.put(keys.get(i), new Version.LongVersion(versions.get(i).getSegmentVersion()));
+                        }
+                        result.put(tableName, keyVersions);
+                    });
+                    log.trace("entries updated in tables {}", entriesByTable.keySet());
+                    return result;
+                }, executor)
+                .whenComplete((r, ex) -> entries.values().forEach(this::releaseEntries));
+    }
+
     /**
      * Method to retrieve the value for a given key from a table. This method takes a deserialization function and deserializes
      * the received byte[] using the supplied function.
@@ -526,17 +526,38 @@ class PravegaTablesStream extends PersistentStreamBase {
     @Override
     CompletableFuture<Void> createEpochRecordDataIfAbsent(int epoch, EpochRecord data) {
         String key = String.format(EPOCH_RECORD_KEY_FORMAT, epoch);
+        if (data.getEpoch() != data.getReferenceEpoch()) {
+            // this is a duplicate epoch. there are no transactions tables to create for it.
+            return getMetadataTable()
+                    .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, key, data.toBytes())
+                                                             .thenAccept(v -> storeHelper.invalidateCache(metadataTable, key)));
+        }
+
+        // this is an original epoch. we add the epoch record to the metadata table and the epoch to the epochs with
+        // transactions table using a single request, and then we create the transactions in epoch table.
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, key, data.toBytes())
-                                                         .thenAccept(v -> storeHelper.invalidateCache(metadataTable, key)))
-                .thenCompose(v -> {
-                    if (data.getEpoch() == data.getReferenceEpoch()) {
-                        // this is an original epoch. we should create transactions in epoch table
-                        return createTransactionsInEpochTable(epoch);
-                    } else {
-                        return CompletableFuture.completedFuture(null);
-                    }
-                });
+                .thenCompose(metadataTable -> getEpochsWithTransactionsTable()
+                        .thenCompose(epochsWithTxnTable -> addEpochRecordAndEpochWithTransactions(metadataTable, key, data,
+                                epochsWithTxnTable))
+                        .thenAccept(v -> storeHelper.invalidateCache(metadataTable, key)))
+                .thenCompose(v -> getTransactionsInEpochTable(epoch))
+                .thenCompose(storeHelper::createTable);
+    }
+
+    private CompletableFuture<Void> addEpochRecordAndEpochWithTransactions(String metadataTable, String epochRecordKey,
+                                                                          EpochRecord data, String epochsWithTxnTable) {
+        String epochKey = Integer.toString(data.getEpoch());
+        Map<String, Map<String, VersionedMetadata<byte[]>>> toAdd = new HashMap<>();
+        toAdd.put(metadataTable, Collections.singletonMap(epochRecordKey, new VersionedMetadata<>(data.toBytes(), null)));
+        toAdd.put(epochsWithTxnTable, Collections.singletonMap(epochKey, new VersionedMetadata<>(new byte[0], null)));
+
+        // updates across tables are not atomic. if either entry already exists (i.e., this is a retry of a partially
+        // completed attempt), add each of them individually if absent.
+        return Futures.exceptionallyComposeExpecting(
+                Futures.toVoid(storeHelper.updateEntries(toAdd)),
+                e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException,
+                () -> storeHelper.addNewEntryIfAbsent(metadataTable, epochRecordKey, data.toBytes())
+                                 .thenCompose(v -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(epochsWithTxnTable, epochKey, new byte[0]))));
     }
 
     @Override
@@ -758,16 +779,6 @@ class PravegaTablesStream extends PersistentStreamBase {
                 .thenCompose(epochTable -> storeHelper.addNewEntryIfAbsent(epochTable, txId.toString(), txnRecord.toBytes()));
     }
 
-    private CompletableFuture<Void> createTransactionsInEpochTable(int epoch) {
-        return getEpochsWithTransactionsTable()
-                .thenCompose(epochsWithTxnTable -> {
-                    return storeHelper.addNewEntryIfAbsent(epochsWithTxnTable, Integer.toString(epoch), new byte[0]);
-                }).thenCompose(epochTxnEntryCreated -> {
-                    return getTransactionsInEpochTable(epoch)
-                            .thenCompose(storeHelper::createTable);
-                });
-    }
-
     @Override
     CompletableFuture<VersionedMetadata<ActiveTxnRecord>> getActiveTx(final int epoch, final UUID txId) {
         return getTransactionsInEpochTable(epoch)
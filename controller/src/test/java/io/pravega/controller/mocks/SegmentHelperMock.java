@@ -17,10 +17,12 @@ import io.pravega.client.tables.impl.IteratorStateImpl;
 import io.pravega.client.tables.impl.TableSegmentEntry;
 import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
+import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.BitConverter;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.controller.server.SegmentHelper;
+import io.pravega.controller.server.TableBatchUpdateFailedException;
 import io.pravega.controller.server.WireCommandFailedException;
 import io.pravega.controller.store.host.HostControllerStore;
 import io.pravega.controller.stream.api.grpc.v1.Controller.NodeUri;
@@ -35,7 +37,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -216,6 +221,43 @@ public class SegmentHelperMock {
             }, executor);
         }).when(helper).updateTableEntries(anyString(), any(), anyString(), anyLong());
         // endregion
+
+        // region update keys in multiple tables
+        doAnswer(x -> {
+            Map<String, List<TableSegmentEntry>> entriesByTable = x.getArgument(0);
+            String delegationToken = x.getArgument(1);
+            long requestId = x.getArgument(2);
+            // Tables are updated one after the other, in order of their names. Just like the segment store, there is no
+            // atomicity across tables: if updating a table fails, the other tables are still updated and the failure of
+            // each table is reported separately.
+            Map<String, List<TableSegmentKeyVersion>> result = new ConcurrentHashMap<>();
+            Map<String, WireCommandFailedException.Reason> failedTables = new ConcurrentHashMap<>();
+            CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+            for (Map.Entry<String, List<TableSegmentEntry>> e : new TreeMap<>(entriesByTable).entrySet()) {
+                future = future.thenCompose(v -> helper.updateTableEntries(e.getKey(), e.getValue(), delegationToken, requestId)
+                        .handle((versions, ex) -> {
+                            if (ex == null) {
+                                result.put(e.getKey(), versions);
+                                return null;
+                            }
+
+                            Throwable cause = Exceptions.unwrap(ex);
+                            if (!(cause instanceof WireCommandFailedException)) {
+                                throw new CompletionException(cause);
+                            }
+
+                            failedTables.put(e.getKey(), ((WireCommandFailedException) cause).getReason());
+                            return null;
+                        }));
+            }
+            return future.thenApply(v -> {
+                if (!failedTables.isEmpty()) {
+                    throw new TableBatchUpdateFailedException(failedTables, result);
+                }
+                return result;
+            });
+        }).when(helper).updateTableEntriesBatch(any(), anyString(), anyLong());
+        // endregion
     
         // region remove keys    
         doAnswer(x -> {
@@ -39,6 +39,8 @@ import io.pravega.test.common.AssertExtensions;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -62,6 +64,7 @@ import static io.pravega.shared.NameUtils.getQualifiedStreamSegmentName;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 public class SegmentHelperTest extends ThreadPooledTestSuite {
@@ -477,6 +480,81 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
         testConnectionFailure(factory, futureSupplier);
     }
 
+    @Test
+    public void testUpdateTableEntriesBatch() {
+        MockConnectionFactory factory = new MockConnectionFactory();
+        SegmentHelper helper = new SegmentHelper(factory, new MockHostControllerStore(), executorService());
+        Map<String, List<TableSegmentEntry>> entries = new HashMap<>();
+        entries.put("t1", Arrays.asList(TableSegmentEntry.notExists("k".getBytes(), "v".getBytes()),
+                TableSegmentEntry.versioned("k1".getBytes(), "v".getBytes(), 10L)));
+        entries.put("t2", Collections.singletonList(TableSegmentEntry.unversioned("k2".getBytes(), "v".getBytes())));
+
+        Map<String, List<TableSegmentKeyVersion>> expectedVersions = new HashMap<>();
+        expectedVersions.put("t1", Arrays.asList(TableSegmentKeyVersion.from(0L), TableSegmentKeyVersion.from(11L)));
+        expectedVersions.put("t2", Collections.singletonList(TableSegmentKeyVersion.from(5L)));
+
+        // On receiving TableEntriesBatchUpdated.
+        CompletableFuture<Map<String, List<TableSegmentKeyVersion>>> result = helper.updateTableEntriesBatch(entries, "", System.nanoTime());
+        long requestId = ((MockConnection) (factory.connection)).getRequestId();
+        Map<String, List<Long>> updatedVersions = new HashMap<>();
+        updatedVersions.put("t1", Arrays.asList(0L, 11L));
+        updatedVersions.put("t2", Collections.singletonList(5L));
+        factory.rp.process(new WireCommands.TableEntriesBatchUpdated(requestId, updatedVersions, Collections.emptyMap()));
+        assertEquals(expectedVersions, result.join());
+
+        // On receiving TableKeyBadVersion.
+        result = helper.updateTableEntriesBatch(entries, "", System.nanoTime());
+        requestId = ((MockConnection) (factory.connection)).getRequestId();
+        factory.rp.process(new WireCommands.TableKeyBadVersion(requestId, "t1", ""));
+        AssertExtensions.assertThrows("", result::join,
+                ex -> ex instanceof WireCommandFailedException &&
+                        (((WireCommandFailedException) ex).getReason() == WireCommandFailedException.Reason.TableKeyBadVersion));
+
+        // On receiving a failure for only one of the tables. There is no atomicity across tables, so "t1" was updated,
+        // but we must still fail the whole call and indicate which table failed.
+        result = helper.updateTableEntriesBatch(entries, "", System.nanoTime());
+        requestId = ((MockConnection) (factory.connection)).getRequestId();
+        factory.rp.process(new WireCommands.TableEntriesBatchUpdated(requestId,
+                Collections.singletonMap("t1", Arrays.asList(0L, 11L)),
+                Collections.singletonMap("t2", WireCommands.TableEntriesBatchUpdated.ErrorCode.TABLE_KEY_DOES_NOT_EXIST)));
+        AssertExtensions.assertThrows("", result::join,
+                ex -> ex instanceof TableBatchUpdateFailedException &&
+                        ((TableBatchUpdateFailedException) ex).getReason() == WireCommandFailedException.Reason.TableKeyDoesNotExist &&
+                        ((TableBatchUpdateFailedException) ex).getFailedTables().equals(
+                                Collections.singletonMap("t2", WireCommandFailedException.Reason.TableKeyDoesNotExist)) &&
+                        ((TableBatchUpdateFailedException) ex).getUpdatedVersions().equals(
+                                Collections.singletonMap("t1", expectedVersions.get("t1"))));
+
+        Supplier<CompletableFuture<?>> futureSupplier = () -> helper.updateTableEntriesBatch(entries, "", System.nanoTime());
+        validateAuthTokenCheckFailed(factory, futureSupplier);
+        validateProcessingFailure(factory, futureSupplier);
+        validateNoSuchSegment(factory, futureSupplier);
+
+        // A Segment Store that does not support batched updates drops the connection; the tables are updated individually.
+        Map<String, List<TableSegmentEntry>> singleTableEntries = Collections.singletonMap("t1", entries.get("t1"));
+        result = helper.updateTableEntriesBatch(singleTableEntries, "", System.nanoTime());
+        ClientConnection batchConnection = factory.connection;
+        factory.rp.connectionDropped();
+        assertNotSame(batchConnection, factory.connection);
+        requestId = ((MockConnection) (factory.connection)).getRequestId();
+        factory.rp.process(new WireCommands.TableEntriesUpdated(requestId, Arrays.asList(0L, 11L)));
+        assertEquals(Collections.singletonMap("t1", expectedVersions.get("t1")), result.join());
+
+        // Subsequent updates to the same Segment Store are sent individually (replying to a batched update with
+        // TableEntriesUpdated would fail the call).
+        result = helper.updateTableEntriesBatch(singleTableEntries, "", System.nanoTime());
+        requestId = ((MockConnection) (factory.connection)).getRequestId();
+        factory.rp.process(new WireCommands.TableEntriesUpdated(requestId, Arrays.asList(0L, 11L)));
+        assertEquals(Collections.singletonMap("t1", expectedVersions.get("t1")), result.join());
+
+        // The individual updates fail the same way a batched update would.
+        Supplier<CompletableFuture<?>> singleTableSupplier = () -> helper.updateTableEntriesBatch(singleTableEntries, "", System.nanoTime());
+        validateWrongHost(factory, singleTableSupplier);
+        validateConnectionDropped(factory, singleTableSupplier);
+        validateProcessingFailureCFE(factory, singleTableSupplier);
+        testConnectionFailure(factory, futureSupplier);
+    }
+
     @Test
     public void testRemoveTableKeys() {
         MockConnectionFactory factory = new MockConnectionFactory();
@@ -314,6 +314,11 @@ public class SegmentStoreConnectionManagerTest {
 
             }
 
+            @Override
+            public void tableEntriesBatchUpdated(WireCommands.TableEntriesBatchUpdated tableEntriesBatchUpdated) {
+
+            }
+
             @Override
             public void tableKeysRemoved(WireCommands.TableKeysRemoved tableKeysRemoved) {
 
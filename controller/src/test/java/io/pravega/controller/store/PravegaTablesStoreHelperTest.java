@@ -17,6 +17,7 @@ import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.controller.mocks.SegmentHelperMock;
 import io.pravega.controller.server.SegmentHelper;
+import io.pravega.controller.server.TableBatchUpdateFailedException;
 import io.pravega.controller.server.WireCommandFailedException;
 import io.pravega.controller.server.security.auth.GrpcAuthHelper;
 import io.pravega.controller.store.kvtable.KVTableMetadataStore;
@@ -26,6 +27,7 @@ import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.test.common.AssertExtensions;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -184,6 +186,48 @@ public class PravegaTablesStoreHelperTest {
         assertEquals(keys.get(3), values.get(3).getObject());
     }
 
+    @Test
+    public void testUpdateEntries() {
+        String table1 = "table1";
+        String table2 = "table2";
+        storeHelper.createTable(table1).join();
+        storeHelper.createTable(table2).join();
+        Version version1 = storeHelper.addNewEntry(table1, "k1", "v1".getBytes()).join();
+
+        // Successful update: update an existing key in one table and add a new key in the other one.
+        Map<String, Map<String, VersionedMetadata<byte[]>>> toUpdate = new HashMap<>();
+        toUpdate.put(table1, Collections.singletonMap("k1", new VersionedMetadata<>("v1.1".getBytes(), version1)));
+        toUpdate.put(table2, Collections.singletonMap("k2", new VersionedMetadata<>("v2".getBytes(), null)));
+        Map<String, Map<String, Version>> versions = storeHelper.updateEntries(toUpdate).join();
+        assertEquals(2, versions.size());
+        VersionedMetadata<String> entry1 = storeHelper.getEntry(table1, "k1", String::new).join();
+        assertEquals("v1.1", entry1.getObject());
+        assertEquals(entry1.getVersion(), versions.get(table1).get("k1"));
+        VersionedMetadata<String> entry2 = storeHelper.getEntry(table2, "k2", String::new).join();
+        assertEquals("v2", entry2.getObject());
+        assertEquals(entry2.getVersion(), versions.get(table2).get("k2"));
+
+        // Version mismatch: the whole update must fail with a write conflict.
+        toUpdate = new HashMap<>();
+        toUpdate.put(table1, Collections.singletonMap("k1", new VersionedMetadata<>("v1.2".getBytes(), version1)));
+        AssertExtensions.assertFutureThrows("bad version", storeHelper.updateEntries(toUpdate),
+                e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException);
+        assertEquals("v1.1", storeHelper.getEntry(table1, "k1", String::new).join().getObject());
+
+        // Failure to update one of multiple tables: updates are not atomic across tables, so the update fails (indicating
+        // which table failed), but the other table keeps its update.
+        toUpdate = new HashMap<>();
+        toUpdate.put(table1, Collections.singletonMap("k1", new VersionedMetadata<>("v1.3".getBytes(), entry1.getVersion())));
+        toUpdate.put(table2, Collections.singletonMap("k2", new VersionedMetadata<>("v2.1".getBytes(), null)));
+        AssertExtensions.assertFutureThrows("key exists", storeHelper.updateEntries(toUpdate),
+                e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException
+                        && Exceptions.unwrap(e).getCause() instanceof TableBatchUpdateFailedException
+                        && ((TableBatchUpdateFailedException) Exceptions.unwrap(e).getCause()).getFailedTables()
+                                .keySet().equals(Collections.singleton(table2)));
+        assertEquals("v1.3", storeHelper.getEntry(table1, "k1", String::new).join().getObject());
+        assertEquals("v2", storeHelper.getEntry(table2, "k2", String::new).join().getObject());
+    }
+
     @Test
     public void testRetriesExhausted() {
         SegmentHelper segmentHelper = spy(SegmentHelperMock.getSegmentHelperMockForTables(executor));
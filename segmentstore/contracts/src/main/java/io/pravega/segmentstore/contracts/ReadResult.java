@@ -85,6 +85,35 @@ public interface ReadResult extends Iterator<ReadResultEntry>, AutoCloseable {
      */
     void setCopyOnRead(boolean value);
 
+    /**
+     * Gets a value indicating whether "Retain-on-Read" is enabled for Cache retrievals. See {@link #setRetainOnRead} for
+     * more details.
+     *
+     * @return True if retain-on-read is enabled for this {@link ReadResult}, false otherwise.
+     */
+    default boolean isRetainOnRead() {
+        return false;
+    }
+
+    /**
+     * Sets a value indicating whether "Retain-on-Read" is to be enabled for any Cache entry retrievals
+     * ({@link ReadResultEntry#getType()} equals {@link ReadResultEntryType#Cache}). If true, then any data extracted
+     * from the Cache will neither be copied nor be invalidated by an eventual cache eviction; instead it will be pinned
+     * in the Cache until released. This takes precedence over {@link #setCopyOnRead}. Use this option to avoid copying
+     * data that is about to be written to a network channel.
+     *
+     * NOTE: When enabled, the caller is responsible for invoking {@link BufferView#release()} on the contents of every
+     * {@link ReadResultEntry} returned by this {@link ReadResult} (regardless of type) once it is no longer needed. Failure
+     * to do so will leak Cache memory.
+     *
+     * Implementations that do not support this may ignore it (and return copies or views as per {@link #isCopyOnRead()}).
+     *
+     * @param value True if enabling retain-on-read for this {@link ReadResult}, false otherwise.
+     */
+    default void setRetainOnRead(boolean value) {
+        // This method intentionally left blank.
+    }
+
     /**
      * Gets a value indicating the maximum number of bytes to read at once with every invocation of {@link #next()}.
      *
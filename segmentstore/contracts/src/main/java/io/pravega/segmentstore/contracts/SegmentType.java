@@ -54,6 +54,8 @@ public class SegmentType {
     @VisibleForTesting
     static final long FORMAT_SORTED_TABLE_SEGMENT = 0b0000_0010L | FORMAT_TABLE_SEGMENT;
     @VisibleForTesting
+    static final long FORMAT_FAST_HASH_TABLE_SEGMENT = 0b0000_0100L | FORMAT_TABLE_SEGMENT;
+    @VisibleForTesting
     static final long ROLE_INTERNAL = 0b0001_0000L;
     @VisibleForTesting
     static final long ROLE_SYSTEM = 0b0010_0000L | ROLE_INTERNAL;
@@ -108,6 +110,16 @@ public class SegmentType {
         return (this.flags & FORMAT_SORTED_TABLE_SEGMENT) == FORMAT_SORTED_TABLE_SEGMENT;
     }
 
+    /**
+     * Whether this {@link SegmentType} refers to a Table Segment whose Keys are hashed using a fast (non-cryptographic)
+     * hash function (which implies {@link #isTableSegment()}. This is only used when the Table Segment is created.
+     *
+     * @return True if Table Segment with fast Key Hashes, false otherwise.
+     */
+    public boolean isFastHashTableSegment() {
+        return (this.flags & FORMAT_FAST_HASH_TABLE_SEGMENT) == FORMAT_FAST_HASH_TABLE_SEGMENT;
+    }
+
     /**
      * Whether this {@link SegmentType} refers to a Segment (regardless of Format) that is for exclusive internal access.
      * If so, external requests may be denied on such Segments.
@@ -151,6 +163,10 @@ public class SegmentType {
             result.append(", Table Segment");
         }
 
+        if (isFastHashTableSegment()) {
+            result.append(", Fast Key Hash");
+        }
+
         if (isSystem()) {
             result.append(", System");
         }
@@ -249,6 +265,11 @@ public class SegmentType {
             return this;
         }
 
+        public Builder fastHashTableSegment() {
+            this.flags |= FORMAT_FAST_HASH_TABLE_SEGMENT;
+            return this;
+        }
+
         public Builder system() {
             this.flags |= ROLE_SYSTEM;
             return this;
@@ -32,6 +32,24 @@ public class IteratorArgs {
      */
     @Beta
     private final BufferView prefixFilter;
+    /**
+     * EXPERIMENTAL!
+     * (Optional) The lower bound (inclusive) of the iteration. If specified, only those entries whose keys are greater
+     * than or equal to this key will be included.
+     * This option only applies to Sorted Table Segments (see {@link TableStore}. An attempt to use it on a non-Sorted
+     * Table Segment will result in an {@link IllegalArgumentException}.
+     */
+    @Beta
+    private final BufferView fromKey;
+    /**
+     * EXPERIMENTAL!
+     * (Optional) The upper bound (exclusive) of the iteration. If specified, only those entries whose keys are smaller
+     * than this key will be included.
+     * This option only applies to Sorted Table Segments (see {@link TableStore}. An attempt to use it on a non-Sorted
+     * Table Segment will result in an {@link IllegalArgumentException}.
+     */
+    @Beta
+    private final BufferView toKey;
     /**
      * (Optional) The serialized form of the State. This can be obtained from {@link IteratorItem#getState()}.
      * If provided, the iteration will resume from where it left off, otherwise it will start from the beginning.
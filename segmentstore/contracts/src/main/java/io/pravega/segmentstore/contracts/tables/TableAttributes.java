@@ -59,6 +59,12 @@ public class TableAttributes extends Attributes {
      */
     public static final UUID SORTED = new UUID(CORE_ATTRIBUTE_ID_PREFIX, TABLE_ATTRIBUTES_START_OFFSET + 6);
 
+    /**
+     * Defines an attribute that is used to indicate which hash function is used to generate Key Hashes for the Table
+     * Segment (0 for SHA-256, 1 for MurmurHash3 (128-bit)). This value cannot be changed after the Table Segment is created.
+     */
+    public static final UUID KEY_HASHER = new UUID(CORE_ATTRIBUTE_ID_PREFIX, TABLE_ATTRIBUTES_START_OFFSET + 7);
+
     /**
      * Defines a Map that contains all Table Attributes along with their default values.
      */
@@ -20,7 +20,9 @@ import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
 import io.pravega.segmentstore.contracts.StreamSegmentStore;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -180,6 +182,28 @@ public interface TableStore {
      */
     CompletableFuture<List<Long>> put(String segmentName, List<TableEntry> entries, long tableSegmentOffset, Duration timeout);
 
+    /**
+     * Inserts new or updates existing Table Entries into multiple Table Segments.
+     *
+     * The updates for all the Table Segments are initiated at once (without waiting for each other), which allows those
+     * Table Segments that belong to the same Segment Container to have their updates batched together into the same
+     * Tier-1 write. Each Table Segment's update is atomic (see {@link #put(String, List, Duration)}), however there is no
+     * atomicity across Table Segments: if one Table Segment's update fails, the others may still be applied.
+     *
+     * @param entriesBySegment A Map of Table Segment Names to the List of {@link TableEntry} instances to insert or update
+     *                         in each. See {@link #put(String, List, Duration)} for the semantics of each List.
+     * @param timeout          Timeout for the operation.
+     * @return A Map of Table Segment Names to CompletableFutures that, when completed, will contain the current version of
+     * each TableEntry Key provided for that Table Segment (in the same order as the TableEntry instances provided). Each
+     * CompletableFuture completes (normally or exceptionally) independently of the others. See
+     * {@link #put(String, List, Duration)} for notable exceptions.
+     */
+    default Map<String, CompletableFuture<List<Long>>> put(Map<String, List<TableEntry>> entriesBySegment, Duration timeout) {
+        Map<String, CompletableFuture<List<Long>>> futures = new LinkedHashMap<>();
+        entriesBySegment.forEach((segmentName, entries) -> futures.put(segmentName, put(segmentName, entries, timeout)));
+        return futures;
+    }
+
     /**
      * Removes one or more Table Keys from the given Table Segment.
      *
@@ -224,6 +248,35 @@ public interface TableStore {
      */
     CompletableFuture<Void> remove(String segmentName, Collection<TableKey> keys, long tableSegmentOffset, Duration timeout);
 
+    /**
+     * Inserts new or updates existing Table Entries and removes Table Keys from the given Table Segment, as a single
+     * atomic operation.
+     *
+     * All the conditions (see {@link TableKey#hasVersion()}) on both the entries and the keys are validated together and,
+     * if they all pass, all the changes are persisted using a single append to the Table Segment (either all or none of
+     * the changes will be accepted). This enables compare-and-set operations that span multiple keys, where some keys are
+     * updated and others removed, without the need for client-side retries.
+     *
+     * @param segmentName The name of the Table Segment to update.
+     * @param entries     A List of {@link TableEntry} instances to insert or update. See {@link #put(String, List, Duration)}.
+     * @param keys        A Collection of {@link TableKey} instances to remove. See {@link #remove(String, Collection, Duration)}.
+     *                    A Key may not be both updated and removed in the same operation.
+     * @param timeout     Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain a List with the current version of the each TableEntry
+     * Key provided. The versions will be in the same order as the TableEntry instances provided. If the operation failed,
+     * the future will be failed with the causing exception. Notable exceptions:
+     * <ul>
+     * <li>{@link StreamSegmentNotExistsException} If the Table Segment does not exist.</li>
+     * <li>{@link TableKeyTooLongException} If a Key exceeds {@link #MAXIMUM_KEY_LENGTH}.</li>
+     * <li>{@link TableValueTooLongException} If {@link TableEntry#getValue()} exceeds {@link #MAXIMUM_VALUE_LENGTH}.</li>
+     * <li>{@link ConditionalTableUpdateException} If any Key has {@link TableKey#hasVersion()} true and its
+     * {@link TableKey#getVersion()} does not match that Key's current Table Version. </li>
+     * <li>{@link BadSegmentTypeException} If segmentName refers to a non-Table Segment. </li>
+     * <li>{@link IllegalArgumentException} If the same Key is both updated and removed.</li>
+     * </ul>
+     */
+    CompletableFuture<List<Long>> update(String segmentName, List<TableEntry> entries, Collection<TableKey> keys, Duration timeout);
+
     /**
      * Looks up a List of Keys in the given Table Segment.
      *
@@ -33,6 +33,8 @@ public class SegmentTypeTests {
         checkBuilder(SegmentType.builder().tableSegment().build(), SegmentType.FORMAT_TABLE_SEGMENT, SegmentType::isTableSegment);
         checkBuilder(SegmentType.builder().sortedTableSegment().build(), SegmentType.FORMAT_SORTED_TABLE_SEGMENT,
                 SegmentType::isTableSegment, SegmentType::isSortedTableSegment);
+        checkBuilder(SegmentType.builder().fastHashTableSegment().build(), SegmentType.FORMAT_FAST_HASH_TABLE_SEGMENT,
+                SegmentType::isTableSegment, SegmentType::isFastHashTableSegment);
         checkBuilder(SegmentType.builder().internal().build(), SegmentType.ROLE_INTERNAL, SegmentType::isInternal);
         checkBuilder(SegmentType.builder().system().build(), SegmentType.ROLE_SYSTEM, SegmentType::isSystem, SegmentType::isInternal);
         checkBuilder(SegmentType.builder().critical().build(), SegmentType.ROLE_CRITICAL, SegmentType::isCritical);
@@ -190,6 +190,7 @@ public final class ServiceStarter {
                         new Host(this.serviceConfig.getPublishedIPAddress(),
                                 this.serviceConfig.getPublishedPort(), null),
                         this.serviceConfig.getParallelContainerStarts(),
+                        this.serviceConfig.getPriorityContainerStarts(),
                         setup.getCoreExecutor()));
     }
 
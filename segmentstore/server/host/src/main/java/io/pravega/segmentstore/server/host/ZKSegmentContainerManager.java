@@ -18,6 +18,7 @@ import io.pravega.common.cluster.Host;
 import io.pravega.common.cluster.zkImpl.ClusterZKImpl;
 import io.pravega.segmentstore.server.SegmentContainerManager;
 import io.pravega.segmentstore.server.SegmentContainerRegistry;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
@@ -41,16 +42,18 @@ class ZKSegmentContainerManager implements SegmentContainerManager {
      * @param zkClient                ZooKeeper client.
      * @param pravegaServiceEndpoint  Pravega service endpoint details.
      * @param parallelContainerStarts Defines the number of containers to start in parallel.
+     * @param priorityContainers      The ids of the containers to start before any others, in the order given.
      * @param executor                Executor service for running async operations.
      */
     ZKSegmentContainerManager(SegmentContainerRegistry containerRegistry, CuratorFramework zkClient,
-                              Host pravegaServiceEndpoint, int parallelContainerStarts, ScheduledExecutorService executor) {
+                              Host pravegaServiceEndpoint, int parallelContainerStarts, List<Integer> priorityContainers,
+                              ScheduledExecutorService executor) {
         Preconditions.checkNotNull(containerRegistry, "containerRegistry");
         Preconditions.checkNotNull(zkClient, "zkClient");
         this.host = Preconditions.checkNotNull(pravegaServiceEndpoint, "pravegaServiceEndpoint");
         this.cluster = new ClusterZKImpl(zkClient, ClusterType.HOST);
         this.containerMonitor = new ZKSegmentContainerMonitor(containerRegistry, zkClient, pravegaServiceEndpoint,
-                parallelContainerStarts, executor);
+                parallelContainerStarts, priorityContainers, executor);
     }
 
     @Override
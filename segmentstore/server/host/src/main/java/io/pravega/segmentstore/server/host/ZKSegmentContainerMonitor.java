@@ -13,31 +13,38 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
+import io.pravega.common.Timer;
 import io.pravega.common.cluster.Host;
 import io.pravega.common.cluster.HostContainerMap;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.CollectionHelpers;
 import io.pravega.segmentstore.server.ContainerHandle;
 import io.pravega.segmentstore.server.SegmentContainerRegistry;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
@@ -80,7 +87,16 @@ public class ZKSegmentContainerMonitor implements AutoCloseable {
     private final AtomicLong lastReportTime;
 
     // Throttle the max number of parallel container starts/recoveries.
-    private final Semaphore parallelContainerStartsSemaphore;
+    private final int parallelContainerStarts;
+
+    // The containers which are waiting to be started, in the order in which they should be started.
+    @GuardedBy("startQueue")
+    private final PriorityQueue<QueuedStart> startQueue;
+    @GuardedBy("startQueue")
+    private int activeStarts;
+
+    // The start order (rank) of each of the priority containers. All other containers have a lower priority.
+    private final Map<Integer, Integer> startPriorities;
 
     /**
      * Creates an instance of ZKSegmentContainerMonitor.
@@ -88,11 +104,17 @@ public class ZKSegmentContainerMonitor implements AutoCloseable {
      * @param containerRegistry      The registry used to control the container state.
      * @param zkClient               The curator client.
      * @param pravegaServiceEndpoint The pravega endpoint for which we need to fetch the container assignment.
+     * @param parallelContainerStarts The maximum number of containers to start (and recover) in parallel.
+     * @param priorityContainers      The ids of the containers to start before any others, in the order given. All
+     *                                other containers are started in ascending order of their ids.
+     * @param executor                Executor service for running async operations.
      */
     ZKSegmentContainerMonitor(SegmentContainerRegistry containerRegistry, CuratorFramework zkClient,
-                              Host pravegaServiceEndpoint, int parallelContainerStarts, ScheduledExecutorService executor) {
+                              Host pravegaServiceEndpoint, int parallelContainerStarts, List<Integer> priorityContainers,
+                              ScheduledExecutorService executor) {
         Preconditions.checkNotNull(zkClient, "zkClient");
         Preconditions.checkArgument(parallelContainerStarts > 0, "parallelContainerStarts");
+        Preconditions.checkNotNull(priorityContainers, "priorityContainers");
 
         this.registry = Preconditions.checkNotNull(containerRegistry, "containerRegistry");
         this.host = Preconditions.checkNotNull(pravegaServiceEndpoint, "pravegaServiceEndpoint");
@@ -103,7 +125,13 @@ public class ZKSegmentContainerMonitor implements AutoCloseable {
         this.hostContainerMapNode = new NodeCache(zkClient, clusterPath);
         this.assignmentTask = new AtomicReference<>();
         this.lastReportTime = new AtomicLong(CURRENT_TIME_MILLIS.get());
-        this.parallelContainerStartsSemaphore = new Semaphore(parallelContainerStarts);
+        this.parallelContainerStarts = parallelContainerStarts;
+        this.startPriorities = new HashMap<>();
+        for (int i = 0; i < priorityContainers.size(); i++) {
+            this.startPriorities.putIfAbsent(priorityContainers.get(i), i);
+        }
+        this.startQueue = new PriorityQueue<>(Comparator.comparingInt((QueuedStart qs) -> getStartPriority(qs.containerId))
+                .thenComparingInt(qs -> qs.containerId));
     }
 
     /**
@@ -145,6 +173,12 @@ public class ZKSegmentContainerMonitor implements AutoCloseable {
             task.cancel(true);
         }
 
+        synchronized (this.startQueue) {
+            // Containers that have not yet begun starting need not be started anymore.
+            this.startQueue.forEach(qs -> this.pendingTasks.remove(qs.containerId));
+            this.startQueue.clear();
+        }
+
         ArrayList<ContainerHandle> toClose = new ArrayList<>(this.handles.values());
         ArrayList<CompletableFuture<Void>> results = new ArrayList<>();
         for (ContainerHandle handle : toClose) {
@@ -175,6 +209,7 @@ public class ZKSegmentContainerMonitor implements AutoCloseable {
             // Fetch the list of containers that is supposed to be owned by this host.
             Set<Integer> desiredList = getDesiredContainerList();
             if (desiredList != null) {
+                removeQueuedStarts(desiredList);
                 Collection<Integer> runningContainers = new HashSet<>(this.handles.keySet());
                 Collection<Integer> containersPendingTasks = new HashSet<>(this.pendingTasks);
 
@@ -196,8 +231,9 @@ public class ZKSegmentContainerMonitor implements AutoCloseable {
                 }
 
                 // Initiate the start and stop tasks asynchronously.
-                containersToBeStarted.forEach(this::startContainer);
+                containersToBeStarted.forEach(this::queueContainerStart);
                 containersToBeStopped.forEach(this::stopContainer);
+                startQueuedContainers();
             } else {
                 log.warn("No segment container assignments found");
             }
@@ -244,38 +280,101 @@ public class ZKSegmentContainerMonitor implements AutoCloseable {
         }
     }
 
-    private CompletableFuture<ContainerHandle> startContainer(int containerId) {
-        log.info("Starting Container {}.", containerId);
+    /**
+     * Queues the given container for start. Queued containers are started by {@link #startQueuedContainers()}, in order
+     * of priority and with bounded parallelism.
+     *
+     * @param containerId The id of the container to start.
+     */
+    private void queueContainerStart(int containerId) {
+        log.info("Queueing Container {} for start.", containerId);
         this.pendingTasks.add(containerId);
+        synchronized (this.startQueue) {
+            this.startQueue.add(new QueuedStart(containerId, CURRENT_TIME_MILLIS.get()));
+        }
+    }
+
+    /**
+     * Starts queued containers, in order of priority, as long as we are below the maximum number of parallel starts.
+     */
+    private void startQueuedContainers() {
+        while (!this.closed.get()) {
+            QueuedStart next;
+            synchronized (this.startQueue) {
+                if (this.activeStarts >= this.parallelContainerStarts || this.startQueue.isEmpty()) {
+                    return;
+                }
+
+                next = this.startQueue.poll();
+                this.activeStarts++;
+            }
+
+            startQueuedContainer(next);
+        }
+    }
+
+    private void startQueuedContainer(QueuedStart queuedStart) {
+        int containerId = queuedStart.containerId;
+        SegmentStoreMetrics.containerStartQueued(CURRENT_TIME_MILLIS.get() - queuedStart.queuedTimeMillis, containerId);
+        log.info("Starting Container {}.", containerId);
+        Timer timer = new Timer();
+        CompletableFuture<ContainerHandle> startFuture;
         try {
-            return CompletableFuture.runAsync(() -> Exceptions.handleInterrupted(parallelContainerStartsSemaphore::acquire))
-                    .thenCompose(v -> this.registry.startContainer(containerId, INIT_TIMEOUT_PER_CONTAINER))
-                    .whenComplete((handle, ex) -> {
-                        try {
-                            if (ex == null) {
-                                if (this.handles.putIfAbsent(handle.getContainerId(), handle) != null) {
-                                    log.warn("Starting container {} succeeded but handle is already registered.",
-                                            handle.getContainerId());
-                                } else {
-                                    handle.setContainerStoppedListener(this::unregisterHandle);
-                                    log.info("Container {} has been registered.", handle.getContainerId());
-                                }
-                            } else {
-                                log.warn("Starting container {} failed: {}", containerId, ex);
-                            }
-                        } finally {
-                            // The pending task has to be removed in the end to avoid inconsistencies since containerhandle
-                            // should be available immediately after the task is complete.
-                            // Also need to ensure this is always called, hence doing this in a finally block.
-                            this.pendingTasks.remove(containerId);
-                            this.parallelContainerStartsSemaphore.release();
-                        }
-                    });
-        } catch (Throwable e) {
-            // The pending task has to be removed on all failures to enable retries.
-            this.pendingTasks.remove(containerId);
-            throw e;
+            startFuture = this.registry.startContainer(containerId, INIT_TIMEOUT_PER_CONTAINER);
+        } catch (Throwable ex) {
+            startFuture = Futures.failedFuture(ex);
         }
+
+        startFuture.whenComplete((handle, ex) -> {
+            try {
+                if (ex == null) {
+                    SegmentStoreMetrics.containerStarted(timer.getElapsedMillis(), containerId);
+                    if (this.handles.putIfAbsent(handle.getContainerId(), handle) != null) {
+                        log.warn("Starting container {} succeeded but handle is already registered.",
+                                handle.getContainerId());
+                    } else {
+                        handle.setContainerStoppedListener(this::unregisterHandle);
+                        log.info("Container {} has been registered.", handle.getContainerId());
+                    }
+                } else {
+                    log.warn("Starting container {} failed: {}", containerId, ex);
+                }
+            } finally {
+                // The pending task has to be removed in the end to avoid inconsistencies since containerhandle
+                // should be available immediately after the task is complete.
+                // Also need to ensure this is always called, hence doing this in a finally block.
+                this.pendingTasks.remove(containerId);
+                synchronized (this.startQueue) {
+                    this.activeStarts--;
+                }
+
+                // Start the next container(s) asynchronously, so we do not recurse if the start completed synchronously.
+                this.executor.execute(this::startQueuedContainers);
+            }
+        });
+    }
+
+    /**
+     * Removes from the start queue all the containers that are no longer assigned to this host.
+     *
+     * @param desiredList The containers that are currently assigned to this host.
+     */
+    private void removeQueuedStarts(Set<Integer> desiredList) {
+        synchronized (this.startQueue) {
+            this.startQueue.removeIf(qs -> {
+                if (desiredList.contains(qs.containerId)) {
+                    return false;
+                }
+
+                log.info("Container {} is no longer assigned to this host; removing it from the start queue.", qs.containerId);
+                this.pendingTasks.remove(qs.containerId);
+                return true;
+            });
+        }
+    }
+
+    private int getStartPriority(int containerId) {
+        return this.startPriorities.getOrDefault(containerId, Integer.MAX_VALUE);
     }
 
     private void unregisterHandle(int containerId) {
@@ -303,4 +402,10 @@ public class ZKSegmentContainerMonitor implements AutoCloseable {
 
         return null;
     }
+
+    @RequiredArgsConstructor
+    private static class QueuedStart {
+        private final int containerId;
+        private final long queuedTimeMillis;
+    }
 }
@@ -14,12 +14,15 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.collect.Iterators;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.pravega.auth.TokenException;
 import io.pravega.auth.TokenExpiredException;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.Timer;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.common.util.BufferView;
 import io.pravega.segmentstore.contracts.AttributeUpdate;
@@ -92,6 +95,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -226,6 +230,10 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
      */
     private void handleReadResult(ReadSegment request, ReadResult result) {
         String segment = request.getSegment();
+
+        // Do not copy any data we get from the Cache; instead pin it and pass it on to the channel, which will release it
+        // once it has been written out.
+        result.setRetainOnRead(true);
         ArrayList<BufferView> cachedEntries = new ArrayList<>();
         ReadResultEntry nonCachedEntry = collectCachedEntries(request.getOffset(), result, cachedEntries);
         final String operation = "readSegment";
@@ -235,11 +243,13 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         boolean atTail = nonCachedEntry != null && nonCachedEntry.getType() == Future;
 
         if (!cachedEntries.isEmpty() || endOfSegment) {
-            // We managed to collect some data. Send it.
-            ByteBuf data = toByteBuf(cachedEntries);
+            // We managed to collect some data. Send it. The reply owns the data and will release it after being written.
+            ByteBuf data = toReleasableByteBuf(cachedEntries);
+            int dataLength = data.readableBytes();
             SegmentRead reply = new SegmentRead(segment, request.getOffset(), atTail, endOfSegment, data, request.getRequestId());
+            reply.requireRelease();
             connection.send(reply);
-            this.statsRecorder.read(segment, reply.getData().readableBytes());
+            this.statsRecorder.read(segment, dataLength);
         } else if (truncated) {
             // We didn't collect any data, instead we determined that the current read offset was truncated.
             // Determine the current Start Offset and send that back.
@@ -300,17 +310,24 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
      */
     private ReadResultEntry collectCachedEntries(long initialOffset, ReadResult readResult, ArrayList<BufferView> cachedEntries) {
         long expectedOffset = initialOffset;
-        while (readResult.hasNext()) {
-            ReadResultEntry entry = readResult.next();
-            if (entry.getType() == Cache) {
-                Preconditions.checkState(entry.getStreamSegmentOffset() == expectedOffset,
-                        "Data returned from read was not contiguous.");
-                BufferView content = entry.getContent().getNow(null);
-                expectedOffset += content.getLength();
-                cachedEntries.add(content);
-            } else {
-                return entry;
+        try {
+            while (readResult.hasNext()) {
+                ReadResultEntry entry = readResult.next();
+                if (entry.getType() == Cache) {
+                    BufferView content = entry.getContent().getNow(null);
+                    cachedEntries.add(content);
+                    Preconditions.checkState(entry.getStreamSegmentOffset() == expectedOffset,
+                            "Data returned from read was not contiguous.");
+                    expectedOffset += content.getLength();
+                } else {
+                    return entry;
+                }
             }
+        } catch (Throwable ex) {
+            // Cached entries may be pinned. Since we're not going to use them, release them.
+            cachedEntries.forEach(BufferView::release);
+            cachedEntries.clear();
+            throw ex;
         }
         return null;
     }
@@ -329,6 +346,20 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         return Unpooled.wrappedUnmodifiableBuffer(Iterators.toArray(iterators, ByteBuf.class));
     }
 
+    /**
+     * Collect all the data from the given contents into a {@link ByteBuf}, without copying it. The contents will be
+     * released when the returned {@link ByteBuf} is released.
+     */
+    private ByteBuf toReleasableByteBuf(List<BufferView> contents) {
+        if (contents.isEmpty()) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+
+        val iterators = Iterators.concat(Iterators.transform(contents.iterator(), BufferView::iterateBuffers));
+        val b = Iterators.transform(iterators, Unpooled::wrappedBuffer);
+        return new ReleasingCompositeByteBuf(Iterators.toArray(b, ByteBuf.class), contents);
+    }
+
     @Override
     public void updateSegmentAttribute(UpdateSegmentAttribute updateSegmentAttribute) {
         long requestId = updateSegmentAttribute.getRequestId();
@@ -664,6 +695,79 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 .whenComplete((r, ex) -> updateTableEntries.release());
     }
 
+    @Override
+    public void updateTableEntriesBatch(final WireCommands.UpdateTableEntriesBatch updateTableEntriesBatch) {
+        final String operation = "updateTableEntriesBatch";
+        for (String segment : updateTableEntriesBatch.getTableEntries().keySet()) {
+            if (!verifyToken(segment, updateTableEntriesBatch.getRequestId(), updateTableEntriesBatch.getDelegationToken(), operation)) {
+                updateTableEntriesBatch.release();
+                return;
+            }
+        }
+
+        log.debug(updateTableEntriesBatch.getRequestId(), "Update Table Segment Entries Batch: Segments={}.",
+                updateTableEntriesBatch.getTableEntries().keySet());
+        val entriesBySegment = new HashMap<String, List<TableEntry>>();
+        val conditionalSegments = new HashSet<String>();
+        updateTableEntriesBatch.getTableEntries().forEach((segment, tableEntries) -> {
+            val entries = new ArrayList<TableEntry>(tableEntries.getEntries().size());
+            for (val e : tableEntries.getEntries()) {
+                val v = TableEntry.versioned(new ByteBufWrapper(e.getKey().getData()), new ByteBufWrapper(e.getValue().getData()), e.getKey().getKeyVersion());
+                entries.add(v);
+                if (v.getKey().hasVersion()) {
+                    conditionalSegments.add(segment);
+                }
+            }
+
+            entriesBySegment.put(segment, entries);
+        });
+
+        // Each Table Segment is updated independently, so we report the outcome of each one separately. Only unexpected
+        // failures (that cannot be attributed to a conditional update or a missing Table Segment) fail the whole request.
+        val timer = new Timer();
+        val futures = tableStore.put(entriesBySegment, TIMEOUT);
+        Futures.allOf(futures.values())
+                .handle((r, ex) -> {
+                    val elapsed = timer.getElapsed();
+                    val updatedVersions = new HashMap<String, List<Long>>();
+                    val failedSegments = new HashMap<String, WireCommands.TableEntriesBatchUpdated.ErrorCode>();
+                    Throwable unexpected = null;
+                    String unexpectedSegment = null;
+                    for (val e : futures.entrySet()) {
+                        String segment = e.getKey();
+                        if (Futures.isSuccessful(e.getValue())) {
+                            updatedVersions.put(segment, e.getValue().join());
+                            this.tableStatsRecorder.updateEntries(segment, entriesBySegment.get(segment).size(),
+                                    conditionalSegments.contains(segment), elapsed);
+                            continue;
+                        }
+
+                        Throwable failure = Exceptions.unwrap(Futures.getException(e.getValue()));
+                        val errorCode = getBatchErrorCode(failure);
+                        if (errorCode == WireCommands.TableEntriesBatchUpdated.ErrorCode.UNSPECIFIED) {
+                            unexpected = failure;
+                            unexpectedSegment = segment;
+                        } else {
+                            failedSegments.put(segment, errorCode);
+                        }
+                    }
+
+                    if (unexpected != null) {
+                        return handleException(updateTableEntriesBatch.getRequestId(), unexpectedSegment, operation, unexpected);
+                    }
+
+                    if (!failedSegments.isEmpty()) {
+                        log.debug(updateTableEntriesBatch.getRequestId(), "Update Table Segment Entries Batch: Failed Segments={}.",
+                                failedSegments);
+                    }
+
+                    connection.send(new WireCommands.TableEntriesBatchUpdated(updateTableEntriesBatch.getRequestId(),
+                            updatedVersions, failedSegments));
+                    return null;
+                })
+                .whenComplete((r, ex) -> updateTableEntriesBatch.release());
+    }
+
     @Override
     public void removeTableKeys(final WireCommands.RemoveTableKeys removeTableKeys) {
         String segment = removeTableKeys.getSegment();
@@ -696,6 +800,52 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 .whenComplete((r, ex) -> removeTableKeys.release());
     }
 
+    @Override
+    public void updateAndRemoveTableKeys(final WireCommands.UpdateAndRemoveTableKeys updateAndRemoveTableKeys) {
+        String segment = updateAndRemoveTableKeys.getSegment();
+        final String operation = "updateAndRemoveTableKeys";
+
+        if (!verifyToken(segment, updateAndRemoveTableKeys.getRequestId(), updateAndRemoveTableKeys.getDelegationToken(), operation)) {
+            updateAndRemoveTableKeys.release();
+            return;
+        }
+
+        log.debug(updateAndRemoveTableKeys.getRequestId(), "Update and Remove Table Segment Keys: Segment={}, UpdateCount={}, RemoveCount={}.",
+                segment, updateAndRemoveTableKeys.getTableEntries().getEntries().size(), updateAndRemoveTableKeys.getKeys().size());
+        val entries = new ArrayList<TableEntry>(updateAndRemoveTableKeys.getTableEntries().getEntries().size());
+        val conditional = new AtomicBoolean(false);
+        for (val e : updateAndRemoveTableKeys.getTableEntries().getEntries()) {
+            val v = TableEntry.versioned(new ByteBufWrapper(e.getKey().getData()), new ByteBufWrapper(e.getValue().getData()), e.getKey().getKeyVersion());
+            entries.add(v);
+            if (v.getKey().hasVersion()) {
+                conditional.set(true);
+            }
+        }
+
+        val keys = new ArrayList<TableKey>(updateAndRemoveTableKeys.getKeys().size());
+        for (val k : updateAndRemoveTableKeys.getKeys()) {
+            val v = TableKey.versioned(new ByteBufWrapper(k.getData()), k.getKeyVersion());
+            keys.add(v);
+            if (v.hasVersion()) {
+                conditional.set(true);
+            }
+        }
+
+        val timer = new Timer();
+        tableStore.update(segment, entries, keys, TIMEOUT)
+                .thenAccept(versions -> {
+                    connection.send(new WireCommands.TableEntriesUpdated(updateAndRemoveTableKeys.getRequestId(), versions));
+                    if (!entries.isEmpty()) {
+                        this.tableStatsRecorder.updateEntries(segment, entries.size(), conditional.get(), timer.getElapsed());
+                    }
+                    if (!keys.isEmpty()) {
+                        this.tableStatsRecorder.removeKeys(segment, keys.size(), conditional.get(), timer.getElapsed());
+                    }
+                })
+                .exceptionally(e -> handleException(updateAndRemoveTableKeys.getRequestId(), segment, operation, e))
+                .whenComplete((r, ex) -> updateAndRemoveTableKeys.release());
+    }
+
     @Override
     public void readTable(final WireCommands.ReadTable readTable) {
         final String segment = readTable.getSegment();
@@ -735,7 +885,8 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 readTableKeys.getSegment(), readTableKeys.getSuggestedKeyCount());
 
         final int suggestedKeyCount = readTableKeys.getSuggestedKeyCount();
-        final IteratorArgs args = getIteratorArgs(readTableKeys.getContinuationToken(), readTableKeys.getPrefixFilter());
+        final IteratorArgs args = getIteratorArgs(readTableKeys.getContinuationToken(), readTableKeys.getPrefixFilter(),
+                readTableKeys.getFromKey(), readTableKeys.getToKey());
 
         val result = new IteratorResult<WireCommands.TableKey>(segment.getBytes().length + WireCommands.TableKeysRead.HEADER_BYTES);
         val timer = new Timer();
@@ -777,7 +928,8 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 readTableEntries.getSegment(), readTableEntries.getSuggestedEntryCount());
 
         final int suggestedEntryCount = readTableEntries.getSuggestedEntryCount();
-        final IteratorArgs args = getIteratorArgs(readTableEntries.getContinuationToken(), readTableEntries.getPrefixFilter());
+        final IteratorArgs args = getIteratorArgs(readTableEntries.getContinuationToken(), readTableEntries.getPrefixFilter(),
+                readTableEntries.getFromKey(), readTableEntries.getToKey());
 
         val result = new IteratorResult<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>>(segment.getBytes().length + WireCommands.TableEntriesRead.HEADER_BYTES);
         val timer = new Timer();
@@ -807,7 +959,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 }).exceptionally(e -> handleException(readTableEntries.getRequestId(), segment, operation, e));
     }
 
-    private IteratorArgs getIteratorArgs(ByteBuf token, ByteBuf prefix) {
+    private IteratorArgs getIteratorArgs(ByteBuf token, ByteBuf prefix, ByteBuf fromKey, ByteBuf toKey) {
         val args = IteratorArgs.builder().fetchTimeout(TIMEOUT);
         if (token != null && !token.equals(EMPTY_BUFFER)) {
             args.serializedState(new ByteBufWrapper(token));
@@ -815,6 +967,12 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         if (prefix != null && !prefix.equals(EMPTY_BUFFER)) {
             args.prefixFilter(new ByteBufWrapper(prefix));
         }
+        if (fromKey != null && !fromKey.equals(EMPTY_BUFFER)) {
+            args.fromKey(new ByteBufWrapper(fromKey));
+        }
+        if (toKey != null && !toKey.equals(EMPTY_BUFFER)) {
+            args.toKey(new ByteBufWrapper(toKey));
+        }
         return args.build();
     }
 
@@ -987,6 +1145,22 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         return null;
     }
 
+    /**
+     * Determines which Segment caused a failure of an operation that spans multiple Segments. If the exception does not
+     * identify a particular Segment, all of them are returned (comma-separated).
+     */
+    private WireCommands.TableEntriesBatchUpdated.ErrorCode getBatchErrorCode(Throwable e) {
+        if (e instanceof BadKeyVersionException) {
+            return WireCommands.TableEntriesBatchUpdated.ErrorCode.TABLE_KEY_BAD_VERSION;
+        } else if (e instanceof KeyNotExistsException) {
+            return WireCommands.TableEntriesBatchUpdated.ErrorCode.TABLE_KEY_DOES_NOT_EXIST;
+        } else if (e instanceof StreamSegmentNotExistsException) {
+            return WireCommands.TableEntriesBatchUpdated.ErrorCode.NO_SUCH_SEGMENT;
+        } else {
+            return WireCommands.TableEntriesBatchUpdated.ErrorCode.UNSPECIFIED;
+        }
+    }
+
     private boolean errorCodeExists(Throwable e) {
         val errorCode = WireCommands.ErrorMessage.ErrorCode.valueOf(e.getClass());
         return errorCode != WireCommands.ErrorMessage.ErrorCode.UNSPECIFIED;
@@ -1114,5 +1288,30 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
     }
 
 
+    //endregion
+
+    //region ReleasingCompositeByteBuf
+
+    /**
+     * {@link CompositeByteBuf} that releases a set of {@link BufferView}s (which back its components) when deallocated.
+     */
+    private static class ReleasingCompositeByteBuf extends CompositeByteBuf {
+        private final List<BufferView> toRelease;
+
+        ReleasingCompositeByteBuf(ByteBuf[] components, List<BufferView> toRelease) {
+            super(UnpooledByteBufAllocator.DEFAULT, true, Math.max(components.length, 1), components);
+            this.toRelease = new ArrayList<>(toRelease);
+        }
+
+        @Override
+        protected void deallocate() {
+            try {
+                super.deallocate();
+            } finally {
+                this.toRelease.forEach(BufferView::release);
+            }
+        }
+    }
+
     //endregion
 }
@@ -20,6 +20,9 @@ public interface ServerConnection extends AutoCloseable {
     /**
      * Sends the provided command asynchronously. This operation is non-blocking.
      *
+     * If the command is a {@link io.pravega.shared.protocol.netty.WireCommands.ReleasableCommand}, this connection takes
+     * ownership of it and must release it once it has been written out or if it could not be sent.
+     *
      * @param cmd The command to send.
      */
     void send(WireCommand cmd);
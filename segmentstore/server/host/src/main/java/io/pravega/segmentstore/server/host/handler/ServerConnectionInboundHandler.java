@@ -73,15 +73,32 @@ public class ServerConnectionInboundHandler extends ChannelInboundHandlerAdapter
 
     @Override
     public void send(WireCommand cmd) {
-        Channel c = getChannel();
-        // Work around for https://github.com/netty/netty/issues/3246
-        EventLoop eventLoop = c.eventLoop();
-        eventLoop.execute(() -> write(c, cmd));
+        try {
+            Channel c = getChannel();
+            // Work around for https://github.com/netty/netty/issues/3246
+            EventLoop eventLoop = c.eventLoop();
+            eventLoop.execute(() -> write(c, cmd));
+        } catch (Throwable ex) {
+            release(cmd);
+            throw ex;
+        }
     }
 
     private static void write(Channel channel, WireCommand data) {
-        channel.write(data).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
-    }  
+        channel.write(data).addListener((ChannelFutureListener) f -> {
+            if (!f.isSuccess()) {
+                // The command never made it to the encoder (i.e., the channel is closed) or the write failed. Either way,
+                // nobody else will release it, so we must do it here.
+                release(data);
+            }
+        }).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+    }
+
+    private static void release(WireCommand cmd) {
+        if (cmd instanceof WireCommands.ReleasableCommand) {
+            ((WireCommands.ReleasableCommand) cmd).release(); // Idempotent. Invoking multiple times has no side effects.
+        }
+    }
     
     @Override
     public void setRequestProcessor(RequestProcessor rp) {
@@ -159,7 +159,8 @@ public class ZKSegmentContainerManagerTest extends ThreadPooledTestSuite {
     }
 
     private ZKSegmentContainerManager createContainerManager(SegmentContainerRegistry registry, CuratorFramework zkClient) {
-        return new ZKSegmentContainerManager(registry, zkClient, PRAVEGA_SERVICE_ENDPOINT, MAX_PARALLEL_CONTAINER_STARTS, executorService());
+        return new ZKSegmentContainerManager(registry, zkClient, PRAVEGA_SERVICE_ENDPOINT, MAX_PARALLEL_CONTAINER_STARTS,
+                Collections.emptyList(), executorService());
     }
 
     private void initializeHostContainerMapping(CuratorFramework zkClient) throws Exception {
@@ -36,11 +36,15 @@ import java.io.IOException;
 import java.net.Inet4Address;
 import java.net.UnknownHostException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -282,6 +286,55 @@ public class ZKSegmentContainerMonitorTest extends ThreadPooledTestSuite {
         assertEquals(1, segMonitor.getRegisteredContainers().size());
     }
 
+    /**
+     * Verifies that containers are started in order of priority (priority containers first, in the configured order,
+     * followed by all others in ascending order of their ids) and that no more than the configured number of containers
+     * are started in parallel.
+     */
+    @Test
+    public void testStartOrder() throws Exception {
+        @Cleanup
+        CuratorFramework zkClient = startClient();
+        initializeHostContainerMapping(zkClient);
+
+        val containerIds = Arrays.asList(1, 2, 3, 4, 5);
+        val handles = new HashMap<Integer, ContainerHandle>();
+        for (int containerId : containerIds) {
+            ContainerHandle handle = mock(ContainerHandle.class);
+            when(handle.getContainerId()).thenReturn(containerId);
+            handles.put(containerId, handle);
+        }
+
+        // Containers take a while to start, so that the start requests accumulate in the queue.
+        val startOrder = Collections.synchronizedList(new ArrayList<Integer>());
+        val activeStarts = new AtomicInteger();
+        val maxActiveStarts = new AtomicInteger();
+        SegmentContainerRegistry containerRegistry = mock(SegmentContainerRegistry.class);
+        when(containerRegistry.startContainer(anyInt(), any())).thenAnswer(invocation -> {
+            int containerId = invocation.getArgument(0);
+            startOrder.add(containerId);
+            maxActiveStarts.accumulateAndGet(activeStarts.incrementAndGet(), Math::max);
+            return Futures.delayedFuture(Duration.ofMillis(50), executorService())
+                          .thenApply(v -> {
+                              activeStarts.decrementAndGet();
+                              return handles.get(containerId);
+                          });
+        });
+
+        @Cleanup
+        ZKSegmentContainerMonitor segMonitor = new ZKSegmentContainerMonitor(containerRegistry, zkClient, PRAVEGA_SERVICE_ENDPOINT,
+                1, Arrays.asList(5, 3), executorService());
+        segMonitor.initialize(Duration.ofSeconds(1));
+
+        Map<Host, Set<Integer>> currentData = deserialize(zkClient, PATH);
+        currentData.put(PRAVEGA_SERVICE_ENDPOINT, new HashSet<>(containerIds));
+        zkClient.setData().forPath(PATH, HostContainerMap.createHostContainerMap(currentData).toBytes());
+
+        verify(containerRegistry, timeout(10000).times(containerIds.size())).startContainer(anyInt(), any());
+        assertEquals("Unexpected start order.", Arrays.asList(5, 3, 1, 2, 4), startOrder);
+        assertEquals("Unexpected number of parallel starts.", 1, maxActiveStarts.get());
+    }
+
     @Test
     public void testClose() throws Exception {
         @Cleanup
@@ -316,7 +369,8 @@ public class ZKSegmentContainerMonitorTest extends ThreadPooledTestSuite {
 
     private ZKSegmentContainerMonitor createContainerMonitor(
             SegmentContainerRegistry registry, CuratorFramework zkClient) {
-        return new ZKSegmentContainerMonitor(registry, zkClient, PRAVEGA_SERVICE_ENDPOINT, MAX_PARALLEL_CONTAINER_STARTS, executorService());
+        return new ZKSegmentContainerMonitor(registry, zkClient, PRAVEGA_SERVICE_ENDPOINT, MAX_PARALLEL_CONTAINER_STARTS,
+                Collections.emptyList(), executorService());
     }
 
     private void initializeHostContainerMapping(CuratorFramework zkClient) throws Exception {
@@ -53,6 +53,7 @@ import io.pravega.test.common.TestUtils;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -80,13 +81,17 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -720,6 +725,71 @@ public class PravegaRequestProcessorTest {
 
     }
 
+    @Test(timeout = 30000)
+    public void testUpdateEntriesBatch() throws Exception {
+        // Set up PravegaRequestProcessor instance to execute requests against
+        val rnd = new Random(0);
+        String tableSegmentName1 = "testUpdateEntriesBatch1";
+        String tableSegmentName2 = "testUpdateEntriesBatch2";
+        @Cleanup
+        ServiceBuilder serviceBuilder = newInlineExecutionInMemoryBuilder(getBuilderConfig());
+        serviceBuilder.initialize();
+        StreamSegmentStore store = serviceBuilder.createStreamSegmentService();
+        TableStore tableStore = serviceBuilder.createTableStoreService();
+        ServerConnection connection = mock(ServerConnection.class);
+        InOrder order = inOrder(connection);
+        val recorderMock = mock(TableSegmentStatsRecorder.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, tableStore, connection, SegmentStatsRecorder.noOp(),
+                recorderMock, new PassingTokenVerifier(), false);
+
+        // Generate keys.
+        ArrayList<ArrayView> keys = generateKeys(3, rnd);
+
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName1, false, ""));
+        order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName1));
+        processor.createTableSegment(new WireCommands.CreateTableSegment(2, tableSegmentName2, false, ""));
+        order.verify(connection).send(new WireCommands.SegmentCreated(2, tableSegmentName2));
+
+        // Test with unversioned data in both segments.
+        val batch = new HashMap<String, WireCommands.TableEntries>();
+        batch.put(tableSegmentName1, getTableEntries(singletonList(TableEntry.unversioned(keys.get(0), generateValue(rnd)))));
+        batch.put(tableSegmentName2, getTableEntries(singletonList(TableEntry.unversioned(keys.get(1), generateValue(rnd)))));
+        processor.updateTableEntriesBatch(new WireCommands.UpdateTableEntriesBatch(3, "", batch));
+        val expectedVersions = new HashMap<String, List<Long>>();
+        expectedVersions.put(tableSegmentName1, singletonList(0L));
+        expectedVersions.put(tableSegmentName2, singletonList(0L));
+        order.verify(connection).send(new WireCommands.TableEntriesBatchUpdated(3, expectedVersions, Collections.emptyMap()));
+        verify(recorderMock).updateEntries(eq(tableSegmentName1), eq(1), eq(false), any());
+        verify(recorderMock).updateEntries(eq(tableSegmentName2), eq(1), eq(false), any());
+
+        // Test with a bad key version in one segment and a key not present in the other. Both failures are reported.
+        batch.clear();
+        batch.put(tableSegmentName1, getTableEntries(singletonList(TableEntry.versioned(keys.get(0), generateValue(rnd), 1L))));
+        batch.put(tableSegmentName2, getTableEntries(singletonList(TableEntry.versioned(keys.get(2), generateValue(rnd), 0L))));
+        processor.updateTableEntriesBatch(new WireCommands.UpdateTableEntriesBatch(4, "", batch));
+        val expectedFailures = new HashMap<String, WireCommands.TableEntriesBatchUpdated.ErrorCode>();
+        expectedFailures.put(tableSegmentName1, WireCommands.TableEntriesBatchUpdated.ErrorCode.TABLE_KEY_BAD_VERSION);
+        expectedFailures.put(tableSegmentName2, WireCommands.TableEntriesBatchUpdated.ErrorCode.TABLE_KEY_DOES_NOT_EXIST);
+        order.verify(connection).send(new WireCommands.TableEntriesBatchUpdated(4, Collections.emptyMap(), expectedFailures));
+        verify(recorderMock, never()).updateEntries(any(), anyInt(), eq(true), any());
+
+        // Test with a partial failure: the first segment is updated while the second one fails.
+        batch.clear();
+        batch.put(tableSegmentName1, getTableEntries(singletonList(TableEntry.versioned(keys.get(0), generateValue(rnd), 0L))));
+        batch.put(tableSegmentName2, getTableEntries(singletonList(TableEntry.versioned(keys.get(2), generateValue(rnd), 0L))));
+        processor.updateTableEntriesBatch(new WireCommands.UpdateTableEntriesBatch(5, "", batch));
+        ArgumentCaptor<WireCommand> wireCommandsCaptor = ArgumentCaptor.forClass(WireCommand.class);
+        order.verify(connection).send(wireCommandsCaptor.capture());
+        val reply = (WireCommands.TableEntriesBatchUpdated) wireCommandsCaptor.getValue();
+        assertEquals(5, reply.getRequestId());
+        assertEquals(Collections.singleton(tableSegmentName1), reply.getUpdatedVersions().keySet());
+        assertEquals(1, reply.getUpdatedVersions().get(tableSegmentName1).size());
+        assertEquals(Collections.singletonMap(tableSegmentName2, WireCommands.TableEntriesBatchUpdated.ErrorCode.TABLE_KEY_DOES_NOT_EXIST),
+                reply.getFailedSegments());
+        verify(recorderMock).updateEntries(eq(tableSegmentName1), eq(1), eq(true), any());
+        verify(recorderMock, never()).updateEntries(eq(tableSegmentName2), anyInt(), eq(true), any());
+    }
+
     @Test(timeout = 30000)
     public void testRemoveKeys() throws Exception {
         // Set up PravegaRequestProcessor instance to execute requests against
@@ -778,6 +848,57 @@ public class PravegaRequestProcessorTest {
         verify(recorderMock).removeKeys(eq(tableSegmentName), eq(1), eq(true), any());
     }
 
+    @Test(timeout = 30000)
+    public void testUpdateAndRemoveKeys() throws Exception {
+        // Set up PravegaRequestProcessor instance to execute requests against
+        val rnd = new Random(0);
+        String tableSegmentName = "testUpdateAndRemoveKeys";
+        @Cleanup
+        ServiceBuilder serviceBuilder = newInlineExecutionInMemoryBuilder(getBuilderConfig());
+        serviceBuilder.initialize();
+        StreamSegmentStore store = serviceBuilder.createStreamSegmentService();
+        TableStore tableStore = serviceBuilder.createTableStoreService();
+        ServerConnection connection = mock(ServerConnection.class);
+        InOrder order = inOrder(connection);
+        val recorderMock = mock(TableSegmentStatsRecorder.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, tableStore, connection, SegmentStatsRecorder.noOp(),
+                recorderMock, new PassingTokenVerifier(), false);
+
+        // Generate keys.
+        ArrayList<ArrayView> keys = generateKeys(3, rnd);
+
+        // Create a table segment and add data.
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, false, ""));
+        order.verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
+        TableEntry e1 = TableEntry.unversioned(keys.get(0), generateValue(rnd));
+        processor.updateTableEntries(new WireCommands.UpdateTableEntries(2, tableSegmentName, "", getTableEntries(singletonList(e1)), WireCommands.NULL_TABLE_SEGMENT_OFFSET));
+        order.verify(connection).send(new WireCommands.TableEntriesUpdated(2, singletonList(0L)));
+        verify(recorderMock).updateEntries(eq(tableSegmentName), eq(1), eq(false), any());
+
+        // Conditionally insert a new key and remove the existing one, atomically.
+        TableEntry e2 = TableEntry.notExists(keys.get(1), generateValue(rnd));
+        WireCommands.TableKey key = new WireCommands.TableKey(toByteBuf(e1.getKey().getKey()), 0L);
+        processor.updateAndRemoveTableKeys(new WireCommands.UpdateAndRemoveTableKeys(3, tableSegmentName, "",
+                getTableEntries(singletonList(e2)), singletonList(key)));
+        ArgumentCaptor<WireCommand> wireCommandsCaptor = ArgumentCaptor.forClass(WireCommand.class);
+        order.verify(connection).send(wireCommandsCaptor.capture());
+        assertEquals(1, ((WireCommands.TableEntriesUpdated) wireCommandsCaptor.getValue()).getUpdatedVersions().size());
+        verify(recorderMock).updateEntries(eq(tableSegmentName), eq(1), eq(true), any());
+        verify(recorderMock).removeKeys(eq(tableSegmentName), eq(1), eq(true), any());
+        val result1 = tableStore.get(tableSegmentName, asList(keys.get(0), keys.get(1)), Duration.ofMinutes(1)).join();
+        assertNull(result1.get(0));
+        assertNotNull(result1.get(1));
+
+        // Removal of a non-existent key with a specific version. Nothing should be applied.
+        TableEntry e3 = TableEntry.unversioned(keys.get(2), generateValue(rnd));
+        key = new WireCommands.TableKey(toByteBuf(e1.getKey().getKey()), 0L);
+        processor.updateAndRemoveTableKeys(new WireCommands.UpdateAndRemoveTableKeys(4, tableSegmentName, "",
+                getTableEntries(singletonList(e3)), singletonList(key)));
+        order.verify(connection).send(new WireCommands.TableKeyDoesNotExist(4, tableSegmentName, ""));
+        assertNull(tableStore.get(tableSegmentName, singletonList(keys.get(2)), Duration.ofMinutes(1)).join().get(0));
+        verifyNoMoreInteractions(recorderMock);
+    }
+
     @Test(timeout = 30000)
     public void testDeleteEmptyTable() throws Exception {
         // Set up PravegaRequestProcessor instance to execute requests against
@@ -960,6 +1081,50 @@ public class PravegaRequestProcessorTest {
         assertTrue(keyVersions.containsAll(getTableKeysReadResponse.getKeys().stream().map(WireCommands.TableKey::getKeyVersion).collect(Collectors.toList())));
     }
 
+    @Test
+    public void testGetTableKeysRange() throws Exception {
+        // Set up PravegaRequestProcessor instance to execute requests against
+        val rnd = new Random(0);
+        String tableSegmentName = "testGetTableKeysRange";
+        @Cleanup
+        ServiceBuilder serviceBuilder = newInlineExecutionInMemoryBuilder(getBuilderConfig());
+        serviceBuilder.initialize();
+        StreamSegmentStore store = serviceBuilder.createStreamSegmentService();
+        TableStore tableStore = serviceBuilder.createTableStoreService();
+        ServerConnection connection = mock(ServerConnection.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, tableStore, connection, SegmentStatsRecorder.noOp(),
+                TableSegmentStatsRecorder.noOp(), new PassingTokenVerifier(), false);
+
+        // Create a sorted table segment and add data.
+        processor.createTableSegment(new WireCommands.CreateTableSegment(1, tableSegmentName, true, ""));
+        verify(connection).send(new WireCommands.SegmentCreated(1, tableSegmentName));
+        val entries = new ArrayList<TableEntry>();
+        for (int i = 0; i < 5; i++) {
+            entries.add(TableEntry.unversioned(new ByteArraySegment(new byte[]{1, (byte) i}), generateValue(rnd)));
+        }
+        processor.updateTableEntries(new WireCommands.UpdateTableEntries(2, tableSegmentName, "", getTableEntries(entries), WireCommands.NULL_TABLE_SEGMENT_OFFSET));
+        verify(connection).send(any(WireCommands.TableEntriesUpdated.class));
+
+        // Read all the keys in [{1, 1}, {1, 4}), one at a time, resuming with each continuation token.
+        val actualKeys = new ArrayList<ByteBuf>();
+        ByteBuf state = Unpooled.EMPTY_BUFFER;
+        while (true) {
+            processor.readTableKeys(new WireCommands.ReadTableKeys(3, tableSegmentName, "", 1, state, Unpooled.EMPTY_BUFFER,
+                    wrappedBuffer(new byte[]{1, 1}), wrappedBuffer(new byte[]{1, 4})));
+            ArgumentCaptor<WireCommands.TableKeysRead> tableKeysCaptor = ArgumentCaptor.forClass(WireCommands.TableKeysRead.class);
+            verify(connection, Mockito.atLeastOnce()).send(tableKeysCaptor.capture());
+            val response = tableKeysCaptor.getValue();
+            if (response.getKeys().isEmpty()) {
+                break;
+            }
+
+            response.getKeys().forEach(k -> actualKeys.add(k.getData()));
+            state = response.getContinuationToken();
+        }
+
+        assertEquals(asList(wrappedBuffer(new byte[]{1, 1}), wrappedBuffer(new byte[]{1, 2}), wrappedBuffer(new byte[]{1, 3})), actualKeys);
+    }
+
     @Test
     public void testGetTableEntries() throws Exception {
         // Set up PravegaRequestProcessor instance to execute requests against
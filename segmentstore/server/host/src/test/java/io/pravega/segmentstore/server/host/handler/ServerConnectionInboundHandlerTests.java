@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.host.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.AssertExtensions;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link ServerConnectionInboundHandler} class.
+ */
+public class ServerConnectionInboundHandlerTests {
+
+    /**
+     * Verifies that a {@link WireCommands.ReleasableCommand} that is sent to a closed channel is released.
+     */
+    @Test
+    public void testSendToClosedChannel() {
+        val handler = new ServerConnectionInboundHandler();
+        val channel = new EmbeddedChannel(handler);
+        channel.close();
+        Assert.assertFalse(channel.isOpen());
+
+        val data = Unpooled.wrappedBuffer(new byte[]{1, 2, 3});
+        handler.send(newSegmentRead(data));
+        channel.runPendingTasks();
+        Assert.assertEquals("Expected the data to have been released.", 0, data.refCnt());
+        Assert.assertNull("Not expecting anything to be written.", channel.readOutbound());
+    }
+
+    /**
+     * Verifies that a {@link WireCommands.ReleasableCommand} that is sent before the channel is registered is released.
+     */
+    @Test
+    public void testSendWithoutChannel() {
+        val handler = new ServerConnectionInboundHandler();
+        val data = Unpooled.wrappedBuffer(new byte[]{1, 2, 3});
+        AssertExtensions.assertThrows(
+                "send() worked without a channel.",
+                () -> handler.send(newSegmentRead(data)),
+                ex -> ex instanceof IllegalStateException);
+        Assert.assertEquals("Expected the data to have been released.", 0, data.refCnt());
+    }
+
+    private WireCommands.SegmentRead newSegmentRead(ByteBuf data) {
+        val segmentRead = new WireCommands.SegmentRead("segment", 0, false, false, data, 1L);
+        segmentRead.requireRelease();
+        return segmentRead;
+    }
+}
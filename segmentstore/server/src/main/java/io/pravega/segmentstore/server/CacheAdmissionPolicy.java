@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server;
+
+/**
+ * Decides whether data that is not in the cache (and had to be fetched from Storage) should be inserted into it, based
+ * on the access history reported by {@link CacheManager.Client} instances.
+ *
+ * Keys are opaque to the {@link CacheAdmissionPolicy}; it is up to each {@link CacheManager.Client} to map its data to
+ * keys (for example, a hash of the Segment Id and the offset of an aligned block within that Segment).
+ */
+public interface CacheAdmissionPolicy {
+    /**
+     * A {@link CacheAdmissionPolicy} that does not keep track of any accesses and admits everything.
+     */
+    CacheAdmissionPolicy ADMIT_ALL = new CacheAdmissionPolicy() {
+        @Override
+        public void recordAccess(long key) {
+            // Nothing to record.
+        }
+
+        @Override
+        public Admission admit(long key) {
+            return Admission.ADMIT;
+        }
+    };
+
+    /**
+     * Records an access (cache hit or cache miss) to the data identified by the given key.
+     *
+     * @param key The key to record.
+     */
+    void recordAccess(long key);
+
+    /**
+     * Determines how data identified by the given key should be inserted into the cache.
+     *
+     * @param key The key to determine admission for.
+     * @return An {@link Admission} indicating the outcome.
+     */
+    Admission admit(long key);
+
+    /**
+     * Defines the possible outcomes of {@link #admit}.
+     */
+    enum Admission {
+        /**
+         * The data should be inserted into the cache as a regular entry, in the current generation.
+         */
+        ADMIT,
+        /**
+         * The data should be inserted into the cache as a probationary entry, in the oldest generation. It will be the
+         * first to be evicted unless it is accessed again (which will promote it to the current generation).
+         */
+        PROBATION,
+        /**
+         * The data should not be inserted into the cache.
+         */
+        REJECT
+    }
+}
@@ -45,6 +45,10 @@ import lombok.extern.slf4j.Slf4j;
  * (in the clients) that is generated or updated gets assigned the current generation. As the CacheManager determines that
  * there are too many Cache Entries or that the maximum size has been exceeded, it will increment the oldest generation.
  * The CacheManager Clients can use this information to evict those Cache Entries that have a generation below the oldest generation number.
+ *
+ * The CacheManager also provides a {@link CacheAdmissionPolicy} (see {@link #getAdmissionPolicy()}), which is determined
+ * by the {@link CachePolicy.Mode} in use. CacheManager Clients report accesses to it and use it to decide whether data
+ * that had to be fetched from Storage should be inserted into the cache (and in which generation).
  */
 @Slf4j
 @ThreadSafe
@@ -66,6 +70,12 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
     private final CacheStorage cacheStorage;
     @Getter
     private final CacheUtilizationProvider utilizationProvider;
+    /**
+     * The {@link CacheAdmissionPolicy} that {@link Client} instances should report accesses to and consult when deciding
+     * whether to insert data read from Storage into the cache.
+     */
+    @Getter
+    private final CacheAdmissionPolicy admissionPolicy;
     private final Object lock = new Object();
 
     //endregion
@@ -89,7 +99,6 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
      * @param cacheStorage    The CacheStorage to maintain.
      * @param executorService An executorService to use for scheduled tasks.
      */
-    @VisibleForTesting
     public CacheManager(CachePolicy policy, CacheStorage cacheStorage, ScheduledExecutorService executorService) {
         this.policy = Preconditions.checkNotNull(policy, "policy");
         this.executorService = Preconditions.checkNotNull(executorService, "executorService");
@@ -103,6 +112,9 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         this.lastCacheState = new AtomicReference<>();
         this.metrics = new SegmentStoreMetrics.CacheManager();
         this.utilizationProvider = new CacheUtilizationProvider(this.policy, this::getStoredBytes);
+        this.admissionPolicy = this.policy.getMode() == CachePolicy.Mode.SCAN_RESISTANT
+                ? new TinyLfuAdmissionPolicy(this.policy, this.utilizationProvider::getCacheUtilization, this.metrics)
+                : CacheAdmissionPolicy.ADMIT_ALL;
         fetchCacheState();
     }
 
@@ -61,6 +61,11 @@ public class CachePolicy {
      */
     @Getter
     private final Duration generationDuration;
+    /**
+     * The {@link Mode} to use when deciding which entries to keep in the cache.
+     */
+    @Getter
+    private final Mode mode;
 
     //endregion
 
@@ -88,6 +93,21 @@ public class CachePolicy {
      * @param generationDuration The amount of time one Cache generation spans.
      */
     public CachePolicy(long maxSize, double targetUtilization, double maxUtilization, Duration maxTime, Duration generationDuration) {
+        this(maxSize, targetUtilization, maxUtilization, maxTime, generationDuration, Mode.GENERATIONAL);
+    }
+
+    /**
+     * Creates a new instance of the CachePolicy class.
+     *
+     * @param maxSize            The maximum size of the cache.
+     * @param targetUtilization  The target cache utilization to set. See {@link #getTargetUtilization()} ()}.
+     * @param maxUtilization     The maximum cache utilization to set. See {@link #getMaxUtilization()}.
+     * @param maxTime            The maximum amount of time a cache entry can live in the cache.
+     * @param generationDuration The amount of time one Cache generation spans.
+     * @param mode               The {@link Mode} to use.
+     */
+    public CachePolicy(long maxSize, double targetUtilization, double maxUtilization, Duration maxTime, Duration generationDuration,
+                       Mode mode) {
         Preconditions.checkArgument(maxSize > 0, "maxSize must be a positive integer");
         Preconditions.checkArgument(targetUtilization > 0 && targetUtilization <= 1.0,
                 "targetUtilization must be a number in the range (0.0, 1.0].");
@@ -99,13 +119,36 @@ public class CachePolicy {
         this.evictionThreshold = (long) Math.floor(this.maxSize * this.targetUtilization);
         this.generationDuration = generationDuration;
         this.maxGenerations = Math.max(1, (int) ((double) maxTime.toMillis() / generationDuration.toMillis()));
+        this.mode = Preconditions.checkNotNull(mode, "mode");
     }
 
     //endregion
 
     @Override
     public String toString() {
-        return String.format("MaxSize = %d, UsableSize = %d, MaxGen = %d, Generation = %s",
-                this.maxSize, this.evictionThreshold, this.maxGenerations, this.generationDuration);
+        return String.format("MaxSize = %d, UsableSize = %d, MaxGen = %d, Generation = %s, Mode = %s",
+                this.maxSize, this.evictionThreshold, this.maxGenerations, this.generationDuration, this.mode);
+    }
+
+    //region Mode
+
+    /**
+     * Defines the way the CacheManager decides which entries to keep in the cache.
+     */
+    public enum Mode {
+        /**
+         * Every entry is admitted into the cache and entries are evicted based on how recently they were used (by means
+         * of generations).
+         */
+        GENERATIONAL,
+        /**
+         * Same as {@link #GENERATIONAL}, but data read from Storage is only admitted as a regular entry if it has been
+         * accessed frequently in the recent past (see {@link TinyLfuAdmissionPolicy}). Otherwise it is admitted on
+         * probation (and evicted first), or not at all if the cache is above its target utilization. This prevents
+         * large sequential (catch-up) reads from flushing out frequently accessed data.
+         */
+        SCAN_RESISTANT
     }
+
+    //endregion
 }
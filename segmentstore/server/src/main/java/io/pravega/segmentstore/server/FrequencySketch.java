@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A Count-Min Sketch that estimates the access frequency of keys using 4-bit counters, with periodic aging.
+ *
+ * Each 64-bit word of the table holds 16 counters, split into 4 groups of 4. Each key maps to 4 counters (one per hash
+ * function), which are usually located in different words: hash function i selects the word, while the key's hash
+ * selects one of the 4 groups (the same one for all hash functions) and i selects the counter within that group. The
+ * estimated frequency of a key is the minimum of its 4 counters, capped at 15. After a number of increments equal to
+ * 10 times the table size (in words), all counters are halved; this ensures that keys that used to be popular, but are
+ * no longer accessed, will eventually have their frequency decay.
+ *
+ * This class is thread-safe, but it does not provide any strong guarantees: concurrent increments and aging may result
+ * in slightly different values than if they were executed sequentially. This is acceptable for an estimator.
+ */
+@ThreadSafe
+class FrequencySketch {
+    //region Members
+
+    static final int MAX_FREQUENCY = 15;
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MIN_TABLE_LENGTH = 16;
+    private static final int MAX_TABLE_LENGTH = 1 << 24;
+    private static final int SAMPLE_SIZE_MULTIPLIER = 10;
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger sampleCount;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the FrequencySketch class.
+     *
+     * @param expectedKeys The number of distinct keys expected to be tracked at any given time. This determines the size
+     *                     of the table (8 bytes for every expected key, rounded up to a power of 2, bounded to 128MB).
+     */
+    FrequencySketch(long expectedKeys) {
+        Preconditions.checkArgument(expectedKeys > 0, "expectedKeys must be a positive number.");
+        int length = (int) Math.min(MAX_TABLE_LENGTH, Math.max(MIN_TABLE_LENGTH, expectedKeys));
+        length = Integer.bitCount(length) == 1 ? length : Integer.highestOneBit(length) << 1;
+        this.table = new AtomicLongArray(length);
+        this.tableMask = length - 1;
+        this.sampleSize = SAMPLE_SIZE_MULTIPLIER * length;
+        this.sampleCount = new AtomicInteger();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets the estimated access frequency of the given key.
+     *
+     * @param key The key to query.
+     * @return The estimated frequency, in the interval [0, {@link #MAX_FREQUENCY}].
+     */
+    int frequency(long key) {
+        int hash = spread(key);
+        int start = (hash & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int shift = (start + i) << 2;
+            long word = this.table.get(indexOf(hash, i));
+            frequency = Math.min(frequency, (int) ((word >>> shift) & 0xFL));
+        }
+
+        return frequency;
+    }
+
+    /**
+     * Increments the estimated access frequency of the given key, if not already at {@link #MAX_FREQUENCY}. Periodically
+     * (see class description) this will age all the counters.
+     *
+     * @param key The key to increment.
+     */
+    void increment(long key) {
+        int hash = spread(key);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && this.sampleCount.incrementAndGet() == this.sampleSize) {
+            // Only one thread can observe this value, so only one thread will age the counters for every sample.
+            reset();
+        }
+    }
+
+    /**
+     * Gets the number of increments since the last aging.
+     *
+     * @return The sample count.
+     */
+    int getSampleCount() {
+        return this.sampleCount.get();
+    }
+
+    /**
+     * Gets the number of increments that trigger an aging of the counters.
+     *
+     * @return The sample size.
+     */
+    int getSampleSize() {
+        return this.sampleSize;
+    }
+
+    //endregion
+
+    //region Helpers
+
+    private boolean incrementAt(int index, int counter) {
+        int shift = counter << 2;
+        long mask = 0xFL << shift;
+        while (true) {
+            long word = this.table.get(index);
+            if ((word & mask) == mask) {
+                // Already at max frequency.
+                return false;
+            }
+
+            if (this.table.compareAndSet(index, word, word + (1L << shift))) {
+                return true;
+            }
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < this.table.length(); i++) {
+            this.table.getAndUpdate(i, word -> (word >>> 1) & RESET_MASK);
+        }
+
+        this.sampleCount.addAndGet(-this.sampleSize / 2);
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return ((int) h) & this.tableMask;
+    }
+
+    private int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        int x = (int) h;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    //endregion
+}
@@ -72,5 +72,13 @@ public interface OperationLog extends Container {
      * while attempting to start (including it shutting down), this Future will be completed with the appropriate exception.
      */
     CompletableFuture<Void> awaitOnline();
+
+    /**
+     * Gets a value indicating how much the OperationLog is currently throttling incoming Operations (for example, due
+     * to the Cache filling up because data has not yet been flushed to Storage).
+     *
+     * @return A value between 0 (no throttling) and 1 (maximum throttling).
+     */
+    double getThrottlingPressure();
 }
 
@@ -58,9 +58,19 @@ public final class SegmentStoreMetrics {
          * The amount of time taken to complete one cycle of the CacheManager's cache policy.
          */
         private final OpStatsLogger cacheManagerIterationDuration;
+        /**
+         * The number of Storage reads that were admitted into the cache, admitted on probation or rejected, as decided
+         * by a {@link CacheAdmissionPolicy}.
+         */
+        private final Counter admitCount;
+        private final Counter probationCount;
+        private final Counter rejectCount;
 
         public CacheManager() {
             cacheManagerIterationDuration = STATS_LOGGER.createStats(MetricsNames.CACHE_MANAGER_ITERATION_DURATION);
+            admitCount = STATS_LOGGER.createCounter(MetricsNames.CACHE_ADMIT_COUNT);
+            probationCount = STATS_LOGGER.createCounter(MetricsNames.CACHE_PROBATION_COUNT);
+            rejectCount = STATS_LOGGER.createCounter(MetricsNames.CACHE_REJECT_COUNT);
         }
 
         public void report(CacheState snapshot, int generationSpread, long iterationDuration) {
@@ -71,6 +81,20 @@ public final class SegmentStoreMetrics {
             cacheManagerIterationDuration.reportSuccessValue(iterationDuration);
         }
 
+        public void admission(CacheAdmissionPolicy.Admission admission) {
+            switch (admission) {
+                case ADMIT:
+                    admitCount.inc();
+                    break;
+                case PROBATION:
+                    probationCount.inc();
+                    break;
+                default:
+                    rejectCount.inc();
+                    break;
+            }
+        }
+
         @Override
         public void close() {
             DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_STORED_SIZE_BYTES);
@@ -78,6 +102,142 @@ public final class SegmentStoreMetrics {
             DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_ALLOC_SIZE_BYTES);
             DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_GENERATION_SPREAD);
             cacheManagerIterationDuration.close();
+            admitCount.close();
+            probationCount.close();
+            rejectCount.close();
+        }
+    }
+
+    //endregion
+
+    //region ReadIndex
+
+    /**
+     * ContainerReadIndex metrics.
+     */
+    public final static class ReadIndex implements AutoCloseable {
+        /**
+         * The number of Future Reads that have been completed and the number of (distinct) reads that were made to complete
+         * them. Their ratio indicates how well Future Reads are coalesced (i.e., multiple readers tailing the same Segment).
+         */
+        private final Counter futureReadCount;
+        private final Counter futureReadMaterialized;
+        /**
+         * The number of Future Reads served by each distinct read.
+         */
+        private final OpStatsLogger futureReadCoalesced;
+
+        public ReadIndex(int containerId) {
+            String[] containerTag = containerTag(containerId);
+            this.futureReadCount = STATS_LOGGER.createCounter(MetricsNames.READ_INDEX_FUTURE_READ_COUNT, containerTag);
+            this.futureReadMaterialized = STATS_LOGGER.createCounter(MetricsNames.READ_INDEX_FUTURE_READ_MATERIALIZED, containerTag);
+            this.futureReadCoalesced = STATS_LOGGER.createStats(MetricsNames.READ_INDEX_FUTURE_READ_COALESCED, containerTag);
+        }
+
+        /**
+         * Records the fact that a number of Future Reads have been completed using a single read.
+         *
+         * @param futureReadCount The number of Future Reads completed.
+         */
+        public void futureReadsCompleted(int futureReadCount) {
+            this.futureReadCount.add(futureReadCount);
+            this.futureReadMaterialized.inc();
+            this.futureReadCoalesced.reportSuccessValue(futureReadCount);
+        }
+
+        @Override
+        public void close() {
+            this.futureReadCount.close();
+            this.futureReadMaterialized.close();
+            this.futureReadCoalesced.close();
+        }
+    }
+
+    //endregion
+
+    //region KeyIndex
+
+    /**
+     * ContainerKeyIndex metrics.
+     */
+    public final static class KeyIndex implements AutoCloseable {
+        /**
+         * The number of Key Hash lookups which were answered (as non-existent) by the Table Segments' Key Filters and
+         * the number of lookups which the Key Filters could not rule out but did not exist in the index. The false positive
+         * ratio of the Key Filters can be derived from these: falsePositive / (falsePositive + negative).
+         */
+        private final Counter keyFilterNegative;
+        private final Counter keyFilterFalsePositive;
+
+        public KeyIndex(int containerId) {
+            String[] containerTag = containerTag(containerId);
+            this.keyFilterNegative = STATS_LOGGER.createCounter(MetricsNames.TABLE_SEGMENT_KEY_FILTER_NEGATIVE, containerTag);
+            this.keyFilterFalsePositive = STATS_LOGGER.createCounter(MetricsNames.TABLE_SEGMENT_KEY_FILTER_FALSE_POSITIVE, containerTag);
+        }
+
+        /**
+         * Records a number of Key Hashes which were ruled out by a Key Filter.
+         *
+         * @param count The number of Key Hashes.
+         */
+        public void keyFilterNegative(int count) {
+            this.keyFilterNegative.add(count);
+        }
+
+        /**
+         * Records a number of Key Hashes which were not ruled out by a Key Filter, but did not exist in the index.
+         *
+         * @param count The number of Key Hashes.
+         */
+        public void keyFilterFalsePositive(int count) {
+            this.keyFilterFalsePositive.add(count);
+        }
+
+        @Override
+        public void close() {
+            this.keyFilterNegative.close();
+            this.keyFilterFalsePositive.close();
+        }
+    }
+
+    //endregion
+
+    //region TableCompaction
+
+    /**
+     * Table Segment background compaction metrics.
+     */
+    public final static class TableCompaction implements AutoCloseable {
+        private final Counter compactionBytes;
+        private final String[] containerTag;
+
+        public TableCompaction(int containerId) {
+            this.containerTag = containerTag(containerId);
+            this.compactionBytes = STATS_LOGGER.createCounter(MetricsNames.TABLE_SEGMENT_COMPACTION_BYTES, this.containerTag);
+        }
+
+        /**
+         * Records the number of bytes that were processed by a background compaction.
+         *
+         * @param bytes The number of bytes.
+         */
+        public void compacted(long bytes) {
+            this.compactionBytes.add(bytes);
+        }
+
+        /**
+         * Reports the estimated number of bytes that can be reclaimed by compacting all the active Table Segments.
+         *
+         * @param bytes The number of bytes.
+         */
+        public void reclaimableBytes(long bytes) {
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.TABLE_SEGMENT_RECLAIMABLE_BYTES, bytes, this.containerTag);
+        }
+
+        @Override
+        public void close() {
+            this.compactionBytes.close();
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.TABLE_SEGMENT_RECLAIMABLE_BYTES, this.containerTag);
         }
     }
 
@@ -215,6 +375,8 @@ public final class SegmentStoreMetrics {
             for (String throttler : throttlers) {
                 DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.OPERATION_PROCESSOR_DELAY_MILLIS, throttlerTag(containerId, throttler));
             }
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.OPERATION_PROCESSOR_FRAME_TARGET_SIZE, this.containerTag);
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.OPERATION_PROCESSOR_FRAME_LINGER_MILLIS, this.containerTag);
         }
 
         public void currentState(int queueSize, int inFlightCount) {
@@ -231,6 +393,11 @@ public final class SegmentStoreMetrics {
             );
         }
 
+        public void frameSizing(int targetFrameSize, long lingerMillis) {
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.OPERATION_PROCESSOR_FRAME_TARGET_SIZE, targetFrameSize, this.containerTag);
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.OPERATION_PROCESSOR_FRAME_LINGER_MILLIS, lingerMillis, this.containerTag);
+        }
+
         public void operationQueueWaitTime(long queueWaitTimeMillis) {
             this.operationQueueWaitTime.reportSuccessValue(queueWaitTimeMillis);
         }
@@ -482,5 +649,55 @@ public final class SegmentStoreMetrics {
         DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_TIME, duration, containerTag(containerId));
     }
 
+    /**
+     * Reports the time taken to initialize (and acquire ownership of) the DurableDataLog during a container recovery.
+     *
+     * @param duration    Time (millis) taken to initialize the DurableDataLog.
+     * @param containerId Container id related to the recovery process.
+     */
+    public static void recoveryLogInitialized(long duration, int containerId) {
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_LOG_INIT_TIME, duration, containerTag(containerId));
+    }
+
+    /**
+     * Reports the time taken to locate the first Metadata Checkpoint in the DurableDataLog during a container recovery.
+     *
+     * @param duration    Time (millis) taken to locate the first Metadata Checkpoint.
+     * @param containerId Container id related to the recovery process.
+     */
+    public static void recoveryCheckpointLocated(long duration, int containerId) {
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_CHECKPOINT_SEARCH_TIME, duration, containerTag(containerId));
+    }
+
+    /**
+     * Reports the time taken to replay the operations (starting at the first Metadata Checkpoint) during a container recovery.
+     *
+     * @param duration    Time (millis) taken to replay all operations.
+     * @param containerId Container id related to the recovery process.
+     */
+    public static void recoveryReplayed(long duration, int containerId) {
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_REPLAY_TIME, duration, containerTag(containerId));
+    }
+
+    /**
+     * Reports the time a container has been waiting to be started, due to the limit on parallel container starts.
+     *
+     * @param duration    Time (millis) spent waiting.
+     * @param containerId Container id.
+     */
+    public static void containerStartQueued(long duration, int containerId) {
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_START_QUEUE_TIME, duration, containerTag(containerId));
+    }
+
+    /**
+     * Reports the time taken to start a container (including its recovery).
+     *
+     * @param duration    Time (millis) taken to start the container.
+     * @param containerId Container id.
+     */
+    public static void containerStarted(long duration, int containerId) {
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_START_TIME, duration, containerTag(containerId));
+    }
+
     //endregion
 }
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.function.DoubleSupplier;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+
+/**
+ * Scan-resistant {@link CacheAdmissionPolicy} that uses a {@link FrequencySketch} to estimate how often a key has been
+ * accessed recently (TinyLFU), combined with a 2Q-style probationary admission for keys that have not been seen before.
+ *
+ * A key that has been accessed at least {@link #ADMISSION_FREQUENCY} times recently is admitted as a regular entry.
+ * Otherwise (i.e., the first time a catch-up read touches a piece of data), the data is only admitted on probation, and
+ * only if the cache is below its target utilization. Probationary entries are evicted first, unless they are read again
+ * before that. As such, a single large sequential scan cannot flush out data that is frequently accessed by other readers.
+ */
+@ThreadSafe
+class TinyLfuAdmissionPolicy implements CacheAdmissionPolicy {
+    //region Members
+
+    /**
+     * The minimum estimated frequency of a key in order for it to be admitted as a regular entry.
+     */
+    @VisibleForTesting
+    static final int ADMISSION_FREQUENCY = 2;
+    /**
+     * The average size of a cache entry (used to size the {@link FrequencySketch}).
+     */
+    private static final int EXPECTED_ENTRY_SIZE = 64 * 1024;
+    private final FrequencySketch sketch;
+    private final DoubleSupplier getCacheUtilization;
+    private final double targetUtilization;
+    private final SegmentStoreMetrics.CacheManager metrics;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the TinyLfuAdmissionPolicy class.
+     *
+     * @param policy              The {@link CachePolicy} in effect.
+     * @param getCacheUtilization A {@link DoubleSupplier} that returns the current cache utilization, as defined by
+     *                            {@link CacheUtilizationProvider#getCacheUtilization()}.
+     * @param metrics             The metrics to report admission decisions to.
+     */
+    TinyLfuAdmissionPolicy(@NonNull CachePolicy policy, @NonNull DoubleSupplier getCacheUtilization, @NonNull SegmentStoreMetrics.CacheManager metrics) {
+        this.sketch = new FrequencySketch(Math.max(1, policy.getMaxSize() / EXPECTED_ENTRY_SIZE));
+        this.getCacheUtilization = getCacheUtilization;
+        this.targetUtilization = policy.getTargetUtilization();
+        this.metrics = metrics;
+    }
+
+    //endregion
+
+    //region CacheAdmissionPolicy Implementation
+
+    @Override
+    public void recordAccess(long key) {
+        this.sketch.increment(key);
+    }
+
+    @Override
+    public Admission admit(long key) {
+        Admission result;
+        if (this.sketch.frequency(key) >= ADMISSION_FREQUENCY) {
+            result = Admission.ADMIT;
+        } else if (this.getCacheUtilization.getAsDouble() >= this.targetUtilization) {
+            result = Admission.REJECT;
+        } else {
+            result = Admission.PROBATION;
+        }
+
+        this.metrics.admission(result);
+        return result;
+    }
+
+    //endregion
+}
@@ -123,6 +123,14 @@ public class DataFrame {
         return this.header.getContentLength() == 0;
     }
 
+    /**
+     * Gets a value indicating the number of content bytes written to this DataFrame so far. For sealed DataFrames, this
+     * is the same as the content length.
+     */
+    int getWrittenLength() {
+        return this.sealed ? this.header.getContentLength() : this.writePosition;
+    }
+
     /**
      * Gets a value indicating whether the DataFrame is sealed.
      */
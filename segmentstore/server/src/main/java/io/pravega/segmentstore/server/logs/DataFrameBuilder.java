@@ -12,6 +12,7 @@ package io.pravega.segmentstore.server.logs;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectClosedException;
+import io.pravega.common.Timer;
 import io.pravega.segmentstore.contracts.SequencedElement;
 import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
 import io.pravega.segmentstore.storage.DurableDataLog;
@@ -100,6 +101,16 @@ class DataFrameBuilder<T extends SequencedElement> implements AutoCloseable {
         this.outputStream.flush();
     }
 
+    /**
+     * Gets a value indicating the number of bytes accumulated in the current DataFrame, which have not yet been flushed
+     * to the underlying DurableDataLog.
+     *
+     * @return The number of bytes.
+     */
+    int getCurrentFrameLength() {
+        return this.outputStream.getCurrentFrameLength();
+    }
+
     /**
      * If in a failed state (and thus closed), returns the original exception that caused the failure.
      *
@@ -248,6 +259,12 @@ class DataFrameBuilder<T extends SequencedElement> implements AutoCloseable {
         @Getter
         private final int dataFrameLength;
 
+        /**
+         * A Timer that was started when the DataFrame was sealed (just before it was sent to the DurableDataLog).
+         */
+        @Getter
+        private final Timer commitTimer;
+
         @Getter
         @Setter
         private long metadataTransactionId;
@@ -270,6 +287,7 @@ class DataFrameBuilder<T extends SequencedElement> implements AutoCloseable {
             this.lastFullySerializedSequenceNumber = lastFullySerializedSequenceNumber;
             this.lastStartedSequenceNumber = lastStartedSequenceNumber;
             this.dataFrameLength = dataFrameLength;
+            this.commitTimer = new Timer();
             this.logAddress = new AtomicReference<>();
         }
 
@@ -248,6 +248,15 @@ class DataFrameOutputStream extends OutputStream implements DirectDataOutput {
         }
     }
 
+    /**
+     * Gets a value indicating the number of bytes accumulated in the current frame (which has not yet been flushed).
+     *
+     * @return The number of bytes, or 0 if there is no current frame.
+     */
+    int getCurrentFrameLength() {
+        return this.currentFrame == null ? 0 : this.currentFrame.getWrittenLength();
+    }
+
     /**
      * Discards all the data currently accumulated in the current frame.
      */
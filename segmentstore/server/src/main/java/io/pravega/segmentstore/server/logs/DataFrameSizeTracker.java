@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.ExponentialMovingAverage;
+import io.pravega.common.MathHelpers;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Tracks the rate at which data is written into DataFrames and the latency of {@link io.pravega.segmentstore.storage.DurableDataLog}
+ * appends in order to determine the target size of a DataFrame and for how long a DataFrame that has not yet reached
+ * that size may be held open (linger) while waiting for more data.
+ * <p>
+ * This is conceptually similar to the Client's AppendBatchSizeTracker:
+ * <ul>
+ * <li> If there are no DataFrames in flight (i.e., written but not yet acknowledged), no lingering is recommended. This
+ * ensures that a light, latency-sensitive load is not delayed.
+ * <li> Otherwise, the target DataFrame size is an estimate of the amount of data that will arrive during half of a
+ * DurableDataLog append, and the DataFrame may linger for up to half the append latency (capped by a configured maximum)
+ * in order to reach it. Since the DurableDataLog is busy anyway, this results in fewer, larger writes without a
+ * noticeable increase in latency.
+ * </ul>
+ */
+@ThreadSafe
+class DataFrameSizeTracker {
+    //region Members
+
+    /**
+     * The smallest target DataFrame size we will ever recommend.
+     */
+    static final int MIN_FRAME_SIZE = 4 * 1024;
+    private static final double INITIAL_LATENCY_NANOS = Duration.ofMillis(1).toNanos();
+    private static final double SAMPLE_WEIGHT = 0.05;
+    private final int maxFrameSize;
+    private final long maxLingerNanos;
+    private final Supplier<Long> clock;
+    private final ExponentialMovingAverage appendLatencyNanos;
+    private final ExponentialMovingAverage bytesPerNano;
+    private final AtomicLong lastFrameSealedNanos;
+    private final AtomicInteger framesInFlight;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the DataFrameSizeTracker class.
+     *
+     * @param maxFrameSize The maximum size of a DataFrame.
+     * @param maxLinger    The maximum amount of time a DataFrame may linger.
+     */
+    DataFrameSizeTracker(int maxFrameSize, Duration maxLinger) {
+        this(maxFrameSize, maxLinger, System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance of the DataFrameSizeTracker class.
+     *
+     * @param maxFrameSize The maximum size of a DataFrame.
+     * @param maxLinger    The maximum amount of time a DataFrame may linger.
+     * @param clock        A Supplier that returns the current time, in nanoseconds.
+     */
+    DataFrameSizeTracker(int maxFrameSize, Duration maxLinger, Supplier<Long> clock) {
+        Preconditions.checkArgument(maxFrameSize > 0, "maxFrameSize must be a positive integer.");
+        Preconditions.checkArgument(!maxLinger.isNegative(), "maxLinger must be a non-negative duration.");
+        this.maxFrameSize = maxFrameSize;
+        this.maxLingerNanos = maxLinger.toNanos();
+        this.clock = Preconditions.checkNotNull(clock, "clock");
+        this.appendLatencyNanos = new ExponentialMovingAverage(INITIAL_LATENCY_NANOS, SAMPLE_WEIGHT, true);
+        this.bytesPerNano = new ExponentialMovingAverage(0, SAMPLE_WEIGHT, false);
+        this.lastFrameSealedNanos = new AtomicLong(this.clock.get());
+        this.framesInFlight = new AtomicInteger();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records the fact that a DataFrame has been sealed and is about to be written to the DurableDataLog.
+     *
+     * @param frameLength The length of the DataFrame.
+     */
+    void frameSealed(int frameLength) {
+        long now = this.clock.get();
+        long elapsed = Math.max(1, now - this.lastFrameSealedNanos.getAndSet(now));
+        this.bytesPerNano.addNewSample((double) frameLength / elapsed);
+        this.framesInFlight.incrementAndGet();
+    }
+
+    /**
+     * Records the fact that a DataFrame has been successfully written to the DurableDataLog.
+     *
+     * @param elapsed The amount of time it took to write the DataFrame.
+     */
+    void frameCommitted(Duration elapsed) {
+        this.appendLatencyNanos.addNewSample(elapsed.toNanos());
+        frameCompleted();
+    }
+
+    /**
+     * Records the fact that a DataFrame failed to be written to the DurableDataLog.
+     */
+    void frameFailed() {
+        frameCompleted();
+    }
+
+    private void frameCompleted() {
+        this.framesInFlight.updateAndGet(v -> Math.max(0, v - 1));
+    }
+
+    /**
+     * Gets the target DataFrame size. This is an estimate of how much data will be written in half of a DurableDataLog
+     * append, bounded by {@link #MIN_FRAME_SIZE} and the maximum DataFrame size.
+     *
+     * @return The target DataFrame size.
+     */
+    int getTargetFrameSize() {
+        double expectedBytes = this.bytesPerNano.getCurrentValue() * this.appendLatencyNanos.getCurrentValue() / 2;
+        return (int) MathHelpers.minMax((long) expectedBytes, Math.min(MIN_FRAME_SIZE, this.maxFrameSize), this.maxFrameSize);
+    }
+
+    /**
+     * Gets the amount of time a DataFrame that has not yet reached {@link #getTargetFrameSize()} may linger. This is
+     * half of the DurableDataLog append latency (capped by the configured maximum) if there is at least one DataFrame in
+     * flight, or zero otherwise.
+     *
+     * @return The linger duration.
+     */
+    Duration getLinger() {
+        if (this.framesInFlight.get() <= 0) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofNanos(Math.min(this.maxLingerNanos, (long) (this.appendLatencyNanos.getCurrentValue() / 2)));
+    }
+
+    /**
+     * Gets a value indicating the number of DataFrames that have been sealed but not yet committed or failed.
+     *
+     * @return The number of DataFrames in flight.
+     */
+    int getFramesInFlight() {
+        return this.framesInFlight.get();
+    }
+
+    //endregion
+}
@@ -26,6 +26,7 @@ import io.pravega.segmentstore.server.DataCorruptionException;
 import io.pravega.segmentstore.server.IllegalContainerStateException;
 import io.pravega.segmentstore.server.OperationLog;
 import io.pravega.segmentstore.server.ReadIndex;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.server.UpdateableContainerMetadata;
 import io.pravega.segmentstore.server.logs.operations.MetadataCheckpointOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
@@ -67,6 +68,8 @@ public class DurableLog extends AbstractService implements OperationLog {
     private final OperationProcessor operationProcessor;
     private final UpdateableContainerMetadata metadata;
     private final ScheduledExecutorService executor;
+    private final int recoveryPrefetchCount;
+    private final long recoveryPrefetchBytes;
     private final AtomicReference<Throwable> stopException = new AtomicReference<>();
     private final AtomicBoolean closed;
     private final CompletableFuture<Void> delayedStart;
@@ -92,6 +95,8 @@ public class DurableLog extends AbstractService implements OperationLog {
         Preconditions.checkNotNull(dataFrameLogFactory, "dataFrameLogFactory");
         Preconditions.checkNotNull(readIndex, "readIndex");
         this.executor = Preconditions.checkNotNull(executor, "executor");
+        this.recoveryPrefetchCount = config.getRecoveryPrefetchCount();
+        this.recoveryPrefetchBytes = config.getRecoveryPrefetchBytes();
 
         this.durableDataLog = dataFrameLogFactory.createDurableDataLog(metadata.getContainerId());
         assert this.durableDataLog != null : "dataFrameLogFactory created null durableDataLog.";
@@ -100,7 +105,7 @@ public class DurableLog extends AbstractService implements OperationLog {
         this.inMemoryOperationLog = createInMemoryLog();
         this.memoryStateUpdater = new MemoryStateUpdater(this.inMemoryOperationLog, readIndex);
         MetadataCheckpointPolicy checkpointPolicy = new MetadataCheckpointPolicy(config, this::queueMetadataCheckpoint, this.executor);
-        this.operationProcessor = new OperationProcessor(this.metadata, this.memoryStateUpdater, this.durableDataLog, checkpointPolicy, executor);
+        this.operationProcessor = new OperationProcessor(this.metadata, this.memoryStateUpdater, this.durableDataLog, checkpointPolicy, config, executor);
         Services.onStop(this.operationProcessor, this::queueStoppedHandler, this::queueFailedHandler, this.executor);
         this.closed = new AtomicBoolean();
         this.delayedStart = new CompletableFuture<>();
@@ -209,9 +214,11 @@ public class DurableLog extends AbstractService implements OperationLog {
         try {
             // Initialize the DurableDataLog, which will acquire its lock and ensure we are the only active users of it.
             this.durableDataLog.initialize(DEFAULT_TIMEOUT);
+            SegmentStoreMetrics.recoveryLogInitialized(timer.getElapsedMillis(), this.metadata.getContainerId());
 
             // Initiate the recovery.
-            RecoveryProcessor p = new RecoveryProcessor(this.metadata, this.durableDataLog, this.memoryStateUpdater);
+            RecoveryProcessor p = new RecoveryProcessor(this.metadata, this.durableDataLog, this.memoryStateUpdater,
+                    this.recoveryPrefetchCount, this.recoveryPrefetchBytes, this.executor);
             int recoveredItemCount = p.performRecovery();
             this.operationProcessor.getMetrics().operationsCompleted(recoveredItemCount, timer.getElapsed());
 
@@ -359,6 +366,11 @@ public class DurableLog extends AbstractService implements OperationLog {
         return this.delayedStart;
     }
 
+    @Override
+    public double getThrottlingPressure() {
+        return this.operationProcessor.getThrottlingPressure();
+    }
+
     //endregion
 
     //region Helpers
@@ -26,6 +26,10 @@ public class DurableLogConfig {
     public static final Property<Integer> CHECKPOINT_COMMIT_COUNT = Property.named("checkpoint.commit.threshold.count", 300, "checkpointCommitCountThreshold");
     public static final Property<Long> CHECKPOINT_TOTAL_COMMIT_LENGTH = Property.named("checkpoint.commit.length.total", 256 * 1024 * 1024L, "checkpointTotalCommitLengthThreshold");
     public static final Property<Integer> START_RETRY_DELAY_MILLIS = Property.named("start.retry.delay.millis", 60 * 1000, "startRetryDelayMillis");
+    public static final Property<Boolean> ADAPTIVE_FRAME_SIZING_ENABLE = Property.named("frame.adaptive.enable", false);
+    public static final Property<Integer> FRAME_LINGER_MAX_MILLIS = Property.named("frame.linger.max.millis", 5);
+    public static final Property<Integer> RECOVERY_PREFETCH_COUNT = Property.named("recovery.prefetch.count", 100);
+    public static final Property<Long> RECOVERY_PREFETCH_BYTES = Property.named("recovery.prefetch.bytes", 32 * 1024 * 1024L);
     private static final String COMPONENT_CODE = "durablelog";
 
     //endregion
@@ -56,6 +60,35 @@ public class DurableLogConfig {
     @Getter
     private Duration startRetryDelay;
 
+    /**
+     * Whether the OperationProcessor should adapt the size of the DataFrames it writes based on the observed
+     * DurableDataLog latency and incoming data rate.
+     */
+    @Getter
+    private final boolean adaptiveFrameSizingEnabled;
+
+    /**
+     * The maximum amount of time the OperationProcessor may wait for more operations before sealing a DataFrame that
+     * has not reached its target size. Only used if {@link #isAdaptiveFrameSizingEnabled()} is true.
+     */
+    @Getter
+    private final Duration maxFrameLinger;
+
+    /**
+     * The maximum number of Operations that may be read and deserialized ahead of the one being applied during recovery.
+     * If 0, Operations are read and applied sequentially, on the same thread.
+     */
+    @Getter
+    private final int recoveryPrefetchCount;
+
+    /**
+     * The maximum number of bytes (as serialized in the DurableDataLog) of the Operations that may be read and
+     * deserialized ahead of the one being applied during recovery. Only used if {@link #getRecoveryPrefetchCount()} is
+     * positive.
+     */
+    @Getter
+    private final long recoveryPrefetchBytes;
+
     //endregion
 
     //region Constructor
@@ -80,6 +113,20 @@ public class DurableLogConfig {
             throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", START_RETRY_DELAY_MILLIS));
         }
         this.startRetryDelay = Duration.ofMillis(startRetryDelayMillis);
+        this.adaptiveFrameSizingEnabled = properties.getBoolean(ADAPTIVE_FRAME_SIZING_ENABLE);
+        int maxFrameLingerMillis = properties.getInt(FRAME_LINGER_MAX_MILLIS);
+        if (maxFrameLingerMillis < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", FRAME_LINGER_MAX_MILLIS));
+        }
+        this.maxFrameLinger = Duration.ofMillis(maxFrameLingerMillis);
+        this.recoveryPrefetchCount = properties.getInt(RECOVERY_PREFETCH_COUNT);
+        if (this.recoveryPrefetchCount < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", RECOVERY_PREFETCH_COUNT));
+        }
+        this.recoveryPrefetchBytes = properties.getLong(RECOVERY_PREFETCH_BYTES);
+        if (this.recoveryPrefetchBytes <= 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", RECOVERY_PREFETCH_BYTES));
+        }
     }
 
     /**
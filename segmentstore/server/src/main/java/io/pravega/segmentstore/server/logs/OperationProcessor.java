@@ -42,6 +42,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.Getter;
@@ -75,6 +76,11 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
     private final SegmentStoreMetrics.OperationProcessor metrics;
     private final Throttler throttler;
     private final CacheUtilizationProvider cacheUtilizationProvider;
+    private final DataFrameSizeTracker frameSizeTracker;
+    @GuardedBy("stateLock")
+    private Timer frameLingerTimer;
+    @GuardedBy("stateLock")
+    private Duration frameLinger;
 
     //endregion
 
@@ -91,6 +97,22 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
      * @throws NullPointerException If any of the arguments are null.
      */
     OperationProcessor(UpdateableContainerMetadata metadata, MemoryStateUpdater stateUpdater, DurableDataLog durableDataLog, MetadataCheckpointPolicy checkpointPolicy, ScheduledExecutorService executor) {
+        this(metadata, stateUpdater, durableDataLog, checkpointPolicy, DurableLogConfig.builder().build(), executor);
+    }
+
+    /**
+     * Creates a new instance of the OperationProcessor class.
+     *
+     * @param metadata         The ContainerMetadata for the Container to process operations for.
+     * @param stateUpdater     A MemoryStateUpdater that is used to update in-memory structures upon successful Operation committal.
+     * @param durableDataLog   The DataFrameLog to write DataFrames to.
+     * @param checkpointPolicy The Checkpoint Policy for Metadata.
+     * @param config           The DurableLogConfig to use.
+     * @param executor         An Executor to use for async operations.
+     * @throws NullPointerException If any of the arguments are null.
+     */
+    OperationProcessor(UpdateableContainerMetadata metadata, MemoryStateUpdater stateUpdater, DurableDataLog durableDataLog,
+                       MetadataCheckpointPolicy checkpointPolicy, DurableLogConfig config, ScheduledExecutorService executor) {
         super(String.format("OperationProcessor[%d]", metadata.getContainerId()), executor);
         Preconditions.checkNotNull(durableDataLog, "durableDataLog");
         this.metadata = metadata;
@@ -102,6 +124,9 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         val args = new DataFrameBuilder.Args(this.state::frameSealed, this.state::commit, this.state::fail, this.executor);
         this.dataFrameBuilder = new DataFrameBuilder<>(durableDataLog, OperationSerializer.DEFAULT, args);
         this.metrics = new SegmentStoreMetrics.OperationProcessor(this.metadata.getContainerId());
+        this.frameSizeTracker = config.isAdaptiveFrameSizingEnabled()
+                ? new DataFrameSizeTracker(durableDataLog.getWriteSettings().getMaxWriteLength(), config.getMaxFrameLinger())
+                : null;
         this.cacheUtilizationProvider = stateUpdater.getCacheUtilizationProvider();
         val throttlerCalculator = ThrottlerCalculator
                 .builder()
@@ -129,8 +154,8 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         // OperationProcessor starts and is shut down as soon as doStop() is invoked.
         val queueProcessor = Futures
                 .loop(this::isRunning,
-                        () -> getThrottler().throttle()
-                                .thenComposeAsync(v -> this.operationQueue.take(getFetchCount()), this.executor)
+                        () -> throttle()
+                                .thenComposeAsync(v -> takeOperations(), this.executor)
                                 .thenAcceptAsync(this::processOperations, this.executor),
                         this.executor);
 
@@ -261,6 +286,102 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         return Math.max(1, (int) (this.cacheUtilizationProvider.getCacheInsertionCapacity() * MAX_READ_AT_ONCE));
     }
 
+    /**
+     * Throttles, if necessary. If throttling is required and the current DataFrame is lingering (waiting for more
+     * operations), that DataFrame is flushed first, as its operations would otherwise be delayed for much longer.
+     *
+     * @return A CompletableFuture that will be completed when throttling is done.
+     */
+    private CompletableFuture<Void> throttle() {
+        if (getRemainingFrameLinger() != null && getThrottler().isThrottlingRequired()) {
+            flushLingeringFrame();
+        }
+
+        return getThrottler().throttle();
+    }
+
+    /**
+     * Takes the next Operations from the {@link #operationQueue}. If the current DataFrame is lingering, this will only
+     * wait for new Operations until the linger period expires, after which the DataFrame is flushed.
+     *
+     * @return A CompletableFuture that, when completed, will contain the next Operations to process.
+     */
+    private CompletableFuture<Queue<CompletableOperation>> takeOperations() {
+        Duration remainingLinger = getRemainingFrameLinger();
+        if (remainingLinger == null) {
+            // Nothing is lingering.
+            return this.operationQueue.take(getFetchCount());
+        } else if (remainingLinger.isZero()) {
+            // Linger period has expired.
+            flushLingeringFrame();
+            return this.operationQueue.take(getFetchCount());
+        }
+
+        return Futures.exceptionallyComposeExpecting(
+                this.operationQueue.take(getFetchCount(), remainingLinger, this.executor),
+                ex -> ex instanceof TimeoutException,
+                () -> {
+                    flushLingeringFrame();
+                    return this.operationQueue.take(getFetchCount());
+                });
+    }
+
+    /**
+     * Determines whether the current DataFrame should linger (i.e., not be flushed right away) in order to accumulate
+     * more operations. This is only possible if adaptive DataFrame sizing is enabled, the current DataFrame is smaller
+     * than the target size and the linger period for this DataFrame has not expired.
+     *
+     * @return True if the current DataFrame should linger, false if it should be flushed.
+     */
+    private boolean shouldFrameLinger() {
+        if (this.frameSizeTracker == null) {
+            return false;
+        }
+
+        int targetFrameSize = this.frameSizeTracker.getTargetFrameSize();
+        Duration linger = this.frameSizeTracker.getLinger();
+        this.metrics.frameSizing(targetFrameSize, linger.toMillis());
+        synchronized (this.stateLock) {
+            int currentFrameLength = this.dataFrameBuilder.getCurrentFrameLength();
+            if (currentFrameLength == 0 || currentFrameLength >= targetFrameSize || linger.isZero()) {
+                return false;
+            }
+
+            if (this.frameLingerTimer == null) {
+                // Begin lingering. We do not extend the linger period for this DataFrame if we are called again.
+                this.frameLingerTimer = new Timer();
+                this.frameLinger = linger;
+            }
+
+            return this.frameLingerTimer.getElapsed().compareTo(this.frameLinger) < 0;
+        }
+    }
+
+    /**
+     * Gets the remaining linger time for the current DataFrame.
+     *
+     * @return The remaining linger time, {@link Duration#ZERO} if the linger period has expired, or null if the current
+     * DataFrame is not lingering.
+     */
+    private Duration getRemainingFrameLinger() {
+        synchronized (this.stateLock) {
+            if (this.frameLingerTimer == null) {
+                return null;
+            }
+
+            Duration remaining = this.frameLinger.minus(this.frameLingerTimer.getElapsed());
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
+    }
+
+    private void flushLingeringFrame() {
+        log.debug("{}: processOperations (Flush after Linger).", this.traceObjectId);
+        synchronized (this.stateLock) {
+            this.dataFrameBuilder.flush();
+            this.frameLingerTimer = null;
+        }
+    }
+
     /**
      * Determines if the {@link #operationQueue} has any {@link CompletableOperation} with an {@link OperationPriority}
      * that requires an immediate execution (i.e., {@link OperationPriority#isThrottlingExempt()} is true).
@@ -273,6 +394,13 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         return o != null && o.getPriority().isThrottlingExempt();
     }
 
+    /**
+     * Gets a value between 0 and 1 indicating the current throttling pressure on this OperationProcessor.
+     */
+    double getThrottlingPressure() {
+        return getThrottler().getThrottlingPressure();
+    }
+
     /**
      * Gets the throttler.
      */
@@ -338,9 +466,15 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
                     }
 
                     if (operations.isEmpty()) {
-                        log.debug("{}: processOperations (Flush).", this.traceObjectId);
-                        synchronized (this.stateLock) {
-                            this.dataFrameBuilder.flush();
+                        if (shouldFrameLinger()) {
+                            // Do not flush yet. The next iteration will wait for more operations to fill up this
+                            // DataFrame, and will flush it if none arrive before the linger period expires.
+                            log.debug("{}: processOperations (Linger).", this.traceObjectId);
+                        } else {
+                            log.debug("{}: processOperations (Flush).", this.traceObjectId);
+                            synchronized (this.stateLock) {
+                                this.dataFrameBuilder.flush();
+                            }
                         }
                     } else {
                         log.debug("{}: processOperations (Add OperationCount = {}).", this.traceObjectId, operations.size());
@@ -549,6 +683,13 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
                 commitArgs.setOperations(Collections.unmodifiableList(this.nextFrameOperations));
                 this.nextFrameOperations = new ArrayList<>();
                 this.metadataTransactions.addLast(commitArgs);
+
+                // This DataFrame is no longer lingering; any subsequent one will begin its own linger period.
+                OperationProcessor.this.frameLingerTimer = null;
+            }
+
+            if (frameSizeTracker != null) {
+                frameSizeTracker.frameSealed(commitArgs.getDataFrameLength());
             }
         }
 
@@ -567,6 +708,9 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
             assert commitArgs.getMetadataTransactionId() >= 0 : "DataFrameBuilder.CommitArgs does not have a key set";
             log.debug("{}: CommitSuccess ({}).", traceObjectId, commitArgs);
             Timer timer = new Timer();
+            if (frameSizeTracker != null) {
+                frameSizeTracker.frameCommitted(commitArgs.getCommitTimer().getElapsed());
+            }
 
             List<List<CompletableOperation>> toAck = null;
             try {
@@ -631,6 +775,10 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
          * @param commitArgs The Data Frame Commit Args that triggered this action.
          */
         void fail(Throwable ex, DataFrameBuilder.CommitArgs commitArgs) {
+            if (frameSizeTracker != null && commitArgs != null) {
+                frameSizeTracker.frameFailed();
+            }
+
             List<CompletableOperation> toFail = null;
             try {
                 synchronized (stateLock) {
@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.util.CloseableIterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link CloseableIterator} that wraps another {@link DataFrameRecord} iterator (typically a {@link DataFrameReader})
+ * and reads (and deserializes) records from it in the background, so that the consumer can process the records that
+ * have already been read while the following ones are being fetched from the DurableDataLog.
+ *
+ * Records are returned in the same order as they are returned by the wrapped iterator. At most one background read is
+ * in progress at any given time and at most a predefined number of records (and bytes, as serialized in the
+ * DurableDataLog) are buffered. The consumer never waits for a
+ * background task to be scheduled: if no prefetched records are available, it reads directly from the wrapped iterator.
+ *
+ * @param <T> Type of the items.
+ */
+@Slf4j
+class PrefetchingDataFrameReader<T extends SequencedElement> implements CloseableIterator<DataFrameRecord<T>, Exception> {
+    //region Members
+
+    private final CloseableIterator<DataFrameRecord<T>, Exception> source;
+    private final int capacity;
+    private final long maxBytes;
+    private final Executor executor;
+    private final String traceObjectId;
+    /**
+     * Prefetched records. Items are only added while holding {@link #sourceLock}, which guarantees that no record can be
+     * read from {@link #source} and not be in this queue while the lock is not held.
+     */
+    private final ArrayBlockingQueue<Prefetched<T>> prefetched;
+    private final AtomicLong prefetchedBytes;
+    private final Object sourceLock = new Object();
+    private volatile boolean sourceExhausted;
+    private final AtomicBoolean prefetchRunning;
+    private final AtomicBoolean closed;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the PrefetchingDataFrameReader class.
+     *
+     * @param source      The {@link CloseableIterator} to read from. This will be closed when this instance is closed.
+     * @param capacity    The maximum number of records to prefetch.
+     * @param maxBytes    The maximum number of bytes (as serialized in the DurableDataLog) to prefetch. At least one
+     *                    record is prefetched regardless of its size.
+     * @param executor    An Executor to run the background reads on.
+     * @param containerId The Container Id for the PrefetchingDataFrameReader (used primarily for logging).
+     */
+    PrefetchingDataFrameReader(@NonNull CloseableIterator<DataFrameRecord<T>, Exception> source, int capacity,
+                               long maxBytes, @NonNull Executor executor, int containerId) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be a positive number.");
+        Preconditions.checkArgument(maxBytes > 0, "maxBytes must be a positive number.");
+        this.source = source;
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        this.executor = executor;
+        this.traceObjectId = String.format("PrefetchingDataFrameReader[%d]", containerId);
+        this.prefetched = new ArrayBlockingQueue<>(capacity);
+        this.prefetchedBytes = new AtomicLong();
+        this.prefetchRunning = new AtomicBoolean();
+        this.closed = new AtomicBoolean();
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            // Wait for any in-progress background read to complete before closing the source.
+            synchronized (this.sourceLock) {
+                this.source.close();
+                this.prefetched.clear();
+                this.prefetchedBytes.set(0);
+            }
+        }
+    }
+
+    //endregion
+
+    //region CloseableIterator Implementation
+
+    /**
+     * Gets the next record, in the same order as returned by the wrapped iterator.
+     *
+     * @return The next record, or null if the end of the wrapped iterator has been reached.
+     * @throws Exception If the wrapped iterator threw an exception while reading this record. If this happens, this
+     *                   instance will be closed.
+     */
+    @Override
+    public DataFrameRecord<T> getNext() throws Exception {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Prefetched<T> next = pollPrefetched();
+        if (next == null) {
+            synchronized (this.sourceLock) {
+                // A background read may have completed while we were waiting for the lock.
+                next = pollPrefetched();
+                if (next == null) {
+                    if (this.sourceExhausted) {
+                        return null;
+                    }
+
+                    next = readFromSource();
+                }
+            }
+        }
+
+        if (next.failure != null) {
+            close();
+            throw next.failure;
+        }
+
+        triggerPrefetch();
+        return next.record;
+    }
+
+    //endregion
+
+    //region Prefetching
+
+    private void triggerPrefetch() {
+        // Only (re)start the background read once at least half of the buffer has been consumed; this avoids
+        // scheduling a task for every record we consume once the buffer is full.
+        if (!this.closed.get() && !this.sourceExhausted
+                && this.prefetched.remainingCapacity() >= Math.max(1, this.capacity / 2)
+                && this.prefetchedBytes.get() <= this.maxBytes / 2
+                && this.prefetchRunning.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::prefetch);
+            } catch (RejectedExecutionException ex) {
+                // Not a problem: getNext() will read directly from the source if there is nothing prefetched.
+                log.debug("{}: Unable to schedule prefetch.", this.traceObjectId, ex);
+                this.prefetchRunning.set(false);
+            }
+        }
+    }
+
+    private void prefetch() {
+        try {
+            while (!this.closed.get()) {
+                synchronized (this.sourceLock) {
+                    if (this.closed.get() || this.sourceExhausted || this.prefetched.remainingCapacity() == 0
+                            || this.prefetchedBytes.get() >= this.maxBytes) {
+                        break;
+                    }
+
+                    // We are the only ones adding to this queue and we checked that it has capacity, so this cannot fail.
+                    Prefetched<T> next = readFromSource();
+                    this.prefetchedBytes.addAndGet(next.length);
+                    this.prefetched.add(next);
+                }
+            }
+        } finally {
+            this.prefetchRunning.set(false);
+        }
+    }
+
+    private Prefetched<T> pollPrefetched() {
+        Prefetched<T> next = this.prefetched.poll();
+        if (next != null) {
+            this.prefetchedBytes.addAndGet(-next.length);
+        }
+
+        return next;
+    }
+
+    @GuardedBy("sourceLock")
+    private Prefetched<T> readFromSource() {
+        try {
+            DataFrameRecord<T> record = this.source.getNext();
+            this.sourceExhausted = record == null;
+            long length = record == null ? 0 : record.getFrameEntries().stream().mapToLong(DataFrameRecord.EntryInfo::getLength).sum();
+            return new Prefetched<>(record, null, length);
+        } catch (Exception ex) {
+            // Do not attempt to read anything after a failure; the consumer will get this exception.
+            this.sourceExhausted = true;
+            return new Prefetched<>(null, ex, 0);
+        }
+    }
+
+    //endregion
+
+    //region Prefetched
+
+    @RequiredArgsConstructor
+    private static class Prefetched<T extends SequencedElement> {
+        private final DataFrameRecord<T> record;
+        private final Exception failure;
+        /**
+         * The serialized length of the record.
+         */
+        private final long length;
+    }
+
+    //endregion
+}
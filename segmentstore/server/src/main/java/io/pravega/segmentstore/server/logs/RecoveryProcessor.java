@@ -12,6 +12,7 @@ package io.pravega.segmentstore.server.logs;
 import com.google.common.base.Preconditions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.Timer;
+import io.pravega.common.util.CloseableIterator;
 import io.pravega.segmentstore.contracts.ContainerException;
 import io.pravega.segmentstore.contracts.StreamSegmentException;
 import io.pravega.segmentstore.server.DataCorruptionException;
@@ -22,6 +23,7 @@ import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
 import io.pravega.segmentstore.storage.DurableDataLog;
 import io.pravega.segmentstore.storage.LogAddress;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -34,6 +36,9 @@ class RecoveryProcessor {
     private final UpdateableContainerMetadata metadata;
     private final DurableDataLog durableDataLog;
     private final MemoryStateUpdater stateUpdater;
+    private final int prefetchCount;
+    private final long prefetchBytes;
+    private final Executor executor;
     private final String traceObjectId;
 
     //endregion
@@ -48,9 +53,32 @@ class RecoveryProcessor {
      * @param stateUpdater     A MemoryStateUpdater that can be used to apply the recovered operations.
      */
     RecoveryProcessor(UpdateableContainerMetadata metadata, DurableDataLog durableDataLog, MemoryStateUpdater stateUpdater) {
+        this(metadata, durableDataLog, stateUpdater, 0, 0, null);
+    }
+
+    /**
+     * Creates a new instance of the RecoveryProcessor class which reads and deserializes Operations in the background
+     * while the previously read ones are being applied.
+     *
+     * @param metadata         The UpdateableContainerMetadata to use for recovery.
+     * @param durableDataLog   The (uninitialized) DurableDataLog to read data from for recovery.
+     * @param stateUpdater     A MemoryStateUpdater that can be used to apply the recovered operations.
+     * @param prefetchCount    The maximum number of Operations to read ahead. If 0, no Operations will be read ahead.
+     * @param prefetchBytes    The maximum number of bytes (as serialized in the DurableDataLog) of the Operations to
+     *                         read ahead. Only used if prefetchCount is positive.
+     * @param executor         An Executor to read ahead on. May be null if prefetchCount is 0.
+     */
+    RecoveryProcessor(UpdateableContainerMetadata metadata, DurableDataLog durableDataLog, MemoryStateUpdater stateUpdater,
+                      int prefetchCount, long prefetchBytes, Executor executor) {
+        Preconditions.checkArgument(prefetchCount >= 0, "prefetchCount must be a non-negative number.");
+        Preconditions.checkArgument(prefetchCount == 0 || prefetchBytes > 0, "prefetchBytes must be a positive number if prefetchCount is positive.");
+        Preconditions.checkArgument(prefetchCount == 0 || executor != null, "executor must be provided if prefetchCount is positive.");
         this.metadata = Preconditions.checkNotNull(metadata, "metadata");
         this.durableDataLog = Preconditions.checkNotNull(durableDataLog, "durableDataLog");
         this.stateUpdater = Preconditions.checkNotNull(stateUpdater, "stateUpdater");
+        this.prefetchCount = prefetchCount;
+        this.prefetchBytes = prefetchBytes;
+        this.executor = executor;
         this.traceObjectId = String.format("RecoveryProcessor[%s]", this.metadata.getContainerId());
     }
 
@@ -126,7 +154,8 @@ class RecoveryProcessor {
 
         // Read all entries from the DataFrameLog and append them to the InMemoryOperationLog.
         // Also update metadata along the way.
-        try (DataFrameReader<Operation> reader = new DataFrameReader<>(this.durableDataLog, OperationSerializer.DEFAULT, this.metadata.getContainerId())) {
+        Timer timer = new Timer();
+        try (CloseableIterator<DataFrameRecord<Operation>, Exception> reader = createReader()) {
             DataFrameRecord<Operation> dataFrameRecord;
 
             // We can only recover starting from a MetadataCheckpointOperation; find the first one.
@@ -152,6 +181,9 @@ class RecoveryProcessor {
                         this.traceObjectId, dataFrameRecord.getItem());
             }
 
+            long checkpointSearchMillis = timer.getElapsedMillis();
+            SegmentStoreMetrics.recoveryCheckpointLocated(checkpointSearchMillis, this.metadata.getContainerId());
+
             // Now continue with the recovery from here.
             while (dataFrameRecord != null) {
                 recordTruncationMarker(dataFrameRecord);
@@ -161,6 +193,8 @@ class RecoveryProcessor {
                 // Fetch the next operation.
                 dataFrameRecord = reader.getNext();
             }
+
+            SegmentStoreMetrics.recoveryReplayed(timer.getElapsedMillis() - checkpointSearchMillis, this.metadata.getContainerId());
         }
 
         // Commit whatever changes we have in the metadata updater to the Container Metadata.
@@ -170,6 +204,17 @@ class RecoveryProcessor {
         return recoveredItemCount;
     }
 
+    private CloseableIterator<DataFrameRecord<Operation>, Exception> createReader() throws Exception {
+        DataFrameReader<Operation> reader = new DataFrameReader<>(this.durableDataLog, OperationSerializer.DEFAULT, this.metadata.getContainerId());
+        if (this.prefetchCount == 0) {
+            return reader;
+        }
+
+        // Reading from the DurableDataLog and deserializing Operations is done in the background; applying them to the
+        // metadata and in-memory structures is still done sequentially, in order, on this thread.
+        return new PrefetchingDataFrameReader<>(reader, this.prefetchCount, this.prefetchBytes, this.executor, this.metadata.getContainerId());
+    }
+
     protected void recoverOperation(DataFrameRecord<Operation> dataFrameRecord, OperationMetadataUpdater metadataUpdater) throws DataCorruptionException {
         // Update Metadata Sequence Number.
         Operation operation = dataFrameRecord.getItem();
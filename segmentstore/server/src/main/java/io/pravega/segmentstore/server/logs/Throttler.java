@@ -107,6 +107,16 @@ class Throttler implements ThrottleSourceListener, AutoCloseable {
         return this.throttlerCalculator.isThrottlingRequired();
     }
 
+    /**
+     * Gets a value between 0 and 1 indicating the current throttling pressure, as calculated by the {@link ThrottlerCalculator}
+     * passed to this class' constructor.
+     *
+     * @return The throttling pressure.
+     */
+    double getThrottlingPressure() {
+        return this.throttlerCalculator.getThrottlingPressure();
+    }
+
     /**
      * Throttles if necessary using the {@link ThrottlerCalculator} passed to this class' constructor as input.
      *
@@ -120,6 +120,16 @@ class ThrottlerCalculator {
         return new DelayResult(throttlerName, maxDelay, maximum);
     }
 
+    /**
+     * Calculates the current throttling pressure, as a ratio of the currently calculated throttling delay (see
+     * {@link #getThrottlingDelay()}) to the maximum delay that could be introduced.
+     *
+     * @return A value between 0 (no throttling) and 1 (maximum throttling).
+     */
+    double getThrottlingPressure() {
+        return Math.min(1.0, (double) getThrottlingDelay().getDurationMillis() / MAX_DELAY_MILLIS);
+    }
+
     private static <T, V extends Number> int calculateBaseDelay(T fullThrottleThreshold, Function<T, V> calculator) {
         return (int) Math.ceil(MAX_DELAY_MILLIS / calculator.apply(fullThrottleThreshold).doubleValue());
     }
@@ -13,7 +13,10 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectClosedException;
+import io.pravega.common.Timer;
 import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
 import io.pravega.segmentstore.server.CacheManager;
@@ -22,19 +25,26 @@ import io.pravega.segmentstore.server.ContainerMetadata;
 import io.pravega.segmentstore.server.DataCorruptionException;
 import io.pravega.segmentstore.server.ReadIndex;
 import io.pravega.segmentstore.server.SegmentMetadata;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.storage.ReadOnlyStorage;
 import io.pravega.segmentstore.storage.cache.CacheStorage;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -47,6 +57,11 @@ import lombok.val;
  * <li> The part of the StreamSegment that is in Storage, but not in DurableLog. This data will be brought into memory
  * for fast read-ahead access.
  * </ol>
+ * <p>
+ * If {@link ReadIndexConfig#getSnapshotDirectory()} is configured, the most recently used cached data that has already
+ * been persisted to Storage is periodically saved into a {@link ReadIndexSnapshot}, which is loaded back into the cache
+ * after a successful recovery (once validated against the recovered metadata). Snapshots are saved and loaded on a
+ * separate (I/O) Executor.
  */
 @Slf4j
 @ThreadSafe
@@ -59,13 +74,18 @@ public class ContainerReadIndex implements ReadIndex {
     private final Object lock = new Object();
     private final ReadOnlyStorage storage;
     private final ScheduledExecutorService executor;
+    private final ScheduledExecutorService ioExecutor;
     private final ReadIndexConfig config;
     private final CacheManager cacheManager;
+    private final SegmentStoreMetrics.ReadIndex metrics;
     @GuardedBy("lock")
     private ContainerMetadata metadata;
     @GuardedBy("lock")
     private ContainerMetadata preRecoveryMetadata;
     private final AtomicBoolean closed;
+    private final ReadIndexSnapshot snapshot;
+    private final Object snapshotLock = new Object();
+    private final AtomicReference<ScheduledFuture<?>> snapshotTask;
 
     //endregion
 
@@ -81,11 +101,27 @@ public class ContainerReadIndex implements ReadIndex {
      * @param executor     An Executor to run async callbacks on.
      */
     public ContainerReadIndex(ReadIndexConfig config, ContainerMetadata metadata, ReadOnlyStorage storage, CacheManager cacheManager, ScheduledExecutorService executor) {
+        this(config, metadata, storage, cacheManager, executor, executor);
+    }
+
+    /**
+     * Creates a new instance of the ContainerReadIndex class.
+     *
+     * @param config       Configuration for the ReadIndex.
+     * @param metadata     The ContainerMetadata to attach to.
+     * @param storage      Storage to read data not in the ReadIndex from.
+     * @param cacheManager The CacheManager to use for cache lifecycle management.
+     * @param executor     An Executor to run async callbacks on.
+     * @param ioExecutor   An Executor to save and load Read Index snapshots on.
+     */
+    public ContainerReadIndex(ReadIndexConfig config, ContainerMetadata metadata, ReadOnlyStorage storage, CacheManager cacheManager,
+                              ScheduledExecutorService executor, ScheduledExecutorService ioExecutor) {
         Preconditions.checkNotNull(config, "config");
         Preconditions.checkNotNull(metadata, "metadata");
         Preconditions.checkNotNull(storage, "storage");
         Preconditions.checkNotNull(cacheManager, "cacheManager");
         Preconditions.checkNotNull(executor, "executor");
+        Preconditions.checkNotNull(ioExecutor, "ioExecutor");
         Preconditions.checkArgument(!metadata.isRecoveryMode(), "Given ContainerMetadata is in Recovery Mode.");
 
         this.traceObjectId = String.format("ReadIndex[%s]", metadata.getContainerId());
@@ -95,8 +131,14 @@ public class ContainerReadIndex implements ReadIndex {
         this.storage = storage;
         this.cacheManager = cacheManager;
         this.executor = executor;
+        this.ioExecutor = ioExecutor;
+        this.metrics = new SegmentStoreMetrics.ReadIndex(metadata.getContainerId());
         this.preRecoveryMetadata = null;
         this.closed = new AtomicBoolean();
+        this.snapshot = config.getSnapshotDirectory() == null
+                ? null
+                : new ReadIndexSnapshot(Paths.get(config.getSnapshotDirectory()), metadata.getContainerId());
+        this.snapshotTask = new AtomicReference<>();
     }
 
     //endregion
@@ -106,7 +148,13 @@ public class ContainerReadIndex implements ReadIndex {
     @Override
     public void close() {
         if (!this.closed.getAndSet(true)) {
+            ScheduledFuture<?> task = this.snapshotTask.getAndSet(null);
+            if (task != null) {
+                task.cancel(false);
+            }
+
             closeAllIndices();
+            this.metrics.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
     }
@@ -316,6 +364,10 @@ public class ContainerReadIndex implements ReadIndex {
         }
 
         log.info("{} Exit RecoveryMode.", this.traceObjectId);
+        if (successfulRecovery && this.snapshot != null) {
+            this.ioExecutor.execute(this::loadSnapshot);
+            scheduleSnapshots();
+        }
     }
 
     @Override
@@ -325,6 +377,174 @@ public class ContainerReadIndex implements ReadIndex {
 
     //endregion
 
+    //region Snapshots
+
+    /**
+     * Saves a {@link ReadIndexSnapshot} with the most recently used cached data that has already been persisted to
+     * Storage, up to {@link ReadIndexConfig#getSnapshotMaxLength()} bytes. Failures are logged and otherwise ignored.
+     */
+    @VisibleForTesting
+    void saveSnapshot() {
+        Preconditions.checkState(this.snapshot != null, "Snapshots are not enabled.");
+        synchronized (this.snapshotLock) {
+            Timer timer = new Timer();
+            long sequenceNumber;
+            List<SnapshotCandidate> candidates = new ArrayList<>();
+            synchronized (this.lock) {
+                if (isRecoveryMode()) {
+                    log.info("{}: Not saving snapshot while in Recovery Mode.", this.traceObjectId);
+                    return;
+                }
+
+                sequenceNumber = this.metadata.getOperationSequenceNumber();
+                this.readIndices.forEach((segmentId, index) -> {
+                    SegmentMetadata sm = this.metadata.getStreamSegmentMetadata(segmentId);
+                    if (sm != null && !sm.isDeleted() && !sm.isMerged()) {
+                        index.getStorageCachedRanges().forEach(range -> candidates.add(new SnapshotCandidate(index, sm, range)));
+                    }
+                });
+            }
+
+            // Most recently used data first.
+            candidates.sort(Comparator.comparingInt((SnapshotCandidate c) -> c.range.getGeneration()).reversed());
+            int entryCount = 0;
+            try (ReadIndexSnapshot.Writer writer = this.snapshot.createWriter(sequenceNumber)) {
+                for (SnapshotCandidate c : candidates) {
+                    if (writer.getLength() + c.range.getLength() > this.config.getSnapshotMaxLength()) {
+                        break;
+                    }
+
+                    ByteArraySegment data = c.index.getCachedRangeCopy(c.range);
+                    if (data != null) {
+                        writer.write(new ReadIndexSnapshot.Entry(c.metadata.getId(), c.metadata.getName(), getCreationTime(c.metadata),
+                                c.range.getOffset(), data));
+                        entryCount++;
+                    }
+                }
+
+                writer.commit();
+                log.info("{}: Saved snapshot '{}' (SeqNo = {}, Entries = {}, Length = {}, Time = {}ms).", this.traceObjectId,
+                        this.snapshot, sequenceNumber, entryCount, writer.getLength(), timer.getElapsedMillis());
+            } catch (Exception ex) {
+                log.warn("{}: Unable to save snapshot '{}'.", this.traceObjectId, this.snapshot, ex);
+            }
+        }
+    }
+
+    /**
+     * Loads the current {@link ReadIndexSnapshot} (if any) into the cache. Only those entries that still match the
+     * current metadata (same Segment, not truncated and entirely persisted to Storage) are loaded, and loading stops
+     * if the cache reaches its target utilization. Failures are logged and otherwise ignored.
+     */
+    @VisibleForTesting
+    void loadSnapshot() {
+        Preconditions.checkState(this.snapshot != null, "Snapshots are not enabled.");
+        synchronized (this.snapshotLock) {
+            if (this.closed.get() || !this.snapshot.exists()) {
+                return;
+            }
+
+            Timer timer = new Timer();
+            int loadedCount = 0;
+            int skippedCount = 0;
+            long loadedLength = 0;
+            try (ReadIndexSnapshot.Reader reader = this.snapshot.createReader(this.config.getSnapshotMaxLength())) {
+                long sequenceNumber;
+                synchronized (this.lock) {
+                    sequenceNumber = this.metadata.getOperationSequenceNumber();
+                }
+
+                if (reader.getSequenceNumber() > sequenceNumber) {
+                    // The snapshot is from the future. We must have recovered from a different DurableLog.
+                    log.warn("{}: Not loading snapshot '{}' because its Sequence Number ({}) is higher than the recovered one ({}).",
+                            this.traceObjectId, this.snapshot, reader.getSequenceNumber(), sequenceNumber);
+                    return;
+                }
+
+                val utilization = this.cacheManager.getUtilizationProvider();
+                while (!this.closed.get() && utilization.getCacheUtilization() < utilization.getCacheTargetUtilization()) {
+                    ReadIndexSnapshot.Entry entry = reader.getNext();
+                    if (entry == null) {
+                        break;
+                    } else if (loadSnapshotEntry(entry)) {
+                        loadedCount++;
+                        loadedLength += entry.getData().getLength();
+                    } else {
+                        skippedCount++;
+                    }
+                }
+            } catch (Exception ex) {
+                log.warn("{}: Unable to (fully) load snapshot '{}'.", this.traceObjectId, this.snapshot, ex);
+            }
+
+            log.info("{}: Loaded snapshot '{}' (Entries = {}, Length = {}, Skipped = {}, Time = {}ms).", this.traceObjectId,
+                    this.snapshot, loadedCount, loadedLength, skippedCount, timer.getElapsedMillis());
+        }
+    }
+
+    private boolean loadSnapshotEntry(ReadIndexSnapshot.Entry entry) {
+        SegmentMetadata sm;
+        synchronized (this.lock) {
+            if (isRecoveryMode()) {
+                return false;
+            }
+
+            sm = this.metadata.getStreamSegmentMetadata(entry.getSegmentId());
+        }
+
+        // Make sure this is still the same Segment and that the data is still valid: Segment Ids are only unique within
+        // a Container's lifetime, so we also compare names and creation times.
+        if (sm == null || !sm.isActive() || sm.isDeleted() || sm.isMerged()
+                || !sm.getName().equals(entry.getSegmentName())
+                || getCreationTime(sm) != entry.getCreationTime()
+                || entry.getOffset() < sm.getStartOffset()
+                || entry.getOffset() + entry.getData().getLength() > sm.getStorageLength()) {
+            log.debug("{}: Skipping snapshot entry ({}) that does not match metadata ({}).", this.traceObjectId, entry, sm);
+            return false;
+        }
+
+        try {
+            getOrCreateIndex(entry.getSegmentId()).insertSnapshotData(entry.getOffset(), entry.getData());
+            return true;
+        } catch (StreamSegmentNotExistsException | IllegalArgumentException | IllegalStateException ex) {
+            // The Segment has been deleted, truncated or closed in the meantime.
+            log.debug("{}: Unable to load snapshot entry ({}).", this.traceObjectId, entry, ex);
+            return false;
+        }
+    }
+
+    private void scheduleSnapshots() {
+        Duration interval = this.config.getSnapshotInterval();
+        if (interval.isZero() || this.snapshotTask.get() != null) {
+            return;
+        }
+
+        ScheduledFuture<?> task = this.ioExecutor.scheduleWithFixedDelay(this::savePeriodicSnapshot, interval.toMillis(),
+                interval.toMillis(), TimeUnit.MILLISECONDS);
+        if (!this.snapshotTask.compareAndSet(null, task) || this.closed.get()) {
+            task.cancel(false);
+        }
+    }
+
+    private void savePeriodicSnapshot() {
+        if (!this.closed.get()) {
+            saveSnapshot();
+        }
+    }
+
+    private static long getCreationTime(SegmentMetadata metadata) {
+        return metadata.getAttributes().getOrDefault(Attributes.CREATION_TIME, Attributes.NULL_ATTRIBUTE_VALUE);
+    }
+
+    @RequiredArgsConstructor
+    private static class SnapshotCandidate {
+        final StreamSegmentReadIndex index;
+        final SegmentMetadata metadata;
+        final StreamSegmentReadIndex.CachedRange range;
+    }
+
+    //endregion
+
     //region Helpers
 
     private boolean isRecoveryMode() {
@@ -386,7 +606,8 @@ public class ContainerReadIndex implements ReadIndex {
     @VisibleForTesting
     StreamSegmentReadIndex createSegmentIndex(ReadIndexConfig config, SegmentMetadata metadata, CacheStorage cacheStorage,
                                               ReadOnlyStorage storage, ScheduledExecutorService executor, boolean recoveryMode) {
-        return new StreamSegmentReadIndex(config, metadata, cacheStorage, storage, executor, recoveryMode);
+        return new StreamSegmentReadIndex(config, metadata, cacheStorage, this.cacheManager.getAdmissionPolicy(),
+                this.cacheManager.getUtilizationProvider(), this.metrics, storage, executor, recoveryMode);
     }
 
     @GuardedBy("lock")
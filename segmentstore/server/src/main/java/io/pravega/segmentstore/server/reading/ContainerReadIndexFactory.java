@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class ContainerReadIndexFactory implements ReadIndexFactory {
     private final ScheduledExecutorService executorService;
+    private final ScheduledExecutorService ioExecutorService;
     private final ReadIndexConfig config;
     private final CacheManager cacheManager;
     private final AtomicBoolean closed;
@@ -36,8 +37,22 @@ public class ContainerReadIndexFactory implements ReadIndexFactory {
      * @param executorService The Executor to use to invoke async callbacks.
      */
     public ContainerReadIndexFactory(ReadIndexConfig config, CacheManager cacheManager, ScheduledExecutorService executorService) {
+        this(config, cacheManager, executorService, executorService);
+    }
+
+    /**
+     * Creates a new instance of the ContainerReadIndexFactory class.
+     *
+     * @param config            Configuration for the ReadIndex.
+     * @param cacheManager      The CacheManager to use to manage Cache entries.
+     * @param executorService   The Executor to use to invoke async callbacks.
+     * @param ioExecutorService The Executor to use to save and load Read Index snapshots.
+     */
+    public ContainerReadIndexFactory(ReadIndexConfig config, CacheManager cacheManager, ScheduledExecutorService executorService,
+                                     ScheduledExecutorService ioExecutorService) {
         this.config = Preconditions.checkNotNull(config, "config");
         this.executorService = Preconditions.checkNotNull(executorService, "executorService");
+        this.ioExecutorService = Preconditions.checkNotNull(ioExecutorService, "ioExecutorService");
         this.cacheManager = Preconditions.checkNotNull(cacheManager, "cacheManager");
         this.closed = new AtomicBoolean();
     }
@@ -45,7 +60,7 @@ public class ContainerReadIndexFactory implements ReadIndexFactory {
     @Override
     public ReadIndex createReadIndex(ContainerMetadata containerMetadata, ReadOnlyStorage storage) {
         Exceptions.checkNotClosed(this.closed.get(), this);
-        return new ContainerReadIndex(this.config, containerMetadata, storage, this.cacheManager, this.executorService);
+        return new ContainerReadIndex(this.config, containerMetadata, storage, this.cacheManager, this.executorService, this.ioExecutorService);
     }
 
     @Override
@@ -24,6 +24,12 @@ public class ReadIndexConfig {
     public static final Property<Integer> STORAGE_READ_ALIGNMENT = Property.named("storageRead.alignment", 1024 * 1024, "storageReadAlignment");
     public static final Property<Integer> MEMORY_READ_MIN_LENGTH = Property.named("memoryRead.length.min", 4 * 1024, "memoryReadMinLength");
     public static final Property<Integer> STORAGE_READ_DEFAULT_TIMEOUT = Property.named("storageRead.timeout.default.millis", 30 * 1000, "storageReadDefaultTimeoutMillis");
+    public static final Property<IndexType> INDEX_TYPE = Property.named("index.type", IndexType.AVL_TREE);
+    public static final Property<Integer> STORAGE_READ_AHEAD_DEPTH = Property.named("storageRead.readAhead.depth", 0);
+    public static final Property<Integer> STORAGE_READ_AHEAD_WINDOW = Property.named("storageRead.readAhead.window", 2);
+    public static final Property<String> SNAPSHOT_DIRECTORY = Property.named("snapshot.dir", "");
+    public static final Property<Long> SNAPSHOT_LENGTH_MAX = Property.named("snapshot.length.max", 256 * 1024 * 1024L);
+    public static final Property<Integer> SNAPSHOT_INTERVAL_SECONDS = Property.named("snapshot.interval.seconds", 300);
     private static final String COMPONENT_CODE = "readindex";
 
     //endregion
@@ -57,6 +63,45 @@ public class ReadIndexConfig {
     @Getter
     private final Duration storageReadDefaultTimeout;
 
+    /**
+     * The type of the in-memory index to use for each Segment's Read Index entries.
+     */
+    @Getter
+    private final IndexType indexType;
+
+    /**
+     * The maximum number of speculative read-ahead Storage Reads (each of {@link #getStorageReadAlignment()} length) to
+     * keep in flight ahead of a sequential reader. Setting this to 0 disables read-ahead.
+     */
+    @Getter
+    private final int storageReadAheadDepth;
+
+    /**
+     * The number of consecutive sequential reads that need to be observed on a Segment before read-ahead is triggered.
+     */
+    @Getter
+    private final int storageReadAheadWindow;
+
+    /**
+     * The local directory where the Read Index saves snapshots of its hot, already-persisted-to-Storage, contents (which
+     * are reloaded after a restart). If null, no snapshots will be saved or loaded.
+     */
+    @Getter
+    private final String snapshotDirectory;
+
+    /**
+     * The maximum number of bytes to include in a Read Index snapshot. The most recently used data is included first.
+     */
+    @Getter
+    private final long snapshotMaxLength;
+
+    /**
+     * How often to save a Read Index snapshot. If {@link Duration#ZERO}, no snapshots are saved (but existing ones are
+     * still loaded).
+     */
+    @Getter
+    private final Duration snapshotInterval;
+
     //endregion
 
     //region Constructor
@@ -70,6 +115,29 @@ public class ReadIndexConfig {
         this.storageReadAlignment = properties.getInt(STORAGE_READ_ALIGNMENT);
         this.memoryReadMinLength = properties.getInt(MEMORY_READ_MIN_LENGTH);
         this.storageReadDefaultTimeout = Duration.ofMillis(properties.getInt(STORAGE_READ_DEFAULT_TIMEOUT));
+        this.indexType = properties.getEnum(INDEX_TYPE, IndexType.class);
+        this.storageReadAheadDepth = properties.getInt(STORAGE_READ_AHEAD_DEPTH);
+        if (this.storageReadAheadDepth < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", STORAGE_READ_AHEAD_DEPTH));
+        }
+
+        this.storageReadAheadWindow = properties.getInt(STORAGE_READ_AHEAD_WINDOW);
+        if (this.storageReadAheadWindow <= 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", STORAGE_READ_AHEAD_WINDOW));
+        }
+
+        String snapshotDirectory = properties.get(SNAPSHOT_DIRECTORY);
+        this.snapshotDirectory = snapshotDirectory.trim().isEmpty() ? null : snapshotDirectory.trim();
+        this.snapshotMaxLength = properties.getLong(SNAPSHOT_LENGTH_MAX);
+        if (this.snapshotMaxLength <= 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", SNAPSHOT_LENGTH_MAX));
+        }
+
+        int snapshotIntervalSeconds = properties.getInt(SNAPSHOT_INTERVAL_SECONDS);
+        if (snapshotIntervalSeconds < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", SNAPSHOT_INTERVAL_SECONDS));
+        }
+        this.snapshotInterval = Duration.ofSeconds(snapshotIntervalSeconds);
     }
 
     /**
@@ -82,4 +150,25 @@ public class ReadIndexConfig {
     }
 
     //endregion
+
+    //region IndexType
+
+    /**
+     * Types of in-memory indices for Read Index entries.
+     */
+    public enum IndexType {
+        /**
+         * Entries are indexed using an AVL Tree ({@link io.pravega.common.util.AvlTreeIndex}), which allocates one node
+         * object per entry.
+         */
+        AVL_TREE,
+        /**
+         * Entries are indexed using fixed-capacity Slabs of sorted primitive arrays ({@link io.pravega.common.util.SlabIndex}).
+         * This has a much smaller per-entry memory overhead and better CPU cache locality, which is beneficial for Segments
+         * with a large number of Read Index entries.
+         */
+        SLAB
+    }
+
+    //endregion
 }
@@ -0,0 +1,346 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.reading;
+
+import com.google.common.io.CountingInputStream;
+import io.pravega.common.Exceptions;
+import io.pravega.common.io.SerializationException;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.common.util.CloseableIterator;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A snapshot of a {@link ContainerReadIndex}'s cached contents, stored as a file on local disk.
+ *
+ * The snapshot only contains data that has already been persisted to Storage, so it is never the source of truth for
+ * anything; its only purpose is to avoid re-reading frequently accessed data from Storage after a restart. Every
+ * {@link Entry} identifies the Segment it belongs to (by Id, Name and Creation Time) so it can be validated against the
+ * recovered Container Metadata before being loaded.
+ *
+ * File layout:
+ * - Header: Format Version (int), Container Id (int), Operation Sequence Number (long).
+ * - Zero or more Entries, each prefixed by {@link #ENTRY_MARKER}: Segment Id (long), Segment Name (UTF), Creation Time
+ * (long), Offset (long), Length (int), Data (Length bytes), CRC32 of Data (long).
+ * - {@link #END_MARKER}.
+ * Snapshots are written to a temporary file which is atomically renamed upon completion, so a partially written snapshot
+ * will never be loaded.
+ */
+@Slf4j
+class ReadIndexSnapshot {
+    //region Members
+
+    private static final int FORMAT_VERSION = 0;
+    private static final byte ENTRY_MARKER = 1;
+    private static final byte END_MARKER = 0;
+    private static final String FILE_NAME_FORMAT = "readindex_%d.snapshot";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    @Getter
+    private final Path path;
+    private final Path tempPath;
+    private final int containerId;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the ReadIndexSnapshot class.
+     *
+     * @param directory   The directory where the snapshot file is located.
+     * @param containerId The Id of the Container whose snapshot this is.
+     */
+    ReadIndexSnapshot(@NonNull Path directory, int containerId) {
+        this.path = directory.resolve(String.format(FILE_NAME_FORMAT, containerId));
+        this.tempPath = directory.resolve(String.format(FILE_NAME_FORMAT, containerId) + TEMP_FILE_SUFFIX);
+        this.containerId = containerId;
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets a value indicating whether a snapshot exists.
+     *
+     * @return True if a snapshot file exists, false otherwise.
+     */
+    boolean exists() {
+        return Files.exists(this.path);
+    }
+
+    /**
+     * Deletes the snapshot, if it exists.
+     *
+     * @throws IOException If an IO Exception occurred.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    /**
+     * Creates a new {@link Writer} that can be used to write a new snapshot. The existing snapshot (if any) will only be
+     * replaced when {@link Writer#commit()} is invoked.
+     *
+     * @param sequenceNumber The Operation Sequence Number of the Container Metadata at the time of the snapshot.
+     * @return A new {@link Writer}.
+     * @throws IOException If an IO Exception occurred.
+     */
+    Writer createWriter(long sequenceNumber) throws IOException {
+        Files.createDirectories(this.path.getParent());
+        return new Writer(sequenceNumber);
+    }
+
+    /**
+     * Creates a new {@link Reader} that can be used to read the current snapshot.
+     *
+     * @param maxLength The maximum total length of the data in the snapshot's entries (see
+     *                  {@link ReadIndexConfig#getSnapshotMaxLength()}). Snapshots exceeding it are considered corrupted.
+     * @return A new {@link Reader}.
+     * @throws IOException            If an IO Exception occurred (including if the snapshot does not exist).
+     * @throws SerializationException If the snapshot has an unsupported format or belongs to a different Container.
+     */
+    Reader createReader(long maxLength) throws IOException {
+        return new Reader(maxLength);
+    }
+
+    @Override
+    public String toString() {
+        return this.path.toString();
+    }
+
+    //endregion
+
+    //region Entry
+
+    /**
+     * A contiguous range of Segment data included in a snapshot.
+     */
+    @Data
+    static class Entry {
+        private final long segmentId;
+        @NonNull
+        private final String segmentName;
+        private final long creationTime;
+        private final long offset;
+        @NonNull
+        private final ByteArraySegment data;
+
+        @Override
+        public String toString() {
+            return String.format("SegmentId = %d, Offset = %d, Length = %d", this.segmentId, this.offset, this.data.getLength());
+        }
+    }
+
+    //endregion
+
+    //region Writer
+
+    /**
+     * Writes a new snapshot.
+     */
+    class Writer implements AutoCloseable {
+        private final DataOutputStream output;
+        @Getter
+        private long length;
+        private boolean committed;
+        private boolean closed;
+
+        private Writer(long sequenceNumber) throws IOException {
+            this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)));
+            this.output.writeInt(FORMAT_VERSION);
+            this.output.writeInt(containerId);
+            this.output.writeLong(sequenceNumber);
+        }
+
+        /**
+         * Writes the given {@link Entry}.
+         *
+         * @param entry The {@link Entry} to write.
+         * @throws IOException If an IO Exception occurred.
+         */
+        void write(Entry entry) throws IOException {
+            Exceptions.checkNotClosed(this.closed, this);
+            ByteArraySegment data = entry.getData();
+            this.output.writeByte(ENTRY_MARKER);
+            this.output.writeLong(entry.getSegmentId());
+            this.output.writeUTF(entry.getSegmentName());
+            this.output.writeLong(entry.getCreationTime());
+            this.output.writeLong(entry.getOffset());
+            this.output.writeInt(data.getLength());
+            this.output.write(data.array(), data.arrayOffset(), data.getLength());
+            this.output.writeLong(checksum(data));
+            this.length += data.getLength();
+        }
+
+        /**
+         * Completes the snapshot and atomically replaces the previous one (if any) with it.
+         *
+         * @throws IOException If an IO Exception occurred.
+         */
+        void commit() throws IOException {
+            Exceptions.checkNotClosed(this.closed, this);
+            this.output.writeByte(END_MARKER);
+            this.output.close();
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.committed = true;
+            this.closed = true;
+        }
+
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                try {
+                    this.output.close();
+                } catch (IOException ex) {
+                    log.warn("ReadIndexSnapshot[{}]: Unable to close '{}'.", containerId, tempPath, ex);
+                }
+            }
+
+            if (!this.committed) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException ex) {
+                    log.warn("ReadIndexSnapshot[{}]: Unable to delete '{}'.", containerId, tempPath, ex);
+                }
+            }
+        }
+    }
+
+    //endregion
+
+    //region Reader
+
+    /**
+     * Reads a snapshot, one {@link Entry} at a time.
+     */
+    class Reader implements CloseableIterator<Entry, IOException> {
+        private final CountingInputStream countingInput;
+        private final DataInputStream input;
+        private final long fileLength;
+        private final long maxLength;
+        private long length;
+        /**
+         * The Operation Sequence Number of the Container Metadata at the time of the snapshot.
+         */
+        @Getter
+        private final long sequenceNumber;
+        private boolean endReached;
+        private boolean closed;
+
+        private Reader(long maxLength) throws IOException {
+            this.fileLength = Files.size(path);
+            this.maxLength = maxLength;
+            this.countingInput = new CountingInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            this.input = new DataInputStream(this.countingInput);
+            try {
+                int version = this.input.readInt();
+                if (version != FORMAT_VERSION) {
+                    throw new SerializationException(String.format("Unsupported snapshot format version %d.", version));
+                }
+
+                int snapshotContainerId = this.input.readInt();
+                if (snapshotContainerId != containerId) {
+                    throw new SerializationException(String.format("Snapshot belongs to Container %d, expected %d.", snapshotContainerId, containerId));
+                }
+
+                this.sequenceNumber = this.input.readLong();
+            } catch (IOException ex) {
+                close();
+                throw ex;
+            }
+        }
+
+        /**
+         * Reads the next {@link Entry}.
+         *
+         * @return The next {@link Entry}, or null if the end of the snapshot has been reached.
+         * @throws IOException            If an IO Exception occurred (including if the snapshot is truncated).
+         * @throws SerializationException If an {@link Entry} is corrupted.
+         */
+        @Override
+        public Entry getNext() throws IOException {
+            Exceptions.checkNotClosed(this.closed, this);
+            if (this.endReached) {
+                return null;
+            }
+
+            byte marker = this.input.readByte();
+            if (marker == END_MARKER) {
+                this.endReached = true;
+                return null;
+            } else if (marker != ENTRY_MARKER) {
+                throw new SerializationException(String.format("Unexpected entry marker %d.", marker));
+            }
+
+            long segmentId = this.input.readLong();
+            String segmentName = this.input.readUTF();
+            long creationTime = this.input.readLong();
+            long offset = this.input.readLong();
+            int length = this.input.readInt();
+            if (length < 0) {
+                throw new SerializationException(String.format("Negative entry length %d.", length));
+            }
+
+            // Validate the length before allocating a buffer for it (the checksum can only be verified afterwards).
+            long remainingFileLength = this.fileLength - this.countingInput.getCount();
+            if (length > remainingFileLength || this.length + length > this.maxLength) {
+                throw new SerializationException(String.format(
+                        "Invalid entry length %d (SegmentId = %d, Offset = %d); remaining file length %d, remaining snapshot length %d.",
+                        length, segmentId, offset, remainingFileLength, this.maxLength - this.length));
+            }
+
+            ByteArraySegment data = new ByteArraySegment(new byte[length]);
+            this.input.readFully(data.array());
+            long expectedChecksum = this.input.readLong();
+            if (checksum(data) != expectedChecksum) {
+                throw new SerializationException(String.format("Checksum mismatch for entry (SegmentId = %d, Offset = %d, Length = %d).",
+                        segmentId, offset, length));
+            }
+
+            this.length += length;
+
+            return new Entry(segmentId, segmentName, creationTime, offset, data);
+        }
+
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                try {
+                    this.input.close();
+                } catch (IOException ex) {
+                    log.warn("ReadIndexSnapshot[{}]: Unable to close '{}'.", containerId, path, ex);
+                }
+            }
+        }
+    }
+
+    //endregion
+
+    private static long checksum(ByteArraySegment data) {
+        CRC32 crc = new CRC32();
+        crc.update(data.array(), data.arrayOffset(), data.getLength());
+        return crc.getValue();
+    }
+}
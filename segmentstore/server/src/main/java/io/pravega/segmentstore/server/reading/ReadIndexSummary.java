@@ -25,6 +25,8 @@ class ReadIndexSummary {
     @GuardedBy("this")
     private int currentGeneration;
     @GuardedBy("this")
+    private int oldestGeneration;
+    @GuardedBy("this")
     private final HashMap<Integer, Integer> generations;
 
     //endregion
@@ -34,6 +36,7 @@ class ReadIndexSummary {
      */
     ReadIndexSummary() {
         this.currentGeneration = 0;
+        this.oldestGeneration = 0;
         this.generations = new HashMap<>();
     }
 
@@ -49,6 +52,16 @@ class ReadIndexSummary {
         this.currentGeneration = generation;
     }
 
+    /**
+     * Updates the oldest generation.
+     *
+     * @param generation The generation to set.
+     */
+    synchronized void setOldestGeneration(int generation) {
+        Preconditions.checkArgument(generation <= this.currentGeneration, "Oldest generation cannot exceed the current generation.");
+        this.oldestGeneration = Math.max(this.oldestGeneration, generation);
+    }
+
     /**
      * Records the addition of an element to the current generation.
      *
@@ -100,6 +113,23 @@ class ReadIndexSummary {
         return addOne();
     }
 
+    /**
+     * Records that an element pertaining to the given generation has been admitted on probation. This element will be
+     * removed from its current generation and recorded in the oldest generation, which makes it the first in line for
+     * eviction. It will be promoted to the current generation if touched (see {@link #touchOne}).
+     *
+     * @param generation The original generation of the element to demote.
+     * @return The value of the oldest generation.
+     */
+    synchronized int demoteOne(int generation) {
+        if (generation == this.oldestGeneration) {
+            return this.oldestGeneration;
+        }
+        removeOne(generation);
+        addOne(this.oldestGeneration);
+        return this.oldestGeneration;
+    }
+
     /**
      * Generates a CacheManager.CacheStatus object with the information in this ReadIndexSummary object.
      */
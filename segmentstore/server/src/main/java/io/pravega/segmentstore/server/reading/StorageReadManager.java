@@ -9,6 +9,7 @@
  */
 package io.pravega.segmentstore.server.reading;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.pravega.common.Exceptions;
@@ -18,13 +19,17 @@ import io.pravega.segmentstore.server.SegmentMetadata;
 import io.pravega.segmentstore.storage.ReadOnlyStorage;
 import io.pravega.segmentstore.storage.SegmentHandle;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -32,19 +37,36 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Facilitates and Organizes the reads from Storage.
+ *
+ * Optionally, this can also detect sequential read patterns (such as those of a catch-up reader replaying a Segment from
+ * Storage) and issue speculative read-ahead requests ahead of the reader (see {@link #notifyRead}). Such requests are
+ * pipelined (at most a configured number of them are in flight at any given time), which means that a sequential reader
+ * will find its data either already in the cache or pending (and it will attach to the pending request), instead of
+ * having to wait for a full Storage round trip for each read. Up to {@link #MAX_READ_PATTERNS} concurrent sequential
+ * readers are tracked independently, so that interleaving their reads does not break each other's patterns.
  */
 @Slf4j
 @ThreadSafe
 public class StorageReadManager implements AutoCloseable {
     //region Members
 
+    /**
+     * The maximum number of read patterns (i.e., concurrent sequential readers) that are tracked for read-ahead purposes.
+     */
+    @VisibleForTesting
+    static final int MAX_READ_PATTERNS = 8;
     private final String traceObjectId;
     private final ReadOnlyStorage storage;
     private final Executor executor;
-    private final String segmentName;
+    private final SegmentMetadata segmentMetadata;
+    private final int readAheadDepth;
+    private final int readAheadWindow;
+    private final int readAlignment;
     @GuardedBy("lock")
     private final TreeMap<Long, Request> pendingRequests;
     @GuardedBy("lock")
+    private final ArrayDeque<ReadPattern> readPatterns;
+    @GuardedBy("lock")
     private CompletableFuture<SegmentHandle> handle;
     private final Object lock = new Object();
     @GuardedBy("lock")
@@ -62,14 +84,38 @@ public class StorageReadManager implements AutoCloseable {
      * @param executor        An Executor to use for running asynchronous tasks.
      */
     StorageReadManager(SegmentMetadata segmentMetadata, ReadOnlyStorage storage, Executor executor) {
+        this(segmentMetadata, storage, executor, 0, 0, 1);
+    }
+
+    /**
+     * Creates a new instance of the StorageReadManager class.
+     *
+     * @param segmentMetadata A SegmentMetadata to create the StorageReadManager for.
+     * @param storage         A ReadOnlyStorage to use for data fetching.
+     * @param executor        An Executor to use for running asynchronous tasks.
+     * @param readAheadDepth  The maximum number of read-ahead requests to keep in flight ahead of a sequential reader.
+     *                        If 0, read-ahead is disabled.
+     * @param readAheadWindow The number of consecutive sequential reads that need to be observed before read-ahead is
+     *                        triggered.
+     * @param readAlignment   The size of each read-ahead request. Read-ahead requests are aligned to multiples of this value.
+     */
+    StorageReadManager(SegmentMetadata segmentMetadata, ReadOnlyStorage storage, Executor executor, int readAheadDepth,
+                       int readAheadWindow, int readAlignment) {
+        Preconditions.checkNotNull(segmentMetadata, "segmentMetadata");
         Preconditions.checkNotNull(storage, "storage");
         Preconditions.checkNotNull(executor, "executor");
+        Preconditions.checkArgument(readAheadDepth >= 0, "readAheadDepth must be a non-negative number.");
+        Preconditions.checkArgument(readAlignment > 0, "readAlignment must be a positive number.");
 
         this.traceObjectId = String.format("StorageReader[%d-%d]", segmentMetadata.getContainerId(), segmentMetadata.getId());
-        this.segmentName = segmentMetadata.getName();
+        this.segmentMetadata = segmentMetadata;
         this.storage = storage;
         this.executor = executor;
+        this.readAheadDepth = readAheadDepth;
+        this.readAheadWindow = readAheadWindow;
+        this.readAlignment = readAlignment;
         this.pendingRequests = new TreeMap<>();
+        this.readPatterns = new ArrayDeque<>();
     }
 
     //endregion
@@ -109,10 +155,11 @@ public class StorageReadManager implements AutoCloseable {
             Exceptions.checkNotClosed(this.closed, this);
             Request existingRequest = findOverlappingRequest(request);
             if (existingRequest != null) {
-                // We found an overlapping request. Adjust the current request length.
+                // We found an overlapping request. Adjust the current request length. If the existing request is a
+                // read-ahead request, we can also attach requests that are entirely contained within it.
                 int newLength = (int) (existingRequest.getOffset() + existingRequest.getLength() - request.getOffset());
-                if (newLength > 0 && newLength < request.getLength()) {
-                    request.adjustLength(newLength);
+                if (newLength > 0 && (newLength < request.getLength() || existingRequest.readAhead)) {
+                    request.adjustLength(Math.min(newLength, request.getLength()));
                     existingRequest.addDependent(request);
                     return;
                 }
@@ -135,7 +182,12 @@ public class StorageReadManager implements AutoCloseable {
             byte[] buffer = new byte[request.length];
             getHandle()
                     .thenComposeAsync(handle -> this.storage.read(handle, request.offset, buffer, 0, buffer.length, request.getTimeout()), this.executor)
-                    .thenAcceptAsync(bytesRead -> request.complete(new ByteArraySegment(buffer, 0, bytesRead)), this.executor)
+                    .thenAcceptAsync(bytesRead -> {
+                        if (!request.isDone()) {
+                            // Read-ahead requests may have been cancelled while the read was in progress.
+                            request.complete(new ByteArraySegment(buffer, 0, bytesRead));
+                        }
+                    }, this.executor)
                     .whenComplete((r, ex) -> {
                         if (ex != null) {
                             request.fail(ex);
@@ -166,14 +218,173 @@ public class StorageReadManager implements AutoCloseable {
             request.fail(new AssertionError("Request finalized but not yet completed."));
         }
 
-        // Unregister the request.
+        // Unregister the request (unless it was already unregistered and replaced by a different one).
         synchronized (this.lock) {
-            this.pendingRequests.remove(request.getOffset());
+            this.pendingRequests.remove(request.getOffset(), request);
         }
 
         log.debug("{}: StorageRead.Finalize {}, Success = {}", this.traceObjectId, request, !request.resultFuture.isCompletedExceptionally());
     }
 
+    /**
+     * Notifies that a reader has requested the given range of the Segment (whether it is served from the cache or from
+     * Storage) and, if a sequential read pattern has been detected, issues read-ahead requests beyond the end of this range.
+     *
+     * A read is considered to continue an existing pattern if it begins within the range requested by that pattern's
+     * previous read (readers may receive less data than they asked for, in which case their next read begins before the
+     * end of the previously requested range). Reads that do not continue any pattern begin a new one; at most
+     * {@link #MAX_READ_PATTERNS} patterns are tracked, and the least recently used one is evicted (and its read-ahead
+     * requests cancelled) to make room for a new one. After the configured number of sequential reads within a pattern,
+     * this will ensure that read-ahead requests (aligned to the configured read alignment) are issued for the data
+     * immediately following that pattern, up to the configured depth (but not beyond the Storage Length of the Segment).
+     * All outstanding read-ahead requests (that no reader is waiting on) are cancelled if the given request factory
+     * declines to create a request (i.e., if the cache is under pressure).
+     *
+     * @param offset         The offset at which the read began.
+     * @param length         The length that was requested by the reader.
+     * @param requestFactory A {@link BiFunction} that, given an offset and length, creates a read-ahead {@link Request}.
+     *                       It may return null if no read-ahead should be performed at this time.
+     */
+    void notifyRead(long offset, int length, BiFunction<Long, Integer, Request> requestFactory) {
+        if (this.readAheadDepth == 0) {
+            // Read-ahead disabled.
+            return;
+        }
+
+        ArrayList<Request> toExecute = new ArrayList<>();
+        synchronized (this.lock) {
+            if (this.closed) {
+                return;
+            }
+
+            ReadPattern pattern = getOrCreateReadPattern(offset, length);
+            if (pattern.sequentialReadCount < this.readAheadWindow) {
+                return;
+            }
+
+            long readAheadOffset = Math.max(pattern.endOffset, pattern.readAheadEndOffset);
+            long maxOffset = Math.min(this.segmentMetadata.getStorageLength(),
+                    pattern.endOffset + (long) this.readAheadDepth * this.readAlignment);
+            while (readAheadOffset < maxOffset) {
+                int readAheadLength = (int) Math.min(this.readAlignment - readAheadOffset % this.readAlignment, maxOffset - readAheadOffset);
+                Map.Entry<Long, Request> existing = this.pendingRequests.floorEntry(readAheadOffset);
+                if (existing != null && existing.getValue().getEndOffset() > readAheadOffset) {
+                    // There is already a pending request for this offset; skip over it.
+                    readAheadOffset = existing.getValue().getEndOffset();
+                    continue;
+                }
+
+                Request request = requestFactory.apply(readAheadOffset, readAheadLength);
+                if (request == null) {
+                    // We are asked not to read ahead; cancel everything that no one is waiting on (including anything
+                    // we may have registered above).
+                    cancelReadAhead();
+                    toExecute.clear();
+                    break;
+                }
+
+                request.readAhead = true;
+                this.pendingRequests.put(request.getOffset(), request);
+                toExecute.add(request);
+                readAheadOffset += readAheadLength;
+                pattern.readAheadEndOffset = readAheadOffset;
+            }
+        }
+
+        if (!toExecute.isEmpty()) {
+            log.debug("{}: Issuing {} read-ahead request(s) after Offset {}.", this.traceObjectId, toExecute.size(), offset + length);
+            toExecute.forEach(this::executeStorageRead);
+        }
+    }
+
+    /**
+     * Records the given read against the {@link ReadPattern} that it continues, or begins a new {@link ReadPattern} if
+     * it does not continue any (evicting the least recently used one if needed).
+     *
+     * @param offset The offset at which the read began.
+     * @param length The length that was requested by the reader.
+     * @return The {@link ReadPattern} that the read belongs to.
+     */
+    @GuardedBy("lock")
+    private ReadPattern getOrCreateReadPattern(long offset, int length) {
+        Iterator<ReadPattern> iterator = this.readPatterns.iterator();
+        while (iterator.hasNext()) {
+            ReadPattern pattern = iterator.next();
+            if (pattern.isContinuedBy(offset)) {
+                // Move it to the front so that the least recently used pattern is always the last one.
+                iterator.remove();
+                this.readPatterns.addFirst(pattern);
+                if (offset > pattern.startOffset) {
+                    // Re-reading the same offset does not count as progress.
+                    pattern.sequentialReadCount++;
+                }
+
+                pattern.startOffset = offset;
+                pattern.endOffset = Math.max(pattern.endOffset, offset + length);
+                return pattern;
+            }
+        }
+
+        // This is either a new reader or an existing one that jumped elsewhere in the Segment.
+        if (this.readPatterns.size() >= MAX_READ_PATTERNS) {
+            cancelReadAhead(this.readPatterns.removeLast());
+        }
+
+        ReadPattern pattern = new ReadPattern(offset, length);
+        this.readPatterns.addFirst(pattern);
+        return pattern;
+    }
+
+    /**
+     * Cancels and unregisters all pending read-ahead requests that have no dependents (i.e., no reader is waiting on
+     * them).
+     */
+    @GuardedBy("lock")
+    private void cancelReadAhead() {
+        cancelReadAhead(r -> true);
+        this.readPatterns.forEach(p -> p.readAheadEndOffset = -1);
+    }
+
+    /**
+     * Cancels and unregisters the pending read-ahead requests issued on behalf of the given {@link ReadPattern} that have
+     * no dependents.
+     *
+     * @param pattern The {@link ReadPattern}.
+     */
+    @GuardedBy("lock")
+    private void cancelReadAhead(ReadPattern pattern) {
+        if (pattern.readAheadEndOffset < 0) {
+            // Nothing to cancel.
+            return;
+        }
+
+        cancelReadAhead(r -> r.getOffset() >= pattern.startOffset && r.getOffset() < pattern.readAheadEndOffset);
+        pattern.readAheadEndOffset = -1;
+    }
+
+    /**
+     * Cancels and unregisters all pending read-ahead requests that have no dependents and match the given filter.
+     *
+     * @param filter A {@link Predicate} that determines which read-ahead requests to cancel.
+     */
+    @GuardedBy("lock")
+    private void cancelReadAhead(Predicate<Request> filter) {
+        ArrayList<Request> toCancel = new ArrayList<>();
+        for (Request r : this.pendingRequests.values()) {
+            if (r.readAhead && !r.hasDependents && filter.test(r)) {
+                toCancel.add(r);
+            }
+        }
+
+        toCancel.forEach(r -> {
+            this.pendingRequests.remove(r.getOffset(), r);
+            r.cancel();
+        });
+        if (!toCancel.isEmpty()) {
+            log.debug("{}: Cancelled {} read-ahead request(s).", this.traceObjectId, toCancel.size());
+        }
+    }
+
     /**
      * Finds a pending Request that overlaps with the given request, based on the given request's Offset.
      *
@@ -195,7 +406,7 @@ public class StorageReadManager implements AutoCloseable {
     private CompletableFuture<SegmentHandle> getHandle() {
         synchronized (this.lock) {
             if (this.handle == null) {
-                this.handle = storage.openRead(this.segmentName);
+                this.handle = storage.openRead(this.segmentMetadata.getName());
             }
 
             return this.handle;
@@ -240,6 +451,50 @@ public class StorageReadManager implements AutoCloseable {
 
     //endregion
 
+    //region ReadPattern
+
+    /**
+     * A sequential read pattern, most likely belonging to a single reader.
+     */
+    private static class ReadPattern {
+        /**
+         * The offset at which the last read in this pattern began.
+         */
+        private long startOffset;
+        /**
+         * The highest offset (exclusive) that a read in this pattern has requested data up to.
+         */
+        private long endOffset;
+        /**
+         * The number of sequential reads observed so far.
+         */
+        private int sequentialReadCount;
+        /**
+         * The offset (exclusive) up to which read-ahead requests have been issued for this pattern, or -1 if none.
+         */
+        private long readAheadEndOffset;
+
+        ReadPattern(long offset, int length) {
+            this.startOffset = offset;
+            this.endOffset = offset + length;
+            this.sequentialReadCount = 1;
+            this.readAheadEndOffset = -1;
+        }
+
+        /**
+         * Gets a value indicating whether a read beginning at the given offset continues this pattern, i.e., whether it
+         * begins within the range that was requested by this pattern's last read.
+         *
+         * @param offset The offset at which the read began.
+         * @return True if the read continues this pattern, false otherwise.
+         */
+        boolean isContinuedBy(long offset) {
+            return offset >= this.startOffset && offset <= this.endOffset;
+        }
+    }
+
+    //endregion
+
     //region Request
 
     /**
@@ -252,6 +507,8 @@ public class StorageReadManager implements AutoCloseable {
         private int length;
         private final CompletableFuture<Result> resultFuture;
         private final Duration timeout;
+        private boolean readAhead;
+        private volatile boolean hasDependents;
 
         //endregion
 
@@ -325,6 +582,7 @@ public class StorageReadManager implements AutoCloseable {
          */
         void addDependent(Request request) {
             Preconditions.checkArgument(isSubRequest(this, request), "Given Request does is not a sub-request of this one.");
+            this.hasDependents = true;
             this.resultFuture.thenRun(() -> request.complete(this));
             Futures.exceptionListener(this.resultFuture, request::fail);
         }
@@ -340,9 +598,16 @@ public class StorageReadManager implements AutoCloseable {
             this.length = newLength;
         }
 
+        /**
+         * Gets a value indicating whether this is a speculative read-ahead request.
+         */
+        boolean isReadAhead() {
+            return this.readAhead;
+        }
+
         @Override
         public String toString() {
-            return String.format("Offset = %d, Length = %d", this.offset, this.length);
+            return String.format("Offset = %d, Length = %d%s", this.offset, this.length, this.readAhead ? ", ReadAhead" : "");
         }
 
         //endregion
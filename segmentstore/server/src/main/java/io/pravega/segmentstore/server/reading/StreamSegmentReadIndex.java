@@ -19,13 +19,18 @@ import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.AvlTreeIndex;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
+import io.pravega.common.util.SlabIndex;
 import io.pravega.common.util.SortedIndex;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
 import io.pravega.segmentstore.contracts.ReadResultEntryType;
 import io.pravega.segmentstore.contracts.StreamSegmentSealedException;
+import io.pravega.segmentstore.server.CacheAdmissionPolicy;
 import io.pravega.segmentstore.server.CacheManager;
+import io.pravega.segmentstore.server.CacheUtilizationProvider;
 import io.pravega.segmentstore.server.SegmentMetadata;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import io.pravega.segmentstore.server.reading.StreamSegmentReadResult.CacheReadMode;
 import io.pravega.segmentstore.storage.ReadOnlyStorage;
 import io.pravega.segmentstore.storage.cache.CacheFullException;
 import io.pravega.segmentstore.storage.cache.CacheStorage;
@@ -34,6 +39,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -43,6 +49,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -71,6 +78,9 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
     private final HashMap<Long, PendingMerge> pendingMergers; //Key = Source Segment Id, Value = Pending Merge Info.
     private final StorageReadManager storageReadManager;
     private final ReadIndexSummary summary;
+    private final CacheAdmissionPolicy admissionPolicy;
+    private final CacheUtilizationProvider utilizationProvider;
+    private final SegmentStoreMetrics.ReadIndex metrics;
     private final ScheduledExecutorService executor;
     private SegmentMetadata metadata;
     private final AtomicLong lastAppendedOffset;
@@ -97,9 +107,32 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      */
     StreamSegmentReadIndex(ReadIndexConfig config, SegmentMetadata metadata, CacheStorage cacheStorage, ReadOnlyStorage storage,
                            ScheduledExecutorService executor, boolean recoveryMode) {
+        this(config, metadata, cacheStorage, CacheAdmissionPolicy.ADMIT_ALL, null, null, storage, executor, recoveryMode);
+    }
+
+    /**
+     * Creates a new instance of the StreamSegmentReadIndex class.
+     *
+     * @param config          Read Index Configuration.
+     * @param metadata        The StreamSegmentMetadata to use.
+     * @param cacheStorage    The CacheStorage to use to store, read and manage data entries.
+     * @param admissionPolicy The CacheAdmissionPolicy to report accesses to and to consult before inserting Storage reads
+     *                        into the cache.
+     * @param utilizationProvider (Optional) A CacheUtilizationProvider that is used to suspend Storage read-ahead while
+     *                        the cache is under pressure. If null, read-ahead is not throttled based on cache utilization.
+     * @param metrics         (Optional) A SegmentStoreMetrics.ReadIndex to report Future Read coalescing to.
+     * @param storage         A ReadOnlyStorage to fetch data if not in Cache.
+     * @param executor        An executor to run async operations.
+     * @param recoveryMode    Whether we are in recovery mode at the time of creation (this can change later on).
+     * @throws NullPointerException If any of the arguments are null.
+     */
+    StreamSegmentReadIndex(ReadIndexConfig config, SegmentMetadata metadata, CacheStorage cacheStorage, CacheAdmissionPolicy admissionPolicy,
+                           CacheUtilizationProvider utilizationProvider, SegmentStoreMetrics.ReadIndex metrics, ReadOnlyStorage storage,
+                           ScheduledExecutorService executor, boolean recoveryMode) {
         Preconditions.checkNotNull(config, "config");
         Preconditions.checkNotNull(metadata, "metadata");
         Preconditions.checkNotNull(cacheStorage, "cacheStorage");
+        Preconditions.checkNotNull(admissionPolicy, "admissionPolicy");
         Preconditions.checkNotNull(storage, "storage");
         Preconditions.checkNotNull(executor, "executor");
 
@@ -108,14 +141,18 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         this.metadata = metadata;
         this.cacheStorage = cacheStorage;
         this.recoveryMode = recoveryMode;
-        this.indexEntries = new AvlTreeIndex<>();
+        this.indexEntries = config.getIndexType() == ReadIndexConfig.IndexType.SLAB ? new SlabIndex<>() : new AvlTreeIndex<>();
         this.futureReads = new FutureReadResultEntryCollection();
         this.pendingMergers = new HashMap<>();
         this.lastAppendedOffset = new AtomicLong(-1);
-        this.storageReadManager = new StorageReadManager(metadata, storage, executor);
         this.executor = executor;
         this.summary = new ReadIndexSummary();
+        this.admissionPolicy = admissionPolicy;
+        this.utilizationProvider = utilizationProvider;
+        this.metrics = metrics;
         this.storageReadAlignment = alignToCacheBlockSize(this.config.getStorageReadAlignment());
+        this.storageReadManager = new StorageReadManager(metadata, storage, executor, config.getStorageReadAheadDepth(),
+                config.getStorageReadAheadWindow(), this.storageReadAlignment);
     }
 
     private int alignToCacheBlockSize(int value) {
@@ -213,8 +250,9 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
     public boolean updateGenerations(int currentGeneration, int oldestGeneration) {
         Exceptions.checkNotClosed(this.closed, this);
 
-        // Update the current generation with the provided info.
+        // Update the current and oldest generations with the provided info.
         this.summary.setCurrentGeneration(currentGeneration);
+        this.summary.setOldestGeneration(oldestGeneration);
 
         // Identify & collect those entries that can be removed, then remove them from the index.
         ArrayList<ReadIndexEntry> toRemove = new ArrayList<>();
@@ -299,6 +337,20 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         return this.futureReads.size();
     }
 
+    /**
+     * Gets a value indicating whether the given offset is in the cache. This does not count as an access to that data.
+     *
+     * @param offset The offset to check.
+     * @return True if there is a cache index entry for this offset, false otherwise.
+     */
+    @VisibleForTesting
+    boolean isCached(long offset) {
+        synchronized (this.lock) {
+            ReadIndexEntry entry = this.indexEntries.getFloor(offset);
+            return entry != null && entry.isDataEntry() && entry.getLastStreamSegmentOffset() >= offset;
+        }
+    }
+
     //endregion
 
     //region Recovery
@@ -500,8 +552,8 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         LoggerHelpers.traceLeave(log, this.traceObjectId, "completeMerge", traceId);
     }
 
-    private void insert(long offset, ByteArraySegment data) {
-        log.debug("{}: Insert (Offset = {}, Length = {}).", this.traceObjectId, offset, data.getLength());
+    private void insert(long offset, ByteArraySegment data, boolean probationary) {
+        log.debug("{}: Insert (Offset = {}, Length = {}, Probationary = {}).", this.traceObjectId, offset, data.getLength(), probationary);
 
         // There is a very small chance we might be adding data twice, if we get two concurrent requests that slipped past
         // the StorageReadManager. Fixing it would be complicated, so let's see if it poses any problems.
@@ -509,7 +561,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 "The given range of bytes (Offset=%s, Length=%s) does not correspond to the StreamSegment range that is in Storage (%s).",
                 offset, data.getLength(), this.metadata.getStorageLength());
         try {
-            addToCacheAndIndex(data, offset, this::insertEntriesToCacheAndIndex);
+            addToCacheAndIndex(data, offset, (d, o) -> insertEntriesToCacheAndIndex(d, o, probationary));
         } catch (CacheFullException ex) {
             // We have already ack-ed this request with the appropriate data to the upstream code, so it's not a problem
             // if we cannot insert it into the cache due to the cache being full.
@@ -599,10 +651,12 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      *
      * @param data          A {@link BufferView} representing the data to insert.
      * @param segmentOffset The segment offset that maps to the first byte in the given {@link BufferView}.
+     * @param probationary  If true, the entries will be added to the oldest generation (see {@link ReadIndexSummary#demoteOne}),
+     *                      otherwise they will be added to the current generation.
      * @return A {@link CacheIndexEntry} representing the index entry added. If the given {@link BufferView} spanned
      * multiple entries (due to index fragmentation), only the last {@link CacheIndexEntry} is added.
      */
-    private CacheIndexEntry insertEntriesToCacheAndIndex(BufferView data, long segmentOffset) {
+    private CacheIndexEntry insertEntriesToCacheAndIndex(BufferView data, long segmentOffset, boolean probationary) {
         CacheIndexEntry lastInsertedEntry = null;
         synchronized (this.lock) {
             // Do not insert after we have closed the index, otherwise we will leak cache entries.
@@ -629,6 +683,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                         newEntry = new CacheIndexEntry(segmentOffset, dataToInsert.getLength(), dataAddress);
                         ReadIndexEntry overriddenEntry = addToIndex(newEntry);
                         assert overriddenEntry == null : "Insert overrode existing entry; " + segmentOffset + ":" + dataToInsert.getLength();
+                        if (probationary) {
+                            newEntry.setGeneration(this.summary.demoteOne(newEntry.getGeneration()));
+                        }
+
                         lastInsertedEntry = newEntry;
                     } catch (Throwable ex) {
                         // Clean up the data we might have inserted if we were unable to add it to the index.
@@ -672,6 +730,90 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
 
     //endregion
 
+    //region Snapshots
+
+    /**
+     * Gets a {@link CachedRange} for each cache entry in this index that holds data which has already been persisted to
+     * Storage (and is therefore immutable). Data that has not yet been persisted to Storage is excluded, as it will be
+     * recovered from the DurableLog anyway.
+     *
+     * @return A List of {@link CachedRange}s.
+     */
+    List<CachedRange> getStorageCachedRanges() {
+        List<CachedRange> result = new ArrayList<>();
+        synchronized (this.lock) {
+            if (this.closed || this.merged) {
+                return result;
+            }
+
+            long startOffset = this.metadata.getStartOffset();
+            long storageLength = this.metadata.getStorageLength();
+            this.indexEntries.forEach(entry -> {
+                if (entry.isDataEntry() && entry.getStreamSegmentOffset() >= startOffset
+                        && entry.getStreamSegmentOffset() + entry.getLength() <= storageLength) {
+                    result.add(new CachedRange(entry.getStreamSegmentOffset(), (int) entry.getLength(), entry.getGeneration()));
+                }
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a copy of the data in the given {@link CachedRange}, as long as it is still cached.
+     *
+     * @param range The {@link CachedRange} to get data for.
+     * @return A {@link ByteArraySegment} containing a copy of the data, or null if the range is no longer fully cached.
+     */
+    ByteArraySegment getCachedRangeCopy(CachedRange range) {
+        synchronized (this.lock) {
+            if (this.closed) {
+                return null;
+            }
+
+            // Copy the data while holding the lock so that the cache entry cannot be evicted (and reused) while we do so.
+            ReadIndexEntry entry = this.indexEntries.get(range.getOffset());
+            if (entry == null || !entry.isDataEntry() || entry.getLength() < range.getLength()) {
+                return null;
+            }
+
+            BufferView data = this.cacheStorage.get(entry.getCacheAddress());
+            if (data == null || data.getLength() < range.getLength()) {
+                return null;
+            }
+
+            return new ByteArraySegment(data.slice(0, range.getLength()).getCopy());
+        }
+    }
+
+    /**
+     * Inserts data loaded from a {@link ReadIndexSnapshot} into the cache and index. Any part of the data that is already
+     * cached is skipped over.
+     *
+     * @param offset The offset of the data.
+     * @param data   The data.
+     * @throws IllegalArgumentException If the data is not entirely within the range of this Segment that is in Storage.
+     */
+    void insertSnapshotData(long offset, ByteArraySegment data) {
+        Exceptions.checkNotClosed(this.closed, this);
+        Preconditions.checkState(!this.recoveryMode, "StreamSegmentReadIndex is in Recovery Mode.");
+        Exceptions.checkArgument(offset >= this.metadata.getStartOffset(), "offset",
+                "The given offset (%s) is before the Segment's Start Offset (%s).", offset, this.metadata.getStartOffset());
+        insert(offset, data, false);
+    }
+
+    /**
+     * A range of Segment data that is stored in a single cache entry.
+     */
+    @Data
+    static class CachedRange {
+        private final long offset;
+        private final int length;
+        private final int generation;
+    }
+
+    //endregion
+
     //region Reading
 
     /**
@@ -713,42 +855,70 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
     /**
      * Triggers all the Future Reads in the given collection.
      *
+     * Future Reads are usually registered by readers tailing the Segment, so it is very likely that many of them wait
+     * on the same offset. Such Future Reads are coalesced: the data for them is looked up only once (using the largest
+     * requested length) and the result is shared among all of them.
+     *
      * @param futureReads The Future Reads to trigger.
      */
     private void triggerFutureReads(Collection<FutureReadResultEntry> futureReads) {
+        LinkedHashMap<Long, List<FutureReadResultEntry>> byOffset = new LinkedHashMap<>();
         for (FutureReadResultEntry r : futureReads) {
-            ReadResultEntry entry = getSingleReadResultEntry(r.getStreamSegmentOffset(), r.getRequestedReadLength(), false);
-            assert entry != null : "Serving a FutureReadResultEntry with a null result";
-            if (entry instanceof FutureReadResultEntry) {
-                // The only valid situation when we can complete a FutureReadResultEntry with another FutureReadResultEntry
-                // is when the segment is sealed. That's because we may have a situation with multiple appends in short
-                // sequence followed closely by a seal; in that case one of those appends may trigger the invocation of
-                // this method which may pick up registered Future Reads beyond what has been added to the read index.
-                // The new FutureReadResultEntries will be completed when the rest of the appends are processed.
-                assert entry.getStreamSegmentOffset() == r.getStreamSegmentOffset();
-                log.warn("{}: triggerFutureReads (Offset = {}). Serving a FutureReadResultEntry ({}) with another FutureReadResultEntry ({}). Segment Info = [{}].",
-                        this.traceObjectId, r.getStreamSegmentOffset(), r, entry, this.metadata.getSnapshot());
+            byOffset.computeIfAbsent(r.getStreamSegmentOffset(), o -> new ArrayList<>()).add(r);
+        }
+
+        byOffset.forEach(this::triggerFutureReads);
+    }
+
+    /**
+     * Triggers the given Future Reads, all of which begin at the same offset.
+     *
+     * @param offset      The offset where all the Future Reads begin at.
+     * @param futureReads The Future Reads to trigger.
+     */
+    private void triggerFutureReads(long offset, List<FutureReadResultEntry> futureReads) {
+        int maxLength = futureReads.stream().mapToInt(FutureReadResultEntry::getRequestedReadLength).max().orElse(0);
+        ReadResultEntry entry = getSingleReadResultEntry(offset, maxLength, CacheReadMode.View);
+        assert entry != null : "Serving a FutureReadResultEntry with a null result";
+        if (entry instanceof FutureReadResultEntry) {
+            // The only valid situation when we can complete a FutureReadResultEntry with another FutureReadResultEntry
+            // is when the segment is sealed. That's because we may have a situation with multiple appends in short
+            // sequence followed closely by a seal; in that case one of those appends may trigger the invocation of
+            // this method which may pick up registered Future Reads beyond what has been added to the read index.
+            // The new FutureReadResultEntries will be completed when the rest of the appends are processed.
+            assert entry.getStreamSegmentOffset() == offset;
+            log.warn("{}: triggerFutureReads (Offset = {}). Serving {} FutureReadResultEntries with another FutureReadResultEntry ({}). Segment Info = [{}].",
+                    this.traceObjectId, offset, futureReads.size(), entry, this.metadata.getSnapshot());
+        }
+
+        log.debug("{}: triggerFutureReads (Offset = {}, Count = {}, Type = {}).", this.traceObjectId, offset, futureReads.size(), entry.getType());
+        if (entry.getType() == ReadResultEntryType.EndOfStreamSegment) {
+            // We have attempted to read beyond the end of the stream. Fail the read request with the appropriate message.
+            val ex = new StreamSegmentSealedException(String.format("StreamSegment has been sealed at offset %d. There can be no more reads beyond this offset.", this.metadata.getLength()));
+            futureReads.forEach(r -> r.fail(ex));
+        } else {
+            if (!entry.getContent().isDone()) {
+                // Normally, all Future Reads are served from Cache, since they reflect data that has just been appended.
+                // However, it's possible that after recovery, we get a read for some data that we do not have in the
+                // cache (but it's not a tail read) - this data exists in Storage but our StorageLength has not yet been
+                // updated. As such, the only solution we have is to return a FutureRead which will be satisfied when
+                // the Writer updates the StorageLength (and trigger future reads). In that scenario, entry we get
+                // will likely not be auto-fetched, so we need to request the content.
+                entry.requestContent(this.config.getStorageReadDefaultTimeout());
             }
 
-            log.debug("{}: triggerFutureReads (Offset = {}, Type = {}).", this.traceObjectId, r.getStreamSegmentOffset(), entry.getType());
-            if (entry.getType() == ReadResultEntryType.EndOfStreamSegment) {
-                // We have attempted to read beyond the end of the stream. Fail the read request with the appropriate message.
-                r.fail(new StreamSegmentSealedException(String.format("StreamSegment has been sealed at offset %d. There can be no more reads beyond this offset.", this.metadata.getLength())));
-            } else {
-                if (!entry.getContent().isDone()) {
-                    // Normally, all Future Reads are served from Cache, since they reflect data that has just been appended.
-                    // However, it's possible that after recovery, we get a read for some data that we do not have in the
-                    // cache (but it's not a tail read) - this data exists in Storage but our StorageLength has not yet been
-                    // updated. As such, the only solution we have is to return a FutureRead which will be satisfied when
-                    // the Writer updates the StorageLength (and trigger future reads). In that scenario, entry we get
-                    // will likely not be auto-fetched, so we need to request the content.
-                    entry.requestContent(this.config.getStorageReadDefaultTimeout());
+            CompletableFuture<BufferView> entryContent = entry.getContent();
+            entryContent.thenAccept(data -> {
+                for (FutureReadResultEntry r : futureReads) {
+                    // Every Future Read gets the same data, but trimmed to its own requested length.
+                    r.complete(data.getLength() <= r.getRequestedReadLength() ? data : data.slice(0, r.getRequestedReadLength()));
                 }
 
-                CompletableFuture<BufferView> entryContent = entry.getContent();
-                entryContent.thenAccept(r::complete);
-                Futures.exceptionListener(entryContent, r::fail);
-            }
+                if (this.metrics != null) {
+                    this.metrics.futureReadsCompleted(futureReads.size());
+                }
+            });
+            Futures.exceptionListener(entryContent, ex -> futureReads.forEach(r -> r.fail(ex)));
         }
     }
 
@@ -787,7 +957,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 return null;
             } else {
                 // Fetch data from the cache for the first entry, but do not update the cache hit stats.
-                nextEntry = createMemoryRead(indexEntry, startOffset, length, false, false);
+                nextEntry = createMemoryRead(indexEntry, startOffset, length, false, CacheReadMode.View);
             }
         }
 
@@ -889,11 +1059,11 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      *
      * @param resultStartOffset The Offset within the StreamSegment where to start returning data from.
      * @param maxLength         The maximum number of bytes to return.
-     * @param makeCopy          If true, any data retrieved from the Cache will be copied into a Heap buffer before being returned.
+     * @param cacheReadMode     How to return any data retrieved from the Cache.
      * @return A ReadResultEntry representing the data to return.
      */
     @VisibleForTesting
-    CompletableReadResultEntry getSingleReadResultEntry(long resultStartOffset, int maxLength, boolean makeCopy) {
+    CompletableReadResultEntry getSingleReadResultEntry(long resultStartOffset, int maxLength, CacheReadMode cacheReadMode) {
         Exceptions.checkNotClosed(this.closed, this);
 
         if (maxLength < 0) {
@@ -927,7 +1097,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                         result = createDataNotAvailableRead(resultStartOffset, maxLength);
                     } else if (indexEntry.isDataEntry()) {
                         // ResultStartOffset is after the StartOffset and before the End Offset of this entry.
-                        result = createMemoryRead(indexEntry, resultStartOffset, maxLength, true, makeCopy);
+                        result = createMemoryRead(indexEntry, resultStartOffset, maxLength, true, cacheReadMode);
                     } else if (indexEntry instanceof RedirectIndexEntry) {
                         // ResultStartOffset is after the StartOffset and before the End Offset of this entry, but this
                         // is a Redirect; reissue the request to the appropriate index.
@@ -939,7 +1109,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 }
             }
             if (redirect) {
-                result = createRedirectedRead(resultStartOffset, maxLength, (RedirectIndexEntry) indexEntry, makeCopy);
+                result = createRedirectedRead(resultStartOffset, maxLength, (RedirectIndexEntry) indexEntry, cacheReadMode);
             }
         }
 
@@ -960,13 +1130,13 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      *
      * @param resultStartOffset The Offset within the StreamSegment where to start returning data from.
      * @param maxLength         The maximum number of bytes to return.
-     * @param makeCopy          If true, any data retrieved from the Cache will be copied into a Heap buffer before being returned.
+     * @param cacheReadMode     How to return any data retrieved from the Cache.
      * @return A ReadResultEntry representing the data to return.
      */
-    private CompletableReadResultEntry getMultiReadResultEntry(long resultStartOffset, int maxLength, boolean makeCopy) {
+    private CompletableReadResultEntry getMultiReadResultEntry(long resultStartOffset, int maxLength, CacheReadMode cacheReadMode) {
         int readLength = 0;
 
-        CompletableReadResultEntry nextEntry = getSingleReadResultEntry(resultStartOffset, maxLength, makeCopy);
+        CompletableReadResultEntry nextEntry = getSingleReadResultEntry(resultStartOffset, maxLength, cacheReadMode);
         if (nextEntry == null || !(nextEntry instanceof CacheReadResultEntry)) {
             // We can only coalesce CacheReadResultEntries.
             return nextEntry;
@@ -983,7 +1153,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 break;
             }
 
-            nextEntry = getSingleMemoryReadResultEntry(resultStartOffset + readLength, maxLength - readLength, makeCopy);
+            nextEntry = getSingleMemoryReadResultEntry(resultStartOffset + readLength, maxLength - readLength, cacheReadMode);
         } while (nextEntry != null);
 
         // Coalesce the results into a single InputStream and return the result.
@@ -997,10 +1167,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      *
      * @param resultStartOffset The Offset within the StreamSegment where to start returning data from.
      * @param maxLength         The maximum number of bytes to return.
-     * @param makeCopy          If true, any data retrieved from the Cache will be copied into a Heap buffer before being returned.
+     * @param cacheReadMode     How to return any data retrieved from the Cache.
      * @return A CacheReadResultEntry representing the data to return.
      */
-    private CacheReadResultEntry getSingleMemoryReadResultEntry(long resultStartOffset, int maxLength, boolean makeCopy) {
+    private CacheReadResultEntry getSingleMemoryReadResultEntry(long resultStartOffset, int maxLength, CacheReadMode cacheReadMode) {
         Exceptions.checkNotClosed(this.closed, this);
 
         if (maxLength > 0 && checkReadAvailability(resultStartOffset, false) == ReadAvailability.Available) {
@@ -1009,7 +1179,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 ReadIndexEntry indexEntry = this.indexEntries.get(resultStartOffset);
                 if (indexEntry != null && indexEntry.isDataEntry()) {
                     // We found an entry; return a result for it.
-                    return createMemoryRead(indexEntry, resultStartOffset, maxLength, true, makeCopy);
+                    return createMemoryRead(indexEntry, resultStartOffset, maxLength, true, cacheReadMode);
                 }
             }
         }
@@ -1033,10 +1203,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      * @param streamSegmentOffset This Segment's offset.
      * @param maxLength           Maximum read length.
      * @param entry               {@link RedirectIndexEntry} to read from.
-     * @param makeCopy            Whether to make a copy or not.
+     * @param cacheReadMode       How to return any data retrieved from the Cache.
      * @return a {@link CompletableReadResultEntry}.
      */
-    private CompletableReadResultEntry createRedirectedRead(long streamSegmentOffset, int maxLength, RedirectIndexEntry entry, boolean makeCopy) {
+    private CompletableReadResultEntry createRedirectedRead(long streamSegmentOffset, int maxLength, RedirectIndexEntry entry, CacheReadMode cacheReadMode) {
         StreamSegmentReadIndex redirectedIndex = entry.getRedirectReadIndex();
         long redirectOffset = streamSegmentOffset - entry.getStreamSegmentOffset();
         long entryLength = entry.getLength(); // This is the source segment length - immutable since the segment must be sealed.
@@ -1054,7 +1224,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
 
         // Fetch the result from the other index - this method will acquire the other index' lock while executing.
         try {
-            CompletableReadResultEntry result = redirectedIndex.getSingleReadResultEntry(redirectOffset, maxLength, makeCopy);
+            CompletableReadResultEntry result = redirectedIndex.getSingleReadResultEntry(redirectOffset, maxLength, cacheReadMode);
             if (result != null) {
                 // Since this is a redirect to a (merged) Transaction, it is possible that between now and when the caller
                 // invokes the requestContent() on the entry the Transaction may be fully merged (in Storage). If that's the
@@ -1064,7 +1234,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 // a pointer to getSingleReadResultEntry to the RedirectedReadResultEntry in case it fails with such an exception;
                 // that class has logic in it to invoke it if needed and get the right entry.
                 result = new RedirectedReadResultEntry(result, entry.getStreamSegmentOffset(),
-                        (rso, ml, sourceSegmentId) -> getOrRegisterRedirectedRead(rso, ml, sourceSegmentId, makeCopy), redirectedIndex.metadata.getId());
+                        (rso, ml, sourceSegmentId) -> getOrRegisterRedirectedRead(rso, ml, sourceSegmentId, cacheReadMode), redirectedIndex.metadata.getId());
             }
 
             return result;
@@ -1077,12 +1247,12 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             if (!redirectedIndex.closed) {
                 throw ex;
             }
-            return getSingleReadResultEntry(streamSegmentOffset, maxLength, makeCopy);
+            return getSingleReadResultEntry(streamSegmentOffset, maxLength, cacheReadMode);
         }
     }
 
-    private CompletableReadResultEntry getOrRegisterRedirectedRead(long resultStartOffset, int maxLength, long sourceSegmentId, boolean makeCopy) {
-        CompletableReadResultEntry result = getSingleReadResultEntry(resultStartOffset, maxLength, makeCopy);
+    private CompletableReadResultEntry getOrRegisterRedirectedRead(long resultStartOffset, int maxLength, long sourceSegmentId, CacheReadMode cacheReadMode) {
+        CompletableReadResultEntry result = getSingleReadResultEntry(resultStartOffset, maxLength, cacheReadMode);
         if (result instanceof RedirectedReadResultEntry) {
             // The merger isn't completed yet. Register the read so that it is completed when the merger is done.
             PendingMerge pendingMerge;
@@ -1106,7 +1276,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                     log.debug("{}: Pending Merge for id {} was sealed for {}; re-issuing.", this.traceObjectId, sourceSegmentId, result);
                 }
 
-                result = getSingleReadResultEntry(resultStartOffset, maxLength, makeCopy);
+                result = getSingleReadResultEntry(resultStartOffset, maxLength, cacheReadMode);
             }
         }
 
@@ -1149,26 +1319,31 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      * @param streamSegmentOffset The Offset in the StreamSegment where to the ReadResultEntry starts at.
      * @param maxLength           The maximum length of the Read, from the Offset of this ReadResultEntry.
      * @param updateStats         If true, the entry's cache generation is updated as a result of this call.
-     * @param makeCopy          If true, any data retrieved from the Cache will be copied into a Heap buffer before being returned.
+     * @param cacheReadMode     How to return any data retrieved from the Cache.
      */
     @GuardedBy("lock")
-    private CacheReadResultEntry createMemoryRead(ReadIndexEntry entry, long streamSegmentOffset, int maxLength, boolean updateStats, boolean makeCopy) {
+    private CacheReadResultEntry createMemoryRead(ReadIndexEntry entry, long streamSegmentOffset, int maxLength, boolean updateStats, CacheReadMode cacheReadMode) {
         assert streamSegmentOffset >= entry.getStreamSegmentOffset() : String.format("streamSegmentOffset{%d} < entry.getStreamSegmentOffset{%d}", streamSegmentOffset, entry.getStreamSegmentOffset());
 
         int entryOffset = (int) (streamSegmentOffset - entry.getStreamSegmentOffset());
 
         int length = (int) Math.min(maxLength, entry.getLength() - entryOffset);
         assert length > 0 : String.format("length{%d} <= 0. streamSegmentOffset = %d, maxLength = %d, entry.offset = %d, entry.length = %d", length, streamSegmentOffset, maxLength, entry.getStreamSegmentOffset(), entry.getLength());
-        BufferView data = this.cacheStorage.get(entry.getCacheAddress());
+        BufferView data = cacheReadMode == CacheReadMode.Retain
+                ? this.cacheStorage.getPinned(entry.getCacheAddress())
+                : this.cacheStorage.get(entry.getCacheAddress());
         assert data != null : String.format("No Cache Entry could be retrieved for entry %s", entry);
 
         if (updateStats) {
             // Update its generation before returning it.
             entry.setGeneration(this.summary.touchOne(entry.getGeneration()));
+            this.admissionPolicy.recordAccess(getAdmissionKey(streamSegmentOffset));
+            this.storageReadManager.notifyRead(streamSegmentOffset, maxLength, this::createReadAheadRequest);
         }
 
+        // Slicing a pinned view preserves its pin (releasing the slice releases the pin).
         data = data.slice(entryOffset, length);
-        if (makeCopy) {
+        if (cacheReadMode == CacheReadMode.Copy) {
             data = new ByteArraySegment(data.getCopy());
         }
         return new CacheReadResultEntry(entry.getStreamSegmentOffset() + entryOffset, data);
@@ -1181,6 +1356,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      * @param readLength          The maximum length of the Read, from the Offset of this ReadResultEntry.
      */
     private ReadResultEntryBase createStorageRead(long streamSegmentOffset, int readLength) {
+        this.admissionPolicy.recordAccess(getAdmissionKey(streamSegmentOffset));
         return new StorageReadResultEntry(streamSegmentOffset, readLength, this::queueStorageRead);
     }
 
@@ -1195,16 +1371,71 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 if (!result.isDerived()) {
                     // Only insert primary results into the cache. Derived results are always sub-portions of primaries
                     // and there is no need to insert them too, as they are already contained within.
-                    insert(offset, data);
+                    insertStorageReadResult(offset, data);
                 }
             } catch (Exception ex) {
                 log.error("{}: Unable to process Storage Read callback. Offset={}, Result=[{}].", this.traceObjectId, offset, result, ex);
             }
         };
 
-        // Queue the request for async processing.
-        length = getReadAlignedLength(offset, length);
-        this.storageReadManager.execute(new StorageReadManager.Request(offset, length, doneCallback, failureCallback, timeout));
+        // Queue the request for async processing. Read-ahead is based on what the reader asked for, not on the aligned
+        // length, so that reads served from Storage and from the cache are reported consistently.
+        this.storageReadManager.execute(new StorageReadManager.Request(offset, getReadAlignedLength(offset, length), doneCallback, failureCallback, timeout));
+        this.storageReadManager.notifyRead(offset, length, this::createReadAheadRequest);
+    }
+
+    /**
+     * Creates a speculative read-ahead {@link StorageReadManager.Request} for the given range, which will insert its
+     * result into the cache.
+     *
+     * @param offset The offset to read at.
+     * @param length The length of the read.
+     * @return The Request, or null if the cache is at or above its target utilization (in which case we should not be
+     * reading data that nobody has asked for yet).
+     */
+    private StorageReadManager.Request createReadAheadRequest(long offset, int length) {
+        if (this.utilizationProvider != null
+                && this.utilizationProvider.getCacheUtilization() >= this.utilizationProvider.getCacheTargetUtilization()) {
+            return null;
+        }
+
+        Consumer<StorageReadManager.Result> doneCallback = result -> {
+            try {
+                insertStorageReadResult(offset, result.getData());
+            } catch (Exception ex) {
+                log.error("{}: Unable to process Storage Read-Ahead callback. Offset={}, Result=[{}].", this.traceObjectId, offset, result, ex);
+            }
+        };
+        Consumer<Throwable> failureCallback = ex ->
+                log.debug("{}: Storage Read-Ahead failed (Offset={}, Length={}).", this.traceObjectId, offset, length, ex);
+        return new StorageReadManager.Request(offset, length, doneCallback, failureCallback, this.config.getStorageReadDefaultTimeout());
+    }
+
+    /**
+     * Inserts the data from a (primary) Storage Read into the cache and index, as decided by the {@link CacheAdmissionPolicy}.
+     *
+     * @param offset The offset at which the data was read.
+     * @param data   The data that was read.
+     */
+    private void insertStorageReadResult(long offset, ByteArraySegment data) {
+        val admission = this.admissionPolicy.admit(getAdmissionKey(offset));
+        if (admission == CacheAdmissionPolicy.Admission.REJECT) {
+            log.debug("{}: Storage Read data (Offset={}, Length={}) not admitted into the Cache.", this.traceObjectId, offset, data.getLength());
+        } else {
+            insert(offset, data, admission == CacheAdmissionPolicy.Admission.PROBATION);
+        }
+    }
+
+    /**
+     * Generates a key for the {@link CacheAdmissionPolicy} that identifies the Storage Read-aligned block (see
+     * {@link ReadIndexConfig#getStorageReadAlignment()}) that contains the given offset.
+     *
+     * @param offset The offset.
+     * @return The key.
+     */
+    private long getAdmissionKey(long offset) {
+        // Spread the Segment Id so that consecutive Segment Ids do not map to overlapping key ranges.
+        return this.metadata.getId() * 0x9E3779B97F4A7C15L + offset / this.storageReadAlignment;
     }
 
     /**
@@ -44,6 +44,8 @@ public class StreamSegmentReadResult implements ReadResult {
     @GuardedBy("this")
     private boolean copyOnRead;
     @GuardedBy("this")
+    private boolean retainOnRead;
+    @GuardedBy("this")
     private int maxReadAtOnce;
 
     //endregion
@@ -107,6 +109,16 @@ public class StreamSegmentReadResult implements ReadResult {
         this.copyOnRead = value;
     }
 
+    @Override
+    public synchronized boolean isRetainOnRead() {
+        return this.retainOnRead;
+    }
+
+    @Override
+    public synchronized void setRetainOnRead(boolean value) {
+        this.retainOnRead = value;
+    }
+
     @Override
     public synchronized int getMaxReadAtOnce() {
         return this.maxReadAtOnce;
@@ -199,7 +211,8 @@ public class StreamSegmentReadResult implements ReadResult {
         // Retrieve the next item.
         long startOffset = this.streamSegmentStartOffset + this.consumedLength;
         int remainingLength = Math.min(this.maxReadAtOnce, this.maxResultLength - this.consumedLength);
-        CompletableReadResultEntry entry = this.getNextItem.apply(startOffset, remainingLength, this.copyOnRead);
+        CacheReadMode cacheReadMode = this.retainOnRead ? CacheReadMode.Retain : this.copyOnRead ? CacheReadMode.Copy : CacheReadMode.View;
+        CompletableReadResultEntry entry = this.getNextItem.apply(startOffset, remainingLength, cacheReadMode);
 
         if (entry == null) {
             assert remainingLength <= 0 : String.format("No ReadResultEntry received when one was expected. Offset %d, MaxLen %d.", startOffset, remainingLength);
@@ -238,12 +251,31 @@ public class StreamSegmentReadResult implements ReadResult {
     //region NextEntrySupplier
 
     /**
-     * Defines a Function that given a startOffset (long), remainingLength (int) and whether to make a copy of any returned
-     * cached data, returns the next entry to be consumed (CompletableReadResultEntry).
+     * Defines a Function that given a startOffset (long), remainingLength (int) and how to return any cached data
+     * ({@link CacheReadMode}), returns the next entry to be consumed (CompletableReadResultEntry).
      */
     @FunctionalInterface
     public interface NextEntrySupplier {
-        CompletableReadResultEntry apply(Long startOffset, Integer remainingLength, Boolean makeCopy);
+        CompletableReadResultEntry apply(Long startOffset, Integer remainingLength, CacheReadMode cacheReadMode);
+    }
+
+    /**
+     * Defines how data retrieved from the Cache is to be returned.
+     */
+    public enum CacheReadMode {
+        /**
+         * Return a direct view into the Cache. This may become invalid if the Cache Entry is evicted or replaced.
+         */
+        View,
+        /**
+         * Copy the data into a Heap buffer before returning it. See {@link ReadResult#setCopyOnRead}.
+         */
+        Copy,
+        /**
+         * Pin the data in the Cache and return a view into it, which must be released when no longer needed. See
+         * {@link ReadResult#setRetainOnRead}.
+         */
+        Retain
     }
 
     //endregion
@@ -95,7 +95,7 @@ public final class StreamSegmentStorageReader {
         }
 
         @Override
-        public CompletableReadResultEntry apply(Long readOffset, Integer readLength, Boolean makeCopyIgnored) {
+        public CompletableReadResultEntry apply(Long readOffset, Integer readLength, StreamSegmentReadResult.CacheReadMode cacheReadModeIgnored) {
             if (readOffset < this.segmentInfo.getStartOffset()) {
                 // We attempted to read from a truncated portion of the Segment.
                 return new TruncatedReadResultEntry(readOffset, readLength, this.segmentInfo.getStartOffset(), this.segmentInfo.getName());
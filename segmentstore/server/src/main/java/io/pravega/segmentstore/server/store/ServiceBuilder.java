@@ -16,6 +16,7 @@ import io.pravega.common.util.ConfigBuilder;
 import io.pravega.segmentstore.contracts.StreamSegmentStore;
 import io.pravega.segmentstore.contracts.tables.TableStore;
 import io.pravega.segmentstore.server.CacheManager;
+import io.pravega.segmentstore.server.CachePolicy;
 import io.pravega.segmentstore.server.OperationLogFactory;
 import io.pravega.segmentstore.server.ReadIndexFactory;
 import io.pravega.segmentstore.server.SegmentContainer;
@@ -45,9 +46,12 @@ import io.pravega.segmentstore.storage.ConfigSetup;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import io.pravega.segmentstore.storage.DurableDataLogFactory;
 import io.pravega.segmentstore.storage.StorageFactory;
+import io.pravega.segmentstore.storage.cache.TieredCache;
 import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
 import io.pravega.segmentstore.storage.mocks.InMemoryStorageFactory;
 import io.pravega.shared.segment.SegmentToContainerMapper;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
@@ -57,6 +61,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -130,7 +135,25 @@ public class ServiceBuilder implements AutoCloseable {
                 instancePrefix + "low-priority-cleanup", Thread.MIN_PRIORITY);
         this.threadPoolMetrics = new SegmentStoreMetrics.ThreadPool(this.coreExecutor, this.storageExecutor);
 
-        this.cacheManager = new CacheManager(serviceConfig.getCachePolicy(), this.coreExecutor);
+        this.cacheManager = createCacheManager(serviceConfig);
+    }
+
+    @SneakyThrows(IOException.class)
+    private CacheManager createCacheManager(ServiceConfig serviceConfig) {
+        CachePolicy policy = serviceConfig.getCachePolicy();
+        if (serviceConfig.getCacheSpillMaxSize() <= 0) {
+            return new CacheManager(policy, this.coreExecutor);
+        }
+
+        // The CacheManager's policy must account for the capacity of both tiers; its eviction only kicks in once nothing
+        // else can be spilled to disk.
+        TieredCache cacheStorage = new TieredCache(policy.getMaxSize(), serviceConfig.getCacheSpillMaxSize(), Paths.get(serviceConfig.getCacheSpillPath()));
+        CachePolicy tieredPolicy = new CachePolicy(policy.getMaxSize() + serviceConfig.getCacheSpillMaxSize(), policy.getTargetUtilization(),
+                policy.getMaxUtilization(), policy.getGenerationDuration().multipliedBy(policy.getMaxGenerations()), policy.getGenerationDuration(),
+                policy.getMode());
+        log.info("Using a tiered cache with {} bytes of memory and {} bytes of disk space in '{}'.",
+                policy.getMaxSize(), serviceConfig.getCacheSpillMaxSize(), serviceConfig.getCacheSpillPath());
+        return new CacheManager(tieredPolicy, cacheStorage, this.coreExecutor);
     }
 
     private String getInstanceIdPrefix(ServiceConfig serviceConfig) {
@@ -263,7 +286,7 @@ public class ServiceBuilder implements AutoCloseable {
 
     protected ReadIndexFactory createReadIndexFactory() {
         ReadIndexConfig readIndexConfig = this.serviceBuilderConfig.getConfig(ReadIndexConfig::builder);
-        return new ContainerReadIndexFactory(readIndexConfig, this.cacheManager, this.coreExecutor);
+        return new ContainerReadIndexFactory(readIndexConfig, this.cacheManager, this.coreExecutor, this.storageExecutor);
     }
 
     protected AttributeIndexFactory createAttributeIndexFactory() {
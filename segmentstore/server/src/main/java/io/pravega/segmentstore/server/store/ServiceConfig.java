@@ -12,12 +12,16 @@ package io.pravega.segmentstore.server.store;
 import com.google.common.base.Strings;
 import io.pravega.common.util.ConfigBuilder;
 import io.pravega.common.util.ConfigurationException;
+import io.pravega.common.util.InvalidPropertyValueException;
 import io.pravega.common.util.Property;
 import io.pravega.common.util.TypedProperties;
 import io.pravega.segmentstore.server.CachePolicy;
 import java.net.Inet4Address;
 import java.net.UnknownHostException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import io.pravega.segmentstore.storage.StorageLayoutType;
 import lombok.Getter;
@@ -31,6 +35,7 @@ public class ServiceConfig {
 
     public static final Property<Integer> CONTAINER_COUNT = Property.named("container.count", null, "containerCount");
     public static final Property<Integer> PARALLEL_CONTAINER_STARTS = Property.named("container.parallelStarts", 2);
+    public static final Property<String> PRIORITY_CONTAINER_STARTS = Property.named("container.priorityStarts", "");
     public static final Property<Integer> THREAD_POOL_SIZE = Property.named("threadPool.core.size", 30, "threadPoolSize");
     public static final Property<Integer> STORAGE_THREAD_POOL_SIZE = Property.named("threadPool.storage.size", 200, "storageThreadPoolSize");
     public static final Property<Integer> LOW_PRIORITY_THREAD_POOL_SIZE = Property.named("threadPool.lowPriorityTasks.size", 10, "lowPriorityThreadPoolSize");
@@ -61,6 +66,9 @@ public class ServiceConfig {
     public static final Property<Integer> CACHE_POLICY_MAX_UTILIZATION = Property.named("cache.utilization.percent.max", (int) (100 * CachePolicy.DEFAULT_MAX_UTILIZATION), "cacheMaxUtilizationPercent");
     public static final Property<Integer> CACHE_POLICY_MAX_TIME = Property.named("cache.time.seconds.max", 30 * 60, "cacheMaxTimeSeconds");
     public static final Property<Integer> CACHE_POLICY_GENERATION_TIME = Property.named("cache.generation.duration.seconds", 1, "cacheGenerationTimeSeconds");
+    public static final Property<CachePolicy.Mode> CACHE_POLICY_MODE = Property.named("cache.policy.mode", CachePolicy.Mode.GENERATIONAL);
+    public static final Property<Long> CACHE_SPILL_MAX_SIZE = Property.named("cache.spill.size.max", 0L);
+    public static final Property<String> CACHE_SPILL_PATH = Property.named("cache.spill.path", "");
     public static final Property<Boolean> REPLY_WITH_STACK_TRACE_ON_ERROR = Property.named("request.replyWithStackTraceOnError.enable", false, "replyWithStackTraceOnError");
     public static final Property<String> INSTANCE_ID = Property.named("instance.id", "");
 
@@ -175,6 +183,13 @@ public class ServiceConfig {
     @Getter
     private final int parallelContainerStarts;
 
+    /**
+     * Ids of the segment containers that should be started (and recovered) before any others, in the order given. These
+     * are typically the containers that host the system (metadata) Table Segments.
+     */
+    @Getter
+    private final List<Integer> priorityContainerStarts;
+
     /**
      * The Zookeeper URL.
      */
@@ -279,6 +294,19 @@ public class ServiceConfig {
     @Getter
     private final CachePolicy cachePolicy;
 
+    /**
+     * The maximum size (in bytes) of the local disk tier that cache entries are spilled to when the in-memory cache is
+     * full. If 0, there is no disk tier and entries are evicted from the cache instead.
+     */
+    @Getter
+    private final long cacheSpillMaxSize;
+
+    /**
+     * The directory where the file backing the cache disk tier is created. If empty, the system temporary directory is used.
+     */
+    @Getter
+    private final String cacheSpillPath;
+
     /**
      * Defines whether server-side stack traces should be send to clients as part of an error response.
      */
@@ -331,6 +359,7 @@ public class ServiceConfig {
             this.publishedIPAddress = publishedIPAddress;
         }
         this.parallelContainerStarts = properties.getInt(PARALLEL_CONTAINER_STARTS);
+        this.priorityContainerStarts = parseContainerIds(properties.get(PRIORITY_CONTAINER_STARTS), PRIORITY_CONTAINER_STARTS);
         this.zkURL = properties.get(ZK_URL);
         this.zkRetrySleepMs = properties.getInt(ZK_RETRY_SLEEP_MS);
         this.zkRetryCount = properties.getInt(ZK_RETRY_COUNT);
@@ -352,8 +381,17 @@ public class ServiceConfig {
         double cachePolicyMaxUtilization = properties.getInt(CACHE_POLICY_MAX_UTILIZATION) / 100.0;
         int cachePolicyMaxTime = properties.getInt(CACHE_POLICY_MAX_TIME);
         int cachePolicyGenerationTime = properties.getInt(CACHE_POLICY_GENERATION_TIME);
+        CachePolicy.Mode cachePolicyMode = properties.getEnum(CACHE_POLICY_MODE, CachePolicy.Mode.class);
         this.cachePolicy = new CachePolicy(cachePolicyMaxSize, cachePolicyTargetUtilization, cachePolicyMaxUtilization,
-                Duration.ofSeconds(cachePolicyMaxTime), Duration.ofSeconds(cachePolicyGenerationTime));
+                Duration.ofSeconds(cachePolicyMaxTime), Duration.ofSeconds(cachePolicyGenerationTime), cachePolicyMode);
+        this.cacheSpillMaxSize = properties.getLong(CACHE_SPILL_MAX_SIZE);
+        if (this.cacheSpillMaxSize < 0) {
+            throw new InvalidPropertyValueException(String.format("Property %s (%d) must be a non-negative number.",
+                    CACHE_SPILL_MAX_SIZE, this.cacheSpillMaxSize));
+        }
+
+        String cacheSpillPath = properties.get(CACHE_SPILL_PATH);
+        this.cacheSpillPath = Strings.isNullOrEmpty(cacheSpillPath) ? System.getProperty("java.io.tmpdir") : cacheSpillPath;
         this.replyWithStackTraceOnError = properties.getBoolean(REPLY_WITH_STACK_TRACE_ON_ERROR);
         this.instanceId = properties.get(INSTANCE_ID);
     }
@@ -383,6 +421,7 @@ public class ServiceConfig {
                 .append(String.format("publishedPort: %d, ", publishedPort))
                 .append(String.format("publishedIPAddress: %s, ", publishedIPAddress))
                 .append(String.format("parallelContainerStarts: %d, ", parallelContainerStarts))
+                .append(String.format("priorityContainerStarts: %s, ", priorityContainerStarts))
                 .append(String.format("zkURL: %s, ", zkURL))
                 .append(String.format("zkRetrySleepMs: %d, ", zkRetrySleepMs))
                 .append(String.format("zkSessionTimeoutMs: %d, ", zkSessionTimeoutMs))
@@ -403,12 +442,34 @@ public class ServiceConfig {
                         Strings.isNullOrEmpty(keyFile) ? "unspecified" : "specified"))
                 .append(String.format("enableTlsReload: %b, ", enableTlsReload))
                 .append(String.format("cachePolicy is %s, ", (cachePolicy != null) ? cachePolicy.toString() : "null"))
+                .append(String.format("cacheSpillMaxSize: %d, ", cacheSpillMaxSize))
+                .append(String.format("cacheSpillPath: %s, ", cacheSpillPath))
                 .append(String.format("replyWithStackTraceOnError: %b, ", replyWithStackTraceOnError))
                 .append(String.format("instanceId: %s", instanceId))
                 .append(")")
                 .toString();
     }
 
+    private static List<Integer> parseContainerIds(String value, Property<String> property) throws InvalidPropertyValueException {
+        if (Strings.isNullOrEmpty(value)) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> result = new ArrayList<>();
+        for (String id : value.split(",")) {
+            try {
+                int containerId = Integer.parseInt(id.trim());
+                if (containerId < 0) {
+                    throw new InvalidPropertyValueException(property.getFullName(COMPONENT_CODE), value);
+                }
+                result.add(containerId);
+            } catch (NumberFormatException ex) {
+                throw new InvalidPropertyValueException(property.getFullName(COMPONENT_CODE), value, ex);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
     @SneakyThrows(UnknownHostException.class)
     private static String getHostAddress() {
         return Inet4Address.getLocalHost().getHostAddress();
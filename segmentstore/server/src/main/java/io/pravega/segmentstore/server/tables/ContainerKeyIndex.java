@@ -17,6 +17,7 @@ import io.pravega.common.TimeoutTimer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.concurrent.MultiKeySequentialProcessor;
 import io.pravega.common.util.BufferView;
+import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.StreamSegmentTruncatedException;
@@ -28,6 +29,7 @@ import io.pravega.segmentstore.contracts.tables.TableKey;
 import io.pravega.segmentstore.contracts.tables.TableSegmentNotEmptyException;
 import io.pravega.segmentstore.server.CacheManager;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.server.reading.AsyncReadResultProcessor;
 import java.io.IOException;
 import java.time.Duration;
@@ -41,6 +43,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -78,6 +81,21 @@ class ContainerKeyIndex implements AutoCloseable {
      * Segment for which {@link #triggerCacheTailIndex} can be invoked.
      */
     private static final int MAX_TAIL_CACHE_PRE_INDEX_LENGTH = 64 * 1024 * 1024;
+    /**
+     * The false positive probability of each {@link KeyHashFilter}.
+     */
+    private static final double KEY_HASH_FILTER_FALSE_POSITIVE_RATIO = 0.01;
+    /**
+     * The minimum number of Key Hashes that a {@link KeyHashFilter} is sized for. Each {@link KeyHashFilter} is sized to
+     * accommodate {@link #KEY_HASH_FILTER_GROWTH_FACTOR} times the number of Table Buckets in its index, and it is rebuilt
+     * (with a new size) once it exceeds that capacity.
+     */
+    private static final long MIN_KEY_HASH_FILTER_SIZE = 1024;
+    private static final int KEY_HASH_FILTER_GROWTH_FACTOR = 2;
+    /**
+     * Timeout for loading a {@link KeyHashFilter} from the index.
+     */
+    private static final Duration KEY_HASH_FILTER_LOAD_TIMEOUT = Duration.ofSeconds(60);
     @Getter
     private final IndexReader indexReader;
     private final ScheduledExecutorService executor;
@@ -87,7 +105,9 @@ class ContainerKeyIndex implements AutoCloseable {
     private final ContainerSortedKeyIndex sortedKeyIndex;
     private final RecoveryTracker recoveryTracker;
     private final AtomicBoolean closed;
-    private final KeyHasher keyHasher;
+    private final Function<SegmentProperties, KeyHasher> keyHashers;
+    private final ConcurrentHashMap<Long, KeyHashFilter> keyHashFilters;
+    private final SegmentStoreMetrics.KeyIndex metrics;
     private final String traceObjectId;
 
     //endregion
@@ -100,11 +120,12 @@ class ContainerKeyIndex implements AutoCloseable {
      * @param containerId    Id of the SegmentContainer this instance is associated with.
      * @param cacheManager   A {@link CacheManager} that can be used to manage Cache instances.
      * @param sortedKeyIndex A {@link ContainerSortedKeyIndex} that can be used to manage {@link SegmentSortedKeyIndex}es.
-     * @param keyHasher      A {@link KeyHasher} that can be used to hash keys.
+     * @param keyHashers     A Function that, given a Table Segment's {@link SegmentProperties}, returns the {@link KeyHasher}
+     *                       that can be used to hash its keys.
      * @param executor       Executor for async operations.
      */
     ContainerKeyIndex(int containerId, @NonNull CacheManager cacheManager, @NonNull ContainerSortedKeyIndex sortedKeyIndex,
-                      @NonNull KeyHasher keyHasher, @NonNull ScheduledExecutorService executor) {
+                      @NonNull Function<SegmentProperties, KeyHasher> keyHashers, @NonNull ScheduledExecutorService executor) {
         this.cache = new ContainerKeyCache(cacheManager.getCacheStorage());
         this.cacheManager = cacheManager;
         this.cacheManager.register(this.cache);
@@ -113,7 +134,9 @@ class ContainerKeyIndex implements AutoCloseable {
         this.conditionalUpdateProcessor = new MultiKeySequentialProcessor<>(this.executor);
         this.sortedKeyIndex = sortedKeyIndex;
         this.recoveryTracker = new RecoveryTracker();
-        this.keyHasher = keyHasher;
+        this.keyHashers = keyHashers;
+        this.keyHashFilters = new ConcurrentHashMap<>();
+        this.metrics = new SegmentStoreMetrics.KeyIndex(containerId);
         this.closed = new AtomicBoolean();
         this.traceObjectId = String.format("KeyIndex[%d]", containerId);
     }
@@ -129,6 +152,8 @@ class ContainerKeyIndex implements AutoCloseable {
             this.cacheManager.unregister(this.cache);
             this.cache.close();
             this.recoveryTracker.close();
+            this.keyHashFilters.clear();
+            this.metrics.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
     }
@@ -299,6 +324,27 @@ class ContainerKeyIndex implements AutoCloseable {
 
     private CompletableFuture<Map<UUID, Long>> getBucketOffsetFromSegment(DirectSegmentAccess segment, Map<UUID, Long> result,
                                                                           Collection<UUID> toLookup, boolean tryCache, TimeoutTimer timer) {
+        // Key Hashes which are ruled out by the Segment's KeyHashFilter do not exist in the index, so we need not look them up.
+        val filter = getKeyHashFilter(segment);
+        if (filter != null) {
+            val candidates = new ArrayList<UUID>(toLookup.size());
+            for (UUID keyHash : toLookup) {
+                if (filter.mightContain(keyHash)) {
+                    candidates.add(keyHash);
+                } else {
+                    result.put(keyHash, tryCache ? getCachedBucketOffset(segment.getSegmentId(), keyHash) : TableKey.NOT_EXISTS);
+                }
+            }
+
+            this.metrics.keyFilterNegative(toLookup.size() - candidates.size());
+            if (candidates.isEmpty()) {
+                // Every Key Hash has been ruled out.
+                return CompletableFuture.completedFuture(result);
+            }
+
+            toLookup = candidates;
+        }
+
         return this.indexReader
                 .locateBuckets(segment, toLookup, timer)
                 .thenApplyAsync(bucketsByHash -> {
@@ -314,8 +360,7 @@ class ContainerKeyIndex implements AutoCloseable {
                             result.put(keyHash, highestOffset);
                         } else if (tryCache) {
                             // We were instructed to retry the cache.
-                            val existingValue = this.cache.get(segment.getSegmentId(), keyHash);
-                            result.put(keyHash, existingValue == null || existingValue.isRemoval() ? TableKey.NOT_EXISTS : existingValue.getSegmentOffset());
+                            result.put(keyHash, getCachedBucketOffset(segment.getSegmentId(), keyHash));
                         } else {
                             // Inexistent bucket. What we are looking for does not exist. Do not update the information
                             // in the cache as this would have the potential to fill up the cache with useless keys
@@ -324,10 +369,20 @@ class ContainerKeyIndex implements AutoCloseable {
                         }
                     }
 
+                    if (filter != null) {
+                        // Any bucket that does not exist was a false positive of the KeyHashFilter.
+                        this.metrics.keyFilterFalsePositive((int) bucketsByHash.values().stream().filter(b -> !b.exists()).count());
+                    }
+
                     return result;
                 }, this.executor);
     }
 
+    private long getCachedBucketOffset(long segmentId, UUID keyHash) {
+        val existingValue = this.cache.get(segmentId, keyHash);
+        return existingValue == null || existingValue.isRemoval() ? TableKey.NOT_EXISTS : existingValue.getSegmentOffset();
+    }
+
     /**
      * Looks up a Backpointer offset.
      *
@@ -538,7 +593,7 @@ class ContainerKeyIndex implements AutoCloseable {
         // we are using a stale cache value.
         return Futures.exceptionallyComposeExpecting(bucketReader.find(key, bucketOffset, timer),
                 ex -> ex instanceof StreamSegmentTruncatedException,
-                () -> getBucketOffsetDirect(segment, this.keyHasher.hash(key), timer)
+                () -> getBucketOffsetDirect(segment, this.keyHashers.apply(segment.getInfo()).hash(key), timer)
                         .thenComposeAsync(newOffset -> bucketReader.find(key, newOffset, timer), this.executor));
     }
 
@@ -554,6 +609,104 @@ class ContainerKeyIndex implements AutoCloseable {
         this.cache.updateSegmentIndexOffset(segmentId, indexOffset);
         this.sortedKeyIndex.notifyIndexOffsetChanged(segmentId, indexOffset);
         this.recoveryTracker.updateSegmentIndexOffset(segmentId, indexOffset);
+        if (indexOffset < 0) {
+            this.keyHashFilters.remove(segmentId);
+        }
+    }
+
+    /**
+     * Notifies this ContainerKeyIndex instance that the given Table Buckets are about to be updated in the given Segment's
+     * index. This must be invoked before the index is updated, so that the Segment's {@link KeyHashFilter} (if any) never
+     * rules out a Key Hash which exists in the index.
+     *
+     * @param segmentId The Id of the Segment whose index is about to be updated.
+     * @param keyHashes The Key Hashes of the Table Buckets that are about to be updated.
+     */
+    void notifyBucketsIndexing(long segmentId, Collection<UUID> keyHashes) {
+        val filter = this.keyHashFilters.get(segmentId);
+        if (filter == null) {
+            // Nothing to do. The KeyHashFilter, once loaded, will include these from the index.
+            return;
+        }
+
+        keyHashes.forEach(filter::add);
+        if (filter.isSaturated() && this.keyHashFilters.remove(segmentId, filter)) {
+            // This KeyHashFilter is too small for this Segment's index. Discard it; a larger one will be loaded next time
+            // it is needed.
+            log.debug("{}: Discarded saturated KeyHashFilter for Table Segment {} ({}).", this.traceObjectId, segmentId, filter);
+        }
+    }
+
+    /**
+     * Gets the {@link KeyHashFilter} for the given Segment, if one is loaded. If not, begins loading it asynchronously.
+     *
+     * @param segment A {@link DirectSegmentAccess} representing the Segment. This Segment must be fully recovered.
+     * @return The {@link KeyHashFilter}, or null if it has not been loaded yet.
+     */
+    private KeyHashFilter getKeyHashFilter(DirectSegmentAccess segment) {
+        val filter = this.keyHashFilters.get(segment.getSegmentId());
+        if (filter == null) {
+            triggerKeyHashFilterLoad(segment);
+            return null;
+        }
+
+        return filter.isReady() ? filter : null;
+    }
+
+    /**
+     * Creates a new {@link KeyHashFilter} for the given Segment and loads into it all the Key Hashes from the Segment's
+     * index and tail cache. The {@link KeyHashFilter} is registered before it is loaded, so any concurrent index updates
+     * will be included in it (see {@link #notifyBucketsIndexing}), however it will only be used once fully loaded.
+     *
+     * This method triggers this operation asynchronously and does not wait for it to complete. Its completion status and
+     * any errors will be logged.
+     *
+     * @param segment A {@link DirectSegmentAccess} representing the Segment. This Segment must be fully recovered.
+     */
+    private void triggerKeyHashFilterLoad(DirectSegmentAccess segment) {
+        long bucketCount = this.indexReader.getBucketCount(segment.getInfo());
+        val filter = new KeyHashFilter(Math.max(MIN_KEY_HASH_FILTER_SIZE, KEY_HASH_FILTER_GROWTH_FACTOR * bucketCount),
+                KEY_HASH_FILTER_FALSE_POSITIVE_RATIO);
+        if (this.keyHashFilters.putIfAbsent(segment.getSegmentId(), filter) != null) {
+            // Someone else beat us to it.
+            return;
+        }
+
+        // Unindexed Key Hashes (some of which may be in the process of being indexed).
+        this.cache.getTailHashes(segment.getSegmentId()).keySet().forEach(filter::add);
+        loadKeyHashFilter(segment, filter, true)
+                .whenComplete((v, ex) -> {
+                    if (ex == null) {
+                        filter.markReady();
+                        log.debug("{}: Loaded KeyHashFilter for Table Segment {} ({}).", this.traceObjectId, segment.getSegmentId(), filter);
+                    } else {
+                        this.keyHashFilters.remove(segment.getSegmentId(), filter);
+                        log.warn("{}: Unable to load KeyHashFilter for Table Segment {}.", this.traceObjectId, segment.getSegmentId(), Exceptions.unwrap(ex));
+                    }
+                });
+    }
+
+    private CompletableFuture<Void> loadKeyHashFilter(DirectSegmentAccess segment, KeyHashFilter filter, boolean canReload) {
+        long lastIndexedOffset = this.indexReader.getLastIndexedOffset(segment.getInfo());
+        return segment.attributeIterator(KeyHasher.MIN_HASH, KeyHasher.MAX_HASH, KEY_HASH_FILTER_LOAD_TIMEOUT)
+                .thenCompose(iterator -> iterator.forEachRemaining(attributes -> {
+                    for (val e : attributes) {
+                        if (KeyHasher.isValid(e.getKey()) && e.getValue() != Attributes.NULL_ATTRIBUTE_VALUE) {
+                            filter.add(e.getKey());
+                        }
+                    }
+                }, this.executor))
+                .thenCompose(v -> {
+                    if (canReload && this.indexReader.getLastIndexedOffset(segment.getInfo()) != lastIndexedOffset) {
+                        // The index has been updated while we were loading. Such an update may have begun before the
+                        // KeyHashFilter was registered (so it was not included via notifyBucketsIndexing), and we may
+                        // have iterated past its Key Hashes before it completed. Since Table Segment index updates are
+                        // sequential, any update that begins from now on will be included, so we only need to reload once.
+                        return loadKeyHashFilter(segment, filter, false);
+                    }
+
+                    return CompletableFuture.completedFuture(null);
+                });
     }
 
     /**
@@ -629,7 +782,7 @@ class ContainerKeyIndex implements AutoCloseable {
                 .thenAcceptAsync(inputData -> {
                     // Parse out all Table Keys and collect their latest offsets, as well as whether they were deleted.
                     val updates = new TailUpdates(sorted);
-                    collectLatestOffsets(inputData, lastIndexedOffset, (int) tailIndexLength, updates);
+                    collectLatestOffsets(inputData, lastIndexedOffset, (int) tailIndexLength, this.keyHashers.apply(segmentInfo), updates);
 
                     // Incorporate that into the cache.
                     this.cache.includeTailCache(segment.getSegmentId(), updates.byBucket);
@@ -651,16 +804,13 @@ class ContainerKeyIndex implements AutoCloseable {
     }
 
     @SneakyThrows(IOException.class)
-    private void collectLatestOffsets(BufferView input, long startOffset, int maxLength, TailUpdates result) {
-        EntrySerializer serializer = new EntrySerializer();
-        long nextOffset = startOffset;
+    private void collectLatestOffsets(BufferView input, long startOffset, int maxLength, KeyHasher keyHasher, TailUpdates result) {
         final long maxOffset = startOffset + maxLength;
-        val inputReader = input.getBufferViewReader();
-        while (nextOffset < maxOffset) {
-            val e = AsyncTableEntryReader.readEntryComponents(inputReader, nextOffset, serializer);
-            val hash = this.keyHasher.hash(e.getKey());
-            result.add(e.getKey(), hash, nextOffset, e.getHeader().isDeletion());
-            nextOffset += e.getHeader().getTotalLength();
+        val cursor = new EntrySerializer.EntryCursor(input.getBufferViewReader(), startOffset, false);
+        while (cursor.getNextOffset() < maxOffset) {
+            cursor.readNext();
+            val hash = keyHasher.hash(cursor.getKey());
+            result.add(cursor.getKey(), hash, cursor.getOffset(), cursor.isDeletion());
         }
     }
 
@@ -76,6 +76,13 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
      * compaction will stall), but not too big, as that will introduce larger indexing pauses when compaction is running.
      */
     private static final int DEFAULT_MAX_COMPACTION_SIZE = 4 * EntrySerializer.MAX_SERIALIZATION_LENGTH; // Approx 4MB.
+    /**
+     * How often the {@link TableCompactionScheduler} inspects the active Table Segments for background compaction, and
+     * how many bytes it may compact in each such pass (across all Table Segments in the container). This caps background
+     * compaction at about 0.5MB/s per container.
+     */
+    private static final Duration BACKGROUND_COMPACTION_INTERVAL = Duration.ofSeconds(30);
+    private static final long BACKGROUND_COMPACTION_MAX_BYTES_PER_INTERVAL = 4L * DEFAULT_MAX_COMPACTION_SIZE;
     /**
      * The default Segment Attributes to set for every new Table Segment. These values will override the corresponding
      * defaults from {@link TableAttributes#DEFAULT_VALUES}.
@@ -86,9 +93,10 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
 
     private final SegmentContainer segmentContainer;
     private final ScheduledExecutorService executor;
-    private final KeyHasher hasher;
+    private final Function<SegmentProperties, KeyHasher> hashers;
     private final ContainerSortedKeyIndex sortedKeyIndex;
     private final ContainerKeyIndex keyIndex;
+    private final TableCompactionScheduler compactionScheduler;
     private final EntrySerializer serializer;
     private final AtomicBoolean closed;
     private final String traceObjectId;
@@ -105,7 +113,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
      * @param executor         An Executor to use for async tasks.
      */
     public ContainerTableExtensionImpl(SegmentContainer segmentContainer, CacheManager cacheManager, ScheduledExecutorService executor) {
-        this(segmentContainer, cacheManager, KeyHasher.sha256(), executor);
+        this(segmentContainer, cacheManager, KeyHasher::forSegment, executor);
     }
 
     /**
@@ -119,11 +127,18 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
     @VisibleForTesting
     ContainerTableExtensionImpl(@NonNull SegmentContainer segmentContainer, @NonNull CacheManager cacheManager,
                                 @NonNull KeyHasher hasher, @NonNull ScheduledExecutorService executor) {
+        this(segmentContainer, cacheManager, segmentInfo -> hasher, executor);
+    }
+
+    private ContainerTableExtensionImpl(@NonNull SegmentContainer segmentContainer, @NonNull CacheManager cacheManager,
+                                        @NonNull Function<SegmentProperties, KeyHasher> hashers, @NonNull ScheduledExecutorService executor) {
         this.segmentContainer = segmentContainer;
         this.executor = executor;
-        this.hasher = hasher;
+        this.hashers = hashers;
         this.sortedKeyIndex = createSortedIndex();
-        this.keyIndex = new ContainerKeyIndex(segmentContainer.getId(), cacheManager, this.sortedKeyIndex, this.hasher, this.executor);
+        this.keyIndex = new ContainerKeyIndex(segmentContainer.getId(), cacheManager, this.sortedKeyIndex, this.hashers, this.executor);
+        this.compactionScheduler = new TableCompactionScheduler(segmentContainer.getId(), this.keyIndex.getIndexReader(),
+                BACKGROUND_COMPACTION_INTERVAL, BACKGROUND_COMPACTION_MAX_BYTES_PER_INTERVAL, this.executor);
         this.serializer = new EntrySerializer();
         this.closed = new AtomicBoolean();
         this.traceObjectId = String.format("TableExtension[%d]", this.segmentContainer.getId());
@@ -144,6 +159,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
     @Override
     public void close() {
         if (!this.closed.getAndSet(true)) {
+            this.compactionScheduler.close();
             this.keyIndex.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
@@ -161,7 +177,9 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
             return Collections.emptyList();
         }
 
-        return Collections.singletonList(new WriterTableProcessor(new TableWriterConnectorImpl(metadata), this.executor));
+        val connector = new TableWriterConnectorImpl(metadata);
+        this.compactionScheduler.register(connector);
+        return Collections.singletonList(new WriterTableProcessor(connector, this.executor));
     }
 
     //endregion
@@ -177,6 +195,10 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
             attributes.put(TableAttributes.SORTED, Attributes.BOOLEAN_TRUE);
         }
 
+        if (segmentType.isFastHashTableSegment()) {
+            attributes.put(TableAttributes.KEY_HASHER, KeyHasher.MURMUR3_128);
+        }
+
         // Fetch defaults for all attributes, but check our own DEFAULT_ATTRIBUTES for any meaningful overrides.
         // NOTE: At the moment, all TableSegments are internal to Pravega and are used for metadata storage. As such, all
         // these defaults make sense for such use cases. If TableSegments are exposed to the end-user, then this method
@@ -243,7 +265,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
 
                     // Generate an Update Batch for all the entries (since we need to know their Key Hashes and relative
                     // offsets in the batch itself).
-                    val updateBatch = batch(toUpdate, TableEntry::getKey, this.serializer::getUpdateLength, TableKeyBatch.update());
+                    val updateBatch = batch(toUpdate, TableEntry::getKey, this.serializer::getUpdateLength, TableKeyBatch.update(), segmentInfo);
                     logRequest("put", segmentInfo.getName(), updateBatch.isConditional(), tableSegmentOffset, updateBatch.isRemoval(),
                             toUpdate.size(), updateBatch.getLength());
                     return this.keyIndex.update(segment, updateBatch,
@@ -272,7 +294,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
                 .thenComposeAsync(segment -> {
                     val segmentInfo = segment.getInfo();
                     val toRemove = translateItems(keys, segmentInfo, external, KeyTranslator::inbound);
-                    val removeBatch = batch(toRemove, key -> key, this.serializer::getRemovalLength, TableKeyBatch.removal());
+                    val removeBatch = batch(toRemove, key -> key, this.serializer::getRemovalLength, TableKeyBatch.removal(), segmentInfo);
                     logRequest("remove", segmentInfo.getName(), removeBatch.isConditional(), removeBatch.isRemoval(),
                             toRemove.size(), removeBatch.getLength());
                     return this.keyIndex.update(segment, removeBatch,
@@ -281,6 +303,37 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
                 .thenRun(Runnables.doNothing());
     }
 
+    @Override
+    public CompletableFuture<List<Long>> update(@NonNull String segmentName, @NonNull List<TableEntry> entries,
+                                               @NonNull Collection<TableKey> keys, Duration timeout) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkArgument(!entries.isEmpty() || !keys.isEmpty(), "At least one entry or key must be provided.");
+        val updatedKeys = entries.stream().map(e -> e.getKey().getKey()).collect(Collectors.toSet());
+        Preconditions.checkArgument(keys.stream().noneMatch(k -> updatedKeys.contains(k.getKey())),
+                "A Key cannot be both updated and removed.");
+        TimeoutTimer timer = new TimeoutTimer(timeout);
+        return this.segmentContainer
+                .forSegment(segmentName, timer.getRemaining())
+                .thenComposeAsync(segment -> {
+                    val segmentInfo = segment.getInfo();
+                    val toUpdate = translateItems(entries, segmentInfo, true, KeyTranslator::inbound);
+                    val toRemove = translateItems(keys, segmentInfo, true, KeyTranslator::inbound);
+
+                    // Generate a single batch for both updates and removals. Their conditions are validated together
+                    // and they are all written using a single append (updates first, followed by removals).
+                    val batch = TableKeyBatch.update();
+                    batch(toUpdate, TableEntry::getKey, this.serializer::getUpdateLength, false, batch, segmentInfo);
+                    batch(toRemove, key -> key, this.serializer::getRemovalLength, true, batch, segmentInfo);
+                    logRequest("update", segmentInfo.getName(), batch.isConditional(), toUpdate.size(), toRemove.size(), batch.getLength());
+                    return this.keyIndex.update(segment, batch,
+                            () -> commit(BufferView.builder(2)
+                                    .add(this.serializer.serializeUpdate(toUpdate))
+                                    .add(this.serializer.serializeRemoval(toRemove))
+                                    .build(), segment, NO_OFFSET, timer.getRemaining()), timer);
+                }, this.executor)
+                .thenApply(versions -> new ArrayList<>(versions.subList(0, entries.size())));
+    }
+
     @Override
     public CompletableFuture<List<TableEntry>> get(@NonNull String segmentName, @NonNull List<BufferView> keys, Duration timeout) {
         return get(segmentName, keys, true, timeout);
@@ -298,7 +351,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
                     .thenComposeAsync(segment -> {
                         val segmentInfo = segment.getInfo();
                         val toGet = translateItems(keys, segmentInfo, external, KeyTranslator::inbound);
-                        val resultBuilder = new GetResultBuilder(toGet, this.hasher);
+                        val resultBuilder = new GetResultBuilder(toGet, this.hashers.apply(segmentInfo));
                         return this.keyIndex.getBucketOffsets(segment, resultBuilder.getHashes(), timer)
                                 .thenComposeAsync(offsets -> get(segment, resultBuilder, offsets, timer), this.executor)
                                 .thenApply(results -> translateItems(results, segmentInfo, external, KeyTranslator::outbound));
@@ -392,11 +445,18 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         return DEFAULT_MAX_COMPACTION_SIZE;
     }
 
-    private <T> TableKeyBatch batch(Collection<T> toBatch, Function<T, TableKey> getKey, Function<T, Integer> getLength, TableKeyBatch batch) {
+    private <T> TableKeyBatch batch(Collection<T> toBatch, Function<T, TableKey> getKey, Function<T, Integer> getLength,
+                                    TableKeyBatch batch, SegmentProperties segmentInfo) {
+        return batch(toBatch, getKey, getLength, batch.isRemoval(), batch, segmentInfo);
+    }
+
+    private <T> TableKeyBatch batch(Collection<T> toBatch, Function<T, TableKey> getKey, Function<T, Integer> getLength,
+                                    boolean removal, TableKeyBatch batch, SegmentProperties segmentInfo) {
+        val hasher = this.hashers.apply(segmentInfo);
         for (T item : toBatch) {
             val length = getLength.apply(item);
             val key = getKey.apply(item);
-            batch.add(key, this.hasher.hash(key.getKey()), length);
+            batch.add(key, hasher.hash(key.getKey()), length, removal);
         }
 
         Preconditions.checkArgument(batch.getLength() <= MAX_BATCH_SIZE,
@@ -406,12 +466,15 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
 
     private <T> CompletableFuture<Long> commit(Collection<T> toCommit, Function<Collection<T>, BufferView> serializer,
                                                DirectSegmentAccess segment, long tableSegmentOffset, Duration timeout) {
-            BufferView s = serializer.apply(toCommit);
-            if (tableSegmentOffset == NO_OFFSET) {
-                return segment.append(s, null, timeout);
-            } else {
-                return segment.append(s, null, tableSegmentOffset, timeout);
-            }
+        return commit(serializer.apply(toCommit), segment, tableSegmentOffset, timeout);
+    }
+
+    private CompletableFuture<Long> commit(BufferView s, DirectSegmentAccess segment, long tableSegmentOffset, Duration timeout) {
+        if (tableSegmentOffset == NO_OFFSET) {
+            return segment.append(s, null, timeout);
+        } else {
+            return segment.append(s, null, tableSegmentOffset, timeout);
+        }
     }
 
     private <T> CompletableFuture<AsyncIterator<IteratorItem<T>>> newSortedIterator(@NonNull DirectSegmentAccess segment, @NonNull IteratorArgs args,
@@ -419,7 +482,11 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         return this.keyIndex.getSortedKeyIndex(segment)
                 .thenApply(index -> {
                     val prefix = translateItem(args.getPrefixFilter(), SortedKeyIndexDataSource.EXTERNAL_TRANSLATOR, KeyTranslator::inbound);
-                    val range = index.getIteratorRange(args.getSerializedState(), prefix);
+                    val fromKey = translateItem(args.getFromKey(), SortedKeyIndexDataSource.EXTERNAL_TRANSLATOR, KeyTranslator::inbound);
+                    val toKey = translateItem(args.getToKey(), SortedKeyIndexDataSource.EXTERNAL_TRANSLATOR, KeyTranslator::inbound);
+                    val range = args.getSerializedState() == null
+                            ? index.getIteratorRange(fromKey, true, toKey, prefix)
+                            : index.getIteratorRange(args.getSerializedState(), false, toKey, prefix); // Resuming: exclude the last returned key.
                     return index.iterator(range, args.getFetchTimeout())
                             .thenCompose(keys -> toSortedIteratorItem(keys, toResult, segment.getInfo()));
                 });
@@ -473,7 +540,6 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
                     };
                     val iterator = TableEntryDeltaIterator.<IteratorItem<T>>builder()
                             .segment(segment)
-                            .entrySerializer(serializer)
                             .executor(executor)
                             .maxBytesToRead(maxBytesToRead)
                             .startOffset(startOffset)
@@ -491,6 +557,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
                                                                                   @NonNull GetBucketReader<T> createBucketReader,
                                                                                   @NonNull BiFunction<KeyTranslator, T, T> translateItem) {
         Preconditions.checkArgument(args.getPrefixFilter() == null, "Cannot perform a KeyHash iteration with a prefix.");
+        Preconditions.checkArgument(args.getFromKey() == null && args.getToKey() == null, "Cannot perform a KeyHash iteration with a key range.");
         UUID fromHash;
         try {
             fromHash = KeyHasher.getNextHash(args.getSerializedState() == null ? null : IteratorStateImpl.deserialize(args.getSerializedState()).getKeyHash());
@@ -550,7 +617,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
 
         @Override
         public KeyHasher getKeyHasher() {
-            return ContainerTableExtensionImpl.this.hasher;
+            return ContainerTableExtensionImpl.this.hashers.apply(this.metadata);
         }
 
         @Override
@@ -568,6 +635,11 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
             ContainerTableExtensionImpl.this.keyIndex.notifyIndexOffsetChanged(this.metadata.getId(), lastIndexedOffset);
         }
 
+        @Override
+        public void notifyBucketsIndexing(Collection<UUID> keyHashes) {
+            ContainerTableExtensionImpl.this.keyIndex.notifyBucketsIndexing(this.metadata.getId(), keyHashes);
+        }
+
         @Override
         public int getMaxCompactionSize() {
             return ContainerTableExtensionImpl.this.getMaxCompactionSize();
@@ -577,6 +649,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         public void close() {
             // Tell the KeyIndex that it's ok to clear any tail-end cache.
             ContainerTableExtensionImpl.this.keyIndex.notifyIndexOffsetChanged(this.metadata.getId(), -1L);
+            ContainerTableExtensionImpl.this.compactionScheduler.unregister(this);
         }
     }
 
@@ -17,8 +17,7 @@ import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
 import io.pravega.segmentstore.contracts.tables.TableStore;
 import java.util.Collection;
-import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -71,26 +70,29 @@ class EntrySerializer {
         return serializeUpdate(entries, e -> TableKey.NO_VERSION);
     }
 
-    private BufferView serializeUpdate(@NonNull Collection<TableEntry> entries, Function<TableKey, Long> getVersion) {
+    private BufferView serializeUpdate(@NonNull Collection<TableEntry> entries, ToLongFunction<TableKey> getVersion) {
+        // Keys and Values are not copied; the result is a composite view made of the headers (all of which are written
+        // into a single array), keys and values.
         val builder = BufferView.builder(entries.size() * 3);
-        entries.forEach(e -> serializeUpdate(e, getVersion, builder::add));
+        val headers = new ByteArraySegment(new byte[entries.size() * HEADER_LENGTH]);
+        int headerOffset = 0;
+        for (val e : entries) {
+            val key = e.getKey().getKey();
+            val value = e.getValue();
+            Preconditions.checkArgument(key.getLength() <= MAX_KEY_LENGTH, "Key too large.");
+            int serializationLength = getUpdateLength(e);
+            Preconditions.checkArgument(serializationLength <= MAX_SERIALIZATION_LENGTH, "Key+Value serialization too large.");
+
+            builder.add(writeHeader(headers, headerOffset, key.getLength(), value.getLength(), getVersion.applyAsLong(e.getKey())));
+            builder.add(key);
+            builder.add(value);
+            headerOffset += HEADER_LENGTH;
+        }
+
         Preconditions.checkArgument(builder.getLength() <= MAX_BATCH_SIZE, "Update batch size cannot exceed %s. Given %s.", MAX_BATCH_SIZE, builder.getLength());
         return builder.build();
     }
 
-    private void serializeUpdate(@NonNull TableEntry entry, Function<TableKey, Long> getVersion, Consumer<BufferView> acceptBuffer) {
-        val key = entry.getKey().getKey();
-        val value = entry.getValue();
-        Preconditions.checkArgument(key.getLength() <= MAX_KEY_LENGTH, "Key too large.");
-        int serializationLength = getUpdateLength(entry);
-        Preconditions.checkArgument(serializationLength <= MAX_SERIALIZATION_LENGTH, "Key+Value serialization too large.");
-
-        // Serialize Header.
-        acceptBuffer.accept(serializeHeader(key.getLength(), value.getLength(), getVersion.apply(entry.getKey())));
-        acceptBuffer.accept(key);
-        acceptBuffer.accept(value);
-    }
-
     /**
      * Serializes the given {@link TableEntry} collection into a {@link BufferView}, explicitly recording the versions
      * for each entry ({@link TableKey#getVersion()}). This should be used for {@link TableEntry} instances that were
@@ -125,17 +127,19 @@ class EntrySerializer {
      */
     BufferView serializeRemoval(@NonNull Collection<TableKey> keys) {
         val builder = BufferView.builder(keys.size() * 2);
-        keys.forEach(k -> serializeRemoval(k, builder::add));
-        return builder.build();
-    }
+        val headers = new ByteArraySegment(new byte[keys.size() * HEADER_LENGTH]);
+        int headerOffset = 0;
+        for (val k : keys) {
+            val key = k.getKey();
+            Preconditions.checkArgument(key.getLength() <= MAX_KEY_LENGTH, "Key too large.");
 
-    private void serializeRemoval(@NonNull TableKey tableKey, Consumer<BufferView> acceptBuffer) {
-        val key = tableKey.getKey();
-        Preconditions.checkArgument(key.getLength() <= MAX_KEY_LENGTH, "Key too large.");
+            // Serialize Header. Not caring about explicit versions since we do not reinsert removals upon compaction.
+            builder.add(writeHeader(headers, headerOffset, key.getLength(), NO_VALUE, TableKey.NO_VERSION));
+            builder.add(key);
+            headerOffset += HEADER_LENGTH;
+        }
 
-        // Serialize Header. Not caring about explicit versions since we do not reinsert removals upon compaction.
-        acceptBuffer.accept(serializeHeader(key.getLength(), NO_VALUE, TableKey.NO_VERSION));
-        acceptBuffer.accept(key);
+        return builder.build();
     }
 
     //endregion
@@ -158,16 +162,15 @@ class EntrySerializer {
         return new Header(version, keyLength, valueLength, entryVersion);
     }
 
-    private BufferView serializeHeader(int keyLength, int valueLength, long entryVersion) {
-        ByteArraySegment data = new ByteArraySegment(new byte[HEADER_LENGTH]);
-        data.set(VERSION_POSITION, CURRENT_SERIALIZATION_VERSION);
-        data.setInt(KEY_POSITION, keyLength);
-        data.setInt(VALUE_POSITION, valueLength);
-        data.setLong(ENTRY_VERSION_POSITION, entryVersion);
-        return data;
+    private static BufferView writeHeader(ByteArraySegment headers, int offset, int keyLength, int valueLength, long entryVersion) {
+        headers.set(offset + VERSION_POSITION, CURRENT_SERIALIZATION_VERSION);
+        headers.setInt(offset + KEY_POSITION, keyLength);
+        headers.setInt(offset + VALUE_POSITION, valueLength);
+        headers.setLong(offset + ENTRY_VERSION_POSITION, entryVersion);
+        return headers.slice(offset, HEADER_LENGTH);
     }
 
-    private void validateHeader(int keyLength, int valueLength) throws SerializationException {
+    private static void validateHeader(int keyLength, int valueLength) throws SerializationException {
         if (keyLength <= 0 || keyLength > MAX_KEY_LENGTH || (valueLength < 0 && valueLength != NO_VALUE) || keyLength + valueLength > MAX_SERIALIZATION_LENGTH) {
             throw new SerializationException(String.format("Read header with invalid data. KeyLength=%s, ValueLength=%s", keyLength, valueLength));
         }
@@ -210,4 +213,137 @@ class EntrySerializer {
     }
 
     //endregion
+
+    //region EntryCursor
+
+    /**
+     * A reusable (flyweight) reader for consecutive serialized Entries. Each invocation of {@link #readNext()} decodes
+     * the next Entry's header in place and exposes its components, without allocating any {@link Header},
+     * {@link TableKey} or {@link TableEntry} instances. These can still be created on demand using {@link #toTableKey()}
+     * or {@link #toTableEntry()}.
+     *
+     * The state of this object is overwritten with every call to {@link #readNext()}, so none of its components should
+     * be retained across calls, other than {@link #getKey()} and {@link #getValue()} (which are views into the input).
+     */
+    static class EntryCursor {
+        private final BufferView.Reader input;
+        private final boolean readValues;
+        @Getter
+        private long nextOffset;
+        @Getter
+        private long offset;
+        @Getter
+        private int keyLength;
+        @Getter
+        private int valueLength;
+        @Getter
+        private long entryVersion;
+        @Getter
+        private BufferView key;
+        private BufferView value;
+
+        /**
+         * Creates a new instance of the EntryCursor class.
+         *
+         * @param input       A {@link BufferView.Reader} to read Entries from.
+         * @param startOffset The Segment Offset that the first byte of the input maps to.
+         * @param readValues  If true, Values will be sliced out of the input and made available via {@link #getValue()}.
+         *                    If false, Values will be skipped over.
+         */
+        EntryCursor(@NonNull BufferView.Reader input, long startOffset, boolean readValues) {
+            this.input = input;
+            this.readValues = readValues;
+            this.nextOffset = startOffset;
+            this.offset = startOffset;
+        }
+
+        /**
+         * Reads the next Entry from the input and positions this cursor on it.
+         *
+         * @throws SerializationException If an invalid header was detected.
+         * @throws BufferView.Reader.OutOfBoundsException If the input does not contain a full Entry. If this happens,
+         *                                                the state of this cursor is undefined.
+         */
+        void readNext() throws SerializationException {
+            this.input.readByte(); // Serialization version. There is only one at the moment.
+            int keyLength = this.input.readInt();
+            int valueLength = this.input.readInt();
+            long entryVersion = this.input.readLong();
+            validateHeader(keyLength, valueLength);
+
+            this.key = this.input.readSlice(keyLength);
+            if (valueLength == NO_VALUE) {
+                this.value = null;
+            } else if (this.readValues) {
+                this.value = valueLength == 0 ? BufferView.empty() : this.input.readSlice(valueLength);
+            } else {
+                this.value = null;
+                this.input.skip(valueLength);
+            }
+
+            this.offset = this.nextOffset;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+            this.entryVersion = entryVersion;
+            this.nextOffset = this.offset + getTotalLength();
+        }
+
+        /**
+         * Gets the Value of the current Entry.
+         *
+         * @return The Value, or null if the current Entry is a deletion.
+         * @throws IllegalStateException If this cursor was not configured to read values.
+         */
+        BufferView getValue() {
+            Preconditions.checkState(this.readValues, "This EntryCursor does not read values.");
+            return this.value;
+        }
+
+        /**
+         * Gets the version of the current Entry. If explicitly defined in the Header, this mirrors it, otherwise this is
+         * the offset at which the Entry resides in the Segment.
+         *
+         * @return The version.
+         */
+        long getVersion() {
+            return this.entryVersion == TableKey.NO_VERSION ? this.offset : this.entryVersion;
+        }
+
+        int getTotalLength() {
+            return HEADER_LENGTH + this.keyLength + Math.max(0, this.valueLength);
+        }
+
+        boolean isDeletion() {
+            return this.valueLength == NO_VALUE;
+        }
+
+        /**
+         * Creates a new {@link TableKey} for the current Entry, with its version set to {@link #getVersion()}.
+         *
+         * @return A {@link TableKey}.
+         */
+        TableKey toTableKey() {
+            return TableKey.versioned(this.key, getVersion());
+        }
+
+        /**
+         * Creates a new {@link TableEntry} for the current Entry, with its version set to {@link #getVersion()}.
+         *
+         * @return A {@link TableEntry}.
+         * @throws IllegalStateException If this cursor was not configured to read values or if the current Entry is a
+         *                               deletion.
+         */
+        TableEntry toTableEntry() {
+            Preconditions.checkState(!isDeletion(), "Cannot create a TableEntry for a removal entry.");
+            return TableEntry.versioned(this.key, getValue(), getVersion());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Offset: %s, Length: {K=%s, V=%s}, EntryVersion: %s", this.offset, this.keyLength,
+                    this.valueLength, this.entryVersion);
+        }
+    }
+
+    //endregion
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+
+/**
+ * A Bloom Filter for the Key Hashes (Table Buckets) in a Table Segment's index.
+ *
+ * If {@link #mightContain} returns false for a Key Hash, then that Key Hash is definitely not in the index. If it returns
+ * true, then the Key Hash may or may not be in the index (with a false positive probability close to the one this filter
+ * was created with, as long as it has not been filled beyond its {@link #getExpectedKeyCount()}).
+ *
+ * Key Hashes cannot be removed from a Bloom Filter, so Key Hashes which have been removed from the index will continue
+ * to be reported as (possibly) existing.
+ */
+@ThreadSafe
+class KeyHashFilter {
+    //region Members
+
+    private static final Funnel<UUID> FUNNEL = (keyHash, sink) -> sink
+            .putLong(keyHash.getMostSignificantBits())
+            .putLong(keyHash.getLeastSignificantBits());
+
+    /**
+     * The number of Key Hashes this filter was sized for.
+     */
+    @Getter
+    private final long expectedKeyCount;
+    private final BloomFilter<UUID> filter;
+    private final AtomicBoolean ready;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the KeyHashFilter class.
+     *
+     * @param expectedKeyCount   The number of Key Hashes this filter is sized for.
+     * @param falsePositiveRatio The desired false positive probability (when containing expectedKeyCount Key Hashes).
+     */
+    KeyHashFilter(long expectedKeyCount, double falsePositiveRatio) {
+        Preconditions.checkArgument(expectedKeyCount > 0, "expectedKeyCount must be a positive number.");
+        Preconditions.checkArgument(falsePositiveRatio > 0 && falsePositiveRatio < 1, "falsePositiveRatio must be in the interval (0, 1).");
+        this.expectedKeyCount = expectedKeyCount;
+        this.filter = BloomFilter.create(FUNNEL, expectedKeyCount, falsePositiveRatio);
+        this.ready = new AtomicBoolean(false);
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records the given Key Hash.
+     *
+     * @param keyHash The Key Hash to add.
+     */
+    void add(UUID keyHash) {
+        this.filter.put(keyHash);
+    }
+
+    /**
+     * Determines whether the given Key Hash may have been recorded in this filter.
+     *
+     * @param keyHash The Key Hash to check.
+     * @return False if the Key Hash is definitely not recorded, true if it may have been recorded.
+     */
+    boolean mightContain(UUID keyHash) {
+        return this.filter.mightContain(keyHash);
+    }
+
+    /**
+     * Gets a value indicating whether this filter contains more Key Hashes than it was sized for. If so, its false
+     * positive probability is higher than the one it was created with.
+     *
+     * @return True if saturated, false otherwise.
+     */
+    boolean isSaturated() {
+        return this.filter.approximateElementCount() > this.expectedKeyCount;
+    }
+
+    /**
+     * Gets a value indicating whether this filter has been fully loaded and can be used to answer queries.
+     *
+     * @return True if ready, false otherwise.
+     */
+    boolean isReady() {
+        return this.ready.get();
+    }
+
+    /**
+     * Indicates that this filter has been fully loaded (i.e., it contains all the Key Hashes in the index).
+     */
+    void markReady() {
+        this.ready.set(true);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Expected = %d, Approximate = %d, Ready = %s", this.expectedKeyCount,
+                this.filter.approximateElementCount(), this.ready.get());
+    }
+
+    //endregion
+}
@@ -16,6 +16,8 @@ import com.google.common.hash.Hashing;
 import io.pravega.common.util.BitConverter;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.SegmentProperties;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import java.util.UUID;
 import java.util.function.Function;
 import lombok.NonNull;
@@ -41,6 +43,20 @@ abstract class KeyHasher {
      */
     static final UUID MAX_HASH = new UUID(TableBucket.BACKPOINTER_PREFIX - 1, Long.MAX_VALUE);
 
+    /**
+     * Value for {@link TableAttributes#KEY_HASHER} indicating that Key Hashes are generated using SHA-256. This is also
+     * the value assumed for Table Segments that do not have this attribute set (i.e., created before it was introduced).
+     */
+    static final long SHA256 = 0L;
+
+    /**
+     * Value for {@link TableAttributes#KEY_HASHER} indicating that Key Hashes are generated using MurmurHash3 (128-bit).
+     */
+    static final long MURMUR3_128 = 1L;
+
+    private static final KeyHasher SHA256_HASHER = new HashFunctionHasher(Hashing.sha256());
+    private static final KeyHasher MURMUR3_128_HASHER = new HashFunctionHasher(Hashing.murmur3_128());
+
     /**
      * Generates a new Key Hash for the given Key.
      *
@@ -110,12 +126,41 @@ abstract class KeyHasher {
     }
 
     /**
-     * Creates a new instance of the KeyHasher class that generates hashes using the SHA-256 algorithm.
+     * Gets a KeyHasher that generates hashes using the SHA-256 algorithm.
      *
-     * @return A new instance of the KeyHasher class.
+     * @return A KeyHasher.
      */
     static KeyHasher sha256() {
-        return new Sha256Hasher();
+        return SHA256_HASHER;
+    }
+
+    /**
+     * Gets a KeyHasher that generates hashes using the MurmurHash3 (128-bit) algorithm. This is a non-cryptographic
+     * hash function which is considerably faster than SHA-256 while still providing a good distribution of hashes.
+     *
+     * @return A KeyHasher.
+     */
+    static KeyHasher murmur3() {
+        return MURMUR3_128_HASHER;
+    }
+
+    /**
+     * Gets the KeyHasher that must be used for the given Table Segment, as indicated by its {@link TableAttributes#KEY_HASHER}
+     * attribute. Table Segments which do not have this attribute set use {@link #sha256()}.
+     *
+     * @param segmentInfo A {@link SegmentProperties} describing the Table Segment.
+     * @return A KeyHasher.
+     * @throws IllegalArgumentException If the Table Segment has an unknown {@link TableAttributes#KEY_HASHER} value.
+     */
+    static KeyHasher forSegment(SegmentProperties segmentInfo) {
+        long hasherId = segmentInfo.getAttributes().getOrDefault(TableAttributes.KEY_HASHER, SHA256);
+        if (hasherId == SHA256) {
+            return SHA256_HASHER;
+        } else if (hasherId == MURMUR3_128) {
+            return MURMUR3_128_HASHER;
+        } else {
+            throw new IllegalArgumentException(String.format("Unsupported KeyHasher (%s) for Table Segment '%s'.", hasherId, segmentInfo.getName()));
+        }
     }
 
     /**
@@ -129,14 +174,16 @@ abstract class KeyHasher {
         return new CustomHasher(hashFunction);
     }
 
-    //region Sha256Hasher
+    //region HashFunctionHasher
 
-    private static class Sha256Hasher extends KeyHasher {
-        private static final HashFunction HASH = Hashing.sha256();
+    @RequiredArgsConstructor
+    private static class HashFunctionHasher extends KeyHasher {
+        @NonNull
+        private final HashFunction hashFunction;
 
         @Override
         public UUID hash(@NonNull BufferView key) {
-            val h = HASH.newHasher();
+            val h = this.hashFunction.newHasher();
             key.collect(h::putBytes);
             byte[] rawHash = new byte[HASH_SIZE_BYTES];
             int c = h.hash().writeBytesTo(rawHash, 0, rawHash.length);
@@ -145,7 +145,7 @@ class SegmentKeyCache {
                 CacheBucketOffset existingOffset = get(item.getHash(), generation);
                 if (existingOffset == null || itemOffset > existingOffset.getSegmentOffset()) {
                     // We have no previous entry, or we do and the current offset is higher, so it prevails.
-                    this.tailOffsets.put(item.getHash(), new CacheBucketOffset(itemOffset, batch.isRemoval()));
+                    this.tailOffsets.put(item.getHash(), new CacheBucketOffset(itemOffset, item.isRemoval()));
                     result.add(itemOffset);
                 } else {
                     // Current offset is lower.
@@ -82,7 +82,23 @@ interface SegmentSortedKeyIndex {
      * @param prefix           The prefix of all keys returned.
      * @return An {@link IteratorRange}.
      */
-    IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix);
+    default IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix) {
+        return getIteratorRange(fromKeyExclusive, false, null, prefix);
+    }
+
+    /**
+     * Generates a {@link IteratorRange} that can be used as argument to {@link #iterator} from the given input. The
+     * resulting range is the intersection of the given key range and the range of keys beginning with the given prefix.
+     *
+     * @param fromKey        The lower bound of the iteration. If this iteration is resumed (from a previously interrupted
+     *                       one), should be the last key that was returned (and fromInclusive should be false).
+     * @param fromInclusive  True if fromKey is an inclusive lower bound, false if exclusive.
+     * @param toKeyExclusive The upper bound of the iteration (exclusive).
+     * @param prefix         The prefix of all keys returned.
+     * @return An {@link IteratorRange}.
+     */
+    IteratorRange getIteratorRange(@Nullable BufferView fromKey, boolean fromInclusive, @Nullable BufferView toKeyExclusive,
+                                   @Nullable BufferView prefix);
 
     /**
      * Arguments for {@link #iterator}.
@@ -90,10 +106,15 @@ interface SegmentSortedKeyIndex {
     @Data
     class IteratorRange {
         /**
-         * An {@link ArrayView} representing the lower bound of the iteration (exclusive). All returned keys will be larger
-         * than this one. If null, the iteration will start from the smallest key in the segment.
+         * An {@link ArrayView} representing the lower bound of the iteration (see {@link #isFromInclusive()}). All returned
+         * keys will be larger than (or equal to, if inclusive) this one. If null, the iteration will start from the
+         * smallest key in the segment.
          */
         private final ArrayView from;
+        /**
+         * Whether {@link #getFrom()} is an inclusive lower bound.
+         */
+        private final boolean fromInclusive;
         /**
          * An {@link ArrayView representing the upper bound of the iteration (exclusive). All returned keys will be smaller
          * than this one. If null, the iteration will proceed through the largest key in the segment.
@@ -134,8 +155,9 @@ interface SegmentSortedKeyIndex {
             }
 
             @Override
-            public IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix) {
-                return new IteratorRange(null, null);
+            public IteratorRange getIteratorRange(@Nullable BufferView fromKey, boolean fromInclusive, @Nullable BufferView toKeyExclusive,
+                                                  @Nullable BufferView prefix) {
+                return new IteratorRange(null, false, null);
             }
         };
     }
@@ -35,6 +35,7 @@ import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -117,7 +118,7 @@ class SegmentSortedKeyIndexImpl implements SegmentSortedKeyIndex {
                     .filter(item -> !this.dataSource.isKeyExcluded(item.getKey().getKey()))
                     .forEach(item -> this.tailKeys.put(
                             toArrayView(item.getKey().getKey()),
-                            new CacheBucketOffset(batchSegmentOffset + item.getOffset(), batch.isRemoval())));
+                            new CacheBucketOffset(batchSegmentOffset + item.getOffset(), item.isRemoval())));
         }
     }
 
@@ -155,8 +156,12 @@ class SegmentSortedKeyIndexImpl implements SegmentSortedKeyIndex {
         // the iteration (i.e., calls to persist() and/or updateSegmentIndexOffset(), we may get inconsistent or incorrect
         // results. Since we do not guarantee that changes AFTER the iterator was initiated will be visible in the iteration,
         // it is OK to snapshot the tail now vs querying it every time.
+        if (isEmpty(range)) {
+            return () -> CompletableFuture.completedFuture(null);
+        }
+
         val tailSnapshot = getTailSnapshot(range);
-        val persistedIterator = this.sortedKeys.iterator(range.getFrom(), false, range.getTo(), false, fetchTimeout);
+        val persistedIterator = this.sortedKeys.iterator(range.getFrom(), range.isFromInclusive(), range.getTo(), false, fetchTimeout);
 
         // Return a sequential iterator. It is important that no two requests overlap, otherwise the iterator's state may
         // get corrupted.
@@ -164,49 +169,63 @@ class SegmentSortedKeyIndexImpl implements SegmentSortedKeyIndex {
     }
 
     @Override
-    public IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix) {
-        return getIteratorRange(toArrayView(fromKeyExclusive), toArrayView(prefix));
+    public IteratorRange getIteratorRange(@Nullable BufferView fromKey, boolean fromInclusive, @Nullable BufferView toKeyExclusive,
+                                          @Nullable BufferView prefix) {
+        return getIteratorRange(toArrayView(fromKey), fromInclusive, toArrayView(toKeyExclusive), toArrayView(prefix));
     }
 
-    private IteratorRange getIteratorRange(ArrayView fromKeyExclusive, ArrayView prefix) {
-        if (fromKeyExclusive != null && prefix != null) {
-            // Validate args.
-            Preconditions.checkArgument(KEY_COMPARATOR.compare(fromKeyExclusive, prefix) >= 0,
+    private IteratorRange getIteratorRange(ArrayView fromKey, boolean fromInclusive, ArrayView toKeyExclusive, ArrayView prefix) {
+        if (prefix == null) {
+            return new IteratorRange(fromKey, fromKey != null && fromInclusive, toKeyExclusive);
+        }
+
+        if (fromKey == null || KEY_COMPARATOR.compare(fromKey, prefix) <= 0) {
+            // Resumed iterations (exclusive lower bound) must not resume from a key outside of the prefix.
+            Preconditions.checkArgument(fromKey == null || fromInclusive || KEY_COMPARATOR.compare(fromKey, prefix) == 0,
                     "FromKey does not begin with given prefix.");
+            fromKey = prefix;
+            fromInclusive = false;
         }
 
-        if (fromKeyExclusive == null) {
-            fromKeyExclusive = prefix;
+        // Restrict the upper bound to the keys beginning with the prefix.
+        val lastPrefixKeyExclusive = BufferViewComparator.getNextItemOfSameLength(prefix);
+        if (toKeyExclusive == null
+                || (lastPrefixKeyExclusive != null && KEY_COMPARATOR.compare(lastPrefixKeyExclusive, toKeyExclusive) < 0)) {
+            toKeyExclusive = lastPrefixKeyExclusive;
         }
 
-        val lastKeyExclusive = prefix == null ? null : BufferViewComparator.getNextItemOfSameLength(prefix);
-        return new IteratorRange(fromKeyExclusive, lastKeyExclusive);
+        return new IteratorRange(fromKey, fromInclusive, toKeyExclusive);
     }
 
     //endregion
 
     //region Helpers
 
+    private static boolean isEmpty(IteratorRange range) {
+        // The upper bound is always exclusive, so a range whose bounds are equal is empty as well.
+        return range.getFrom() != null && range.getTo() != null && KEY_COMPARATOR.compare(range.getFrom(), range.getTo()) >= 0;
+    }
+
     private TreeMap<ArrayView, CacheBucketOffset> getTailSnapshot(IteratorRange range) {
         synchronized (this.tailKeys) {
-            return new TreeMap<>(subMap(this.tailKeys, range.getFrom(), range.getTo(), false));
+            return new TreeMap<>(subMap(this.tailKeys, range.getFrom(), range.isFromInclusive(), range.getTo(), false));
         }
     }
 
     private static NavigableMap<ArrayView, CacheBucketOffset> subMap(NavigableMap<ArrayView, CacheBucketOffset> tailKeys,
-                                                                     ArrayView fromExclusive, ArrayView to, boolean toInclusive) {
-        if (fromExclusive == null && to == null) {
+                                                                     ArrayView from, boolean fromInclusive, ArrayView to, boolean toInclusive) {
+        if (from == null && to == null) {
             // Full map.
             return tailKeys;
-        } else if (fromExclusive == null) {
+        } else if (from == null) {
             // No beginning.
             return tailKeys.headMap(to, toInclusive);
         } else if (to == null) {
             // No end.
-            return tailKeys.tailMap(fromExclusive, false);
+            return tailKeys.tailMap(from, fromInclusive);
         } else {
             // Beginning and end.
-            return tailKeys.subMap(fromExclusive, false, to, toInclusive);
+            return tailKeys.subMap(from, fromInclusive, to, toInclusive);
         }
     }
 
@@ -277,38 +296,42 @@ class SegmentSortedKeyIndexImpl implements SegmentSortedKeyIndex {
         private final AsyncIterator<List<ArrayView>> persistedIterator;
         private final IteratorRange range;
         private final AtomicReference<ArrayView> lastKey;
+        private final AtomicBoolean lastKeyInclusive;
 
         SortedIterator(NavigableMap<ArrayView, CacheBucketOffset> tailSnapshot, AsyncIterator<List<ArrayView>> persistedIterator, IteratorRange range) {
             this.tailSnapshot = tailSnapshot;
             this.persistedIterator = persistedIterator;
             this.lastKey = new AtomicReference<>(range.getFrom());
+            this.lastKeyInclusive = new AtomicBoolean(range.isFromInclusive());
             this.range = range;
         }
 
         @Override
         public CompletableFuture<List<BufferView>> getNext() {
             return this.persistedIterator.getNext().thenApply(keys -> {
-                keys = mixWithTail(keys, this.tailSnapshot, lastKey.get(), range.getTo());
+                keys = mixWithTail(keys, this.tailSnapshot, this.lastKey.get(), this.lastKeyInclusive.get(), this.range.getTo());
                 if (keys != null && !keys.isEmpty()) {
-                    // Keep track of the last key; we'll need it for the next iteration.
+                    // Keep track of the last key; we'll need it for the next iteration. Since it has already been returned,
+                    // it must be excluded from the next iteration.
                     this.lastKey.set(keys.get(keys.size() - 1));
+                    this.lastKeyInclusive.set(false);
                 }
                 return keys == null ? null : keys.stream().map(a -> (BufferView) a).collect(Collectors.toList());
             });
         }
 
         private List<ArrayView> mixWithTail(List<ArrayView> persistedKeys, NavigableMap<ArrayView, CacheBucketOffset> tailSnapshot,
-                                            ArrayView fromExclusive, ArrayView toExclusive) {
+                                            ArrayView from, boolean fromInclusive, ArrayView toExclusive) {
             val tailResult = new ArrayList<ArrayView>();
             val tailKeys = new HashSet<ArrayView>();
 
             NavigableMap<ArrayView, CacheBucketOffset> tailSection;
             if (persistedKeys == null || persistedKeys.isEmpty()) {
                 // No (or no more) items from the persisted index. Return as much as we can from our tail index.
-                tailSection = subMap(tailSnapshot, fromExclusive, toExclusive, false);
+                tailSection = subMap(tailSnapshot, from, fromInclusive, toExclusive, false);
             } else {
                 // Match the range returned by BTreeSet.
-                tailSection = subMap(tailSnapshot, fromExclusive, persistedKeys.get(persistedKeys.size() - 1), true);
+                tailSection = subMap(tailSnapshot, from, fromInclusive, persistedKeys.get(persistedKeys.size() - 1), true);
             }
 
             tailSection.forEach((key, offset) -> {
@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.MathHelpers;
+import io.pravega.common.TimeoutTimer;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.segmentstore.contracts.SegmentProperties;
+import io.pravega.segmentstore.server.SegmentMetadata;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Container-level scheduler for Table Segment compactions.
+ *
+ * The {@link WriterTableProcessor} only compacts a Table Segment (via its {@link TableCompactor}) after it indexes new
+ * updates, and it does so at most {@link TableWriterConnector#getMaxCompactionSize()} bytes at a time. Table Segments
+ * that are heavily overwritten and then go (relatively) quiet will not get compacted any further and will be left with
+ * a large amount of garbage (obsolete Table Entries).
+ *
+ * This class periodically inspects all the registered (active) Table Segments, ranks them by their garbage ratio (the
+ * ratio of obsolete Table Entries, as derived from {@link IndexReader#getEntryCount} and {@link IndexReader#getTotalEntryCount})
+ * and compacts those that require compaction (see {@link TableCompactor#isCompactionRequired}) in descending order of
+ * their garbage ratio. The amount of data compacted in each pass is bounded by a byte budget, which limits the impact
+ * that background compactions have on foreground traffic.
+ *
+ * Background compactions do not conflict with compactions initiated by the {@link WriterTableProcessor}: compactions
+ * are conditioned on the Table Segment's {@link io.pravega.segmentstore.contracts.tables.TableAttributes#COMPACTION_OFFSET},
+ * so only one of two concurrent compactions can succeed. The {@link WriterTableProcessor} will index the Table Entries
+ * copied by a background compaction and truncate the Table Segment, just like it would for its own compactions.
+ */
+@ThreadSafe
+@Slf4j
+class TableCompactionScheduler implements AutoCloseable {
+    //region Members
+
+    private static final Duration COMPACTION_TIMEOUT = Duration.ofSeconds(60);
+    private final IndexReader indexReader;
+    private final ScheduledExecutorService executor;
+    private final Duration interval;
+    private final long maxBytesPerInterval;
+    private final ConcurrentHashMap<Long, TableWriterConnector> connectors;
+    private final SegmentStoreMetrics.TableCompaction metrics;
+    private final AtomicBoolean running;
+    private final AtomicBoolean closed;
+    private final ScheduledFuture<?> task;
+    private final String traceObjectId;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the TableCompactionScheduler class.
+     *
+     * @param containerId         The Id of the Segment Container this instance belongs to.
+     * @param indexReader         The {@link IndexReader} to use.
+     * @param interval            The interval between two consecutive compaction passes.
+     * @param maxBytesPerInterval The maximum number of bytes to compact in a single compaction pass. A single Table Segment
+     *                            compaction will only be initiated if it fits in the remaining budget for the pass.
+     * @param executor            An Executor to use for async tasks.
+     */
+    TableCompactionScheduler(int containerId, @NonNull IndexReader indexReader, @NonNull Duration interval, long maxBytesPerInterval,
+                             @NonNull ScheduledExecutorService executor) {
+        Preconditions.checkArgument(!interval.isNegative() && !interval.isZero(), "interval must be a positive duration.");
+        Preconditions.checkArgument(maxBytesPerInterval > 0, "maxBytesPerInterval must be a positive number.");
+        this.indexReader = indexReader;
+        this.executor = executor;
+        this.interval = interval;
+        this.maxBytesPerInterval = maxBytesPerInterval;
+        this.connectors = new ConcurrentHashMap<>();
+        this.metrics = new SegmentStoreMetrics.TableCompaction(containerId);
+        this.running = new AtomicBoolean();
+        this.closed = new AtomicBoolean();
+        this.traceObjectId = String.format("TableCompactionScheduler[%d]", containerId);
+        this.task = this.executor.scheduleWithFixedDelay(this::runOnceIfIdle, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (!this.closed.getAndSet(true)) {
+            this.task.cancel(true);
+            this.connectors.clear();
+            this.metrics.close();
+            log.info("{}: Closed.", this.traceObjectId);
+        }
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Registers the given {@link TableWriterConnector}, making its Table Segment eligible for background compaction.
+     *
+     * @param connector The {@link TableWriterConnector} to register.
+     */
+    void register(@NonNull TableWriterConnector connector) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        this.connectors.put(connector.getMetadata().getId(), connector);
+    }
+
+    /**
+     * Unregisters the given {@link TableWriterConnector}.
+     *
+     * @param connector The {@link TableWriterConnector} to unregister.
+     */
+    void unregister(@NonNull TableWriterConnector connector) {
+        this.connectors.remove(connector.getMetadata().getId(), connector);
+    }
+
+    /**
+     * Executes a compaction pass, unless one is already in progress.
+     */
+    private void runOnceIfIdle() {
+        if (this.closed.get() || !this.running.compareAndSet(false, true)) {
+            return;
+        }
+
+        runOnce().whenComplete((r, ex) -> {
+            this.running.set(false);
+            if (ex != null) {
+                log.error("{}: Compaction pass failed.", this.traceObjectId, Exceptions.unwrap(ex));
+            }
+        });
+    }
+
+    /**
+     * Executes a compaction pass. Ranks all registered Table Segments by their garbage ratio and compacts, in order, all
+     * those that require compaction, as long as there is budget left for this pass.
+     *
+     * @return A CompletableFuture that, when completed, will indicate that the compaction pass has completed. Failures in
+     * compacting individual Table Segments are logged, but not otherwise bubbled up.
+     */
+    @VisibleForTesting
+    CompletableFuture<Void> runOnce() {
+        val candidates = rankCandidates();
+        this.metrics.reclaimableBytes(candidates.stream().mapToLong(Candidate::getReclaimableBytes).sum());
+
+        val budget = new AtomicLong(this.maxBytesPerInterval);
+        Iterator<Candidate> iterator = candidates.iterator();
+        return Futures.loop(
+                () -> !this.closed.get() && iterator.hasNext(),
+                () -> {
+                    Candidate c = iterator.next();
+                    int compactionSize = c.connector.getMaxCompactionSize();
+                    if (!c.compactionRequired || compactionSize > budget.get()) {
+                        // Either nothing to do or this compaction would take us over this pass's budget.
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    budget.addAndGet(-compactionSize);
+                    return compact(c.connector, compactionSize);
+                },
+                this.executor);
+    }
+
+    private CompletableFuture<Void> compact(TableWriterConnector connector, int compactionSize) {
+        TimeoutTimer timer = new TimeoutTimer(COMPACTION_TIMEOUT);
+        val compactor = new TableCompactor(connector, this.indexReader, this.executor);
+        return connector.getSegment(timer.getRemaining())
+                .thenComposeAsync(segment -> {
+                    if (!compactor.isCompactionRequired(segment.getInfo())) {
+                        // Someone else may have compacted it in the meantime.
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    log.debug("{}: Compacting Table Segment {}.", this.traceObjectId, segment.getSegmentId());
+                    return compactor.compact(segment, timer)
+                            .thenRun(() -> this.metrics.compacted(compactionSize));
+                }, this.executor)
+                .exceptionally(ex -> {
+                    // This is not a critical operation; we will retry in the next pass, if still needed.
+                    log.warn("{}: Unable to compact Table Segment {}.", this.traceObjectId, connector.getMetadata().getId(), Exceptions.unwrap(ex));
+                    return null;
+                });
+    }
+
+    /**
+     * Collects information about all registered Table Segments and ranks them in descending order of garbage ratio.
+     *
+     * @return A List of {@link Candidate}s.
+     */
+    @VisibleForTesting
+    List<Candidate> rankCandidates() {
+        val result = new ArrayList<Candidate>();
+        for (val connector : this.connectors.values()) {
+            SegmentMetadata info = connector.getMetadata();
+            if (info.isDeleted() || info.isSealed() || info.isMerged()) {
+                // Cannot compact such segments.
+                continue;
+            }
+
+            double garbageRatio = getGarbageRatio(info);
+            long uncompactedLength = Math.max(0, this.indexReader.getLastIndexedOffset(info)
+                    - Math.max(this.indexReader.getCompactionOffset(info), info.getStartOffset()));
+            long reclaimableBytes = Math.round(uncompactedLength * garbageRatio);
+            boolean compactionRequired = new TableCompactor(connector, this.indexReader, this.executor).isCompactionRequired(info);
+            result.add(new Candidate(connector, garbageRatio, reclaimableBytes, compactionRequired));
+        }
+
+        result.sort(Comparator.comparingDouble(Candidate::getGarbageRatio).reversed());
+        return result;
+    }
+
+    private double getGarbageRatio(SegmentProperties info) {
+        long totalEntryCount = this.indexReader.getTotalEntryCount(info);
+        long entryCount = this.indexReader.getEntryCount(info);
+        return totalEntryCount <= 0 ? 0 : MathHelpers.minMax(1.0 - (double) entryCount / totalEntryCount, 0.0, 1.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: Segments = %d, Interval = %s, MaxBytesPerInterval = %d", this.traceObjectId,
+                this.connectors.size(), this.interval, this.maxBytesPerInterval);
+    }
+
+    //endregion
+
+    //region Candidate
+
+    @Data
+    static class Candidate {
+        private final TableWriterConnector connector;
+        /**
+         * The ratio of Table Entries (out of all Table Entries in the uncompacted portion of the Table Segment) that are
+         * obsolete.
+         */
+        private final double garbageRatio;
+        /**
+         * An estimate of the number of bytes that can be reclaimed by compacting the Table Segment.
+         */
+        private final long reclaimableBytes;
+        private final boolean compactionRequired;
+    }
+
+    //endregion
+}
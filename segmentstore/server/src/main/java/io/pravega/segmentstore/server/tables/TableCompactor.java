@@ -207,29 +207,25 @@ class TableCompactor {
     private CompactionArgs parseEntries(BufferView inputData, long startOffset, int maxLength) {
         val entries = new HashMap<UUID, CandidateSet>();
         int count = 0;
-        long nextOffset = startOffset;
         final long maxOffset = startOffset + maxLength;
-        val input = inputData.getBufferViewReader();
+        val cursor = new EntrySerializer.EntryCursor(inputData.getBufferViewReader(), startOffset, true);
         try {
-            while (nextOffset < maxOffset) {
+            while (cursor.getNextOffset() < maxOffset) {
                 // TODO: Handle error when compaction offset is not on Entry boundary (https://github.com/pravega/pravega/issues/3560).
-                val e = AsyncTableEntryReader.readEntryComponents(input, nextOffset, this.connector.getSerializer());
+                // The cursor will only advance its offsets once it fully read an entry.
+                cursor.readNext();
 
                 // We only care about updates, and not removals.
-                if (!e.getHeader().isDeletion()) {
+                if (!cursor.isDeletion()) {
                     // Group by KeyHash, and deduplicate (based on key).
-                    val hash = this.connector.getKeyHasher().hash(e.getKey());
+                    val hash = this.connector.getKeyHasher().hash(cursor.getKey());
                     CandidateSet candidates = entries.computeIfAbsent(hash, h -> new CandidateSet());
-                    candidates.add(new Candidate(nextOffset,
-                            TableEntry.versioned(e.getKey(), e.getValue(), e.getVersion())));
+                    candidates.add(new Candidate(cursor.getOffset(), cursor.toTableEntry()));
                 }
 
                 // Every entry, even if deleted or duplicated, must be counted, as we will need to adjust the Segment's
                 // TOTAL_ENTRY_COUNT attribute at the end.
                 count++;
-
-                // Update the offset to the beginning of the next entry.
-                nextOffset += e.getHeader().getTotalLength();
             }
         } catch (BufferView.Reader.OutOfBoundsException ex) {
             // We chose an arbitrary compact length, so it is quite possible we stopped reading in the middle of an entry.
@@ -237,7 +233,7 @@ class TableCompactor {
             // we will have collected the total compact length in segmentOffset.
         }
 
-        return new CompactionArgs(startOffset, nextOffset, count, entries);
+        return new CompactionArgs(startOffset, cursor.getNextOffset(), count, entries);
     }
 
     /**
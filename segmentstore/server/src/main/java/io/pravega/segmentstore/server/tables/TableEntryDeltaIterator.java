@@ -58,7 +58,6 @@ class TableEntryDeltaIterator<T> implements AsyncIterator<T> {
     private final int maxBytesToRead;
     private final boolean shouldClear;
     private final Duration fetchTimeout;
-    private final EntrySerializer entrySerializer;
     private final ConvertResult<T> resultConverter;
     private final Executor executor;
 
@@ -135,28 +134,26 @@ class TableEntryDeltaIterator<T> implements AsyncIterator<T> {
     @SneakyThrows(IOException.class)
     private List<Map.Entry<DeltaIteratorState, TableEntry>> parseEntries(BufferView data, long startOffset, int readLength) {
 
-        long currentOffset = startOffset;
         final long maxOffset = startOffset + readLength;
-
-        BufferView.Reader input = data.getBufferViewReader();
+        val cursor = new EntrySerializer.EntryCursor(data.getBufferViewReader(), startOffset, true);
         List<Map.Entry<DeltaIteratorState, TableEntry>> entries = new ArrayList<>();
         try {
-            while (currentOffset < maxOffset) {
-                val entry = AsyncTableEntryReader.readEntryComponents(input, currentOffset, this.entrySerializer);
-                boolean reachedEnd = currentOffset + entry.getHeader().getTotalLength() >= this.maxBytesToRead + startOffset;
+            while (cursor.getNextOffset() < maxOffset) {
+                cursor.readNext();
+                long currentOffset = cursor.getNextOffset();
+                boolean reachedEnd = currentOffset >= this.maxBytesToRead + startOffset;
                 // We must preserve deletions to accurately construct a delta.
-                BufferView value = entry.getValue() == null ? BufferView.empty() : entry.getValue();
-                currentOffset += entry.getHeader().getTotalLength();
+                BufferView value = cursor.isDeletion() ? BufferView.empty() : cursor.getValue();
                 entries.add(new AbstractMap.SimpleEntry<>(
-                        new DeltaIteratorState(currentOffset, reachedEnd, this.shouldClear, entry.getHeader().isDeletion()),
-                        TableEntry.versioned(entry.getKey(), value, entry.getVersion())));
+                        new DeltaIteratorState(currentOffset, reachedEnd, this.shouldClear, cursor.isDeletion()),
+                        TableEntry.versioned(cursor.getKey(), value, cursor.getVersion())));
             }
         } catch (BufferView.Reader.OutOfBoundsException ex) {
             // Handles the event that our computed maxOffset lies within (but not on the boundary) of a TableEntry, or
             // reaches the end the TableSegment. Silently handling this exception is sufficient because it acknowledges
             // that we have processed the maximal set of TableEntries and thus is safe to return.
         }
-        this.currentBatchOffset = currentOffset;
+        this.currentBatchOffset = cursor.getNextOffset();
 
         return entries;
     }
@@ -174,7 +171,6 @@ class TableEntryDeltaIterator<T> implements AsyncIterator<T> {
                 0,
                 false,
                 Duration.ofMillis(0),
-                new EntrySerializer(),
                 ignored -> CompletableFuture.completedFuture(null),
                 ForkJoinPool.commonPool(),
                 null,
@@ -34,7 +34,9 @@ class TableKeyBatch {
     private final List<Item> versionedItems = new ArrayList<>();
 
     /**
-     * If true, indicates that all the Items in this batch are supposed to be removed (as opposed from being updated).
+     * If true, indicates that all the Items added via {@link #add(TableKey, UUID, int)} are supposed to be removed (as
+     * opposed from being updated). Use {@link #add(TableKey, UUID, int, boolean)} to mix updates and removals in the same
+     * TableKeyBatch.
      */
     private final boolean removal;
 
@@ -66,7 +68,19 @@ class TableKeyBatch {
      *               of the key, as it encompasses the whole Table Entry (which includes the value and other metadata as well).
      */
     void add(TableKey key, UUID hash, int length) {
-        Item item = new Item(key, hash, this.length);
+        add(key, hash, length, this.removal);
+    }
+
+    /**
+     * Adds a new Item to this TableKeyBatch.
+     *
+     * @param key     The {@link TableKey} representing the Key to add.
+     * @param hash    The Key Hash corresponding to the Key.
+     * @param length  The serialized length of this Batch Entry.
+     * @param removal True if the Key is to be removed, false if it is to be inserted or updated.
+     */
+    void add(TableKey key, UUID hash, int length, boolean removal) {
+        Item item = new Item(key, hash, this.length, removal);
         this.items.add(item);
         this.length += length;
         if (key.hasVersion()) {
@@ -102,9 +116,14 @@ class TableKeyBatch {
          */
         private final int offset;
 
+        /**
+         * True if this Item represents a Key removal, false if it represents an insertion or update.
+         */
+        private final boolean removal;
+
         @Override
         public String toString() {
-            return String.format("Offset = %s, Hash = %s, Key = %s", this.offset, this.hash, this.key);
+            return String.format("Offset = %s, Hash = %s, Key = %s, Removal = %s", this.offset, this.hash, this.key, this.removal);
         }
     }
 }
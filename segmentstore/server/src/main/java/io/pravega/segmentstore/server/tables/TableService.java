@@ -104,6 +104,13 @@ public class TableService extends SegmentContainerCollection implements TableSto
                 "remove", segmentName, keys.size());
     }
 
+    @Override
+    public CompletableFuture<List<Long>> update(String segmentName, List<TableEntry> entries, Collection<TableKey> keys, Duration timeout) {
+        return invokeExtension(segmentName,
+                e -> e.update(segmentName, entries, keys, timeout),
+                "update", segmentName, entries.size(), keys.size());
+    }
+
     @Override
     public CompletableFuture<List<TableEntry>> get(String segmentName, List<BufferView> keys, Duration timeout) {
         return invokeExtension(segmentName,
@@ -13,6 +13,8 @@ import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
 import io.pravega.segmentstore.server.SegmentMetadata;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -66,6 +68,14 @@ interface TableWriterConnector extends AutoCloseable {
      */
     void notifyIndexOffsetChanged(long lastIndexedOffset);
 
+    /**
+     * This method will be invoked by the {@link WriterTableProcessor} before every attempt to update the index of the
+     * Table Segment this connector refers to.
+     *
+     * @param keyHashes The Key Hashes of the Table Buckets that are about to be updated.
+     */
+    void notifyBucketsIndexing(Collection<UUID> keyHashes);
+
     /**
      * Gets a value representing the maximum length that a Table Segment compaction can process at once.
      *
@@ -292,6 +292,10 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
                                 .thenComposeAsync(v -> {
                                     val bucketUpdates = builders.stream().map(BucketUpdate.Builder::build).collect(Collectors.toList());
                                     logBucketUpdates(bucketUpdates);
+                                    this.connector.notifyBucketsIndexing(bucketUpdates.stream()
+                                            .filter(BucketUpdate::hasUpdates)
+                                            .map(b -> b.getBucket().getHash())
+                                            .collect(Collectors.toList()));
                                     return this.connector.getSortedKeyIndex().persistUpdate(bucketUpdates, timer.getRemaining())
                                             .thenComposeAsync(v2 ->
                                                     this.indexWriter.updateBuckets(segment, bucketUpdates,
@@ -344,30 +348,29 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
     private KeyUpdateCollection readKeysFromSegment(DirectSegmentAccess segment, long firstOffset, long lastOffset, TimeoutTimer timer) {
         KeyUpdateCollection keyUpdates = new KeyUpdateCollection();
         val memoryRead = readFromInMemorySegment(segment, firstOffset, lastOffset, timer).getBufferViewReader();
-        long segmentOffset = firstOffset;
-        while (segmentOffset < lastOffset) {
-            segmentOffset += indexSingleKey(memoryRead, segmentOffset, keyUpdates);
+
+        // We only need the Keys, so we can skip over the values. A single (reusable) cursor is used for all the entries.
+        val cursor = new EntrySerializer.EntryCursor(memoryRead, firstOffset, false);
+        while (cursor.getNextOffset() < lastOffset) {
+            indexSingleKey(cursor, keyUpdates);
         }
         return keyUpdates;
     }
 
     /**
-     * Indexes a single Key for a Table Entry that begins with the first byte of the given InputStream.
+     * Indexes a single Key for the next Table Entry in the given {@link EntrySerializer.EntryCursor}.
      *
-     * @param input               The InputStream that contains the Table Entry to index.
-     * @param entryOffset         The offset within the Segment where this Table Entry begins.
+     * @param cursor              The {@link EntrySerializer.EntryCursor} to read the Table Entry from.
      * @param keyUpdateCollection A Map where to add the result.
-     * @return The number of bytes processed from the given InputStream.
      * @throws SerializationException If unable to deserialize an entry.
      */
-    private int indexSingleKey(BufferView.Reader input, long entryOffset, KeyUpdateCollection keyUpdateCollection) throws SerializationException {
-        // Retrieve the next entry, get its Key and hash it.
-        val e = AsyncTableEntryReader.readEntryComponents(input, entryOffset, this.connector.getSerializer());
+    private void indexSingleKey(EntrySerializer.EntryCursor cursor, KeyUpdateCollection keyUpdateCollection) throws SerializationException {
+        // Retrieve the next entry and get its Key.
+        cursor.readNext();
 
         // Index the Key. If it was used before, then their versions will be compared to determine which one prevails.
-        val update = new BucketUpdate.KeyUpdate(e.getKey(), entryOffset, e.getVersion(), e.getHeader().isDeletion());
-        keyUpdateCollection.add(update, e.getHeader().getTotalLength(), e.getHeader().getEntryVersion());
-        return e.getHeader().getTotalLength();
+        val update = new BucketUpdate.KeyUpdate(cursor.getKey(), cursor.getOffset(), cursor.getVersion(), cursor.isDeletion());
+        keyUpdateCollection.add(update, cursor.getTotalLength(), cursor.getEntryVersion());
     }
 
     /**
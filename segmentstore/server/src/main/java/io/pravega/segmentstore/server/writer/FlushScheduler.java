@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.writer;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.segmentstore.server.logs.operations.Operation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Arbitrates Segment flushes to Storage among all the {@link StorageWriter}s created by the same {@link StorageWriterFactory}
+ * (i.e., all the Segment Containers in a Segment Store), which share the same Storage bandwidth.
+ *
+ * At most {@link WriterConfig#getMaxConcurrentFlushes()} flushes may be in progress at any given time. When more flushes
+ * are due, they are queued and executed in the following order:
+ * - Across Segment Containers, using Weighted Fair Queuing where every flush counts as one unit and every Container is
+ * weighted based on its flush backlog and the throttling pressure on its OperationLog (see {@link #calculateWeight}).
+ * Containers that are falling behind get a proportionally larger share of the available flush slots without starving
+ * the others.
+ * - Within a Segment Container, in increasing order of the Segments' Lowest Uncommitted Sequence Numbers, so that the
+ * Segments that prevent the Container's OperationLog from being truncated are flushed first.
+ *
+ * If {@link WriterConfig#getMaxConcurrentFlushes()} is 0, flushes are executed right away.
+ */
+@ThreadSafe
+class FlushScheduler {
+    //region Members
+
+    /**
+     * The maximum weight a Container may get due to its flush backlog.
+     */
+    @VisibleForTesting
+    static final double MAX_BACKLOG_WEIGHT = 100;
+    /**
+     * The multiplier applied to a Container's weight when its OperationLog is fully throttled.
+     */
+    @VisibleForTesting
+    static final double MAX_THROTTLING_MULTIPLIER = 10;
+    private final int maxConcurrentFlushes;
+    private final Executor executor;
+    @GuardedBy("lock")
+    private final HashMap<Integer, ContainerQueue> containers;
+    @GuardedBy("lock")
+    private int activeCount;
+    @GuardedBy("lock")
+    private double virtualTime;
+    private final Object lock = new Object();
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the FlushScheduler class.
+     *
+     * @param maxConcurrentFlushes The maximum number of flushes that may be in progress at any given time. If 0, flushes
+     *                             will not be limited.
+     * @param executor             An Executor to run the flushes on (once they are allowed to execute).
+     */
+    FlushScheduler(int maxConcurrentFlushes, @NonNull Executor executor) {
+        Preconditions.checkArgument(maxConcurrentFlushes >= 0, "maxConcurrentFlushes must be a non-negative number.");
+        this.maxConcurrentFlushes = maxConcurrentFlushes;
+        this.executor = executor;
+        this.containers = new HashMap<>();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Schedules a flush.
+     *
+     * @param containerId    The Id of the Segment Container requesting the flush.
+     * @param weight         The weight of the Segment Container (see {@link #calculateWeight}). This will replace any
+     *                       weight previously provided for this Container.
+     * @param sequenceNumber The Lowest Uncommitted Sequence Number of the Segment to flush. Flushes from the same
+     *                       Container are executed in increasing order of this value; {@link Operation#NO_SEQUENCE_NUMBER}
+     *                       sorts last.
+     * @param flush          A Supplier that, when invoked, will begin the flush and return a CompletableFuture tracking it.
+     * @param <T>            Return type of the flush.
+     * @return A CompletableFuture that will be completed with the result of the flush, once it has been executed and
+     * completed.
+     */
+    <T> CompletableFuture<T> schedule(int containerId, double weight, long sequenceNumber, Supplier<CompletableFuture<T>> flush) {
+        Preconditions.checkArgument(weight > 0, "weight must be a positive number.");
+        if (this.maxConcurrentFlushes <= 0) {
+            return flush.get();
+        }
+
+        val request = new FlushRequest(sequenceNumber < 0 ? Long.MAX_VALUE : sequenceNumber);
+        List<FlushRequest> toExecute;
+        synchronized (this.lock) {
+            ContainerQueue queue = this.containers.computeIfAbsent(containerId, id -> new ContainerQueue());
+            if (queue.requests.isEmpty()) {
+                // This Container has been idle. Do not allow it to accumulate credit while it was not competing for flushes.
+                queue.virtualStart = Math.max(queue.virtualStart, this.virtualTime);
+            }
+
+            queue.weight = weight;
+            queue.requests.add(request);
+            toExecute = grant();
+        }
+
+        toExecute.forEach(r -> r.permit.complete(null));
+        return request.permit
+                .thenComposeAsync(v -> flush.get(), this.executor)
+                .whenComplete((r, ex) -> release());
+    }
+
+    /**
+     * Calculates the weight of a Segment Container.
+     *
+     * @param backlogBytes        The number of bytes pending a flush to Storage for the Container.
+     * @param flushThresholdBytes The number of bytes that would normally trigger a flush for a Segment.
+     * @param throttlingPressure  The throttling pressure on the Container's OperationLog (between 0 and 1).
+     * @return The weight. This is a value between 1 (no backlog, no throttling) and
+     * {@link #MAX_BACKLOG_WEIGHT} * {@link #MAX_THROTTLING_MULTIPLIER}.
+     */
+    static double calculateWeight(long backlogBytes, int flushThresholdBytes, double throttlingPressure) {
+        double backlogWeight = Math.min(MAX_BACKLOG_WEIGHT, 1 + (double) Math.max(0, backlogBytes) / Math.max(1, flushThresholdBytes));
+        double pressure = Math.max(0, Math.min(1, throttlingPressure));
+        return backlogWeight * (1 + (MAX_THROTTLING_MULTIPLIER - 1) * pressure);
+    }
+
+    /**
+     * Gets the number of flushes currently in progress.
+     */
+    @VisibleForTesting
+    int getActiveCount() {
+        synchronized (this.lock) {
+            return this.activeCount;
+        }
+    }
+
+    /**
+     * Gets the number of flushes currently waiting to be executed.
+     */
+    @VisibleForTesting
+    int getQueueSize() {
+        synchronized (this.lock) {
+            return this.containers.values().stream().mapToInt(q -> q.requests.size()).sum();
+        }
+    }
+
+    private void release() {
+        List<FlushRequest> toExecute;
+        synchronized (this.lock) {
+            this.activeCount--;
+            toExecute = grant();
+        }
+
+        toExecute.forEach(r -> r.permit.complete(null));
+    }
+
+    /**
+     * Picks as many queued requests as there are free flush slots. Across Containers, the one with the smallest virtual
+     * start time is picked, after which its virtual start time is advanced by the inverse of its weight.
+     *
+     * @return The requests to execute. These must be completed outside of the lock.
+     */
+    @GuardedBy("lock")
+    private List<FlushRequest> grant() {
+        val result = new ArrayList<FlushRequest>();
+        while (this.activeCount < this.maxConcurrentFlushes) {
+            ContainerQueue next = null;
+            for (ContainerQueue q : this.containers.values()) {
+                if (!q.requests.isEmpty() && (next == null || q.virtualStart < next.virtualStart)) {
+                    next = q;
+                }
+            }
+
+            if (next == null) {
+                // Nothing else to execute.
+                break;
+            }
+
+            this.virtualTime = next.virtualStart;
+            next.virtualStart += 1 / next.weight;
+            result.add(next.requests.poll());
+            this.activeCount++;
+        }
+
+        // Remove Containers that have nothing queued and no outstanding debt; they will be re-added when they need to.
+        this.containers.values().removeIf(q -> q.requests.isEmpty() && q.virtualStart <= this.virtualTime);
+        return result;
+    }
+
+    //endregion
+
+    //region Helper Classes
+
+    /**
+     * Queued flushes for a Segment Container.
+     */
+    private static class ContainerQueue {
+        final PriorityQueue<FlushRequest> requests = new PriorityQueue<>(Comparator.comparingLong(r -> r.sequenceNumber));
+        double weight = 1;
+        double virtualStart;
+    }
+
+    @RequiredArgsConstructor
+    private static class FlushRequest {
+        final long sequenceNumber;
+        final CompletableFuture<Void> permit = new CompletableFuture<>();
+    }
+
+    //endregion
+}
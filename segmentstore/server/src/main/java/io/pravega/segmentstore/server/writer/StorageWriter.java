@@ -65,6 +65,7 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
     private final WriterFactory.CreateProcessors createProcessors;
     private final SequentialProcessor ackProcessor;
     private final SegmentStoreMetrics.StorageWriter metrics;
+    private final FlushScheduler flushScheduler;
 
     //endregion
 
@@ -78,10 +79,11 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
      * @param storage          The Storage to use.
      * @param createProcessors A Function, that, when invoked with a Segment Metadata as an argument, will return a Collection
      *                         of WriterSegmentProcessors to handle that Segment's operations.
+     * @param flushScheduler   The FlushScheduler to use for arbitrating flushes with other StorageWriters.
      * @param executor         The Executor to use for async callbacks and operations.
      */
     StorageWriter(WriterConfig config, WriterDataSource dataSource, Storage storage, WriterFactory.CreateProcessors createProcessors,
-                  ScheduledExecutorService executor) {
+                  FlushScheduler flushScheduler, ScheduledExecutorService executor) {
         super(String.format("StorageWriter[%d]", dataSource.getId()), executor);
 
         // No need to check dataSource or executor != null as the super() call above takes care of that.
@@ -89,6 +91,7 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
         this.dataSource = dataSource;
         this.storage = Preconditions.checkNotNull(storage, "storage");
         this.createProcessors = Preconditions.checkNotNull(createProcessors, "createProcessors");
+        this.flushScheduler = Preconditions.checkNotNull(flushScheduler, "flushScheduler");
         this.processors = new HashMap<>();
         this.state = new WriterState();
         this.timer = new Timer();
@@ -329,12 +332,15 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
         checkRunning();
         long traceId = LoggerHelpers.traceEnterWithContext(log, this.traceObjectId, "flush");
 
-        // Flush everything we can flush.
+        // Flush everything we can flush. The FlushScheduler decides when each flush may execute, based on how much this
+        // Container is behind compared to others sharing the same Storage.
         val timer = new Timer();
         val forceFlush = this.state.isForceFlush();
+        val weight = FlushScheduler.calculateWeight(getFlushBacklog(), this.config.getFlushThresholdBytes(), this.dataSource.getThrottlingPressure());
         val flushFutures = this.processors.values().stream()
                 .filter(pc -> forceFlush || pc.mustFlush())
-                .map(a -> a.flush(forceFlush, this.config.getFlushTimeout()))
+                .map(pc -> this.flushScheduler.schedule(this.dataSource.getId(), weight, pc.getLowestUncommittedSequenceNumber(),
+                        () -> pc.flush(forceFlush, this.config.getFlushTimeout())))
                 .collect(Collectors.toList());
 
         return Futures
@@ -499,6 +505,18 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
         return Duration.ofMillis(timeMillis);
     }
 
+    /**
+     * Calculates the number of bytes that have not yet been flushed to Storage across all active Segments.
+     */
+    private long getFlushBacklog() {
+        long result = 0;
+        for (ProcessorCollection pc : this.processors.values()) {
+            result += pc.getUnflushedLength();
+        }
+
+        return result;
+    }
+
     /**
      * Calculates the amount of delay for an iteration start, based on whether the previous iteration resulted in an error or not.
      */
@@ -627,6 +645,14 @@ class StorageWriter extends AbstractThreadPoolService implements Writer {
             return this.aggregator.getMetadata().getId();
         }
 
+        /**
+         * Gets a value indicating the number of bytes in the Segment that have not yet been flushed to Storage.
+         */
+        long getUnflushedLength() {
+            val metadata = this.aggregator.getMetadata();
+            return Math.max(0, metadata.getLength() - metadata.getStorageLength());
+        }
+
         /**
          * Gets a value indicating whether the SegmentAggregator can be closed.
          */
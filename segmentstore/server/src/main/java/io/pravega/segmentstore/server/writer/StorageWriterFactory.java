@@ -46,6 +46,7 @@ import lombok.extern.slf4j.Slf4j;
 public class StorageWriterFactory implements WriterFactory {
     private final WriterConfig config;
     private final ScheduledExecutorService executor;
+    private final FlushScheduler flushScheduler;
 
     /**
      * Creates a new instance of the StorageWriterFactory class.
@@ -58,6 +59,7 @@ public class StorageWriterFactory implements WriterFactory {
         Preconditions.checkNotNull(executor, "executor");
         this.config = config;
         this.executor = executor;
+        this.flushScheduler = new FlushScheduler(config.getMaxConcurrentFlushes(), executor);
     }
 
     @Override
@@ -66,7 +68,7 @@ public class StorageWriterFactory implements WriterFactory {
         Preconditions.checkArgument(containerMetadata.getContainerId() == operationLog.getId(),
                 "Given containerMetadata and operationLog have different Container Ids.");
         WriterDataSource dataSource = new StorageWriterDataSource(containerMetadata, operationLog, readIndex, attributeIndex);
-        return new StorageWriter(this.config, dataSource, storage, createProcessors, this.executor);
+        return new StorageWriter(this.config, dataSource, storage, createProcessors, this.flushScheduler, this.executor);
     }
 
     //region StorageWriterDataSource
@@ -171,6 +173,11 @@ public class StorageWriterFactory implements WriterFactory {
             }
         }
 
+        @Override
+        public double getThrottlingPressure() {
+            return this.operationLog.getThrottlingPressure();
+        }
+
         //endregion
     }
 
@@ -35,6 +35,7 @@ public class WriterConfig {
     public static final Property<Long> ACK_TIMEOUT_MILLIS = Property.named("ack.timeout.milliseconds", 15 * 1000L, "ackTimeoutMillis");
     public static final Property<Long> SHUTDOWN_TIMEOUT_MILLIS = Property.named("shutDown.timeout.milliseconds", 10 * 1000L, "shutdownTimeoutMillis");
     public static final Property<Long> MAX_ROLLOVER_SIZE = Property.named("rollover.size.bytes.max", SegmentRollingPolicy.NO_ROLLING.getMaxLength(), "maxRolloverSizeBytes");
+    public static final Property<Integer> MAX_CONCURRENT_FLUSHES = Property.named("flush.concurrency.max", 0);
     private static final String COMPONENT_CODE = "writer";
 
     //endregion
@@ -114,6 +115,13 @@ public class WriterConfig {
     @Getter
     private final long maxRolloverSize;
 
+    /**
+     * The maximum number of Segment flushes that may be in progress at any given time across all the Segment Containers
+     * sharing a {@link StorageWriterFactory}. If 0, flushes are not limited.
+     */
+    @Getter
+    private final int maxConcurrentFlushes;
+
     //endregion
 
     //region Constructor
@@ -158,6 +166,10 @@ public class WriterConfig {
         this.ackTimeout = Duration.ofMillis(properties.getLong(ACK_TIMEOUT_MILLIS));
         this.shutdownTimeout = Duration.ofMillis(properties.getLong(SHUTDOWN_TIMEOUT_MILLIS));
         this.maxRolloverSize = Math.max(0, properties.getLong(MAX_ROLLOVER_SIZE));
+        this.maxConcurrentFlushes = properties.getInt(MAX_CONCURRENT_FLUSHES);
+        if (this.maxConcurrentFlushes < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", MAX_CONCURRENT_FLUSHES));
+        }
     }
 
     /**
@@ -144,4 +144,11 @@ interface WriterDataSource {
      * @return The mapped StreamSegmentMetadata, or null if none is.
      */
     UpdateableSegmentMetadata getStreamSegmentMetadata(long streamSegmentId);
+
+    /**
+     * Gets a value indicating how much the Data Source is currently throttling incoming Operations.
+     *
+     * @return A value between 0 (no throttling) and 1 (maximum throttling).
+     */
+    double getThrottlingPressure();
 }
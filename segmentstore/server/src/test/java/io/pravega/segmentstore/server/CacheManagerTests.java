@@ -52,6 +52,22 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         return 3;
     }
 
+    /**
+     * Tests the selection of the {@link CacheAdmissionPolicy} based on the {@link CachePolicy.Mode}.
+     */
+    @Test
+    public void testAdmissionPolicy() {
+        @Cleanup
+        val generational = new CacheManager(new CachePolicy(1024, Duration.ofHours(1), Duration.ofSeconds(1)), executorService());
+        Assert.assertSame(CacheAdmissionPolicy.ADMIT_ALL, generational.getAdmissionPolicy());
+        Assert.assertEquals(CacheAdmissionPolicy.Admission.ADMIT, generational.getAdmissionPolicy().admit(1L));
+
+        @Cleanup
+        val scanResistant = new CacheManager(new CachePolicy(1024, 0.75, 0.9, Duration.ofHours(1), Duration.ofSeconds(1),
+                CachePolicy.Mode.SCAN_RESISTANT), executorService());
+        Assert.assertTrue(scanResistant.getAdmissionPolicy() instanceof TinyLfuAdmissionPolicy);
+    }
+
     /**
      * Tests {@link CacheManager.CacheStatus#fromGenerations}.
      */
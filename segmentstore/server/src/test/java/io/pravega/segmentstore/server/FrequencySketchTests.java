@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server;
+
+import io.pravega.test.common.AssertExtensions;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link FrequencySketch} class.
+ */
+public class FrequencySketchTests {
+    private static final int KEY_COUNT = 1000;
+
+    /**
+     * Tests the {@link FrequencySketch#increment} and {@link FrequencySketch#frequency} methods.
+     */
+    @Test
+    public void testIncrement() {
+        val s = new FrequencySketch(KEY_COUNT);
+        for (int key = 0; key < KEY_COUNT; key++) {
+            Assert.assertEquals("Not expecting any frequency for a new key.", 0, s.frequency(key));
+            for (int i = 0; i < key % 5; i++) {
+                s.increment(key);
+            }
+        }
+
+        // This is an estimator, so it may overestimate, but it must never underestimate.
+        int exactCount = 0;
+        for (int key = 0; key < KEY_COUNT; key++) {
+            int f = s.frequency(key);
+            AssertExtensions.assertGreaterThanOrEqual("Frequency underestimated for key " + key, key % 5, f);
+            exactCount += f == key % 5 ? 1 : 0;
+        }
+
+        Assert.assertTrue("Too many overestimated frequencies: " + exactCount, exactCount > 0.9 * KEY_COUNT);
+
+        // Frequencies should be capped.
+        for (int i = 0; i < 2 * FrequencySketch.MAX_FREQUENCY; i++) {
+            s.increment(-1L);
+        }
+
+        Assert.assertEquals(FrequencySketch.MAX_FREQUENCY, s.frequency(-1L));
+    }
+
+    /**
+     * Tests the periodic aging of the counters.
+     */
+    @Test
+    public void testAging() {
+        val s = new FrequencySketch(1);
+        final long hotKey = 123;
+        for (int i = 0; i < FrequencySketch.MAX_FREQUENCY; i++) {
+            s.increment(hotKey);
+        }
+
+        Assert.assertEquals(FrequencySketch.MAX_FREQUENCY, s.frequency(hotKey));
+
+        // Increment other keys until we trigger an aging (which halves the sample count).
+        long key = hotKey + 1;
+        int previousSampleCount;
+        do {
+            previousSampleCount = s.getSampleCount();
+            s.increment(key++);
+        } while (s.getSampleCount() >= previousSampleCount);
+
+        Assert.assertEquals("Expected the sample count to be halved.", s.getSampleSize() / 2, s.getSampleCount());
+        AssertExtensions.assertLessThanOrEqual("Expected the frequency to be halved.", FrequencySketch.MAX_FREQUENCY / 2, s.frequency(hotKey));
+    }
+}
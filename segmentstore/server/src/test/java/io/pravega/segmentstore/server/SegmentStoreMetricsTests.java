@@ -61,6 +61,24 @@ public class SegmentStoreMetricsTests {
         assertEquals(500, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_TIME, containerTag(containerId)).value());
     }
 
+    /**
+     * Verify that the Segment Container start and recovery phase times are properly reported.
+     */
+    @Test
+    public void testContainerStartPhaseMetrics() {
+        int containerId = new Random().nextInt(Integer.MAX_VALUE);
+        SegmentStoreMetrics.containerStartQueued(100, containerId);
+        SegmentStoreMetrics.recoveryLogInitialized(200, containerId);
+        SegmentStoreMetrics.recoveryCheckpointLocated(300, containerId);
+        SegmentStoreMetrics.recoveryReplayed(400, containerId);
+        SegmentStoreMetrics.containerStarted(1000, containerId);
+        assertEquals(100, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_START_QUEUE_TIME, containerTag(containerId)).value());
+        assertEquals(200, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_LOG_INIT_TIME, containerTag(containerId)).value());
+        assertEquals(300, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_CHECKPOINT_SEARCH_TIME, containerTag(containerId)).value());
+        assertEquals(400, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_REPLAY_TIME, containerTag(containerId)).value());
+        assertEquals(1000, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_START_TIME, containerTag(containerId)).value());
+    }
+
     @Test
     public void testContainerMetrics() {
         int containerId = new Random().nextInt(Integer.MAX_VALUE);
@@ -109,6 +109,12 @@ public class TableStoreMock implements TableStore {
         return CompletableFuture.runAsync(() -> getTableData(segmentName).remove(keys), this.executor);
     }
 
+    @Override
+    public CompletableFuture<List<Long>> update(String segmentName, List<TableEntry> entries, Collection<TableKey> keys, Duration timeout) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        return CompletableFuture.supplyAsync(() -> getTableData(segmentName).update(entries, keys), this.executor);
+    }
+
     @Override
     public CompletableFuture<List<TableEntry>> get(String segmentName, List<BufferView> keys, Duration timeout) {
         Exceptions.checkNotClosed(this.closed.get(), this);
@@ -182,6 +188,14 @@ public class TableStoreMock implements TableStore {
             keys.forEach(k -> this.entries.remove(k.getKey()));
         }
 
+        synchronized List<Long> update(List<TableEntry> entries, Collection<TableKey> keys) {
+            // Validate the removals first; put() validates the updates before applying anything.
+            validateKeys(keys, k -> k);
+            val result = put(entries);
+            keys.forEach(k -> this.entries.remove(k.getKey()));
+            return result;
+        }
+
         synchronized List<TableEntry> get(List<BufferView> keys) {
             return keys.stream().map(this.entries::get).collect(Collectors.toList());
         }
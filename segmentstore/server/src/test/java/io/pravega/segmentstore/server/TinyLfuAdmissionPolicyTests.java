@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link TinyLfuAdmissionPolicy} class.
+ */
+public class TinyLfuAdmissionPolicyTests {
+    private static final CachePolicy POLICY = new CachePolicy(1024 * 1024, 0.7, 0.9, Duration.ofMillis(1000), Duration.ofMillis(100),
+            CachePolicy.Mode.SCAN_RESISTANT);
+
+    /**
+     * Tests the {@link TinyLfuAdmissionPolicy#admit} method.
+     */
+    @Test
+    public void testAdmit() {
+        val utilization = new AtomicReference<Double>(0.0);
+        @Cleanup
+        val metrics = new SegmentStoreMetrics.CacheManager();
+        val p = new TinyLfuAdmissionPolicy(POLICY, utilization::get, metrics);
+
+        // Never seen before and cache below target utilization: probation.
+        Assert.assertEquals(CacheAdmissionPolicy.Admission.PROBATION, p.admit(1L));
+
+        // Seen once: still probation.
+        p.recordAccess(1L);
+        Assert.assertEquals(CacheAdmissionPolicy.Admission.PROBATION, p.admit(1L));
+
+        // Seen frequently enough: admit, regardless of cache utilization.
+        for (int i = 1; i < TinyLfuAdmissionPolicy.ADMISSION_FREQUENCY; i++) {
+            p.recordAccess(1L);
+        }
+
+        Assert.assertEquals(CacheAdmissionPolicy.Admission.ADMIT, p.admit(1L));
+        utilization.set(POLICY.getMaxUtilization());
+        Assert.assertEquals(CacheAdmissionPolicy.Admission.ADMIT, p.admit(1L));
+
+        // Not seen frequently enough and cache at or above target utilization: reject.
+        p.recordAccess(2L);
+        Assert.assertEquals(CacheAdmissionPolicy.Admission.REJECT, p.admit(2L));
+        utilization.set(POLICY.getTargetUtilization());
+        Assert.assertEquals(CacheAdmissionPolicy.Admission.REJECT, p.admit(2L));
+        utilization.set(POLICY.getTargetUtilization() / 2);
+        Assert.assertEquals(CacheAdmissionPolicy.Admission.PROBATION, p.admit(2L));
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link DataFrameSizeTracker} class.
+ */
+public class DataFrameSizeTrackerTests {
+    private static final int MAX_FRAME_SIZE = 1024 * 1024;
+    private static final Duration MAX_LINGER = Duration.ofMillis(5);
+
+    /**
+     * Tests the behavior of the tracker when there are no DataFrames in flight.
+     */
+    @Test
+    public void testNoFramesInFlight() {
+        val clock = new AtomicLong();
+        val t = new DataFrameSizeTracker(MAX_FRAME_SIZE, MAX_LINGER, clock::get);
+        Assert.assertEquals("Unexpected initial linger.", Duration.ZERO, t.getLinger());
+        Assert.assertEquals("Unexpected initial target frame size.", DataFrameSizeTracker.MIN_FRAME_SIZE, t.getTargetFrameSize());
+
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+        t.frameSealed(1000);
+        Assert.assertEquals(1, t.getFramesInFlight());
+        t.frameCommitted(Duration.ofMillis(2));
+        Assert.assertEquals(0, t.getFramesInFlight());
+        Assert.assertEquals("Not expecting to linger with no frames in flight.", Duration.ZERO, t.getLinger());
+
+        // Failures and extra completions must not make the in-flight count negative.
+        t.frameFailed();
+        Assert.assertEquals(0, t.getFramesInFlight());
+    }
+
+    /**
+     * Tests the calculation of the target frame size and linger based on latency and throughput.
+     */
+    @Test
+    public void testAdaptiveSizing() {
+        final Duration appendLatency = Duration.ofMillis(4);
+        final Duration timeBetweenFrames = Duration.ofMillis(1);
+        final int frameLength = 64 * 1024;
+        val clock = new AtomicLong();
+        val t = new DataFrameSizeTracker(MAX_FRAME_SIZE, MAX_LINGER, clock::get);
+
+        // Simulate a steady load: one frame every millisecond, each taking a few millis to commit. Commit one frame for
+        // every two that are sealed, so that some are always in flight.
+        for (int i = 0; i < 1000; i++) {
+            clock.addAndGet(timeBetweenFrames.toNanos());
+            t.frameSealed(frameLength);
+            clock.addAndGet(timeBetweenFrames.toNanos());
+            t.frameSealed(frameLength);
+            t.frameCommitted(appendLatency);
+        }
+
+        Assert.assertTrue("Expected frames in flight.", t.getFramesInFlight() > 0);
+
+        // Half the latency, since it is smaller than the max linger.
+        val linger = t.getLinger();
+        Assert.assertEquals("Unexpected linger.", appendLatency.toNanos() / 2, linger.toNanos(), appendLatency.toNanos() * 0.01);
+
+        // The amount of data written over half the latency.
+        int expectedTargetSize = (int) (frameLength * (appendLatency.toNanos() / 2) / timeBetweenFrames.toNanos());
+        int targetSize = t.getTargetFrameSize();
+        Assert.assertEquals("Unexpected target frame size.", expectedTargetSize, targetSize, expectedTargetSize * 0.01);
+
+        // Very high latency and throughput: verify upper bounds.
+        for (int i = 0; i < 1000; i++) {
+            clock.addAndGet(timeBetweenFrames.toNanos());
+            t.frameSealed(MAX_FRAME_SIZE);
+            t.frameCommitted(Duration.ofSeconds(1));
+        }
+
+        Assert.assertEquals("Expected linger to be capped.", MAX_LINGER, t.getLinger());
+        Assert.assertEquals("Expected target frame size to be capped.", MAX_FRAME_SIZE, t.getTargetFrameSize());
+    }
+}
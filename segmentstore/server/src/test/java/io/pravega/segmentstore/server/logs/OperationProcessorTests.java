@@ -97,6 +97,10 @@ public class OperationProcessorTests extends OperationLogTestBase {
      */
     @Test
     public void testWithNoFailures() throws Exception {
+        testWithNoFailures(DurableLogConfig.builder().build());
+    }
+
+    private void testWithNoFailures(DurableLogConfig config) throws Exception {
         int streamSegmentCount = 50;
         int transactionsPerStreamSegment = 2;
         int appendsPerStreamSegment = 20;
@@ -118,7 +122,7 @@ public class OperationProcessorTests extends OperationLogTestBase {
         dataLog.initialize(TIMEOUT);
         @Cleanup
         OperationProcessor operationProcessor = new OperationProcessor(context.metadata, context.stateUpdater,
-                dataLog, getNoOpCheckpointPolicy(), executorService());
+                dataLog, getNoOpCheckpointPolicy(), config, executorService());
         operationProcessor.startAsync().awaitRunning();
 
         // Process all generated operations.
@@ -133,6 +137,18 @@ public class OperationProcessorTests extends OperationLogTestBase {
         operationProcessor.stopAsync().awaitTerminated();
     }
 
+    /**
+     * Tests the ability of the OperationProcessor to process Operations in a failure-free environment, with adaptive
+     * DataFrame sizing enabled.
+     */
+    @Test
+    public void testWithNoFailuresAdaptiveFrameSizing() throws Exception {
+        testWithNoFailures(DurableLogConfig.builder()
+                .with(DurableLogConfig.ADAPTIVE_FRAME_SIZING_ENABLE, true)
+                .with(DurableLogConfig.FRAME_LINGER_MAX_MILLIS, 10)
+                .build());
+    }
+
     /**
      * Tests the ability of the OperationProcessor to process Operations when encountering invalid operations (such as
      * appends to StreamSegments that do not exist or to those that are sealed). This covers the following exceptions:
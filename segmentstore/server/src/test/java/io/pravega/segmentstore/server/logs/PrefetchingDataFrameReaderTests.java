@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.util.CloseableIterator;
+import io.pravega.segmentstore.server.DataCorruptionException;
+import io.pravega.segmentstore.storage.LogAddress;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.IntentionalException;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the {@link PrefetchingDataFrameReader} class.
+ */
+public class PrefetchingDataFrameReaderTests extends ThreadPooledTestSuite {
+    private static final int CONTAINER_ID = 1234567;
+    private static final int ITEM_COUNT = 1000;
+    private static final int CAPACITY = 10;
+    private static final int ITEM_LENGTH = 100;
+    private static final long MAX_BYTES = (long) ITEM_COUNT * ITEM_LENGTH;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(TIMEOUT.getSeconds());
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 2;
+    }
+
+    /**
+     * Tests that all the records are returned, in order, and that the end of the wrapped iterator is properly detected.
+     */
+    @Test
+    public void testReadAll() throws Exception {
+        val source = new TestSource(ITEM_COUNT, -1);
+        val reader = new PrefetchingDataFrameReader<TestLogItem>(source, CAPACITY, MAX_BYTES, executorService(), CONTAINER_ID);
+        val readItems = new ArrayList<Long>();
+        DataFrameRecord<TestLogItem> r;
+        while ((r = reader.getNext()) != null) {
+            readItems.add(r.getItem().getSequenceNumber());
+        }
+
+        checkItems(ITEM_COUNT, readItems);
+        Assert.assertNull("Not expecting any more items after reaching the end.", reader.getNext());
+        Assert.assertEquals("Not expecting any reads after reaching the end.", ITEM_COUNT + 1, source.readCount.get());
+
+        reader.close();
+        Assert.assertTrue("Expected source to be closed.", source.closed.get());
+        AssertExtensions.assertThrows(
+                "getNext() worked after close().",
+                reader::getNext,
+                ex -> ex instanceof ObjectClosedException);
+    }
+
+    /**
+     * Tests that failures from the wrapped iterator are returned in order (after all the records preceding them) and
+     * that the reader is closed afterwards.
+     */
+    @Test
+    public void testReadFailure() throws Exception {
+        int failAt = ITEM_COUNT / 2;
+        val source = new TestSource(ITEM_COUNT, failAt);
+        val reader = new PrefetchingDataFrameReader<TestLogItem>(source, CAPACITY, MAX_BYTES, executorService(), CONTAINER_ID);
+        val readItems = new ArrayList<Long>();
+        for (int i = 0; i < failAt; i++) {
+            readItems.add(reader.getNext().getItem().getSequenceNumber());
+        }
+
+        checkItems(failAt, readItems);
+        AssertExtensions.assertThrows(
+                "Expected the failure to be propagated.",
+                reader::getNext,
+                ex -> ex instanceof DataCorruptionException);
+        Assert.assertTrue("Expected source to be closed after a failure.", source.closed.get());
+        Assert.assertEquals("Not expecting any reads after a failure.", failAt + 1, source.readCount.get());
+        AssertExtensions.assertThrows(
+                "getNext() worked after a failure.",
+                reader::getNext,
+                ex -> ex instanceof ObjectClosedException);
+    }
+
+    /**
+     * Tests that closing the reader before reaching the end closes the wrapped iterator and stops prefetching.
+     */
+    @Test
+    public void testClose() throws Exception {
+        val source = new TestSource(ITEM_COUNT, -1);
+        val reader = new PrefetchingDataFrameReader<TestLogItem>(source, CAPACITY, MAX_BYTES, executorService(), CONTAINER_ID);
+        Assert.assertEquals(0, reader.getNext().getItem().getSequenceNumber());
+        reader.close();
+        Assert.assertTrue("Expected source to be closed.", source.closed.get());
+        AssertExtensions.assertLessThanOrEqual("Not expecting prefetching beyond the capacity.",
+                1 + CAPACITY, source.readCount.get());
+        AssertExtensions.assertThrows(
+                "getNext() worked after close().",
+                reader::getNext,
+                ex -> ex instanceof ObjectClosedException);
+    }
+
+    /**
+     * Tests that prefetching stops once the buffered records exceed the byte limit, and that it is only resumed once at
+     * least half of those bytes have been consumed.
+     */
+    @Test
+    public void testByteLimit() throws Exception {
+        val source = new TestSource(ITEM_COUNT, -1);
+        val tasks = new ArrayList<Runnable>();
+        val reader = new PrefetchingDataFrameReader<TestLogItem>(source, ITEM_COUNT, 5 * ITEM_LENGTH / 2, tasks::add, CONTAINER_ID);
+
+        // Nothing is prefetched yet, so the first record is read directly from the source.
+        Assert.assertEquals(0, reader.getNext().getItem().getSequenceNumber());
+        Assert.assertEquals("Expected a prefetch to be scheduled.", 1, tasks.size());
+        tasks.remove(0).run();
+        Assert.assertEquals("Expected prefetching to stop once the byte limit was exceeded.", 1 + 3, source.readCount.get());
+
+        Assert.assertEquals(1, reader.getNext().getItem().getSequenceNumber());
+        Assert.assertEquals("Not expecting a prefetch while more than half of the byte limit is buffered.", 0, tasks.size());
+        Assert.assertEquals(2, reader.getNext().getItem().getSequenceNumber());
+        Assert.assertEquals("Expected a prefetch to be scheduled.", 1, tasks.size());
+        tasks.remove(0).run();
+        Assert.assertEquals("Expected prefetching to stop once the byte limit was exceeded.", 1 + 3 + 2, source.readCount.get());
+
+        reader.close();
+        Assert.assertTrue("Expected source to be closed.", source.closed.get());
+    }
+
+    private void checkItems(int expectedCount, List<Long> readItems) {
+        Assert.assertEquals("Unexpected number of items read.", expectedCount, readItems.size());
+        for (int i = 0; i < expectedCount; i++) {
+            Assert.assertEquals("Unexpected item read at index " + i, i, (long) readItems.get(i));
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class TestSource implements CloseableIterator<DataFrameRecord<TestLogItem>, Exception> {
+        private final int itemCount;
+        private final int failAt;
+        private final AtomicInteger readCount = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public DataFrameRecord<TestLogItem> getNext() throws Exception {
+            if (this.closed.get()) {
+                throw new ObjectClosedException(this);
+            }
+
+            int index = this.readCount.getAndIncrement();
+            if (index == this.failAt) {
+                throw new DataCorruptionException("intentional", new IntentionalException());
+            } else if (index >= this.itemCount) {
+                return null;
+            }
+
+            val recordInfo = DataFrameRecord.RecordInfo.builder();
+            recordInfo.withEntry(new LogAddress(index) {
+            }, 0, ITEM_LENGTH, true);
+            return new DataFrameRecord<>(new TestLogItem(index, new byte[0]), recordInfo.build());
+        }
+
+        @Override
+        public void close() {
+            this.closed.set(true);
+        }
+    }
+}
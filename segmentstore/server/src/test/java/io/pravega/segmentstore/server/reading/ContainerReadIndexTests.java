@@ -12,9 +12,11 @@ package io.pravega.segmentstore.server.reading;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectClosedException;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.io.FileHelpers;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.ReusableLatch;
+import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
 import io.pravega.segmentstore.contracts.ReadResultEntryType;
@@ -43,6 +45,7 @@ import io.pravega.test.common.ThreadPooledTestSuite;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -398,8 +401,12 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
      */
     @Test
     public void testMerge() throws Exception {
+        testMerge(DEFAULT_CONFIG);
+    }
+
+    private void testMerge(ReadIndexConfig config) throws Exception {
         @Cleanup
-        TestContext context = new TestContext();
+        TestContext context = new TestContext(config, CachePolicy.INFINITE);
         ArrayList<Long> segmentIds = createSegments(context);
         HashMap<Long, ArrayList<Long>> transactionsBySegment = createTransactions(segmentIds, context);
         HashMap<Long, ByteArrayOutputStream> segmentContents = new HashMap<>();
@@ -420,6 +427,20 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         checkReadIndex("CompleteMerge", segmentContents, context);
     }
 
+    /**
+     * Tests appends and the merging of Transactions into their parent StreamSegments when using a {@link io.pravega.common.util.SlabIndex}
+     * for the Read Index entries.
+     */
+    @Test
+    public void testMergeSlabIndex() throws Exception {
+        testMerge(ReadIndexConfig
+                .builder()
+                .with(ReadIndexConfig.MEMORY_READ_MIN_LENGTH, 0)
+                .with(ReadIndexConfig.STORAGE_READ_ALIGNMENT, 1024)
+                .with(ReadIndexConfig.INDEX_TYPE, ReadIndexConfig.IndexType.SLAB)
+                .build());
+    }
+
     /**
      * Tests the merging of empty Segments.
      */
@@ -674,6 +695,54 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         Assert.assertEquals("Unexpected data read back from future read.", append2, readContent);
     }
 
+    /**
+     * Tests the ability to coalesce multiple Future Reads registered at the same offset (i.e., multiple readers tailing
+     * the same segment). Each such read must be completed with the data it asked for, but the data must only be read
+     * from the cache once.
+     */
+    @Test
+    public void testFutureReadsCoalesced() throws Exception {
+        final int readCount = 10;
+        @Cleanup
+        TestContext context = new TestContext();
+        long segmentId = createSegment(0, context);
+        val segmentMetadata = context.metadata.getStreamSegmentMetadata(segmentId);
+
+        // Register multiple Future Reads at offset 0, with different lengths, and a single one at a different offset.
+        val append1 = getAppendData(segmentMetadata.getName(), segmentId, 0, 0);
+        val readResults = new ArrayList<ReadResult>();
+        val futureReads = new ArrayList<ReadResultEntry>();
+        for (int i = 0; i < readCount; i++) {
+            val rr = context.readIndex.read(segmentId, 0, i + 1, TIMEOUT);
+            readResults.add(rr);
+            futureReads.add(rr.next());
+        }
+
+        @Cleanup
+        val otherReadResult = context.readIndex.read(segmentId, append1.getLength(), 1, TIMEOUT);
+        val otherFutureRead = otherReadResult.next();
+        Assert.assertEquals("Unexpected number of registered future reads.", readCount + 1,
+                context.readIndex.getIndex(segmentId).getFutureReadCount());
+
+        // Count how many times we read from the cache while triggering the future reads.
+        val cacheReads = new AtomicInteger();
+        context.cacheStorage.getCallback = address -> cacheReads.incrementAndGet();
+        segmentMetadata.setLength(append1.getLength());
+        context.readIndex.append(segmentId, 0, append1);
+        context.readIndex.triggerFutureReads(Collections.singleton(segmentId));
+
+        for (int i = 0; i < readCount; i++) {
+            val entry = futureReads.get(i);
+            Assert.assertEquals("Unexpected entry type.", ReadResultEntryType.Future, entry.getType());
+            val readContent = entry.getContent().get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            Assert.assertEquals("Unexpected data read back from future read " + i, append1.slice(0, i + 1), readContent);
+        }
+
+        Assert.assertFalse("Not expecting future read at a different offset to have been completed.", otherFutureRead.getContent().isDone());
+        Assert.assertEquals("Expected the coalesced future reads to have been served with a single cache read.", 1, cacheReads.get());
+        readResults.forEach(ReadResult::close);
+    }
+
     /**
      * Tests the handling of invalid operations. Scenarios include:
      * * Appends at wrong offsets
@@ -1274,6 +1343,50 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         Assert.assertArrayEquals("Not expected copy-on-read data.", data2, read2);
     }
 
+    /**
+     * Tests the ability to return pinned (uncopied) Cache data from the ReadIndex, which remains valid until released.
+     */
+    @Test
+    public void testRetainOnRead() throws Exception {
+        final long segmentId = 0;
+        final int appendLength = 100;
+        final byte[] data1 = new byte[appendLength];
+        final byte[] data2 = new byte[appendLength];
+        final Random rnd = new Random(0);
+        rnd.nextBytes(data1);
+        rnd.nextBytes(data2);
+
+        @Cleanup
+        TestContext context = new TestContext();
+        createSegment(0, context);
+
+        // Append some data and intercept the address it was written to.
+        val address = new AtomicInteger(-1);
+        context.cacheStorage.insertCallback = address::set;
+        context.metadata.getStreamSegmentMetadata(segmentId).setLength(appendLength);
+        context.readIndex.append(segmentId, 0, new ByteArraySegment(data1));
+        context.cacheStorage.insertCallback = null;
+        Assert.assertNotEquals(-1, address.get());
+
+        val rr = context.readIndex.read(segmentId, 0, appendLength, TIMEOUT);
+        rr.setRetainOnRead(true);
+        val readBuilder = BufferView.builder();
+        rr.forEachRemaining(rre -> readBuilder.add(rre.getContent().join()));
+        val readBuffer = readBuilder.build();
+
+        // Simulate a cache eviction while the data is pinned. The evicted block must not be reused.
+        context.cacheStorage.delete(address.get());
+        val address2 = context.cacheStorage.insert(new ByteArraySegment(data2));
+        Assert.assertNotEquals("Pinned cache block was reused.", address.get(), address2);
+        Assert.assertArrayEquals("Retain-on-read data not preserved.", data1, readBuffer.getCopy());
+
+        // After releasing, the evicted block can be reused.
+        readBuffer.release();
+        context.cacheStorage.delete(address2);
+        val address3 = context.cacheStorage.insert(new ByteArraySegment(data2));
+        Assert.assertEquals("Released cache block was not freed.", address.get(), address3);
+    }
+
     /**
      * Tests the ability to evict entries from the ReadIndex under various conditions:
      * * If an entry is aged out
@@ -1471,6 +1584,104 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests the behavior of the Read Index when used with a {@link CachePolicy.Mode#SCAN_RESISTANT} {@link CachePolicy}:
+     * * Data read from Storage for the first time is inserted on probation (oldest generation) and evicted first.
+     * * Probationary data that is read again is promoted to the current generation.
+     * * Data that was frequently accessed (even if evicted in the meantime) is admitted into the current generation.
+     */
+    @Test
+    public void testScanResistantCachePolicy() throws Exception {
+        final int blockSize = 4096;
+        final int blockCount = 4;
+        CachePolicy cachePolicy = new CachePolicy(100 * 1024 * 1024, 1.0, 1.0, Duration.ofSeconds(2), Duration.ofSeconds(1),
+                CachePolicy.Mode.SCAN_RESISTANT);
+        ReadIndexConfig config = ReadIndexConfig.builder().with(ReadIndexConfig.STORAGE_READ_ALIGNMENT, blockSize).build();
+
+        @Cleanup
+        TestContext context = new TestContext(config, cachePolicy);
+        long segmentId = createSegment(0, context);
+        createSegmentsInStorage(context);
+        UpdateableSegmentMetadata sm = context.metadata.getStreamSegmentMetadata(segmentId);
+        byte[] data = new byte[blockSize * blockCount];
+        val handle = context.storage.openWrite(sm.getName()).join();
+        context.storage.write(handle, 0, new ByteArrayInputStream(data), data.length, TIMEOUT).join();
+        sm.setStorageLength(data.length);
+        sm.setLength(data.length);
+
+        // Block 0 is read from Storage (probation). This advances the current generation to 1 (oldest is still 0).
+        Assert.assertEquals(ReadResultEntryType.Storage, readBlock(segmentId, 0, blockSize, context));
+        context.cacheManager.applyCachePolicy();
+
+        // Block 1 is read twice: first from Storage (probation), then from the Cache (promoted to the current generation).
+        Assert.assertEquals(ReadResultEntryType.Storage, readBlock(segmentId, blockSize, blockSize, context));
+        Assert.assertEquals(ReadResultEntryType.Cache, readBlock(segmentId, blockSize, blockSize, context));
+
+        // Block 2 is read once (probation).
+        Assert.assertEquals(ReadResultEntryType.Storage, readBlock(segmentId, 2 * blockSize, blockSize, context));
+
+        // Advance the current generation. This will also evict everything from generation 0 (the max generation count is 2).
+        context.cacheManager.applyCachePolicy();
+        Assert.assertEquals("Expected block 0 to be evicted.",
+                ReadResultEntryType.Storage, readBlock(segmentId, 0, blockSize, context));
+        Assert.assertEquals("Expected block 1 to be in the cache.",
+                ReadResultEntryType.Cache, readBlock(segmentId, blockSize, blockSize, context));
+        Assert.assertEquals("Expected block 2 to be evicted.",
+                ReadResultEntryType.Storage, readBlock(segmentId, 2 * blockSize, blockSize, context));
+
+        // Block 2 has been accessed twice now, so it should have been admitted in the current generation (same as blocks
+        // 0 and 1, which have been accessed at least twice too). Block 3 is read for the first time (probation). Advancing
+        // the generation once more should evict block 3, but not block 2.
+        Assert.assertEquals(ReadResultEntryType.Storage, readBlock(segmentId, 3 * blockSize, blockSize, context));
+        context.cacheManager.applyCachePolicy();
+        Assert.assertEquals("Expected block 2 to be in the cache.",
+                ReadResultEntryType.Cache, readBlock(segmentId, 2 * blockSize, blockSize, context));
+        Assert.assertEquals("Expected block 3 to be evicted.",
+                ReadResultEntryType.Storage, readBlock(segmentId, 3 * blockSize, blockSize, context));
+    }
+
+    /**
+     * Tests the ability to read ahead from Storage (into the cache) when a sequential read pattern is detected.
+     */
+    @Test
+    public void testStorageReadAhead() throws Exception {
+        final int blockSize = 4096;
+        final int blockCount = 8;
+        final int depth = 2;
+        ReadIndexConfig config = ReadIndexConfig.builder()
+                .with(ReadIndexConfig.STORAGE_READ_ALIGNMENT, blockSize)
+                .with(ReadIndexConfig.STORAGE_READ_AHEAD_DEPTH, depth)
+                .with(ReadIndexConfig.STORAGE_READ_AHEAD_WINDOW, 2)
+                .build();
+
+        @Cleanup
+        TestContext context = new TestContext(config, CachePolicy.INFINITE);
+        long segmentId = createSegment(0, context);
+        createSegmentsInStorage(context);
+        UpdateableSegmentMetadata sm = context.metadata.getStreamSegmentMetadata(segmentId);
+        byte[] data = new byte[blockSize * blockCount];
+        val handle = context.storage.openWrite(sm.getName()).join();
+        context.storage.write(handle, 0, new ByteArrayInputStream(data), data.length, TIMEOUT).join();
+        sm.setStorageLength(data.length);
+        sm.setLength(data.length);
+
+        // A random read does not trigger read-ahead.
+        Assert.assertEquals(ReadResultEntryType.Storage, readBlock(segmentId, (blockCount - 1) * blockSize, blockSize, context));
+
+        // Two sequential reads should trigger read-ahead for the next blocks.
+        Assert.assertEquals(ReadResultEntryType.Storage, readBlock(segmentId, 0, blockSize, context));
+        Assert.assertEquals(ReadResultEntryType.Storage, readBlock(segmentId, blockSize, blockSize, context));
+        TestUtils.await(() -> context.cacheStorage.getState().getStoredBytes() >= (3 + depth) * blockSize, 10, TIMEOUT.toMillis());
+
+        // The reader should now find the next blocks in the cache. Reading them should keep the read-ahead going.
+        for (int block = 2; block < blockCount; block++) {
+            final long expectedStoredBytes = (long) Math.min(blockCount, block + 1 + depth) * blockSize;
+            TestUtils.await(() -> context.cacheStorage.getState().getStoredBytes() >= expectedStoredBytes, 10, TIMEOUT.toMillis());
+            Assert.assertEquals("Expected block " + block + " to have been read ahead.",
+                    ReadResultEntryType.Cache, readBlock(segmentId, (long) block * blockSize, blockSize, context));
+        }
+    }
+
     /**
      * Tests the {@link ContainerReadIndex#cleanup} method as well as its handling of inactive segments.
      */
@@ -1958,7 +2169,7 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
             spiedIndex.completeMerge(targetSegmentId, sourceSegmentId);
 
             return arg2.callRealMethod();
-        }).when(spiedIndices.get(sourceSegmentId)).getSingleReadResultEntry(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyBoolean());
+        }).when(spiedIndices.get(sourceSegmentId)).getSingleReadResultEntry(Mockito.anyLong(), Mockito.anyInt(), Mockito.any());
 
         // Setup a Read Result, verify that it is indeed returning a RedirectedReadResultEntry, and immediately close it.
         // Then verify that the entry itself has been cancelled.
@@ -2200,6 +2411,76 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         append2Future.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Tests the ability to save a {@link ReadIndexSnapshot} and to load it into a new {@link ContainerReadIndex}, only
+     * for those Segments that match the new metadata.
+     */
+    @Test
+    public void testSnapshot() throws Exception {
+        val snapshotDir = Files.createTempDirectory("readindex-snapshot").toFile().getAbsoluteFile();
+        try {
+            val config = ReadIndexConfig
+                    .builder()
+                    .with(ReadIndexConfig.MEMORY_READ_MIN_LENGTH, 0)
+                    .with(ReadIndexConfig.STORAGE_READ_ALIGNMENT, 1024)
+                    .with(ReadIndexConfig.SNAPSHOT_DIRECTORY, snapshotDir.getPath())
+                    .with(ReadIndexConfig.SNAPSHOT_INTERVAL_SECONDS, 0)
+                    .build();
+            HashMap<Long, ByteArrayOutputStream> segmentContents = new HashMap<>();
+            ArrayList<Long> segmentIds;
+            try (TestContext context = new TestContext(config, CachePolicy.INFINITE)) {
+                segmentIds = createSegments(context);
+                appendData(segmentIds, segmentContents, context);
+
+                // Only data that is in Storage can be included in the snapshot.
+                for (long segmentId : segmentIds) {
+                    val sm = context.metadata.getStreamSegmentMetadata(segmentId);
+                    sm.setStorageLength(sm.getLength());
+                }
+
+                context.readIndex.saveSnapshot();
+            }
+
+            // Create a new Read Index for the same Segments, except that one of them has been recreated in the meantime
+            // and another one has been truncated beyond its cached data.
+            val recreatedId = segmentIds.get(0);
+            val truncatedId = segmentIds.get(1);
+            @Cleanup
+            TestContext context = new TestContext(config, CachePolicy.INFINITE);
+            for (long segmentId : segmentIds) {
+                createSegment(segmentId, context);
+                val sm = context.metadata.getStreamSegmentMetadata(segmentId);
+                sm.setLength(segmentContents.get(segmentId).size());
+                sm.setStorageLength(sm.getLength());
+            }
+
+            context.metadata.getStreamSegmentMetadata(recreatedId).updateAttributes(Collections.singletonMap(Attributes.CREATION_TIME, 1L));
+            context.metadata.getStreamSegmentMetadata(truncatedId).setStartOffset(segmentContents.get(truncatedId).size());
+
+            context.readIndex.loadSnapshot();
+            for (long segmentId : segmentIds) {
+                val index = context.readIndex.getIndex(segmentId);
+                if (segmentId == recreatedId || segmentId == truncatedId) {
+                    Assert.assertTrue("Not expecting anything to be loaded for Segment " + segmentId,
+                            index == null || index.getStorageCachedRanges().isEmpty());
+                    continue;
+                }
+
+                // Verify all the data has been loaded into the cache, with the correct contents.
+                val expected = segmentContents.get(segmentId).toByteArray();
+                val actual = new ByteArrayOutputStream();
+                for (val range : index.getStorageCachedRanges()) {
+                    Assert.assertEquals("Unexpected range offset for Segment " + segmentId, actual.size(), range.getOffset());
+                    index.getCachedRangeCopy(range).copyTo(actual);
+                }
+
+                Assert.assertArrayEquals("Unexpected data loaded for Segment " + segmentId, expected, actual.toByteArray());
+            }
+        } finally {
+            FileHelpers.deleteFileOrDirectory(snapshotDir);
+        }
+    }
+
     //endregion
 
     //region Helpers
@@ -2217,6 +2498,30 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Reads a single block of data from the Read Index and waits for it to be inserted into the Cache if it was fetched
+     * from Storage.
+     */
+    private ReadResultEntryType readBlock(long segmentId, long offset, int length, TestContext context) throws Exception {
+        @Cleanup
+        ReadResult result = context.readIndex.read(segmentId, offset, length, TIMEOUT);
+        ReadResultEntry resultEntry = result.next();
+        CompletableFuture<Void> insertedInCache = new CompletableFuture<>();
+        context.cacheStorage.insertCallback = address -> insertedInCache.complete(null);
+        resultEntry.requestContent(TIMEOUT);
+        BufferView contents = resultEntry.getContent().get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        Assert.assertEquals("Unexpected ReadResultEntry length.", length, contents.getLength());
+        if (resultEntry.getType() == ReadResultEntryType.Storage) {
+            insertedInCache.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+            // The cache insert callback is invoked before the data is added to the index; wait for that too.
+            TestUtils.await(() -> context.readIndex.getIndex(segmentId).isCached(offset), 10, TIMEOUT.toMillis());
+        }
+
+        context.cacheStorage.insertCallback = null;
+        return resultEntry.getType();
+    }
+
     private void createSegmentsInStorage(TestContext context) {
         for (long segmentId : context.metadata.getAllStreamSegmentIds()) {
             SegmentMetadata sm = context.metadata.getStreamSegmentMetadata(segmentId);
@@ -2543,6 +2848,7 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         Runnable beforeInsert;
         Consumer<Integer> insertCallback;
         Consumer<Integer> deleteCallback;
+        Consumer<Integer> getCallback;
         boolean disableAppends;
         boolean usedBytesSameAsStoredBytes;
         ReusableLatch appendComplete; // If set, will invoke ReusableLatch.release() when append is done (before appendReturnBlocker).
@@ -2597,6 +2903,16 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
             return result;
         }
 
+        @Override
+        public BufferView get(int address) {
+            Consumer<Integer> callback = this.getCallback;
+            if (callback != null) {
+                callback.accept(address);
+            }
+
+            return super.get(address);
+        }
+
         @Override
         public void delete(int address) {
             Consumer<Integer> beforeDelete = this.beforeDelete;
@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.reading;
+
+import io.pravega.common.io.FileHelpers;
+import io.pravega.common.io.SerializationException;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.test.common.AssertExtensions;
+import java.io.EOFException;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link ReadIndexSnapshot} class.
+ */
+public class ReadIndexSnapshotTests {
+    private static final int CONTAINER_ID = 123;
+    private static final long SEQUENCE_NUMBER = 1234L;
+    private static final int ENTRY_COUNT = 10;
+    private static final long MAX_LENGTH = 1024 * 1024;
+    private final Random rnd = new Random(0);
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        this.directory = Files.createTempDirectory("readindex-snapshot").toFile().getAbsoluteFile();
+    }
+
+    @After
+    public void tearDown() {
+        if (this.directory != null) {
+            FileHelpers.deleteFileOrDirectory(this.directory);
+        }
+    }
+
+    /**
+     * Tests writing and reading back a snapshot.
+     */
+    @Test
+    public void testWriteRead() throws Exception {
+        val snapshot = new ReadIndexSnapshot(this.directory.toPath(), CONTAINER_ID);
+        Assert.assertFalse(snapshot.exists());
+
+        val entries = generateEntries();
+        write(snapshot, entries);
+        Assert.assertTrue(snapshot.exists());
+
+        @Cleanup
+        val reader = snapshot.createReader(MAX_LENGTH);
+        Assert.assertEquals(SEQUENCE_NUMBER, reader.getSequenceNumber());
+        for (val expected : entries) {
+            val actual = reader.getNext();
+            Assert.assertEquals(expected.getSegmentId(), actual.getSegmentId());
+            Assert.assertEquals(expected.getSegmentName(), actual.getSegmentName());
+            Assert.assertEquals(expected.getCreationTime(), actual.getCreationTime());
+            Assert.assertEquals(expected.getOffset(), actual.getOffset());
+            Assert.assertEquals(expected.getData(), actual.getData());
+        }
+
+        Assert.assertNull("Not expecting any more entries.", reader.getNext());
+        Assert.assertNull("Not expecting any more entries.", reader.getNext());
+
+        snapshot.delete();
+        Assert.assertFalse(snapshot.exists());
+    }
+
+    /**
+     * Tests that an uncommitted snapshot does not replace the existing one.
+     */
+    @Test
+    public void testUncommitted() throws Exception {
+        val snapshot = new ReadIndexSnapshot(this.directory.toPath(), CONTAINER_ID);
+        val entries = generateEntries();
+        write(snapshot, entries);
+
+        try (val writer = snapshot.createWriter(SEQUENCE_NUMBER + 1)) {
+            writer.write(entries.get(0));
+        }
+
+        @Cleanup
+        val reader = snapshot.createReader(MAX_LENGTH);
+        Assert.assertEquals("Uncommitted snapshot replaced existing one.", SEQUENCE_NUMBER, reader.getSequenceNumber());
+        Assert.assertEquals("Temporary file not deleted.", 1, this.directory.listFiles().length);
+    }
+
+    /**
+     * Tests the ability to detect snapshots for different containers, as well as corrupted and truncated snapshots.
+     */
+    @Test
+    public void testInvalidSnapshots() throws Exception {
+        val snapshot = new ReadIndexSnapshot(this.directory.toPath(), CONTAINER_ID);
+        val entries = generateEntries();
+        write(snapshot, entries);
+
+        // Different container.
+        Files.copy(snapshot.getPath(), new ReadIndexSnapshot(this.directory.toPath(), CONTAINER_ID + 1).getPath());
+        AssertExtensions.assertThrows(
+                "Snapshot for a different container was accepted.",
+                () -> new ReadIndexSnapshot(this.directory.toPath(), CONTAINER_ID + 1).createReader(MAX_LENGTH),
+                ex -> ex instanceof SerializationException);
+
+        // Corrupted data (flip a byte in the last entry's data).
+        val file = snapshot.getPath().toFile();
+        try (val f = new RandomAccessFile(file, "rw")) {
+            long position = f.length() - Long.BYTES - 2;
+            f.seek(position);
+            int b = f.read();
+            f.seek(position);
+            f.write(b ^ 0xFF);
+        }
+
+        try (val reader = snapshot.createReader(MAX_LENGTH)) {
+            for (int i = 0; i < entries.size() - 1; i++) {
+                Assert.assertNotNull(reader.getNext());
+            }
+
+            AssertExtensions.assertThrows(
+                    "Corrupted entry was accepted.",
+                    reader::getNext,
+                    ex -> ex instanceof SerializationException);
+        }
+
+        // Truncated file.
+        try (val f = new RandomAccessFile(file, "rw")) {
+            f.setLength(f.length() / 2);
+        }
+
+        try (val reader = snapshot.createReader(MAX_LENGTH)) {
+            AssertExtensions.assertThrows(
+                    "Truncated snapshot was read fully.",
+                    () -> {
+                        while (reader.getNext() != null) {
+                            // Keep reading.
+                        }
+                    },
+                    ex -> ex instanceof EOFException || ex instanceof SerializationException);
+        }
+    }
+
+    /**
+     * Tests the ability to reject entries with invalid lengths before allocating buffers for them.
+     */
+    @Test
+    public void testInvalidLengths() throws Exception {
+        val snapshot = new ReadIndexSnapshot(this.directory.toPath(), CONTAINER_ID);
+        val entries = generateEntries();
+        write(snapshot, entries);
+
+        // Snapshot exceeds the max length.
+        long totalLength = entries.stream().mapToLong(e -> e.getData().getLength()).sum();
+        try (val reader = snapshot.createReader(totalLength - 1)) {
+            for (int i = 0; i < entries.size() - 1; i++) {
+                Assert.assertNotNull(reader.getNext());
+            }
+
+            AssertExtensions.assertThrows(
+                    "Snapshot exceeding the max length was accepted.",
+                    reader::getNext,
+                    ex -> ex instanceof SerializationException);
+        }
+
+        // Entry length exceeds the file length (overwrite the last entry's length).
+        val file = snapshot.getPath().toFile();
+        try (val f = new RandomAccessFile(file, "rw")) {
+            f.seek(f.length() - Long.BYTES - entries.get(entries.size() - 1).getData().getLength() - Integer.BYTES);
+            f.writeInt(Integer.MAX_VALUE);
+        }
+
+        try (val reader = snapshot.createReader(Long.MAX_VALUE)) {
+            for (int i = 0; i < entries.size() - 1; i++) {
+                Assert.assertNotNull(reader.getNext());
+            }
+
+            AssertExtensions.assertThrows(
+                    "Entry with a length exceeding the file length was accepted.",
+                    reader::getNext,
+                    ex -> ex instanceof SerializationException);
+        }
+    }
+
+    private void write(ReadIndexSnapshot snapshot, List<ReadIndexSnapshot.Entry> entries) throws Exception {
+        try (val writer = snapshot.createWriter(SEQUENCE_NUMBER)) {
+            for (val e : entries) {
+                writer.write(e);
+            }
+
+            Assert.assertEquals(entries.stream().mapToLong(e -> e.getData().getLength()).sum(), writer.getLength());
+            writer.commit();
+        }
+    }
+
+    private List<ReadIndexSnapshot.Entry> generateEntries() {
+        val result = new ArrayList<ReadIndexSnapshot.Entry>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            val data = new byte[i * 100 + 1];
+            this.rnd.nextBytes(data);
+            result.add(new ReadIndexSnapshot.Entry(i, "Segment_" + i, 1000 + i, i * 10000L, new ByteArraySegment(data)));
+        }
+
+        return result;
+    }
+}
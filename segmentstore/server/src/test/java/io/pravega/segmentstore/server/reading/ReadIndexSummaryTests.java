@@ -10,6 +10,7 @@
 package io.pravega.segmentstore.server.reading;
 
 import io.pravega.segmentstore.server.CacheManager;
+import io.pravega.test.common.AssertExtensions;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -151,4 +152,39 @@ public class ReadIndexSummaryTests {
         currentStatus = s.toCacheStatus();
         Assert.assertTrue("Expected cache to be empty after removing all items.", currentStatus.isEmpty());
     }
+
+    /**
+     * Tests the functionality of demoteOne - moving an item from one generation to the oldest generation.
+     */
+    @Test
+    public void testDemoteOne() {
+        ReadIndexSummary s = new ReadIndexSummary();
+        s.setCurrentGeneration(GENERATION_COUNT);
+        for (int i = 0; i < ITEMS_PER_GENERATION; i++) {
+            s.addOne();
+        }
+
+        // Oldest generation is 0 by default.
+        Assert.assertEquals("Unexpected return value from demoteOne().", 0, s.demoteOne(GENERATION_COUNT));
+        CacheManager.CacheStatus currentStatus = s.toCacheStatus();
+        Assert.assertEquals("Unexpected oldest generation.", 0, currentStatus.getOldestGeneration());
+        Assert.assertEquals("Unexpected newest generation.", GENERATION_COUNT, currentStatus.getNewestGeneration());
+
+        // Update the oldest generation and demote again.
+        final int oldestGeneration = GENERATION_COUNT / 2;
+        s.setOldestGeneration(oldestGeneration);
+        s.setOldestGeneration(oldestGeneration - 1); // This should have no effect.
+        Assert.assertEquals("Unexpected return value from demoteOne().", oldestGeneration, s.demoteOne(GENERATION_COUNT));
+
+        // A demoted item should be promoted when touched.
+        Assert.assertEquals("Unexpected return value from touchOne().", GENERATION_COUNT, s.touchOne(oldestGeneration));
+        s.removeOne(0);
+        currentStatus = s.toCacheStatus();
+        Assert.assertEquals("Unexpected oldest generation after touching.", GENERATION_COUNT, currentStatus.getOldestGeneration());
+
+        AssertExtensions.assertThrows(
+                "setOldestGeneration() accepted a value larger than the current generation.",
+                () -> s.setOldestGeneration(GENERATION_COUNT + 1),
+                ex -> ex instanceof IllegalArgumentException);
+    }
 }
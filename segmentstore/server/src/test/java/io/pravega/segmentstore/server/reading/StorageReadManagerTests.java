@@ -24,12 +24,21 @@ import io.pravega.test.common.IntentionalException;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.io.ByteArrayInputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import java.util.function.Supplier;
 import lombok.Cleanup;
 import lombok.val;
@@ -217,6 +226,185 @@ public class StorageReadManagerTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests the ability to detect sequential reads and issue read-ahead requests ahead of them, as well as the ability
+     * to cancel read-ahead requests when the sequential pattern is no longer tracked.
+     */
+    @Test
+    public void testReadAhead() {
+        final int alignment = 100;
+        final int depth = 3;
+        final int window = 2;
+        val metadata = new StreamSegmentMetadata(SEGMENT_METADATA.getName(), 0, 0);
+        metadata.setLength(10 * alignment);
+        metadata.setStorageLength(10 * alignment);
+        TestStorage storage = new TestStorage();
+        AtomicInteger storageReadCount = new AtomicInteger();
+        storage.readImplementation = () -> {
+            storageReadCount.incrementAndGet();
+            return new CompletableFuture<>(); // Never complete - simulates a high latency read.
+        };
+
+        @Cleanup
+        StorageReadManager reader = new StorageReadManager(metadata, storage, executorService(), depth, window, alignment);
+        val readAheads = Collections.synchronizedMap(new HashMap<Long, CompletableFuture<StorageReadManager.Result>>());
+        val factory = new ReadAheadFactory(readAheads);
+
+        // The first read does not establish a pattern.
+        reader.notifyRead(0, alignment, factory);
+        Assert.assertEquals("Not expecting any read-ahead before the window is filled.", 0, readAheads.size());
+
+        // The second sequential read should trigger read-ahead up to the configured depth.
+        reader.notifyRead(alignment, alignment, factory);
+        Assert.assertEquals(offsets(2, 4, alignment), sorted(readAheads.keySet()));
+        Assert.assertEquals(depth, storageReadCount.get());
+        Assert.assertTrue(factory.requests.stream().allMatch(StorageReadManager.Request::isReadAhead));
+
+        // A reader that asks for data that is being read ahead should attach to that request instead of issuing a new read.
+        CompletableFuture<StorageReadManager.Result> readerCompletion = sendRequest(reader, 2 * alignment, alignment);
+        Assert.assertEquals("Not expecting a Storage Read for a range that is being read ahead.", depth, storageReadCount.get());
+
+        // Continuing the pattern should only read ahead what is not already pending.
+        reader.notifyRead(2 * alignment, alignment, factory);
+        Assert.assertEquals(offsets(2, 5, alignment), sorted(readAheads.keySet()));
+        Assert.assertEquals(depth + 1, storageReadCount.get());
+
+        // A read elsewhere in the Segment begins a new pattern; it should not cancel the existing read-ahead requests.
+        val firstReadAheads = new HashMap<>(readAheads);
+        reader.notifyRead(alignment / 2, 1, factory);
+        Assert.assertTrue(firstReadAheads.values().stream().noneMatch(CompletableFuture::isDone));
+
+        // Establish the new pattern. We should read ahead from its position, with aligned requests, skipping over the
+        // range that is still pending.
+        readAheads.clear();
+        reader.notifyRead(alignment / 2 + 1, 1, factory);
+        long readAheadStart = alignment / 2 + 2;
+        Assert.assertEquals(Arrays.asList(readAheadStart, (long) alignment), sorted(readAheads.keySet()));
+        Assert.assertEquals(2L * alignment, factory.requests.get(factory.requests.size() - 1).getEndOffset());
+        val secondReadAheads = new HashMap<>(readAheads);
+
+        // Begin enough new patterns to evict the existing ones. All their read-ahead requests that nobody is waiting on
+        // should be cancelled.
+        for (int i = 0; i < StorageReadManager.MAX_READ_PATTERNS; i++) {
+            reader.notifyRead(9 * alignment + 2 * i, 1, factory);
+        }
+
+        Assert.assertFalse("Not expecting a read-ahead request with a dependent to be cancelled.", firstReadAheads.get(2L * alignment).isDone());
+        Assert.assertFalse(readerCompletion.isDone());
+        firstReadAheads.remove(2L * alignment);
+        firstReadAheads.putAll(secondReadAheads);
+        for (val e : firstReadAheads.entrySet()) {
+            AssertExtensions.assertThrows(
+                    "Read-ahead request was not cancelled for offset " + e.getKey(),
+                    e.getValue()::join,
+                    ex -> ex instanceof CancellationException);
+        }
+    }
+
+    /**
+     * Tests that the read-ahead patterns of multiple readers whose reads are interleaved are tracked independently, and
+     * that a read which begins before the end of the previously requested range (i.e., a short read) continues a pattern.
+     */
+    @Test
+    public void testReadAheadInterleavedReaders() {
+        final int alignment = 100;
+        final int depth = 2;
+        final int window = 2;
+        final long secondReaderStart = 10 * alignment;
+        val metadata = new StreamSegmentMetadata(SEGMENT_METADATA.getName(), 0, 0);
+        metadata.setLength(20 * alignment);
+        metadata.setStorageLength(20 * alignment);
+        TestStorage storage = new TestStorage();
+        storage.readImplementation = CompletableFuture::new;
+
+        @Cleanup
+        StorageReadManager reader = new StorageReadManager(metadata, storage, executorService(), depth, window, alignment);
+        val readAheads = Collections.synchronizedMap(new HashMap<Long, CompletableFuture<StorageReadManager.Result>>());
+        val factory = new ReadAheadFactory(readAheads);
+
+        // Neither reader has established a pattern yet.
+        reader.notifyRead(0, 2 * alignment, factory);
+        reader.notifyRead(secondReaderStart, alignment, factory);
+        Assert.assertEquals(0, readAheads.size());
+
+        // The first reader only received half of what it asked for; its next read is still sequential.
+        reader.notifyRead(alignment, 2 * alignment, factory);
+        Assert.assertEquals(offsets(3, 4, alignment), sorted(readAheads.keySet()));
+
+        reader.notifyRead(secondReaderStart + alignment, alignment, factory);
+        Assert.assertEquals(Arrays.asList(3L * alignment, 4L * alignment, secondReaderStart + 2 * alignment, secondReaderStart + 3 * alignment),
+                sorted(readAheads.keySet()));
+
+        // Keep interleaving the readers. Each pattern should advance independently, without cancelling the other's requests.
+        reader.notifyRead(3 * alignment, alignment, factory);
+        reader.notifyRead(secondReaderStart + 2 * alignment, alignment, factory);
+        Assert.assertEquals(Arrays.asList(3L * alignment, 4L * alignment, 5L * alignment,
+                secondReaderStart + 2 * alignment, secondReaderStart + 3 * alignment, secondReaderStart + 4 * alignment),
+                sorted(readAheads.keySet()));
+        Assert.assertTrue("Not expecting any read-ahead request to be cancelled.",
+                readAheads.values().stream().noneMatch(CompletableFuture::isDone));
+    }
+
+    /**
+     * Tests that read-ahead does not go beyond the Storage Length of the Segment and that it is cancelled if the request
+     * factory declines to create requests (i.e., under cache pressure).
+     */
+    @Test
+    public void testReadAheadLimits() {
+        final int alignment = 100;
+        final int storageLength = 2 * alignment + alignment / 2;
+        val metadata = new StreamSegmentMetadata(SEGMENT_METADATA.getName(), 0, 0);
+        metadata.setLength(10 * alignment);
+        metadata.setStorageLength(storageLength);
+        TestStorage storage = new TestStorage();
+        storage.readImplementation = CompletableFuture::new;
+
+        @Cleanup
+        StorageReadManager reader = new StorageReadManager(metadata, storage, executorService(), 5, 1, alignment);
+        val readAheads = Collections.synchronizedMap(new HashMap<Long, CompletableFuture<StorageReadManager.Result>>());
+        val factory = new ReadAheadFactory(readAheads);
+
+        // We can only read ahead until the Storage Length, and the last request should be truncated at it.
+        reader.notifyRead(0, alignment, factory);
+        Assert.assertEquals(offsets(1, 2, alignment), sorted(readAheads.keySet()));
+        val lastRequest = factory.requests.get(factory.requests.size() - 1);
+        Assert.assertEquals(storageLength, lastRequest.getEndOffset());
+
+        // Nothing more to read ahead.
+        reader.notifyRead(alignment, alignment, factory);
+        Assert.assertEquals(2, factory.requests.size());
+
+        // Simulate cache pressure. This should cancel existing read-ahead requests.
+        metadata.setStorageLength(10 * alignment);
+        factory.decline = true;
+        reader.notifyRead(2 * alignment, alignment, factory);
+        Assert.assertTrue("Expected all read-ahead requests to be cancelled.", readAheads.values().stream().allMatch(CompletableFuture::isCompletedExceptionally));
+
+        // Read-ahead disabled.
+        @Cleanup
+        StorageReadManager noReadAhead = new StorageReadManager(metadata, storage, executorService());
+        factory.decline = false;
+        factory.requests.clear();
+        for (int i = 0; i < 10; i++) {
+            noReadAhead.notifyRead(i * alignment, alignment, factory);
+        }
+
+        Assert.assertEquals("Not expecting any read-ahead when disabled.", 0, factory.requests.size());
+    }
+
+    private List<Long> offsets(int fromBlock, int toBlock, int alignment) {
+        val result = new ArrayList<Long>();
+        for (int i = fromBlock; i <= toBlock; i++) {
+            result.add((long) i * alignment);
+        }
+
+        return result;
+    }
+
+    private List<Long> sorted(Collection<Long> offsets) {
+        return offsets.stream().sorted().collect(Collectors.toList());
+    }
+
     private byte[] populateSegment(Storage storage) {
         Random random = RandomFactory.create();
         int length = MIN_SEGMENT_LENGTH + random.nextInt(MAX_SEGMENT_LENGTH - MIN_SEGMENT_LENGTH);
@@ -228,6 +416,32 @@ public class StorageReadManagerTests extends ThreadPooledTestSuite {
         return segmentData;
     }
 
+    /**
+     * Creates read-ahead requests and records their completion futures, keyed by offset.
+     */
+    private static class ReadAheadFactory implements BiFunction<Long, Integer, StorageReadManager.Request> {
+        final Map<Long, CompletableFuture<StorageReadManager.Result>> completions;
+        final List<StorageReadManager.Request> requests = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean decline;
+
+        ReadAheadFactory(Map<Long, CompletableFuture<StorageReadManager.Result>> completions) {
+            this.completions = completions;
+        }
+
+        @Override
+        public StorageReadManager.Request apply(Long offset, Integer length) {
+            if (this.decline) {
+                return null;
+            }
+
+            CompletableFuture<StorageReadManager.Result> completion = new CompletableFuture<>();
+            val request = new StorageReadManager.Request(offset, length, completion::complete, completion::completeExceptionally, TIMEOUT);
+            this.completions.put(offset, completion);
+            this.requests.add(request);
+            return request;
+        }
+    }
+
     private static class TestStorage implements ReadOnlyStorage {
         Supplier<CompletableFuture<Integer>> readImplementation;
 
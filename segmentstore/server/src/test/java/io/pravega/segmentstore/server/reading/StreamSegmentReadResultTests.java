@@ -14,7 +14,6 @@ import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
 import io.pravega.segmentstore.contracts.ReadResultEntryType;
 import io.pravega.test.common.AssertExtensions;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import lombok.Cleanup;
@@ -35,24 +34,33 @@ public class StreamSegmentReadResultTests {
     public Timeout globalTimeout = Timeout.seconds(10);
 
     /**
-     * Tests the ability to properly set Copy-on-Read.
+     * Tests the ability to properly set Copy-on-Read and Retain-on-Read.
      */
     @Test
     public void testCopyOnRead() {
-        AtomicBoolean expectedMakeCopy = new AtomicBoolean(true);
-        StreamSegmentReadResult.NextEntrySupplier nes = (offset, length, makeCopy) -> {
-            Assert.assertEquals(expectedMakeCopy.get(), makeCopy);
+        AtomicReference<StreamSegmentReadResult.CacheReadMode> expectedMode = new AtomicReference<>(StreamSegmentReadResult.CacheReadMode.Copy);
+        StreamSegmentReadResult.NextEntrySupplier nes = (offset, length, cacheReadMode) -> {
+            Assert.assertEquals(expectedMode.get(), cacheReadMode);
             return TestReadResultEntry.endOfSegment(offset, length);
         };
         @Cleanup
         StreamSegmentReadResult r1 = new StreamSegmentReadResult(START_OFFSET, MAX_RESULT_LENGTH, nes, "");
+        Assert.assertFalse(r1.isRetainOnRead());
         r1.next();
 
         @Cleanup
         StreamSegmentReadResult r2 = new StreamSegmentReadResult(START_OFFSET, MAX_RESULT_LENGTH, nes, "");
         r2.setCopyOnRead(false);
-        expectedMakeCopy.set(false);
+        expectedMode.set(StreamSegmentReadResult.CacheReadMode.View);
         r2.next();
+
+        // Retain-on-Read takes precedence over Copy-on-Read.
+        @Cleanup
+        StreamSegmentReadResult r3 = new StreamSegmentReadResult(START_OFFSET, MAX_RESULT_LENGTH, nes, "");
+        r3.setRetainOnRead(true);
+        Assert.assertTrue(r3.isRetainOnRead());
+        expectedMode.set(StreamSegmentReadResult.CacheReadMode.Retain);
+        r3.next();
     }
 
     /**
@@ -9,6 +9,10 @@
  */
 package io.pravega.segmentstore.server.store;
 
+import io.pravega.common.util.InvalidPropertyValueException;
+import io.pravega.test.common.AssertExtensions;
+import java.util.Arrays;
+import java.util.Collections;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -69,6 +73,60 @@ public class ServiceConfigTests {
         assertEquals("", config.getKeyFile());
     }
 
+    @Test
+    public void testCacheSpillConfig() {
+        ServiceConfig defaultConfig = ServiceConfig.builder()
+                .with(ServiceConfig.CONTAINER_COUNT, 1)
+                .build();
+        assertEquals(0, defaultConfig.getCacheSpillMaxSize());
+        assertEquals(System.getProperty("java.io.tmpdir"), defaultConfig.getCacheSpillPath());
+
+        ServiceConfig config = ServiceConfig.builder()
+                .with(ServiceConfig.CONTAINER_COUNT, 1)
+                .with(ServiceConfig.CACHE_SPILL_MAX_SIZE, 1024L * 1024 * 1024)
+                .with(ServiceConfig.CACHE_SPILL_PATH, "/spill")
+                .build();
+        assertEquals(1024L * 1024 * 1024, config.getCacheSpillMaxSize());
+        assertEquals("/spill", config.getCacheSpillPath());
+
+        AssertExtensions.assertThrows(
+                "Negative spill size was accepted.",
+                () -> ServiceConfig.builder()
+                        .with(ServiceConfig.CONTAINER_COUNT, 1)
+                        .with(ServiceConfig.CACHE_SPILL_MAX_SIZE, -1L)
+                        .build(),
+                ex -> ex instanceof InvalidPropertyValueException);
+    }
+
+    @Test
+    public void testPriorityContainerStarts() {
+        ServiceConfig defaultConfig = ServiceConfig.builder()
+                .with(ServiceConfig.CONTAINER_COUNT, 1)
+                .build();
+        assertEquals(Collections.emptyList(), defaultConfig.getPriorityContainerStarts());
+
+        ServiceConfig config = ServiceConfig.builder()
+                .with(ServiceConfig.CONTAINER_COUNT, 8)
+                .with(ServiceConfig.PRIORITY_CONTAINER_STARTS, "5, 0,3")
+                .build();
+        assertEquals(Arrays.asList(5, 0, 3), config.getPriorityContainerStarts());
+
+        AssertExtensions.assertThrows(
+                "Invalid container id accepted.",
+                () -> ServiceConfig.builder()
+                        .with(ServiceConfig.CONTAINER_COUNT, 1)
+                        .with(ServiceConfig.PRIORITY_CONTAINER_STARTS, "1,a")
+                        .build(),
+                ex -> ex instanceof InvalidPropertyValueException);
+        AssertExtensions.assertThrows(
+                "Negative container id accepted.",
+                () -> ServiceConfig.builder()
+                        .with(ServiceConfig.CONTAINER_COUNT, 1)
+                        .with(ServiceConfig.PRIORITY_CONTAINER_STARTS, "-1")
+                        .build(),
+                ex -> ex instanceof InvalidPropertyValueException);
+    }
+
     // region Tests that verify the toString() method.
 
     @Test
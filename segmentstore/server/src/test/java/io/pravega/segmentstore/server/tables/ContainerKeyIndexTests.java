@@ -50,6 +50,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -331,6 +332,86 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
         checkKeyOffsets(hashes, keysWithOffsets, result2);
     }
 
+    /**
+     * Tests the ability of the {@link ContainerKeyIndex#getBucketOffsets} to use a {@link KeyHashFilter} to rule out
+     * Key Hashes which do not exist in the index (without reading from it), as well as the ability to keep the
+     * {@link KeyHashFilter} up to date with index updates (via {@link ContainerKeyIndex#notifyBucketsIndexing}).
+     */
+    @Test
+    public void testKeyHashFilter() throws Exception {
+        @Cleanup
+        val context = new TestContext();
+        val iw = new IndexWriter(HASHER, executorService());
+
+        // Index half of the keys. The others do not exist.
+        val keys = generateUnversionedKeys(BATCH_SIZE + 1, context);
+        val newKey = keys.remove(keys.size() - 1);
+        val hashes = new ArrayList<UUID>();
+        val keysWithOffsets = new HashMap<UUID, KeyWithOffset>();
+        val missingHashes = new ArrayList<UUID>();
+        long offset = 0;
+        for (val k : keys) {
+            val hash = HASHER.hash(k.getKey());
+            hashes.add(hash);
+            if (hashes.size() % 2 == 0) {
+                keysWithOffsets.put(hash, new KeyWithOffset(k.getKey(), offset));
+                offset += k.getKey().getLength();
+            } else {
+                keysWithOffsets.put(hash, null);
+                missingHashes.add(hash);
+            }
+        }
+
+        updateBuckets(keysWithOffsets, iw, 0L, 1L, context);
+
+        // Record how many Key Hashes are looked up in the index.
+        val indexLookups = new AtomicInteger();
+        context.segment.setGetAttributesCallback(ids -> indexLookups.addAndGet(ids.size()));
+
+        // The first lookup goes to the index (and triggers the loading of the KeyHashFilter). Subsequent lookups for
+        // missing keys should not touch the index once the KeyHashFilter has been loaded.
+        checkKeyOffsets(hashes, keysWithOffsets, context.index.getBucketOffsets(context.segment, hashes, context.timer).join());
+        AssertExtensions.assertEventuallyEquals("Expected missing Key Hashes to be ruled out without reading the index.",
+                0,
+                () -> {
+                    indexLookups.set(0);
+                    val result = context.index.getBucketOffsets(context.segment, missingHashes, context.timer).join();
+                    Assert.assertTrue(result.values().stream().allMatch(o -> o == TableKey.NOT_EXISTS));
+                    return indexLookups.get();
+                },
+                10, TIMEOUT.toMillis());
+
+        // Existing keys must still be found.
+        checkKeyOffsets(hashes, keysWithOffsets, context.index.getBucketOffsets(context.segment, hashes, context.timer).join());
+
+        // Index a new key, with proper notification, and verify it can be found.
+        val newHash = HASHER.hash(newKey.getKey());
+        val newKeyWithOffset = Collections.singletonMap(newHash, new KeyWithOffset(newKey.getKey(), offset));
+        context.index.notifyBucketsIndexing(context.segment.getSegmentId(), newKeyWithOffset.keySet());
+        updateBuckets(newKeyWithOffset, iw, 1L, 2L, context);
+        indexLookups.set(0);
+        checkKeyOffsets(Collections.singletonList(newHash), newKeyWithOffset,
+                context.index.getBucketOffsets(context.segment, Collections.singletonList(newHash), context.timer).join());
+        Assert.assertEquals("Expected the new Key Hash to be looked up in the index.", 1, indexLookups.get());
+    }
+
+    private void updateBuckets(Map<UUID, KeyWithOffset> keysWithOffsets, IndexWriter iw, long firstIndexedOffset, long lastIndexedOffset,
+                               TestContext context) {
+        val buckets = iw.locateBuckets(context.segment, keysWithOffsets.keySet(), context.timer).join();
+        Collection<BucketUpdate> bucketUpdates = buckets.entrySet().stream()
+                .map(e -> {
+                    val builder = BucketUpdate.forBucket(e.getValue());
+                    val ko = keysWithOffsets.get(e.getKey());
+                    if (ko != null) {
+                        builder.withKeyUpdate(new BucketUpdate.KeyUpdate(ko.key, ko.offset, ko.offset, false));
+                    }
+
+                    return builder.build();
+                })
+                .collect(Collectors.toList());
+        iw.updateBuckets(context.segment, bucketUpdates, firstIndexedOffset, lastIndexedOffset, 0, TIMEOUT).join();
+    }
+
     /**
      * Tests the {@link ContainerKeyIndex#getBucketOffsetDirect} method.
      */
@@ -886,7 +967,7 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
         private class TestContainerKeyIndex extends ContainerKeyIndex {
             TestContainerKeyIndex(int containerId, @NonNull CacheManager cacheManager, @NonNull ContainerSortedKeyIndex sortedKeyIndex,
                                   @NonNull KeyHasher keyHasher, @NonNull ScheduledExecutorService executor) {
-                super(containerId, cacheManager, sortedKeyIndex, keyHasher, executor);
+                super(containerId, cacheManager, sortedKeyIndex, segmentInfo -> keyHasher, executor);
             }
 
             @Override
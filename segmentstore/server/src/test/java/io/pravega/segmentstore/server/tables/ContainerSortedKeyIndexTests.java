@@ -51,6 +51,7 @@ public class ContainerSortedKeyIndexTests extends ThreadPooledTestSuite {
     private static final int BATCH_COUNT = 100;
     private static final int MAX_ITEMS_PER_BATCH = 10;
     private static final int MAX_KEY_SIZE = 128;
+    private static final int ITERATOR_RANGE_CHECK_COUNT = 100;
     private static final Duration TIMEOUT = Duration.ofSeconds(30);
 
     @Override
@@ -266,6 +267,64 @@ public class ContainerSortedKeyIndexTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests iterators with a key range (inclusive lower bound, exclusive upper bound), with and without a prefix.
+     */
+    @Test
+    public void testIteratorsRange() {
+        val maxPrefixValue = 10;
+        val context = new TestContext();
+        Function<byte[], byte[]> addPrefix = array -> {
+            val result = new byte[array.length + 1];
+            result[0] = (byte) (array.length % maxPrefixValue);
+            System.arraycopy(array, 0, result, 1, array.length);
+            return result;
+        };
+        val testItems = generateTestData(2 * BATCH_COUNT, 0.4, addPrefix);
+
+        // First half is persisted, second half is in the tail.
+        int halfIndex = testItems.size() / 2;
+        for (int i = 0; i < halfIndex; i++) {
+            context.segmentIndex.persistUpdate(Collections.singleton(testItems.get(i).getBucketUpdate()), TIMEOUT).join();
+        }
+
+        context.containerIndex.notifyIndexOffsetChanged(SEGMENT_ID, testItems.get(halfIndex).batchOffset);
+        for (int i = halfIndex; i < testItems.size(); i++) {
+            context.segmentIndex.includeTailUpdate(testItems.get(i).batch, testItems.get(i).batchOffset);
+        }
+
+        val allExpectedItems = testItems.get(testItems.size() - 1).expectedItems;
+        val rnd = new Random(0);
+        for (int i = 0; i < ITERATOR_RANGE_CHECK_COUNT; i++) {
+            int fromIndex = rnd.nextInt(allExpectedItems.size());
+            int toIndex = fromIndex + rnd.nextInt(allExpectedItems.size() - fromIndex);
+            val fromKey = allExpectedItems.get(fromIndex);
+            val toKey = allExpectedItems.get(toIndex);
+
+            // Range only.
+            val expectedItems = allExpectedItems.subList(fromIndex, toIndex);
+            val actualItems = context.getKeys(context.segmentIndex.iterator(
+                    context.segmentIndex.getIteratorRange(fromKey, true, toKey, null), TIMEOUT));
+            AssertExtensions.assertListEquals("Range iterator [" + fromIndex + ", " + toIndex + ").",
+                    expectedItems, actualItems, BufferView::equals);
+
+            // Range intersected with a prefix.
+            val prefix = new ByteArraySegment(new byte[]{fromKey.get(0)});
+            val expectedPrefixItems = expectedItems.stream().filter(a -> isPrefixOf(prefix, a) && !a.equals(prefix)).collect(Collectors.toList());
+            val actualPrefixItems = context.getKeys(context.segmentIndex.iterator(
+                    context.segmentIndex.getIteratorRange(fromKey, true, toKey, prefix), TIMEOUT));
+            AssertExtensions.assertListEquals("Range iterator with prefix [" + fromIndex + ", " + toIndex + ").",
+                    expectedPrefixItems, actualPrefixItems, BufferView::equals);
+        }
+
+        // Empty ranges.
+        val key = allExpectedItems.get(allExpectedItems.size() / 2);
+        Assert.assertTrue("Not expecting any items for an empty range.", context.getKeys(context.segmentIndex.iterator(
+                context.segmentIndex.getIteratorRange(key, true, key, null), TIMEOUT)).isEmpty());
+        Assert.assertTrue("Not expecting any items for an inverted range.", context.getKeys(context.segmentIndex.iterator(
+                context.segmentIndex.getIteratorRange(key, true, allExpectedItems.get(0), null), TIMEOUT)).isEmpty());
+    }
+
     private boolean isPrefixOf(ArrayView prefix, ArrayView array) {
         for (int i = 0; i < prefix.getLength(); i++) {
             if (prefix.get(i) != array.get(i)) {
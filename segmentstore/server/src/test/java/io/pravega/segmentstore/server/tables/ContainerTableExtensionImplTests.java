@@ -30,6 +30,7 @@ import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -107,6 +108,42 @@ public class ContainerTableExtensionImplTests extends ThreadPooledTestSuite {
                 ex -> ex instanceof StreamSegmentNotExistsException);
     }
 
+    /**
+     * Tests the ability to select the {@link KeyHasher} for a Table Segment when it is created and that Table Segments
+     * created without this option continue to use {@link KeyHasher#sha256()}.
+     */
+    @Test
+    public void testKeyHasherSelection() {
+        @Cleanup
+        val context = new TableContext(executorService());
+        @Cleanup
+        val ext = new ContainerTableExtensionImpl(context.container, context.cacheManager, executorService());
+
+        // Table Segments which do not specify a KeyHasher (including those created before this was introduced).
+        val legacyMetadata = context.createSegmentMetadata();
+        Assert.assertSame("Unexpected KeyHasher for Table Segment with no KEY_HASHER attribute.",
+                KeyHasher.sha256(), KeyHasher.forSegment(legacyMetadata));
+        legacyMetadata.updateAttributes(Collections.singletonMap(TableAttributes.KEY_HASHER, Long.MAX_VALUE));
+        AssertExtensions.assertThrows(
+                "Unsupported KEY_HASHER attribute value.",
+                () -> KeyHasher.forSegment(legacyMetadata),
+                ex -> ex instanceof IllegalArgumentException);
+
+        // Table Segment using the fast KeyHasher.
+        ext.createSegment(SEGMENT_NAME, SegmentType.builder().fastHashTableSegment().build(), TIMEOUT).join();
+        val segmentInfo = context.segment().getInfo();
+        Assert.assertEquals("Unexpected KEY_HASHER attribute value.",
+                KeyHasher.MURMUR3_128, (long) segmentInfo.getAttributes().get(TableAttributes.KEY_HASHER));
+        Assert.assertSame("Unexpected KeyHasher for fast hash Table Segment.", KeyHasher.murmur3(), KeyHasher.forSegment(segmentInfo));
+
+        val key = new ByteArraySegment("key".getBytes());
+        val value = new ByteArraySegment("value".getBytes());
+        ext.put(SEGMENT_NAME, Collections.singletonList(TableEntry.notExists(key, value)), TIMEOUT).join();
+        val entries = ext.get(SEGMENT_NAME, Collections.singletonList(key), TIMEOUT).join();
+        Assert.assertEquals("Unexpected value read back.", value, entries.get(0).getValue());
+        Assert.assertNotEquals("Expected different hashes from different KeyHashers.", KeyHasher.sha256().hash(key), KeyHasher.murmur3().hash(key));
+    }
+
     /**
      * Tests to make sure that any invalid state passed to an iterator during instantiation is handled accordingly.
      */
@@ -219,6 +256,57 @@ public class ContainerTableExtensionImplTests extends ThreadPooledTestSuite {
         Assert.assertTrue(entries.size() == 1);
     }
 
+    /**
+     * Tests the {@link ContainerTableExtensionImpl#update} method, which atomically updates and removes keys.
+     */
+    @Test
+    public void testUpdateAndRemove() {
+        @Cleanup
+        val context = new TableContext(executorService());
+        context.ext.createSegment(SEGMENT_NAME, SegmentType.TABLE_SEGMENT_SORTED, TIMEOUT).join();
+        val key1 = new ByteArraySegment("key1".getBytes());
+        val key2 = new ByteArraySegment("key2".getBytes());
+        val key3 = new ByteArraySegment("key3".getBytes());
+        val value1 = new ByteArraySegment("value1".getBytes());
+        val value2 = new ByteArraySegment("value2".getBytes());
+        val versions = context.ext.put(SEGMENT_NAME, Arrays.asList(TableEntry.notExists(key1, value1), TableEntry.notExists(key2, value1)), TIMEOUT).join();
+
+        // A Key may not be both updated and removed.
+        AssertExtensions.assertThrows(
+                "update() accepted the same key for both update and removal.",
+                () -> context.ext.update(SEGMENT_NAME, Collections.singletonList(TableEntry.unversioned(key1, value2)),
+                        Collections.singleton(TableKey.unversioned(key1)), TIMEOUT),
+                ex -> ex instanceof IllegalArgumentException);
+
+        // Conditionally update key1, insert key3 and remove key2, all at once.
+        val updateVersions = context.ext.update(SEGMENT_NAME,
+                Arrays.asList(TableEntry.versioned(key1, value2, versions.get(0)), TableEntry.notExists(key3, value2)),
+                Collections.singleton(TableKey.versioned(key2, versions.get(1))), TIMEOUT).join();
+        Assert.assertEquals("Unexpected number of versions returned.", 2, updateVersions.size());
+        val result1 = context.ext.get(SEGMENT_NAME, Arrays.asList(key1, key2, key3), TIMEOUT).join();
+        Assert.assertEquals("Unexpected value for key1.", value2, result1.get(0).getValue());
+        Assert.assertEquals("Unexpected version for key1.", (long) updateVersions.get(0), result1.get(0).getKey().getVersion());
+        Assert.assertNull("Not expecting key2 to exist.", result1.get(1));
+        Assert.assertEquals("Unexpected value for key3.", value2, result1.get(2).getValue());
+        Assert.assertEquals("Unexpected version for key3.", (long) updateVersions.get(1), result1.get(2).getKey().getVersion());
+
+        // Failed condition on one key (key1 has a stale version): nothing should be applied.
+        AssertExtensions.assertSuppliedFutureThrows(
+                "update() worked with a bad key version.",
+                () -> context.ext.update(SEGMENT_NAME, Collections.singletonList(TableEntry.versioned(key1, value1, versions.get(0))),
+                        Collections.singleton(TableKey.unversioned(key3)), TIMEOUT),
+                ex -> ex instanceof BadKeyVersionException);
+        val result2 = context.ext.get(SEGMENT_NAME, Arrays.asList(key1, key2, key3), TIMEOUT).join();
+        Assert.assertEquals("Not expecting key1 to change.", result1.get(0).getKey().getVersion(), result2.get(0).getKey().getVersion());
+        Assert.assertNull("Not expecting key2 to exist.", result2.get(1));
+        Assert.assertNotNull("Not expecting key3 to be removed.", result2.get(2));
+
+        // Removals only (using the same method).
+        context.ext.update(SEGMENT_NAME, Collections.emptyList(), Arrays.asList(TableKey.unversioned(key1), TableKey.unversioned(key3)), TIMEOUT).join();
+        val result3 = context.ext.get(SEGMENT_NAME, Arrays.asList(key1, key2, key3), TIMEOUT).join();
+        Assert.assertTrue("Not expecting any keys to exist.", result3.stream().allMatch(Objects::isNull));
+    }
+
     /**
      * Tests the ability to perform unconditional updates using a single key at a time using a {@link KeyHasher} that is
      * not prone to collisions.
@@ -9,11 +9,13 @@
  */
 package io.pravega.segmentstore.server.tables;
 
+import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
 import io.pravega.test.common.AssertExtensions;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -95,6 +97,88 @@ public class EntrySerializerTests {
         Assert.assertEquals("Did not read the entire serialization.", serialization.length, offset);
     }
 
+    /**
+     * Tests the {@link EntrySerializer.EntryCursor} class, both when reading values and when skipping over them.
+     */
+    @Test
+    public void testEntryCursor() throws Exception {
+        val entries = generateEntries();
+        val keys = generateKeys();
+        val s = new EntrySerializer();
+
+        // Interleave updates (with and without explicit versions) and removals, each in its own buffer, so that the
+        // cursor has to read across buffer boundaries.
+        val expected = new ArrayList<TableEntry>();
+        val builder = BufferView.builder();
+        for (int i = 0; i < entries.size(); i++) {
+            val e = entries.get(i);
+            if (i % 3 == 0) {
+                builder.add(s.serializeRemoval(Collections.singleton(keys.get(i))));
+                expected.add(TableEntry.notExists(keys.get(i).getKey()));
+            } else if (i % 3 == 1) {
+                builder.add(s.serializeUpdateWithExplicitVersion(Collections.singleton(e)));
+                expected.add(e);
+            } else {
+                builder.add(s.serializeUpdate(Collections.singleton(e)));
+                expected.add(TableEntry.unversioned(e.getKey().getKey(), e.getValue()));
+            }
+        }
+
+        val serialization = builder.build();
+        final long startOffset = 1000;
+        for (boolean readValues : new boolean[]{true, false}) {
+            val cursor = new EntrySerializer.EntryCursor(serialization.getBufferViewReader(), startOffset, readValues);
+            for (int i = 0; i < expected.size(); i++) {
+                val e = expected.get(i);
+                long entryOffset = cursor.getNextOffset();
+                cursor.readNext();
+                Assert.assertEquals("Unexpected offset.", entryOffset, cursor.getOffset());
+                Assert.assertEquals("Unexpected next offset.", entryOffset + cursor.getTotalLength(), cursor.getNextOffset());
+                Assert.assertEquals("Unexpected key.", e.getKey().getKey(), cursor.getKey());
+                Assert.assertEquals("Unexpected key length.", e.getKey().getKey().getLength(), cursor.getKeyLength());
+                Assert.assertEquals("Unexpected value from isDeletion().", e.getValue() == null, cursor.isDeletion());
+                long expectedVersion = i % 3 == 1 ? e.getKey().getVersion() : entryOffset;
+                Assert.assertEquals("Unexpected version.", expectedVersion, cursor.getVersion());
+                Assert.assertEquals("Unexpected key version.", expectedVersion, cursor.toTableKey().getVersion());
+                if (readValues) {
+                    Assert.assertEquals("Unexpected value.", e.getValue(), cursor.getValue());
+                    if (cursor.isDeletion()) {
+                        AssertExtensions.assertThrows(
+                                "Able to create a TableEntry for a removal.",
+                                cursor::toTableEntry,
+                                ex -> ex instanceof IllegalStateException);
+                    } else {
+                        val entry = cursor.toTableEntry();
+                        Assert.assertEquals("Unexpected TableEntry value.", e.getValue(), entry.getValue());
+                        Assert.assertEquals("Unexpected TableEntry version.", expectedVersion, entry.getKey().getVersion());
+                    }
+                } else {
+                    AssertExtensions.assertThrows(
+                            "Able to retrieve value when not reading values.",
+                            cursor::getValue,
+                            ex -> ex instanceof IllegalStateException);
+                }
+            }
+
+            Assert.assertEquals("Did not read the entire serialization.", startOffset + serialization.getLength(), cursor.getNextOffset());
+            AssertExtensions.assertThrows(
+                    "Able to read past the end of the serialization.",
+                    cursor::readNext,
+                    ex -> ex instanceof BufferView.Reader.OutOfBoundsException);
+        }
+
+        // Truncated input: the cursor offsets should not advance past the last fully read entry.
+        val truncated = serialization.slice(0, s.getRemovalLength(keys.get(0)) + 1);
+        val cursor = new EntrySerializer.EntryCursor(truncated.getBufferViewReader(), startOffset, true);
+        cursor.readNext();
+        val lastOffset = cursor.getNextOffset();
+        AssertExtensions.assertThrows(
+                "Able to read a truncated entry.",
+                cursor::readNext,
+                ex -> ex instanceof BufferView.Reader.OutOfBoundsException);
+        Assert.assertEquals("Unexpected next offset after failed read.", lastOffset, cursor.getNextOffset());
+    }
+
     private List<TableKey> generateKeys() {
         return generateKeys(new Random(0));
     }
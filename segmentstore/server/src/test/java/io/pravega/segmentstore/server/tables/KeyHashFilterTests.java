@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.test.common.AssertExtensions;
+import java.util.ArrayList;
+import java.util.UUID;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link KeyHashFilter} class.
+ */
+public class KeyHashFilterTests {
+    private static final int KEY_COUNT = 1000;
+    private static final double FALSE_POSITIVE_RATIO = 0.01;
+
+    /**
+     * Tests the {@link KeyHashFilter#add} and {@link KeyHashFilter#mightContain} methods.
+     */
+    @Test
+    public void testAddMightContain() {
+        val f = new KeyHashFilter(KEY_COUNT, FALSE_POSITIVE_RATIO);
+        val added = new ArrayList<UUID>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            val keyHash = UUID.randomUUID();
+            f.add(keyHash);
+            added.add(keyHash);
+        }
+
+        for (val keyHash : added) {
+            Assert.assertTrue("Added Key Hash not reported as contained.", f.mightContain(keyHash));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < KEY_COUNT; i++) {
+            if (f.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // Allow for some variance around the expected false positive ratio.
+        Assert.assertTrue("Too many false positives: " + falsePositives, falsePositives <= KEY_COUNT * FALSE_POSITIVE_RATIO * 5);
+        Assert.assertFalse("Not expecting filter to be saturated.", f.isSaturated());
+    }
+
+    /**
+     * Tests the {@link KeyHashFilter#isSaturated} method.
+     */
+    @Test
+    public void testSaturation() {
+        val f = new KeyHashFilter(KEY_COUNT, FALSE_POSITIVE_RATIO);
+        for (int i = 0; i < 2 * KEY_COUNT; i++) {
+            f.add(UUID.randomUUID());
+        }
+
+        Assert.assertTrue("Expected filter to be saturated.", f.isSaturated());
+    }
+
+    /**
+     * Tests the {@link KeyHashFilter#isReady} and {@link KeyHashFilter#markReady} methods.
+     */
+    @Test
+    public void testReady() {
+        val f = new KeyHashFilter(KEY_COUNT, FALSE_POSITIVE_RATIO);
+        Assert.assertFalse("Not expecting a new filter to be ready.", f.isReady());
+        f.markReady();
+        Assert.assertTrue("Expected filter to be ready.", f.isReady());
+    }
+
+    /**
+     * Tests the constructor argument validation.
+     */
+    @Test
+    public void testInvalidArguments() {
+        AssertExtensions.assertThrows("Expected failure for non-positive expectedKeyCount.",
+                () -> new KeyHashFilter(0, FALSE_POSITIVE_RATIO), ex -> ex instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows("Expected failure for falsePositiveRatio = 0.",
+                () -> new KeyHashFilter(KEY_COUNT, 0), ex -> ex instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows("Expected failure for falsePositiveRatio = 1.",
+                () -> new KeyHashFilter(KEY_COUNT, 1), ex -> ex instanceof IllegalArgumentException);
+    }
+}
@@ -48,7 +48,7 @@ class ReadResultMock extends StreamSegmentReadResult implements ReadResult {
         this.entryLength = entryLength;
     }
 
-    private static CompletableReadResultEntry noopSupplier(long startOffset, int remainingLength, boolean copy) {
+    private static CompletableReadResultEntry noopSupplier(long startOffset, int remainingLength, StreamSegmentReadResult.CacheReadMode cacheReadMode) {
         throw new UnsupportedOperationException();
     }
 
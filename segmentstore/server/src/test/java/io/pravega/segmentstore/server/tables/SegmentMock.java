@@ -39,6 +39,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
@@ -62,6 +63,8 @@ class SegmentMock implements DirectSegmentAccess {
     private final ScheduledExecutorService executor;
     @GuardedBy("this")
     private BiConsumer<Long, Integer> appendCallback;
+    @GuardedBy("this")
+    private Consumer<Collection<UUID>> getAttributesCallback;
 
     SegmentMock(ScheduledExecutorService executor) {
         this(new StreamSegmentMetadata("Mock", 0, 0), executor);
@@ -92,6 +95,15 @@ class SegmentMock implements DirectSegmentAccess {
         this.appendCallback = appendCallback;
     }
 
+    /**
+     * Sets a callback that will be invoked (synchronously) every time {@link #getAttributes} is invoked.
+     *
+     * @param getAttributesCallback The callback to register.
+     */
+    synchronized void setGetAttributesCallback(Consumer<Collection<UUID>> getAttributesCallback) {
+        this.getAttributesCallback = getAttributesCallback;
+    }
+
     @Override
     public CompletableFuture<Long> append(BufferView data, Collection<AttributeUpdate> attributeUpdates, Duration timeout) {
         // Similarly to the append below, we assume this is only for data construction, so offsets are not considered.
@@ -156,6 +168,10 @@ class SegmentMock implements DirectSegmentAccess {
     public CompletableFuture<Map<UUID, Long>> getAttributes(Collection<UUID> attributeIds, boolean cache, Duration timeout) {
         return CompletableFuture.supplyAsync(() -> {
             synchronized (this) {
+                if (this.getAttributesCallback != null) {
+                    this.getAttributesCallback.accept(attributeIds);
+                }
+
                 return attributeIds.stream()
                         .distinct()
                         .collect(Collectors.toMap(id -> id, id -> this.metadata.getAttributes().getOrDefault(id, Attributes.NULL_ATTRIBUTE_VALUE)));
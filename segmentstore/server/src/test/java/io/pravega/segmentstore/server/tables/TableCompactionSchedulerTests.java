@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
+import io.pravega.segmentstore.server.DirectSegmentAccess;
+import io.pravega.segmentstore.server.SegmentMetadata;
+import io.pravega.segmentstore.server.containers.StreamSegmentMetadata;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.Cleanup;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link TableCompactionScheduler} class.
+ */
+public class TableCompactionSchedulerTests extends ThreadPooledTestSuite {
+    private static final int CONTAINER_ID = 1;
+    private static final int MAX_COMPACTION_SIZE = 100;
+    private static final Duration INTERVAL = Duration.ofHours(1); // We invoke it manually.
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 3;
+    }
+
+    /**
+     * Tests the {@link TableCompactionScheduler#rankCandidates} method.
+     */
+    @Test
+    public void testRankCandidates() {
+        @Cleanup
+        val s = new TableCompactionScheduler(CONTAINER_ID, new IndexReader(executorService()), INTERVAL, MAX_COMPACTION_SIZE, executorService());
+        val c1 = createConnector(1, 1000, 50, 100);  // 50% garbage, requires compaction.
+        val c2 = createConnector(2, 1000, 10, 100);  // 90% garbage, requires compaction.
+        val c3 = createConnector(3, 1000, 90, 100);  // 10% garbage, does not require compaction.
+        val c4 = createConnector(4, 1000, 0, 100);   // 100% garbage, but sealed.
+        c4.metadata.markSealed();
+        Arrays.asList(c1, c2, c3, c4).forEach(s::register);
+
+        val candidates = s.rankCandidates();
+        Assert.assertEquals("Unexpected candidate order.",
+                Arrays.asList(2L, 1L, 3L),
+                candidates.stream().map(c -> c.getConnector().getMetadata().getId()).collect(Collectors.toList()));
+        Assert.assertEquals(900, candidates.get(0).getReclaimableBytes());
+        Assert.assertTrue(candidates.get(0).isCompactionRequired());
+        Assert.assertEquals(500, candidates.get(1).getReclaimableBytes());
+        Assert.assertTrue(candidates.get(1).isCompactionRequired());
+        Assert.assertEquals(100, candidates.get(2).getReclaimableBytes());
+        Assert.assertFalse(candidates.get(2).isCompactionRequired());
+
+        // Unregistered segments should not be considered anymore.
+        s.unregister(c2);
+        Assert.assertEquals("Unexpected candidates after unregistering.",
+                Arrays.asList(1L, 3L),
+                s.rankCandidates().stream().map(c -> c.getConnector().getMetadata().getId()).collect(Collectors.toList()));
+    }
+
+    /**
+     * Tests the {@link TableCompactionScheduler#runOnce} method, verifying that only the Table Segments that require
+     * compaction are compacted, in order of their garbage ratio, and only as long as there is budget for it.
+     */
+    @Test
+    public void testRunOnce() {
+        @Cleanup
+        val s = new TableCompactionScheduler(CONTAINER_ID, new IndexReader(executorService()), INTERVAL,
+                (long) (1.5 * MAX_COMPACTION_SIZE), executorService());
+        val c1 = createConnector(1, 1000, 50, 100);  // 50% garbage, requires compaction.
+        val c2 = createConnector(2, 1000, 10, 100);  // 90% garbage, requires compaction.
+        val c3 = createConnector(3, 1000, 90, 100);  // 10% garbage, does not require compaction.
+        Arrays.asList(c1, c2, c3).forEach(s::register);
+
+        // There is only budget for one compaction, which should go to the segment with the highest garbage ratio.
+        s.runOnce().join();
+        Assert.assertEquals(0, c1.getSegmentCount.get());
+        Assert.assertEquals(1, c2.getSegmentCount.get());
+        Assert.assertEquals(0, c3.getSegmentCount.get());
+
+        // The budget is refreshed with every pass.
+        s.unregister(c2);
+        s.runOnce().join();
+        Assert.assertEquals(1, c1.getSegmentCount.get());
+        Assert.assertEquals(1, c2.getSegmentCount.get());
+        Assert.assertEquals(0, c3.getSegmentCount.get());
+    }
+
+    private TestConnector createConnector(long segmentId, long indexOffset, long entryCount, long totalEntryCount) {
+        val metadata = new StreamSegmentMetadata("Segment" + segmentId, segmentId, CONTAINER_ID);
+        metadata.setLength(indexOffset);
+        metadata.updateAttributes(ImmutableMap.<UUID, Long>builder()
+                .put(TableAttributes.COMPACTION_OFFSET, 0L)
+                .put(TableAttributes.INDEX_OFFSET, indexOffset)
+                .put(TableAttributes.ENTRY_COUNT, entryCount)
+                .put(TableAttributes.TOTAL_ENTRY_COUNT, totalEntryCount)
+                .put(TableAttributes.MIN_UTILIZATION, 75L)
+                .build());
+        return new TestConnector(metadata);
+    }
+
+    @RequiredArgsConstructor
+    private static class TestConnector implements TableWriterConnector {
+        private final StreamSegmentMetadata metadata;
+        private final AtomicInteger getSegmentCount = new AtomicInteger();
+
+        @Override
+        public SegmentMetadata getMetadata() {
+            return this.metadata;
+        }
+
+        @Override
+        public EntrySerializer getSerializer() {
+            return new EntrySerializer();
+        }
+
+        @Override
+        public KeyHasher getKeyHasher() {
+            return KeyHashers.DEFAULT_HASHER;
+        }
+
+        @Override
+        public SegmentSortedKeyIndex getSortedKeyIndex() {
+            return SegmentSortedKeyIndex.noop();
+        }
+
+        @Override
+        public CompletableFuture<DirectSegmentAccess> getSegment(Duration timeout) {
+            // We only count invocations; the scheduler should log and ignore this failure.
+            this.getSegmentCount.incrementAndGet();
+            return Futures.failedFuture(new UnsupportedOperationException("not needed"));
+        }
+
+        @Override
+        public void notifyIndexOffsetChanged(long lastIndexedOffset) {
+            throw new UnsupportedOperationException("not needed");
+        }
+
+        @Override
+        public void notifyBucketsIndexing(Collection<UUID> keyHashes) {
+            throw new UnsupportedOperationException("not needed");
+        }
+
+        @Override
+        public int getMaxCompactionSize() {
+            return MAX_COMPACTION_SIZE;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to do.
+        }
+    }
+}
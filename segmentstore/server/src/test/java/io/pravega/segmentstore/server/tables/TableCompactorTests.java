@@ -24,6 +24,7 @@ import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -549,6 +550,11 @@ public class TableCompactorTests extends ThreadPooledTestSuite {
             throw new UnsupportedOperationException("not needed");
         }
 
+        @Override
+        public void notifyBucketsIndexing(Collection<UUID> keyHashes) {
+            throw new UnsupportedOperationException("not needed");
+        }
+
         @Override
         public int getMaxCompactionSize() {
             return this.maxCompactLength;
@@ -35,6 +35,7 @@ import io.pravega.test.common.ThreadPooledTestSuite;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -605,6 +606,11 @@ public class WriterTableProcessorTests extends ThreadPooledTestSuite {
                 this.notifyCount.incrementAndGet();
             }
 
+            @Override
+            public void notifyBucketsIndexing(Collection<UUID> keyHashes) {
+                // Nothing to do.
+            }
+
             @Override
             public int getMaxCompactionSize() {
                 return MAX_COMPACT_LENGTH;
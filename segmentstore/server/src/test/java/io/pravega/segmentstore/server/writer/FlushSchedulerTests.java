@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.writer;
+
+import io.pravega.segmentstore.server.logs.operations.Operation;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.IntentionalException;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the {@link FlushScheduler} class.
+ */
+public class FlushSchedulerTests extends ThreadPooledTestSuite {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(TIMEOUT.getSeconds());
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 3;
+    }
+
+    /**
+     * Tests that flushes are executed right away if the scheduler is not limiting them.
+     */
+    @Test
+    public void testUnlimited() {
+        val s = new FlushScheduler(0, executorService());
+        val invoked = new AtomicBoolean();
+        val result = s.schedule(1, 1.0, 1, () -> {
+            invoked.set(true);
+            return CompletableFuture.completedFuture(123);
+        });
+
+        Assert.assertTrue("Expected flush to be executed synchronously.", invoked.get());
+        Assert.assertEquals(123, (int) result.join());
+        Assert.assertEquals(0, s.getActiveCount());
+    }
+
+    /**
+     * Tests that no more than the configured number of flushes execute at the same time and that failed flushes release
+     * their slots.
+     */
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        final int maxConcurrent = 2;
+        final int count = 5;
+        val s = new FlushScheduler(maxConcurrent, executorService());
+        val started = new LinkedBlockingQueue<TestFlush>();
+        val results = new ArrayList<CompletableFuture<Void>>();
+        for (int i = 0; i < count; i++) {
+            results.add(s.schedule(1, 1.0, i, new TestFlush(1, i, started)::start));
+        }
+
+        val first = poll(started);
+        val second = poll(started);
+        Assert.assertNull("Not expecting more flushes to execute.", started.poll(10, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(maxConcurrent, s.getActiveCount());
+        Assert.assertEquals(count - maxConcurrent, s.getQueueSize());
+
+        // A failed flush must free up its slot just like a successful one.
+        first.result.completeExceptionally(new IntentionalException());
+        AssertExtensions.assertSuppliedFutureThrows(
+                "Expected flush failure to be propagated.",
+                () -> results.get((int) first.sequenceNumber),
+                ex -> ex instanceof IntentionalException);
+        val third = poll(started);
+        second.result.complete(null);
+        third.result.complete(null);
+        poll(started).result.complete(null);
+        poll(started).result.complete(null);
+
+        for (int i = 0; i < count; i++) {
+            if (i != first.sequenceNumber) {
+                results.get(i).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        Assert.assertEquals(0, s.getActiveCount());
+        Assert.assertEquals(0, s.getQueueSize());
+    }
+
+    /**
+     * Tests that flushes from the same Container are executed in increasing order of their Sequence Numbers.
+     */
+    @Test
+    public void testOrderWithinContainer() throws Exception {
+        val s = new FlushScheduler(1, executorService());
+        val started = new LinkedBlockingQueue<TestFlush>();
+
+        // Block the scheduler so that everything else gets queued up.
+        s.schedule(0, 1.0, 1, new TestFlush(0, 1, started)::start);
+        val blocker = poll(started);
+        for (long seqNo : Arrays.asList(30L, 10L, Operation.NO_SEQUENCE_NUMBER, 20L)) {
+            s.schedule(1, 1.0, seqNo, new TestFlush(1, seqNo, started)::start);
+        }
+
+        blocker.result.complete(null);
+        val order = new ArrayList<Long>();
+        for (int i = 0; i < 4; i++) {
+            val f = poll(started);
+            order.add(f.sequenceNumber);
+            f.result.complete(null);
+        }
+
+        Assert.assertEquals(Arrays.asList(10L, 20L, 30L, Operation.NO_SEQUENCE_NUMBER), order);
+    }
+
+    /**
+     * Tests that flushes from different Containers are executed proportionally to the Containers' weights.
+     */
+    @Test
+    public void testWeightedFairness() throws Exception {
+        final int countPerContainer = 20;
+        final int heavyContainer = 1;
+        final int lightContainer = 2;
+        final double heavyWeight = 3.0;
+        final int checkCount = 8;
+        val s = new FlushScheduler(1, executorService());
+        val started = new LinkedBlockingQueue<TestFlush>();
+
+        // Block the scheduler so that everything else gets queued up.
+        s.schedule(0, 1.0, 1, new TestFlush(0, 1, started)::start);
+        val blocker = poll(started);
+        for (int i = 0; i < countPerContainer; i++) {
+            s.schedule(heavyContainer, heavyWeight, i, new TestFlush(heavyContainer, i, started)::start);
+            s.schedule(lightContainer, 1.0, i, new TestFlush(lightContainer, i, started)::start);
+        }
+
+        blocker.result.complete(null);
+        val containerOrder = new ArrayList<Integer>();
+        for (int i = 0; i < 2 * countPerContainer; i++) {
+            val f = poll(started);
+            containerOrder.add(f.containerId);
+            f.result.complete(null);
+        }
+
+        // The light container must not be starved, but the heavy one should get about 3 times as many flushes.
+        long heavyCount = containerOrder.subList(0, checkCount).stream().filter(id -> id == heavyContainer).count();
+        AssertExtensions.assertGreaterThanOrEqual("Unexpected number of flushes for the heavy container.", 5, heavyCount);
+        AssertExtensions.assertLessThan("Light container starved.", checkCount, heavyCount);
+        Assert.assertEquals(countPerContainer, containerOrder.stream().filter(id -> id == lightContainer).count());
+    }
+
+    /**
+     * Tests the {@link FlushScheduler#calculateWeight} method.
+     */
+    @Test
+    public void testCalculateWeight() {
+        final int threshold = 1000;
+        Assert.assertEquals(1.0, FlushScheduler.calculateWeight(0, threshold, 0), 0);
+        Assert.assertEquals(1.0, FlushScheduler.calculateWeight(-1, threshold, -1), 0);
+        Assert.assertEquals(3.0, FlushScheduler.calculateWeight(2 * threshold, threshold, 0), 0);
+        Assert.assertEquals(FlushScheduler.MAX_BACKLOG_WEIGHT,
+                FlushScheduler.calculateWeight(Long.MAX_VALUE, threshold, 0), 0);
+        Assert.assertEquals(FlushScheduler.MAX_THROTTLING_MULTIPLIER,
+                FlushScheduler.calculateWeight(0, threshold, 1), 0);
+        Assert.assertEquals(FlushScheduler.MAX_BACKLOG_WEIGHT * FlushScheduler.MAX_THROTTLING_MULTIPLIER,
+                FlushScheduler.calculateWeight(Long.MAX_VALUE, 0, 2), 0);
+    }
+
+    private TestFlush poll(LinkedBlockingQueue<TestFlush> started) throws InterruptedException {
+        val result = started.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        Assert.assertNotNull("Timed out waiting for a flush to execute.", result);
+        return result;
+    }
+
+    @RequiredArgsConstructor
+    private static class TestFlush {
+        final int containerId;
+        final long sequenceNumber;
+        final LinkedBlockingQueue<TestFlush> started;
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        CompletableFuture<Void> start() {
+            this.started.add(this);
+            return this.result;
+        }
+    }
+}
@@ -122,6 +122,26 @@ public class StorageWriterTests extends ThreadPooledTestSuite {
         testWriter(context);
     }
 
+    /**
+     * Tests a normal, happy case (same as {@link #testNormalFlow()}), but with the number of concurrent flushes limited
+     * by the {@link FlushScheduler}.
+     */
+    @Test
+    public void testNormalFlowWithLimitedFlushConcurrency() throws Exception {
+        final WriterConfig config = WriterConfig.builder()
+                                                .with(WriterConfig.FLUSH_THRESHOLD_BYTES, 1000)
+                                                .with(WriterConfig.FLUSH_THRESHOLD_MILLIS, 1000L)
+                                                .with(WriterConfig.MIN_READ_TIMEOUT_MILLIS, 10L)
+                                                .with(WriterConfig.MAX_READ_TIMEOUT_MILLIS, 250L)
+                                                .with(WriterConfig.MAX_ITEMS_TO_READ_AT_ONCE, 100)
+                                                .with(WriterConfig.ERROR_SLEEP_MILLIS, 0L)
+                                                .with(WriterConfig.MAX_CONCURRENT_FLUSHES, 2) // This differs from DEFAULT_CONFIG.
+                                                .build();
+        @Cleanup
+        TestContext context = new TestContext(config);
+        testWriter(context);
+    }
+
     /**
      * Tests the StorageWriter in a scenario where the DataSource throws random exceptions. Simulated errors are for
      * the following operations:
@@ -1155,13 +1175,15 @@ public class StorageWriterTests extends ThreadPooledTestSuite {
             val dataSourceConfig = new TestWriterDataSource.DataSourceConfig();
             dataSourceConfig.autoInsertCheckpointFrequency = METADATA_CHECKPOINT_FREQUENCY;
             this.dataSource = new TestWriterDataSource(this.metadata, executorService(), dataSourceConfig);
-            this.writer = new StorageWriter(this.config, this.dataSource, this.storage, this.createProcessors, executorService());
+            this.writer = new StorageWriter(this.config, this.dataSource, this.storage, this.createProcessors,
+                    new FlushScheduler(this.config.getMaxConcurrentFlushes(), executorService()), executorService());
         }
 
         void resetWriter() {
             this.writer.close();
             this.baseStorage.changeOwner();
-            this.writer = new StorageWriter(this.config, this.dataSource, this.storage, this.createProcessors, executorService());
+            this.writer = new StorageWriter(this.config, this.dataSource, this.storage, this.createProcessors,
+                    new FlushScheduler(this.config.getMaxConcurrentFlushes(), executorService()), executorService());
         }
 
         @Override
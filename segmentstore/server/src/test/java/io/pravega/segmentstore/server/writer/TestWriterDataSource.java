@@ -420,6 +420,11 @@ class TestWriterDataSource implements WriterDataSource, AutoCloseable {
         return this.metadata.getStreamSegmentMetadata(streamSegmentId);
     }
 
+    @Override
+    public double getThrottlingPressure() {
+        return 0;
+    }
+
     //endregion
 
     //region Other Properties
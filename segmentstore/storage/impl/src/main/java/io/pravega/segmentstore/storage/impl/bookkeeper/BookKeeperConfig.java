@@ -38,6 +38,8 @@ public class BookKeeperConfig {
     public static final Property<Integer> BK_WRITE_TIMEOUT = Property.named("write.timeout.milliseconds", 60000, "bkWriteTimeoutMillis");
     public static final Property<Integer> BK_READ_TIMEOUT = Property.named("read.timeout.milliseconds", 30000, "bkReadTimeoutMillis");
     public static final Property<Integer> BK_READ_BATCH_SIZE = Property.named("read.batch.size", 64, "readBatchSize");
+    public static final Property<Integer> BK_READ_AHEAD_BATCH_COUNT = Property.named("read.batch.readAhead.count", 1);
+    public static final Property<Integer> BK_WRITE_FLUSH_INTERVAL = Property.named("write.flush.interval.milliseconds", 0, "writeFlushIntervalMillis");
     public static final Property<Integer> MAX_OUTSTANDING_BYTES = Property.named("write.outstanding.bytes.max", 256 * 1024 * 1024, "maxOutstandingBytes");
     public static final Property<Integer> BK_LEDGER_MAX_SIZE = Property.named("ledger.size.max", 1024 * 1024 * 1024, "bkLedgerMaxSize");
     public static final Property<String> BK_PASSWORD = Property.named("connect.security.auth.pwd", "", "bkPass");
@@ -140,6 +142,21 @@ public class BookKeeperConfig {
     @Getter
     private final int bkReadBatchSize;
 
+    /**
+     * The number of batches of Ledger Entries (each of up to {@link #getBkReadBatchSize()} entries) to read ahead from
+     * BookKeeper while the current batch is being processed. If 0, each batch is only read once the previous one has been
+     * fully processed.
+     */
+    @Getter
+    private final int bkReadAheadBatchCount;
+
+    /**
+     * The interval at which the BookKeeperLogs created by the same BookKeeperLogFactory flush their pending writes
+     * together. If 0, each BookKeeperLog issues its writes to BookKeeper as soon as they are queued up.
+     */
+    @Getter
+    private final int writeFlushIntervalMillis;
+
     /**
      * The maximum number of bytes that can be outstanding per BookKeeperLog at any given time. This value should be used
      * for throttling purposes.
@@ -215,6 +232,18 @@ public class BookKeeperConfig {
                     BK_READ_BATCH_SIZE, this.bkReadBatchSize));
         }
 
+        this.bkReadAheadBatchCount = properties.getInt(BK_READ_AHEAD_BATCH_COUNT);
+        if (this.bkReadAheadBatchCount < 0) {
+            throw new InvalidPropertyValueException(String.format("Property %s (%d) must be a non-negative integer.",
+                    BK_READ_AHEAD_BATCH_COUNT, this.bkReadAheadBatchCount));
+        }
+
+        this.writeFlushIntervalMillis = properties.getInt(BK_WRITE_FLUSH_INTERVAL);
+        if (this.writeFlushIntervalMillis < 0) {
+            throw new InvalidPropertyValueException(String.format("Property %s (%d) must be a non-negative integer.",
+                    BK_WRITE_FLUSH_INTERVAL, this.writeFlushIntervalMillis));
+        }
+
         this.maxOutstandingBytes = properties.getInt(MAX_OUTSTANDING_BYTES);
         this.bkLedgerMaxSize = properties.getInt(BK_LEDGER_MAX_SIZE);
         this.bkPassword = properties.get(BK_PASSWORD).getBytes(StandardCharsets.UTF_8);
@@ -104,6 +104,7 @@ class BookKeeperLog implements DurableDataLog {
     private final WriteQueue writes;
     private final SequentialAsyncProcessor writeProcessor;
     private final SequentialAsyncProcessor rolloverProcessor;
+    private final WriteFlushCoordinator flushCoordinator;
     private final BookKeeperMetrics.BookKeeperLog metrics;
     private final ScheduledFuture<?> metricReporter;
     @GuardedBy("queueStateChangeListeners")
@@ -122,6 +123,22 @@ class BookKeeperLog implements DurableDataLog {
      * @param executorService An Executor to use for async operations.
      */
     BookKeeperLog(int containerId, CuratorFramework zkClient, BookKeeper bookKeeper, BookKeeperConfig config, ScheduledExecutorService executorService) {
+        this(containerId, zkClient, bookKeeper, config, null, executorService);
+    }
+
+    /**
+     * Creates a new instance of the BookKeeper log class.
+     *
+     * @param containerId      The Id of the Container whose BookKeeperLog to open.
+     * @param zkClient         A reference to the CuratorFramework client to use.
+     * @param bookKeeper       A reference to the BookKeeper client to use.
+     * @param config           Configuration to use.
+     * @param flushCoordinator (Optional) A WriteFlushCoordinator to align this log's writes with other logs' writes. If
+     *                         null, writes will be issued to BookKeeper as soon as they are queued up.
+     * @param executorService  An Executor to use for async operations.
+     */
+    BookKeeperLog(int containerId, CuratorFramework zkClient, BookKeeper bookKeeper, BookKeeperConfig config,
+                  WriteFlushCoordinator flushCoordinator, ScheduledExecutorService executorService) {
         Preconditions.checkArgument(containerId >= 0, "containerId must be a non-negative integer.");
         this.logId = containerId;
         this.zkClient = Preconditions.checkNotNull(zkClient, "zkClient");
@@ -135,6 +152,7 @@ class BookKeeperLog implements DurableDataLog {
         val retry = createRetryPolicy(this.config.getMaxWriteAttempts(), this.config.getBkWriteTimeoutMillis());
         this.writeProcessor = new SequentialAsyncProcessor(this::processWritesSync, retry, this::handleWriteProcessorFailures, this.executorService);
         this.rolloverProcessor = new SequentialAsyncProcessor(this::rollover, retry, this::handleRolloverFailure, this.executorService);
+        this.flushCoordinator = flushCoordinator;
         this.metrics = new BookKeeperMetrics.BookKeeperLog(containerId);
         this.metricReporter = this.executorService.scheduleWithFixedDelay(this::reportMetrics, REPORT_INTERVAL, REPORT_INTERVAL, TimeUnit.MILLISECONDS);
         this.queueStateChangeListeners = new HashSet<>();
@@ -312,7 +330,7 @@ class BookKeeperLog implements DurableDataLog {
         this.writes.add(new Write(data, getWriteLedger(), result));
 
         // Trigger Write Processor.
-        this.writeProcessor.runAsync();
+        triggerWriteProcessor();
 
         // Post append tasks. We do not need to wait for these to happen before returning the call.
         result.whenCompleteAsync((address, ex) -> {
@@ -374,6 +392,25 @@ class BookKeeperLog implements DurableDataLog {
 
     //region Writes
 
+    /**
+     * Triggers the Write Processor. If this BookKeeperLog uses a WriteFlushCoordinator, the Write Processor will be
+     * executed on the next flush tick (together with other BookKeeperLogs' Write Processors); otherwise it is executed
+     * immediately (this is also the case if the WriteFlushCoordinator has been closed, so that writes that have already
+     * been queued up are not left hanging).
+     */
+    private void triggerWriteProcessor() {
+        if (this.flushCoordinator != null) {
+            try {
+                this.flushCoordinator.requestFlush(this.writeProcessor);
+                return;
+            } catch (ObjectClosedException ex) {
+                log.debug("{}: WriteFlushCoordinator is closed; running WriteProcessor directly.", this.traceObjectId);
+            }
+        }
+
+        this.writeProcessor.runAsync();
+    }
+
     /**
      * Write Processor main loop. This method is not thread safe and should only be invoked as part of the Write Processor.
      */
@@ -607,7 +644,7 @@ class BookKeeperLog implements DurableDataLog {
             // Process all the appends in the queue after any change. This finalizes the completion, does retries (if needed)
             // and triggers more appends.
             try {
-                this.writeProcessor.runAsync();
+                triggerWriteProcessor();
             } catch (ObjectClosedException ex) {
                 // In case of failures, the WriteProcessor may already be closed. We don't want the exception to propagate
                 // to BookKeeper.
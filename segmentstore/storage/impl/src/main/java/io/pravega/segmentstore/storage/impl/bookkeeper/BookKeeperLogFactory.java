@@ -52,6 +52,7 @@ public class BookKeeperLogFactory implements DurableDataLogFactory {
     private final AtomicReference<BookKeeper> bookKeeper;
     private final BookKeeperConfig config;
     private final ScheduledExecutorService executor;
+    private final WriteFlushCoordinator flushCoordinator;
     @GuardedBy("this")
     private final Map<Integer, LogInitializationRecord> logInitializationTracker = new HashMap<>();
     @GuardedBy("this")
@@ -75,6 +76,9 @@ public class BookKeeperLogFactory implements DurableDataLogFactory {
         this.zkClient = Preconditions.checkNotNull(zkClient, "zkClient")
                                      .usingNamespace(this.namespace + this.config.getZkMetadataPath());
         this.bookKeeper = new AtomicReference<>();
+        this.flushCoordinator = this.config.getWriteFlushIntervalMillis() > 0
+                ? new WriteFlushCoordinator(Duration.ofMillis(this.config.getWriteFlushIntervalMillis()), this.executor)
+                : null;
     }
 
     //endregion
@@ -83,6 +87,10 @@ public class BookKeeperLogFactory implements DurableDataLogFactory {
 
     @Override
     public void close() {
+        if (this.flushCoordinator != null) {
+            this.flushCoordinator.close();
+        }
+
         val bk = this.bookKeeper.getAndSet(null);
         if (bk != null) {
             try {
@@ -121,7 +129,7 @@ public class BookKeeperLogFactory implements DurableDataLogFactory {
     public DurableDataLog createDurableDataLog(int logId) {
         Preconditions.checkState(this.bookKeeper.get() != null, "BookKeeperLogFactory is not initialized.");
         tryResetBookkeeperClient(logId);
-        return new BookKeeperLog(logId, this.zkClient, this.bookKeeper.get(), this.config, this.executor);
+        return new BookKeeperLog(logId, this.zkClient, this.bookKeeper.get(), this.config, this.flushCoordinator, this.executor);
     }
 
     /**
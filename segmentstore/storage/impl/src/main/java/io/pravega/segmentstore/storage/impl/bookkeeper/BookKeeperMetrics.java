@@ -74,4 +74,24 @@ final class BookKeeperMetrics {
             this.bkWriteBytes.add(length);
         }
     }
+
+    /**
+     * WriteFlushCoordinator-specific (i.e. per host) Metrics.
+     */
+    final static class WriteFlushCoordinator implements AutoCloseable {
+        private final OpStatsLogger flushLogCount;
+
+        WriteFlushCoordinator() {
+            this.flushLogCount = STATS_LOGGER.createStats(MetricsNames.BK_WRITE_FLUSH_LOG_COUNT);
+        }
+
+        @Override
+        public void close() {
+            this.flushLogCount.close();
+        }
+
+        void flushed(int logCount) {
+            this.flushLogCount.reportSuccessValue(logCount);
+        }
+    }
 }
@@ -13,25 +13,25 @@ import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.pravega.common.Exceptions;
-import io.pravega.common.util.BufferedIterator;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.CloseableIterator;
 import io.pravega.segmentstore.storage.DataLogCorruptedException;
 import io.pravega.segmentstore.storage.DurableDataLog;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.bookkeeper.client.api.BKException;
 import org.apache.bookkeeper.client.api.BookKeeper;
 import org.apache.bookkeeper.client.api.LedgerEntry;
 import org.apache.bookkeeper.client.api.LedgerEntries;
 import org.apache.bookkeeper.client.api.ReadHandle;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import org.apache.bookkeeper.client.api.Handle;
 
 /**
@@ -109,7 +109,7 @@ class LogReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDat
             return null;
         }
 
-        return wrapItem(this.currentLedger.reader.next(), this.currentLedger.metadata);
+        return wrapItem(this.currentLedger.next(), this.currentLedger.metadata);
     }
 
     private void openNextLedger(LedgerAddress address) throws DurableDataLogException {
@@ -147,7 +147,8 @@ class LogReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDat
         ReadLedger previousLedger;
         try {
             previousLedger = this.currentLedger;
-            this.currentLedger = new ReadLedger(metadata, ledger, address.getEntryId(), lastEntryId, this.config.getBkReadBatchSize());
+            this.currentLedger = new ReadLedger(metadata, ledger, address.getEntryId(), lastEntryId, this.config.getBkReadBatchSize(),
+                    this.config.getBkReadAheadBatchCount());
             if (previousLedger != null) {
                 // Close previous ledger handle.
                 previousLedger.close();
@@ -205,24 +206,32 @@ class LogReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDat
     private static class ReadLedger {
         final LedgerMetadata metadata;
         final ReadHandle handle;
-        final BufferedIterator<LedgerEntry> reader;
         final AtomicBoolean closed = new AtomicBoolean(false);
-        volatile LedgerEntries currentLedgerEntries;
-
-        public ReadLedger(LedgerMetadata metadata, ReadHandle handle, long firstEntryId, long lastEntryId,
-                int batchSize) {
+        private final long lastEntryId;
+        private final boolean empty;
+        private final int batchSize;
+        private final int maxPendingReads;
+        /**
+         * Reads that have been issued to BookKeeper (in order) but whose entries have not yet been handed out.
+         */
+        private final ArrayDeque<CompletableFuture<LedgerEntries>> pendingReads;
+        private long nextEntryId;
+        private volatile LedgerEntries currentLedgerEntries;
+        private Iterator<LedgerEntry> currentEntries;
+
+        ReadLedger(LedgerMetadata metadata, ReadHandle handle, long firstEntryId, long lastEntryId, int batchSize, int readAheadBatchCount) {
             this.metadata = metadata;
             this.handle = handle;
-            if (lastEntryId >= firstEntryId) {
-                this.reader = new BufferedIterator<>(this::readRange, firstEntryId, lastEntryId, batchSize);
-            } else {
-                // Empty ledger;
-                this.reader = null;
-            }
+            this.nextEntryId = firstEntryId;
+            this.lastEntryId = lastEntryId;
+            this.empty = lastEntryId < firstEntryId;
+            this.batchSize = batchSize;
+            this.maxPendingReads = readAheadBatchCount + 1;
+            this.pendingReads = new ArrayDeque<>();
         }
 
         boolean isEmpty() {
-            return this.reader == null;
+            return this.empty;
         }
 
         private void close() {
@@ -232,6 +241,11 @@ class LogReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDat
                 if (currentLedgerEntries != null) {
                     currentLedgerEntries.close();
                 }
+
+                // Any reads still in progress must release their entries as soon as they complete.
+                this.pendingReads.forEach(f -> f.thenAccept(LedgerEntries::close));
+                this.pendingReads.clear();
+
                 // closing a ReadHandle is mostly a no-op, it is not expected
                 // to really fail
                 try {
@@ -242,21 +256,48 @@ class LogReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDat
             }
         }
 
-        @SneakyThrows(BKException.class)
-        private Iterator<LedgerEntry> readRange(long fromEntryId, long toEntryId) {
-            if (currentLedgerEntries != null) {
-                currentLedgerEntries.close();
+        /**
+         * Gets the next Ledger Entry. The entries returned by previous invocations of this method may be released once
+         * this method begins fetching a new batch, so they must have been fully processed by then.
+         *
+         * @return The next {@link LedgerEntry}.
+         */
+        LedgerEntry next() {
+            if (this.currentEntries == null || !this.currentEntries.hasNext()) {
+                issueReads();
+                Preconditions.checkState(!this.pendingReads.isEmpty(), "No more entries to read.");
+                if (this.currentLedgerEntries != null) {
+                    this.currentLedgerEntries.close();
+                }
+
+                CompletableFuture<LedgerEntries> nextRead = this.pendingReads.removeFirst();
+                this.currentLedgerEntries = Futures.getThrowingException(nextRead);
+                this.currentEntries = this.currentLedgerEntries.iterator();
+                Preconditions.checkState(this.currentEntries.hasNext(), "BookKeeper returned an empty batch of entries.");
+
+                // Read ahead while this batch is being processed.
+                issueReads();
+            }
+
+            return this.currentEntries.next();
+        }
+
+        private void issueReads() {
+            while (this.pendingReads.size() < this.maxPendingReads && this.nextEntryId <= this.lastEntryId) {
+                long readTo = Math.min(this.nextEntryId + this.batchSize - 1, this.lastEntryId);
+                this.pendingReads.addLast(this.handle.readAsync(this.nextEntryId, readTo));
+                this.nextEntryId = readTo + 1;
             }
-            currentLedgerEntries = Exceptions.handleInterruptedCall(() -> this.handle.read(fromEntryId, toEntryId));
-            return currentLedgerEntries.iterator();
         }
 
         static ReadLedger empty(@NonNull LedgerMetadata metadata, @NonNull ReadHandle handle) {
-            return new ReadLedger(metadata, handle, Long.MAX_VALUE, Long.MIN_VALUE, 1);
+            return new ReadLedger(metadata, handle, Long.MAX_VALUE, Long.MIN_VALUE, 1, 0);
         }
 
         boolean canRead() {
-            return this.reader != null && this.reader.hasNext();
+            return (this.currentEntries != null && this.currentEntries.hasNext())
+                    || !this.pendingReads.isEmpty()
+                    || this.nextEntryId <= this.lastEntryId;
         }
     }
 
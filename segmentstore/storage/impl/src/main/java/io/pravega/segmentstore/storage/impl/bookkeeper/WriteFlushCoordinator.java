@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.impl.bookkeeper;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.ObjectClosedException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Aligns the flushes of multiple BookKeeperLogs (typically all the BookKeeperLogs on the same host) to a common tick.
+ * <p>
+ * Each BookKeeperLog writes to its own Ledger, so entries from different Containers cannot be merged into a single
+ * BookKeeper add. However, if all BookKeeperLogs issue their pending writes at the same time, the Bookies will receive
+ * them together and will be able to include them in the same Journal group commit (and fsync), instead of having one
+ * (or more) per Container. Under light, per-Container load, this also lets each BookKeeperLog accumulate more data into
+ * each of its writes.
+ * <p>
+ * Requests to flush are accumulated and, at most once per flush interval, all the BookKeeperLogs that have requested a
+ * flush are triggered at once. Completions (acks) are still handled individually by each BookKeeperLog.
+ */
+@Slf4j
+@ThreadSafe
+class WriteFlushCoordinator implements AutoCloseable {
+    //region Members
+
+    @Getter
+    private final Duration flushInterval;
+    private final ScheduledExecutorService executor;
+    private final BookKeeperMetrics.WriteFlushCoordinator metrics;
+    @GuardedBy("this")
+    private LinkedHashSet<SequentialAsyncProcessor> pendingFlushes;
+    @GuardedBy("this")
+    private ScheduledFuture<?> nextFlush;
+    @GuardedBy("this")
+    private boolean closed;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the WriteFlushCoordinator class.
+     *
+     * @param flushInterval The interval at which to flush. Must be a positive duration.
+     * @param executor      An Executor to use for scheduling flushes.
+     */
+    WriteFlushCoordinator(Duration flushInterval, ScheduledExecutorService executor) {
+        Preconditions.checkArgument(flushInterval != null && !flushInterval.isNegative() && !flushInterval.isZero(),
+                "flushInterval must be a positive duration.");
+        this.flushInterval = flushInterval;
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+        this.metrics = new BookKeeperMetrics.WriteFlushCoordinator();
+        this.pendingFlushes = new LinkedHashSet<>();
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        LinkedHashSet<SequentialAsyncProcessor> toFlush;
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+
+            this.closed = true;
+            if (this.nextFlush != null) {
+                this.nextFlush.cancel(false);
+                this.nextFlush = null;
+            }
+
+            toFlush = this.pendingFlushes;
+            this.pendingFlushes = new LinkedHashSet<>();
+        }
+
+        // Do not leave anyone hanging; trigger whatever has been requested so far.
+        flush(toFlush);
+        this.metrics.close();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Requests that the given Write Processor be executed on the next flush tick. Multiple requests for the same
+     * Write Processor before the next tick will result in a single execution.
+     *
+     * @param writeProcessor The Write Processor to execute.
+     * @throws ObjectClosedException If this WriteFlushCoordinator has been closed.
+     */
+    void requestFlush(SequentialAsyncProcessor writeProcessor) {
+        synchronized (this) {
+            Exceptions.checkNotClosed(this.closed, this);
+            this.pendingFlushes.add(writeProcessor);
+            if (this.nextFlush == null) {
+                this.nextFlush = this.executor.schedule(this::flushPending, this.flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void flushPending() {
+        LinkedHashSet<SequentialAsyncProcessor> toFlush;
+        synchronized (this) {
+            toFlush = this.pendingFlushes;
+            this.pendingFlushes = new LinkedHashSet<>();
+            this.nextFlush = null;
+        }
+
+        flush(toFlush);
+        this.metrics.flushed(toFlush.size());
+    }
+
+    private void flush(LinkedHashSet<SequentialAsyncProcessor> toFlush) {
+        for (val p : toFlush) {
+            try {
+                p.runAsync();
+            } catch (ObjectClosedException ex) {
+                // The BookKeeperLog has been closed in the meantime. Its pending writes have already been cancelled.
+                log.debug("Not flushing BookKeeperLog WriteProcessor due to it being closed.");
+            }
+        }
+    }
+
+    //endregion
+}
@@ -38,6 +38,8 @@ public class BookKeeperConfigTest {
         Assert.assertEquals(60000, cfg.getBkWriteTimeoutMillis());
         Assert.assertEquals(30000, cfg.getBkReadTimeoutMillis());
         Assert.assertEquals(64, cfg.getBkReadBatchSize());
+        Assert.assertEquals(1, cfg.getBkReadAheadBatchCount());
+        Assert.assertEquals(0, cfg.getWriteFlushIntervalMillis());
         Assert.assertEquals(256 * 1024 * 1024, cfg.getMaxOutstandingBytes());
         Assert.assertEquals(1024 * 1024 * 1024, cfg.getBkLedgerMaxSize());
         Assert.assertEquals(0, cfg.getBKPassword().length);
@@ -68,6 +70,16 @@ public class BookKeeperConfigTest {
                 BookKeeperConfig.BK_READ_BATCH_SIZE.toString(),
                 () -> BookKeeperConfig.builder().with(BookKeeperConfig.BK_READ_BATCH_SIZE, -1).build(),
                 ex -> ex instanceof InvalidPropertyValueException);
+
+        AssertExtensions.assertThrows(
+                BookKeeperConfig.BK_READ_AHEAD_BATCH_COUNT.toString(),
+                () -> BookKeeperConfig.builder().with(BookKeeperConfig.BK_READ_AHEAD_BATCH_COUNT, -1).build(),
+                ex -> ex instanceof InvalidPropertyValueException);
+
+        AssertExtensions.assertThrows(
+                BookKeeperConfig.BK_WRITE_FLUSH_INTERVAL.toString(),
+                () -> BookKeeperConfig.builder().with(BookKeeperConfig.BK_WRITE_FLUSH_INTERVAL, -1).build(),
+                ex -> ex instanceof InvalidPropertyValueException);
     }
 
     @Test
@@ -27,6 +27,7 @@ import io.pravega.segmentstore.storage.ThrottleSourceListener;
 import io.pravega.segmentstore.storage.WriteFailureException;
 import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.TestUtils;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -286,6 +287,31 @@ public abstract class BookKeeperLogTests extends DurableDataLogTestBase {
         }
     }
 
+    /**
+     * Tests that appends still complete if the {@link WriteFlushCoordinator} used by the log has been closed.
+     */
+    @Test
+    public void testAppendWithClosedFlushCoordinator() throws Exception {
+        val flushCoordinator = new WriteFlushCoordinator(Duration.ofMillis(10), executorService());
+        TreeMap<LogAddress, byte[]> writeData = new TreeMap<>(Comparator.comparingLong(LogAddress::getSequence));
+        try (DurableDataLog log = new BookKeeperLog(CONTAINER_ID, this.zkClient.get(), this.factory.get().getBookKeeperClient(),
+                this.config.get(), flushCoordinator, executorService())) {
+            log.initialize(TIMEOUT);
+            byte[] data = getWriteData();
+            writeData.put(log.append(new CompositeByteArraySegment(data), TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS), data);
+
+            // Close the coordinator (i.e., the factory is shutting down). Appends queued after that must not hang.
+            flushCoordinator.close();
+            data = getWriteData();
+            writeData.put(log.append(new CompositeByteArraySegment(data), TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS), data);
+        }
+
+        try (DurableDataLog log = createDurableDataLog()) {
+            log.initialize(TIMEOUT);
+            verifyReads(log, writeData);
+        }
+    }
+
     /**
      * Tests the ability to retry writes when Bookies fail.
      */
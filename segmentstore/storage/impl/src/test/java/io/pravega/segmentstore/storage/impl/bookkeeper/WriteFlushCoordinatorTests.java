@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.impl.bookkeeper;
+
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.util.Retry;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the WriteFlushCoordinator class.
+ */
+public class WriteFlushCoordinatorTests extends ThreadPooledTestSuite {
+    private static final int TIMEOUT_MILLIS = 10000;
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(50);
+
+    @Rule
+    public Timeout globalTimeout = new Timeout(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 3;
+    }
+
+    /**
+     * Tests the requestFlush() method with multiple processors, each requesting multiple flushes before the tick.
+     */
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testRequestFlush() throws Exception {
+        final int processorCount = 5;
+        final int requestsPerProcessor = 10;
+        @Cleanup
+        val c = new WriteFlushCoordinator(FLUSH_INTERVAL, executorService());
+        val counts = new ArrayList<AtomicInteger>();
+        val processors = new ArrayList<SequentialAsyncProcessor>();
+        val invoked = new Semaphore(0);
+        for (int i = 0; i < processorCount; i++) {
+            val count = new AtomicInteger();
+            counts.add(count);
+            processors.add(newProcessor(() -> {
+                count.incrementAndGet();
+                invoked.release();
+            }));
+        }
+
+        for (int i = 0; i < requestsPerProcessor; i++) {
+            processors.forEach(c::requestFlush);
+        }
+
+        // Each processor should have been invoked exactly once, on the same tick.
+        Assert.assertTrue("Not all processors have been flushed.",
+                invoked.tryAcquire(processorCount, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        for (val count : counts) {
+            Assert.assertEquals("Unexpected number of invocations.", 1, count.get());
+        }
+
+        // Request another flush and verify it gets executed on a subsequent tick.
+        c.requestFlush(processors.get(0));
+        Assert.assertTrue("Processor has not been flushed on the second tick.",
+                invoked.tryAcquire(1, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assert.assertEquals("Unexpected number of invocations after second tick.", 2, counts.get(0).get());
+    }
+
+    /**
+     * Tests the close() method.
+     */
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testClose() throws Exception {
+        val c = new WriteFlushCoordinator(Duration.ofMillis(TIMEOUT_MILLIS * 10), executorService());
+        val invoked = new Semaphore(0);
+        val processor = newProcessor(invoked::release);
+        val closedProcessor = newProcessor(() -> Assert.fail("Closed processor must not be invoked."));
+        c.requestFlush(processor);
+        c.requestFlush(closedProcessor);
+        closedProcessor.close();
+
+        // Closing must flush whatever is pending (and ignore closed processors), without waiting for the next tick.
+        c.close();
+        Assert.assertTrue("Pending flushes were not executed upon close.",
+                invoked.tryAcquire(1, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        AssertExtensions.assertThrows(
+                "requestFlush() worked after close().",
+                () -> c.requestFlush(processor),
+                ex -> ex instanceof ObjectClosedException);
+    }
+
+    private SequentialAsyncProcessor newProcessor(Runnable runnable) {
+        return new SequentialAsyncProcessor(runnable, Retry.withExpBackoff(1, 2, 1).retryWhen(t -> false), t -> { }, executorService());
+    }
+}
@@ -14,15 +14,40 @@ import io.pravega.shared.metrics.Counter;
 import io.pravega.shared.metrics.MetricsProvider;
 import io.pravega.shared.metrics.StatsLogger;
 
+import static io.pravega.shared.MetricsTags.cacheTierTag;
+
 /**
  * Metrics for {@link DirectMemoryCache}.
  */
 final class CacheMetrics implements AutoCloseable {
     private static final StatsLogger STATS_LOGGER = MetricsProvider.createStatsLogger("cache");
-    private final Counter writeBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_WRITE_BYTES);
-    private final Counter appendBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_APPEND_BYTES);
-    private final Counter readBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_READ_BYTES);
-    private final Counter deleteBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_DELETE_BYTES);
+    private final Counter writeBytes;
+    private final Counter appendBytes;
+    private final Counter readBytes;
+    private final Counter deleteBytes;
+
+    /**
+     * Creates a new instance of the CacheMetrics class for a standalone {@link DirectMemoryCache}.
+     */
+    CacheMetrics() {
+        this(new String[0]);
+    }
+
+    /**
+     * Creates a new instance of the CacheMetrics class for a {@link DirectMemoryCache} that is a tier of a {@link TieredCache}.
+     *
+     * @param tierName The name of the tier.
+     */
+    CacheMetrics(String tierName) {
+        this(cacheTierTag(tierName));
+    }
+
+    private CacheMetrics(String[] tags) {
+        this.writeBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_WRITE_BYTES, tags);
+        this.appendBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_APPEND_BYTES, tags);
+        this.readBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_READ_BYTES, tags);
+        this.deleteBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_DELETE_BYTES, tags);
+    }
 
     void insert(int size) {
         this.writeBytes.add(size);
@@ -47,4 +72,60 @@ final class CacheMetrics implements AutoCloseable {
         this.readBytes.close();
         this.deleteBytes.close();
     }
+
+    /**
+     * Metrics for {@link TieredCache}.
+     */
+    static final class Tiered implements AutoCloseable {
+        private final Counter memoryHits = STATS_LOGGER.createCounter(MetricsNames.CACHE_TIER_HIT_COUNT, cacheTierTag(TieredCache.MEMORY_TIER));
+        private final Counter memoryMisses = STATS_LOGGER.createCounter(MetricsNames.CACHE_TIER_MISS_COUNT, cacheTierTag(TieredCache.MEMORY_TIER));
+        private final Counter diskHits = STATS_LOGGER.createCounter(MetricsNames.CACHE_TIER_HIT_COUNT, cacheTierTag(TieredCache.DISK_TIER));
+        private final Counter diskMisses = STATS_LOGGER.createCounter(MetricsNames.CACHE_TIER_MISS_COUNT, cacheTierTag(TieredCache.DISK_TIER));
+        private final Counter spillCount = STATS_LOGGER.createCounter(MetricsNames.CACHE_SPILL_COUNT);
+        private final Counter spillBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_SPILL_BYTES);
+
+        /**
+         * Records a read that was served from the memory tier.
+         */
+        void memoryHit() {
+            this.memoryHits.inc();
+        }
+
+        /**
+         * Records a read that was not found in the memory tier, but was served from the disk tier.
+         */
+        void diskHit() {
+            this.memoryMisses.inc();
+            this.diskHits.inc();
+        }
+
+        /**
+         * Records a read that could not be served from any tier.
+         */
+        void miss() {
+            this.memoryMisses.inc();
+            this.diskMisses.inc();
+        }
+
+        /**
+         * Records the spilling of entries from the memory tier to the disk tier.
+         *
+         * @param count  The number of entries spilled.
+         * @param length The total number of bytes spilled.
+         */
+        void spill(int count, long length) {
+            this.spillCount.add(count);
+            this.spillBytes.add(length);
+        }
+
+        @Override
+        public void close() {
+            this.memoryHits.close();
+            this.memoryMisses.close();
+            this.diskHits.close();
+            this.diskMisses.close();
+            this.spillCount.close();
+            this.spillBytes.close();
+        }
+    }
 }
@@ -10,6 +10,7 @@
 package io.pravega.segmentstore.storage.cache;
 
 import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.storage.CacheException;
 import java.util.function.Supplier;
 import lombok.NonNull;
@@ -104,6 +105,25 @@ public interface CacheStorage extends AutoCloseable {
      */
     BufferView get(int address);
 
+    /**
+     * Retrieves the contents of an entry with the given address and pins them. As opposed from {@link #get}, the returned
+     * {@link BufferView} is guaranteed not to change if the entry is subsequently deleted (or replaced) until it is released;
+     * the memory used by a deleted entry will not be reused until all of its pinned {@link BufferView}s are released.
+     *
+     * The caller is responsible for invoking {@link BufferView#release()} on the result (or on any of its slices, but
+     * exactly once) when it no longer needs it. Failure to do so will leak cache memory.
+     *
+     * The default implementation returns a copy of the data (which needs no pinning).
+     *
+     * @param address An integer representing the address to retrieve.
+     * @return A read-only {@link BufferView} that can be used to access the data, or null if no entry is mapped to this
+     * address.
+     */
+    default BufferView getPinned(int address) {
+        BufferView data = get(address);
+        return data == null ? null : new ByteArraySegment(data.getCopy());
+    }
+
     /**
      * Returns a {@link CacheState} representing the current state of the {@link CacheStorage}.
      *
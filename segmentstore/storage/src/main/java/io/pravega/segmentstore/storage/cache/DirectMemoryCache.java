@@ -21,6 +21,7 @@ import io.pravega.common.util.BufferView;
 import io.pravega.shared.protocol.netty.ByteBufWrapper;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -82,6 +83,11 @@ import lombok.val;
  * {@link CacheLayout#blockSize()} and 4095 is when an entry's length exceeds a multiple of {@link CacheLayout#blockSize()}
  * by 1 byte.
  * -- Use {@link #getState()} to get insights into memory usage.
+ *
+ * Pinning:
+ * - {@link #getPinned} returns a view of an Entry's Blocks (without copying them) which remains valid until released.
+ * - An Entry that is deleted (or replaced) while pinned will not have its Blocks freed until its last pinned view is
+ * released; until then, its Blocks cannot be reused for new Entries (the Entry's address should not be used anymore).
  */
 @ThreadSafe
 public class DirectMemoryCache implements CacheStorage {
@@ -102,7 +108,9 @@ public class DirectMemoryCache implements CacheStorage {
     private final AtomicLong storedBytes;
     private final AtomicReference<Supplier<Boolean>> tryCleanup;
     private final AtomicInteger retryDelayBaseMillis;
-    private final CacheMetrics metrics = new CacheMetrics();
+    private final CacheMetrics metrics;
+    @GuardedBy("pinnedEntries")
+    private final HashMap<Integer, PinnedEntry> pinnedEntries;
 
     //endregion
 
@@ -130,11 +138,28 @@ public class DirectMemoryCache implements CacheStorage {
      */
     @VisibleForTesting
     DirectMemoryCache(@NonNull CacheLayout layout, long maxSizeBytes) {
+        this(layout, maxSizeBytes, null, new CacheMetrics());
+    }
+
+    /**
+     * Creates a new instance of the {@link DirectMemoryCache} class.
+     *
+     * @param layout       The {@link CacheLayout} to use.
+     * @param maxSizeBytes The maximum size (in bytes) of the cache. The actual capacity of the cache may be rounded up
+     *                     to the nearest buffer size alignment, which is a multiple of {@link CacheLayout#bufferSize()}
+     *                     when applied to layout.
+     * @param allocator    The {@link ByteBufAllocator} to allocate Buffers with. If null, {@link #createAllocator()} will
+     *                     be used.
+     * @param metrics      The {@link CacheMetrics} to report to.
+     * @throws IllegalArgumentException If maxSizeBytes is less than or equal to 0 or greater than {@link CacheLayout#MAX_TOTAL_SIZE}.
+     */
+    DirectMemoryCache(@NonNull CacheLayout layout, long maxSizeBytes, ByteBufAllocator allocator, @NonNull CacheMetrics metrics) {
         Preconditions.checkArgument(maxSizeBytes > 0 && maxSizeBytes <= CacheLayout.MAX_TOTAL_SIZE,
                 "maxSizeBytes must be a positive number less than %s.", CacheLayout.MAX_TOTAL_SIZE);
         maxSizeBytes = adjustMaxSizeIfNeeded(maxSizeBytes, layout);
 
         this.layout = layout;
+        this.metrics = metrics;
         this.tryCleanup = new AtomicReference<>(null);
         this.retryDelayBaseMillis = new AtomicInteger(0);
         this.storedBytes = new AtomicLong(0);
@@ -142,15 +167,15 @@ public class DirectMemoryCache implements CacheStorage {
         this.buffers = new DirectMemoryBuffer[(int) (maxSizeBytes / this.layout.bufferSize())];
         this.availableBufferIds = new ArrayDeque<>(this.buffers.length);
         this.unallocatedBufferIds = new ArrayDeque<>(this.buffers.length);
-        createBuffers();
+        this.pinnedEntries = new HashMap<>();
+        createBuffers(allocator == null ? createAllocator() : allocator);
     }
 
     /**
      * Creates all the {@link DirectMemoryBuffer} instances for this {@link DirectMemoryCache} instance.
      */
     @GuardedBy("availableBufferIds")
-    private void createBuffers() {
-        ByteBufAllocator allocator = createAllocator();
+    private void createBuffers(ByteBufAllocator allocator) {
         for (int i = 0; i < this.buffers.length; i++) {
             this.unallocatedBufferIds.addLast(i);
             this.buffers[i] = new DirectMemoryBuffer(i, allocator, this.layout);
@@ -291,6 +316,19 @@ public class DirectMemoryCache implements CacheStorage {
     @Override
     public void delete(int address) {
         Exceptions.checkNotClosed(this.closed.get(), this);
+        synchronized (this.pinnedEntries) {
+            PinnedEntry pinned = this.pinnedEntries.get(address);
+            if (pinned != null) {
+                // Someone is still using this entry's blocks. We'll delete it when the last pin is released.
+                pinned.deleted = true;
+                return;
+            }
+        }
+
+        deleteInternal(address);
+    }
+
+    private void deleteInternal(int address) {
         int deletedLength = 0;
         while (address != CacheLayout.NO_ADDRESS) {
             // Locate the Buffer-Block for the current address.
@@ -323,18 +361,7 @@ public class DirectMemoryCache implements CacheStorage {
     @Override
     public BufferView get(int address) {
         Exceptions.checkNotClosed(this.closed.get(), this);
-        List<ByteBuf> readBuffers = new ArrayList<>();
-
-        while (address != CacheLayout.NO_ADDRESS) {
-            // Locate the Buffer-Block for the current address.
-            int bufferId = this.layout.getBufferId(address);
-            int blockId = this.layout.getBlockId(address);
-            DirectMemoryBuffer b = this.buffers[bufferId];
-
-            // Fetch the read data into our buffer collection and then set the address to the next in the chain.
-            address = b.read(blockId, readBuffers);
-        }
-
+        List<ByteBuf> readBuffers = read(address);
         if (readBuffers.isEmpty()) {
             // Couldn't read anything, so this address must not point to anything.
             return null;
@@ -348,6 +375,31 @@ public class DirectMemoryCache implements CacheStorage {
         }
     }
 
+    @Override
+    public BufferView getPinned(int address) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        pin(address);
+        try {
+            List<ByteBuf> readBuffers = read(address);
+            if (readBuffers.isEmpty()) {
+                unpin(address);
+                return null;
+            }
+
+            // Each component holds a reference to its Buffer's memory, so that it is not deallocated if we are closed
+            // while pinned. The result's reference count is 1; when it reaches 0, the components are released and the
+            // entry is unpinned.
+            List<ByteBuf> components = new ArrayList<>(readBuffers.size());
+            Lists.reverse(readBuffers).forEach(b -> components.add(b.retainedDuplicate()));
+            ByteBuf result = new PinnedByteBuf(address, components);
+            this.metrics.get(result.readableBytes());
+            return new ByteBufWrapper(result);
+        } catch (Throwable ex) {
+            unpin(address);
+            throw ex;
+        }
+    }
+
     @Override
     public CacheState getState() {
         Exceptions.checkNotClosed(this.closed.get(), this);
@@ -378,6 +430,63 @@ public class DirectMemoryCache implements CacheStorage {
 
     //region Helpers
 
+    /**
+     * Reads the Buffer-Blocks of the entry with the given address.
+     *
+     * @param address The address of the entry to read.
+     * @return A list of read-only {@link ByteBuf}s for each of the Buffer-Blocks, in reverse order (from last to first).
+     * Empty if the address does not point to anything.
+     */
+    private List<ByteBuf> read(int address) {
+        List<ByteBuf> readBuffers = new ArrayList<>();
+        while (address != CacheLayout.NO_ADDRESS) {
+            // Locate the Buffer-Block for the current address.
+            int bufferId = this.layout.getBufferId(address);
+            int blockId = this.layout.getBlockId(address);
+            DirectMemoryBuffer b = this.buffers[bufferId];
+
+            // Fetch the read data into our buffer collection and then set the address to the next in the chain.
+            address = b.read(blockId, readBuffers);
+        }
+
+        return readBuffers;
+    }
+
+    private void pin(int address) {
+        synchronized (this.pinnedEntries) {
+            this.pinnedEntries.computeIfAbsent(address, a -> new PinnedEntry()).count++;
+        }
+    }
+
+    private void unpin(int address) {
+        boolean delete = false;
+        synchronized (this.pinnedEntries) {
+            PinnedEntry pinned = this.pinnedEntries.get(address);
+            assert pinned != null && pinned.count > 0 : "address not pinned " + address;
+            if (--pinned.count == 0) {
+                this.pinnedEntries.remove(address);
+                delete = pinned.deleted;
+            }
+        }
+
+        if (delete && !this.closed.get()) {
+            // The entry has been deleted while pinned. Now that we're done with it, we can delete it for real.
+            deleteInternal(address);
+        }
+    }
+
+    /**
+     * Gets the number of entries that are currently pinned.
+     *
+     * @return The number of pinned entries.
+     */
+    @VisibleForTesting
+    int getPinnedEntryCount() {
+        synchronized (this.pinnedEntries) {
+            return this.pinnedEntries.size();
+        }
+    }
+
     private DirectMemoryBuffer getNextAvailableBuffer() {
         int attempts = 0;
         while (attempts < MAX_CLEANUP_ATTEMPTS) {
@@ -427,6 +536,39 @@ public class DirectMemoryCache implements CacheStorage {
 
     //endregion
 
+    //region PinnedByteBuf
+
+    /**
+     * Pin state for an entry.
+     */
+    private static class PinnedEntry {
+        int count;
+        boolean deleted;
+    }
+
+    /**
+     * {@link CompositeByteBuf} that unpins an entry when it is deallocated.
+     */
+    private class PinnedByteBuf extends CompositeByteBuf {
+        private final int address;
+
+        PinnedByteBuf(int address, List<ByteBuf> components) {
+            super(components.get(0).alloc(), false, components.size(), components);
+            this.address = address;
+        }
+
+        @Override
+        protected void deallocate() {
+            try {
+                super.deallocate();
+            } finally {
+                unpin(this.address);
+            }
+        }
+    }
+
+    //endregion
+
     //region NonReleaseableByteBufWrapper
 
     /**
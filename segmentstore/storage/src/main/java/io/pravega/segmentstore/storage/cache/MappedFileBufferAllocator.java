@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.netty.buffer.AbstractByteBufAllocator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.pravega.common.Exceptions;
+import io.pravega.segmentstore.storage.CacheException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link io.netty.buffer.ByteBufAllocator} that allocates direct buffers by memory-mapping consecutive regions of a file.
+ * This allows a {@link DirectMemoryCache} to store its data on local disk (with the OS page cache in front of it) instead
+ * of in process memory.
+ * <p>
+ * Notes:
+ * - The file is created (or truncated) when this instance is created and deleted when it is closed. Its contents are
+ * not meant to survive a restart.
+ * - The file grows as new buffers are allocated; since {@link DirectMemoryCache} allocates its buffers lazily, the file
+ * size reflects the maximum amount of data ever stored in it.
+ * - Buffers are never unmapped explicitly (there is no public API for it); the mappings are released when the buffers
+ * are garbage collected. As such, buffers must not be used after this instance is closed.
+ * - Heap buffers are not supported.
+ */
+@Slf4j
+@ThreadSafe
+class MappedFileBufferAllocator extends AbstractByteBufAllocator implements AutoCloseable {
+    //region Members
+
+    @Getter
+    private final Path path;
+    private final FileChannel channel;
+    private final AtomicLong nextPosition;
+    private final AtomicBoolean closed;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link MappedFileBufferAllocator} class.
+     *
+     * @param path The path to the file to map. If the file exists, it will be truncated.
+     * @throws IOException If the file could not be created or opened.
+     */
+    MappedFileBufferAllocator(@NonNull Path path) throws IOException {
+        super(false);
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        this.nextPosition = new AtomicLong(0);
+        this.closed = new AtomicBoolean(false);
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (!this.closed.getAndSet(true)) {
+            try {
+                this.channel.close();
+            } catch (IOException ex) {
+                log.warn("Unable to close memory-mapped cache file '{}'.", this.path, ex);
+            }
+        }
+    }
+
+    //endregion
+
+    //region AbstractByteBufAllocator Implementation
+
+    @Override
+    protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+        throw new UnsupportedOperationException("Heap buffers are not supported.");
+    }
+
+    @Override
+    protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        long position = this.nextPosition.getAndAdd(maxCapacity);
+        try {
+            // Unpooled.wrappedBuffer() will not attempt to free the underlying buffer when released.
+            return Unpooled.wrappedBuffer(this.channel.map(FileChannel.MapMode.READ_WRITE, position, maxCapacity));
+        } catch (IOException ex) {
+            throw new CacheException(String.format("Unable to map %s bytes at position %s of '%s'.", maxCapacity, position, this.path), ex);
+        }
+    }
+
+    @Override
+    public boolean isDirectBufferPooled() {
+        return false;
+    }
+
+    //endregion
+}
@@ -0,0 +1,538 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.util.BufferView;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link CacheStorage} made up of two tiers: a {@link DirectMemoryCache} backed by direct memory (the memory tier) and
+ * a {@link DirectMemoryCache} backed by a memory-mapped file on local disk (the disk tier).
+ * <p>
+ * All new entries are inserted into the memory tier. When the memory tier is full, instead of asking the upstream code
+ * (i.e., the CacheManager) to evict entries, a batch of entries that have not been accessed recently are moved (spilled)
+ * to the disk tier. Only if nothing can be spilled (the disk tier is full too) is the upstream cleanup callback invoked.
+ * This way, catch-up readers for data that does not fit in memory are served from local disk instead of Tier 2 Storage.
+ * <p>
+ * Entries are chosen for spilling using a CLOCK (second chance) policy: every access to an entry ({@link #get} or
+ * {@link #append}) marks it as referenced, and the spilling process sweeps over all entries, clearing the referenced flag
+ * on those that have it and spilling the ones that do not.
+ * <p>
+ * Addresses:
+ * - Spilling an entry changes its location, so the addresses returned by {@link #insert} are not the addresses of the
+ * underlying tiers. They are indices into an in-memory table that maps them to the tier and tier address where each
+ * entry currently resides. This table is allocated in pages as needed and requires 4 bytes per address.
+ * - As for {@link DirectMemoryCache}, {@link #get} returns a view into the cache's buffers. Such a view should not be held
+ * for longer than needed, since the entry may be spilled (and its original location reused) after it is no longer
+ * accessed. The CLOCK policy guarantees that at least one full sweep of the spilling process happens in between (every
+ * call to {@link #spill} sweeps at most once over all entries). Furthermore, a spilled entry's memory tier Blocks are
+ * pinned until the next call to {@link #spill}, so they cannot be reused by a concurrent {@link #insert} right away.
+ * - {@link #getPinned} views are not affected by spilling at all: the memory tier defers freeing the Blocks of a pinned
+ * entry until its last view is released.
+ * <p>
+ * {@link #getState()} reports the combined state of both tiers; the CacheManager (and its eviction policy) should be
+ * configured with the combined capacity.
+ */
+@Slf4j
+@ThreadSafe
+public class TieredCache implements CacheStorage {
+    //region Members
+
+    static final String MEMORY_TIER = "memory";
+    static final String DISK_TIER = "disk";
+    /**
+     * The minimum fraction of the memory tier's capacity that will be spilled at once.
+     */
+    @VisibleForTesting
+    static final double SPILL_BATCH_RATIO = 0.01;
+    private static final int SPILLED_FLAG = 1 << 30;
+    private static final int REFERENCED_FLAG = 1 << 29;
+    private static final int TIER_ADDRESS_MASK = REFERENCED_FLAG - 1;
+    private static final int PAGE_BIT_COUNT = 16;
+    private static final int PAGE_SIZE = 1 << PAGE_BIT_COUNT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int STRIPE_COUNT = 64;
+    private static final int NOT_SPILLED = -1;
+    private static final int DISK_FULL = -2;
+
+    private final MappedFileBufferAllocator diskAllocator;
+    private final DirectMemoryCache memoryTier;
+    private final DirectMemoryCache diskTier;
+    private final int maxAddressCount;
+    private final long spillBatchBytes;
+    /**
+     * Maps addresses to tier addresses (and flags). Each element is guarded by the lock for its address (see getLock()).
+     */
+    private final AtomicReferenceArray<int[]> locations;
+    private final Object[] locks;
+    @GuardedBy("addressLock")
+    private int[] freeAddresses;
+    @GuardedBy("addressLock")
+    private int freeAddressCount;
+    @GuardedBy("addressLock")
+    private int nextAddress;
+    @GuardedBy("spillLock")
+    private int clockHand;
+    /**
+     * Pinned views of the memory tier entries spilled by the last call to {@link #spill}. Holding them prevents the
+     * memory tier from reusing their Blocks until they are released.
+     */
+    @GuardedBy("spillLock")
+    private final ArrayList<BufferView> spilledViews;
+    private final Object addressLock = new Object();
+    private final Object spillLock = new Object();
+    private final AtomicReference<Supplier<Boolean>> upstreamCleanup;
+    private final AtomicBoolean closed;
+    private final CacheMetrics.Tiered metrics;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link TieredCache} class.
+     *
+     * @param memoryMaxSizeBytes The maximum size (in bytes) of the memory tier. See {@link DirectMemoryCache} for details.
+     * @param diskMaxSizeBytes   The maximum size (in bytes) of the disk tier. See {@link DirectMemoryCache} for details.
+     * @param diskDirectory      The directory where to create the file backing the disk tier. This file will be deleted
+     *                           when this instance is closed.
+     * @throws IOException              If the file backing the disk tier could not be created.
+     * @throws IllegalArgumentException If memoryMaxSizeBytes or diskMaxSizeBytes is less than or equal to 0 or greater
+     *                                  than {@link CacheLayout#MAX_TOTAL_SIZE}.
+     */
+    public TieredCache(long memoryMaxSizeBytes, long diskMaxSizeBytes, @NonNull Path diskDirectory) throws IOException {
+        Preconditions.checkArgument(memoryMaxSizeBytes > 0 && memoryMaxSizeBytes <= CacheLayout.MAX_TOTAL_SIZE,
+                "memoryMaxSizeBytes must be a positive number less than %s.", CacheLayout.MAX_TOTAL_SIZE);
+        Preconditions.checkArgument(diskMaxSizeBytes > 0 && diskMaxSizeBytes <= CacheLayout.MAX_TOTAL_SIZE,
+                "diskMaxSizeBytes must be a positive number less than %s.", CacheLayout.MAX_TOTAL_SIZE);
+        CacheLayout layout = new CacheLayout.DefaultLayout();
+        Files.createDirectories(diskDirectory);
+        this.diskAllocator = new MappedFileBufferAllocator(Files.createTempFile(diskDirectory, "cache-", ".spill"));
+        try {
+            this.memoryTier = new DirectMemoryCache(layout, memoryMaxSizeBytes, null, new CacheMetrics(MEMORY_TIER));
+            this.diskTier = new DirectMemoryCache(layout, diskMaxSizeBytes, this.diskAllocator, new CacheMetrics(DISK_TIER));
+        } catch (Throwable ex) {
+            this.diskAllocator.close();
+            throw ex;
+        }
+
+        // Every entry uses at least one Block, so we can never have more entries than Blocks.
+        long maxBytes = this.memoryTier.getState().getMaxBytes() + this.diskTier.getState().getMaxBytes();
+        this.maxAddressCount = (int) Math.min(Integer.MAX_VALUE, maxBytes / layout.blockSize() + 1);
+        this.spillBatchBytes = Math.max(layout.blockSize(), (long) (this.memoryTier.getState().getMaxBytes() * SPILL_BATCH_RATIO));
+        this.locations = new AtomicReferenceArray<>((this.maxAddressCount >>> PAGE_BIT_COUNT) + 1);
+        this.locks = new Object[STRIPE_COUNT];
+        for (int i = 0; i < this.locks.length; i++) {
+            this.locks[i] = new Object();
+        }
+
+        this.freeAddresses = new int[PAGE_SIZE];
+        this.freeAddressCount = 0;
+        this.nextAddress = NO_ADDRESS + 1;
+        this.locations.set(0, new int[PAGE_SIZE]);
+        this.clockHand = NO_ADDRESS;
+        this.spilledViews = new ArrayList<>();
+        this.upstreamCleanup = new AtomicReference<>(null);
+        this.closed = new AtomicBoolean(false);
+        this.metrics = new CacheMetrics.Tiered();
+        this.memoryTier.setCacheFullCallback(this::onMemoryTierFull, 0);
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (!this.closed.getAndSet(true)) {
+            synchronized (this.spillLock) {
+                releaseSpilledViews();
+            }
+
+            this.memoryTier.close();
+            this.diskTier.close();
+            this.diskAllocator.close();
+            this.metrics.close();
+        }
+    }
+
+    //endregion
+
+    //region CacheStorage Implementation
+
+    @Override
+    public int getBlockAlignment() {
+        return this.memoryTier.getBlockAlignment();
+    }
+
+    @Override
+    public int getMaxEntryLength() {
+        return this.memoryTier.getMaxEntryLength();
+    }
+
+    @Override
+    public int insert(BufferView data) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+
+        // If the memory tier is full, this will spill some entries to the disk tier or invoke the upstream cleanup.
+        int tierAddress;
+        try {
+            tierAddress = this.memoryTier.insert(data);
+        } catch (CacheFullException ex) {
+            // Nothing more could be freed from the memory tier. Try to insert directly into the disk tier; if that is
+            // full too, there is nothing else we can do.
+            try {
+                tierAddress = this.diskTier.insert(data) | SPILLED_FLAG;
+            } catch (CacheFullException ex2) {
+                throw ex;
+            }
+        }
+
+        int address = allocateAddress();
+        synchronized (getLock(address)) {
+            setLocation(address, tierAddress | REFERENCED_FLAG);
+        }
+
+        return address;
+    }
+
+    @Override
+    public int replace(int address, BufferView data) {
+        // Same as DirectMemoryCache: insert the new data first, then delete the old one.
+        int newAddress = insert(data);
+        delete(address);
+        return newAddress;
+    }
+
+    @Override
+    public int getAppendableLength(int currentLength) {
+        // Both tiers have the same layout.
+        return this.memoryTier.getAppendableLength(currentLength);
+    }
+
+    @Override
+    public int append(int address, int expectedLength, BufferView data) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkArgument(isValidAddress(address), "Invalid address.");
+        synchronized (getLock(address)) {
+            int location = getLocation(address);
+            Preconditions.checkArgument(location != NO_ADDRESS, "Invalid address.");
+            setLocation(address, location | REFERENCED_FLAG);
+            return getTier(location).append(location & TIER_ADDRESS_MASK, expectedLength, data);
+        }
+    }
+
+    @Override
+    public void delete(int address) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        if (!isValidAddress(address)) {
+            return;
+        }
+
+        int location;
+        synchronized (getLock(address)) {
+            location = getLocation(address);
+            if (location == NO_ADDRESS) {
+                return;
+            }
+
+            setLocation(address, NO_ADDRESS);
+        }
+
+        // Nobody else can access this entry anymore, so it is safe to delete it outside of the lock.
+        getTier(location).delete(location & TIER_ADDRESS_MASK);
+        releaseAddress(address);
+    }
+
+    @Override
+    public BufferView get(int address) {
+        return read(address, false);
+    }
+
+    @Override
+    public BufferView getPinned(int address) {
+        return read(address, true);
+    }
+
+    private BufferView read(int address, boolean pin) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        int location = NO_ADDRESS;
+        BufferView result = null;
+        if (isValidAddress(address)) {
+            synchronized (getLock(address)) {
+                location = getLocation(address);
+                if (location != NO_ADDRESS) {
+                    setLocation(address, location | REFERENCED_FLAG);
+                    DirectMemoryCache tier = getTier(location);
+                    result = pin ? tier.getPinned(location & TIER_ADDRESS_MASK) : tier.get(location & TIER_ADDRESS_MASK);
+                }
+            }
+        }
+
+        if (result == null) {
+            this.metrics.miss();
+        } else if (isDiskLocation(location)) {
+            this.metrics.diskHit();
+        } else {
+            this.metrics.memoryHit();
+        }
+
+        return result;
+    }
+
+    @Override
+    public CacheState getState() {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        CacheState m = this.memoryTier.getState();
+        CacheState d = this.diskTier.getState();
+        return new CacheState(
+                m.getStoredBytes() + d.getStoredBytes(),
+                m.getUsedBytes() + d.getUsedBytes(),
+                m.getReservedBytes() + d.getReservedBytes(),
+                m.getAllocatedBytes() + d.getAllocatedBytes(),
+                m.getMaxBytes() + d.getMaxBytes());
+    }
+
+    @Override
+    public void setCacheFullCallback(Supplier<Boolean> cacheFullCallback, int retryDelayBaseMillis) {
+        this.upstreamCleanup.set(cacheFullCallback);
+        this.memoryTier.setCacheFullCallback(this::onMemoryTierFull, retryDelayBaseMillis);
+    }
+
+    //endregion
+
+    //region Tier Information
+
+    /**
+     * Gets a {@link CacheState} representing the current state of the memory tier.
+     *
+     * @return The state of the memory tier.
+     */
+    public CacheState getMemoryTierState() {
+        return this.memoryTier.getState();
+    }
+
+    /**
+     * Gets a {@link CacheState} representing the current state of the disk tier.
+     *
+     * @return The state of the disk tier.
+     */
+    public CacheState getDiskTierState() {
+        return this.diskTier.getState();
+    }
+
+    /**
+     * Gets a value indicating whether the entry at the given address currently resides in the disk tier.
+     *
+     * @param address The address to check.
+     * @return True if the entry exists and is in the disk tier, false otherwise.
+     */
+    @VisibleForTesting
+    boolean isSpilled(int address) {
+        if (!isValidAddress(address)) {
+            return false;
+        }
+
+        synchronized (getLock(address)) {
+            int location = getLocation(address);
+            return location != NO_ADDRESS && isDiskLocation(location);
+        }
+    }
+
+    //endregion
+
+    //region Spilling
+
+    /**
+     * Invoked by the memory tier when it is full.
+     *
+     * @return True if something was freed up (either by spilling to disk or by the upstream cleanup), false otherwise.
+     */
+    private boolean onMemoryTierFull() {
+        boolean released;
+        synchronized (this.spillLock) {
+            released = releaseSpilledViews() > 0;
+        }
+
+        // The first sweep may only clear the referenced flags, in which case the second one will find something to spill.
+        if (spill() > 0 || spill() > 0 || released) {
+            return true;
+        }
+
+        Supplier<Boolean> upstream = this.upstreamCleanup.get();
+        return upstream != null && upstream.get();
+    }
+
+    /**
+     * Spills entries from the memory tier to the disk tier, until at least {@link #SPILL_BATCH_RATIO} of the memory tier's
+     * capacity has been spilled, the disk tier is full, or one full sweep over all entries has been made.
+     *
+     * The memory tier Blocks of the entries spilled by the previous call are released (and may be reused) when this
+     * method is invoked; the ones spilled by this call will remain pinned until the next one.
+     *
+     * @return The number of entries spilled.
+     */
+    @VisibleForTesting
+    int spill() {
+        int spilledCount = 0;
+        long spilledBytes = 0;
+        synchronized (this.spillLock) {
+            releaseSpilledViews();
+            int maxAddress;
+            synchronized (this.addressLock) {
+                maxAddress = this.nextAddress;
+            }
+
+            // Sweep at most once over all addresses (which are between NO_ADDRESS + 1 and maxAddress - 1), so that an
+            // entry whose referenced flag we clear cannot be spilled by this same call.
+            long remainingSteps = maxAddress - (NO_ADDRESS + 1);
+            while (spilledBytes < this.spillBatchBytes && remainingSteps-- > 0) {
+                this.clockHand = this.clockHand + 1 >= maxAddress ? NO_ADDRESS + 1 : this.clockHand + 1;
+                int spilledLength = trySpill(this.clockHand);
+                if (spilledLength == DISK_FULL) {
+                    break;
+                } else if (spilledLength != NOT_SPILLED) {
+                    spilledCount++;
+                    // Empty entries still take up a Block.
+                    spilledBytes += Math.max(spilledLength, 1);
+                }
+            }
+        }
+
+        if (spilledCount > 0) {
+            log.debug("{}: Spilled {} entries ({} bytes) to disk tier.", TieredCache.class.getSimpleName(), spilledCount, spilledBytes);
+            this.metrics.spill(spilledCount, spilledBytes);
+        }
+
+        return spilledCount;
+    }
+
+    @GuardedBy("spillLock")
+    private int trySpill(int address) {
+        synchronized (getLock(address)) {
+            int location = getLocation(address);
+            if (location == NO_ADDRESS || isDiskLocation(location)) {
+                // Nothing to spill.
+                return NOT_SPILLED;
+            } else if ((location & REFERENCED_FLAG) != 0) {
+                // Accessed since the last sweep; give it a second chance.
+                setLocation(address, location & ~REFERENCED_FLAG);
+                return NOT_SPILLED;
+            }
+
+            // Pin the entry so that its Blocks are not reused as soon as we delete it (there may still be views on it
+            // that were returned by get()).
+            BufferView data = this.memoryTier.getPinned(location & TIER_ADDRESS_MASK);
+            assert data != null : "no memory tier entry for address " + address;
+            int diskAddress;
+            try {
+                diskAddress = this.diskTier.insert(data);
+            } catch (Throwable ex) {
+                data.release();
+                if (ex instanceof CacheFullException) {
+                    return DISK_FULL;
+                }
+                throw ex;
+            }
+
+            // Update the location before deleting the data, while holding the lock, so nobody else can observe the
+            // old location. The memory tier will not free the Blocks until we release our pin.
+            setLocation(address, diskAddress | SPILLED_FLAG);
+            this.memoryTier.delete(location & TIER_ADDRESS_MASK);
+            this.spilledViews.add(data);
+            return data.getLength();
+        }
+    }
+
+    /**
+     * Releases the pins held on the memory tier entries spilled by the previous call to {@link #spill}.
+     *
+     * @return The number of released entries.
+     */
+    @GuardedBy("spillLock")
+    private int releaseSpilledViews() {
+        int count = this.spilledViews.size();
+        this.spilledViews.forEach(BufferView::release);
+        this.spilledViews.clear();
+        return count;
+    }
+
+    //endregion
+
+    //region Address Management
+
+    private int allocateAddress() {
+        synchronized (this.addressLock) {
+            if (this.freeAddressCount > 0) {
+                return this.freeAddresses[--this.freeAddressCount];
+            }
+
+            int address = this.nextAddress++;
+            assert address < this.maxAddressCount : "address overflow";
+            int page = address >>> PAGE_BIT_COUNT;
+            if (this.locations.get(page) == null) {
+                this.locations.set(page, new int[PAGE_SIZE]);
+            }
+
+            return address;
+        }
+    }
+
+    private void releaseAddress(int address) {
+        synchronized (this.addressLock) {
+            if (this.freeAddressCount == this.freeAddresses.length) {
+                this.freeAddresses = Arrays.copyOf(this.freeAddresses, this.freeAddresses.length * 2);
+            }
+
+            this.freeAddresses[this.freeAddressCount++] = address;
+        }
+    }
+
+    private boolean isValidAddress(int address) {
+        return address > NO_ADDRESS && address < this.maxAddressCount && this.locations.get(address >>> PAGE_BIT_COUNT) != null;
+    }
+
+    private Object getLock(int address) {
+        return this.locks[address % STRIPE_COUNT];
+    }
+
+    private int getLocation(int address) {
+        return this.locations.get(address >>> PAGE_BIT_COUNT)[address & PAGE_MASK];
+    }
+
+    private void setLocation(int address, int location) {
+        this.locations.get(address >>> PAGE_BIT_COUNT)[address & PAGE_MASK] = location;
+    }
+
+    private boolean isDiskLocation(int location) {
+        return (location & SPILLED_FLAG) != 0;
+    }
+
+    private DirectMemoryCache getTier(int location) {
+        return isDiskLocation(location) ? this.diskTier : this.memoryTier;
+    }
+
+    //endregion
+}
@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.AbstractThreadPoolService;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.concurrent.Services;
+import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
+import io.pravega.segmentstore.storage.metadata.SegmentMetadata;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_SEGMENT_CHUNK_COUNT;
+import static io.pravega.shared.MetricsNames.SLTS_DEFRAG_QUEUE_SIZE;
+
+/**
+ * Implements a background task that defragments segments with many small chunks.
+ *
+ * Inline defrag (see {@link ChunkedSegmentStorageConfig#isInlineDefragEnabled()}) only merges the chunks added by a concat.
+ * Segments written by many small writes (specially on {@link ChunkStorage} that does not support appends, where each write
+ * becomes a separate chunk) still end up with a large number of small chunks, which slows down reads and bloats the metadata.
+ *
+ * The defragmenter maintains an in memory queue of candidate segments which is drained by a background task.
+ * Segments are added to this queue whenever a write or concat changes their layout and
+ * <ol>
+ * <li>they have at least {@link ChunkedSegmentStorageConfig#getBackgroundDefragMinChunkCount()} chunks and</li>
+ * <li>their average chunk size is below {@link ChunkedSegmentStorageConfig#getBackgroundDefragMaxAverageChunkSize()}.</li>
+ * </ol>
+ * The actual work is done by {@link ChunkedSegmentStorage#defragment(String)}, which is serialized with all the other
+ * modifications to the segment and updates the metadata in a single transaction.
+ *
+ * The background task throttles itself in two ways.
+ * <ol>
+ * <li>It limits the number of segments defragmented at a time and sleeps between iterations, so that it doesn't interfere
+ * with foreground Storage calls.</li>
+ * <li>It limits the number of items in the queue.</li>
+ * </ol>
+ */
+@Slf4j
+public class BackgroundDefragmenter extends AbstractThreadPoolService implements AutoCloseable, StatsReporter {
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Set of segments to defragment, in the order they were added.
+     */
+    @GuardedBy("segmentsToDefrag")
+    private final LinkedHashSet<String> segmentsToDefrag = new LinkedHashSet<>();
+
+    private final ChunkedSegmentStorageConfig config;
+
+    private final Function<String, CompletableFuture<Void>> defragmentSegment;
+
+    private final Supplier<CompletableFuture<Void>> delaySupplier;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final AtomicLong iterationId = new AtomicLong();
+
+    private CompletableFuture<Void> loopFuture;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param containerId       Container id of the owner container.
+     * @param config            Configuration options for the ChunkedSegmentStorage instance.
+     * @param defragmentSegment Function that defragments the given segment.
+     * @param executorService   ScheduledExecutorService to use.
+     */
+    public BackgroundDefragmenter(int containerId,
+                                  ChunkedSegmentStorageConfig config,
+                                  Function<String, CompletableFuture<Void>> defragmentSegment,
+                                  ScheduledExecutorService executorService) {
+        this(containerId, config, defragmentSegment,
+                () -> Futures.delayedFuture(config.getBackgroundDefragSleep(), executorService));
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param containerId       Container id of the owner container.
+     * @param config            Configuration options for the ChunkedSegmentStorage instance.
+     * @param defragmentSegment Function that defragments the given segment.
+     * @param delaySupplier     Function that supplies delay future.
+     */
+    public BackgroundDefragmenter(int containerId,
+                                  ChunkedSegmentStorageConfig config,
+                                  Function<String, CompletableFuture<Void>> defragmentSegment,
+                                  Supplier<CompletableFuture<Void>> delaySupplier) {
+        super(String.format("BackgroundDefragmenter[%d]", containerId), ExecutorServiceHelpers.newScheduledThreadPool(1, "storage-defrag"));
+        try {
+            this.config = Preconditions.checkNotNull(config, "config");
+            this.defragmentSegment = Preconditions.checkNotNull(defragmentSegment, "defragmentSegment");
+            this.delaySupplier = Preconditions.checkNotNull(delaySupplier, "delaySupplier");
+        } catch (Exception ex) {
+            this.executor.shutdownNow();
+            throw ex;
+        }
+    }
+
+    /**
+     * Initializes this instance.
+     */
+    public void initialize() {
+        Services.startAsync(this, this.executor);
+    }
+
+    /**
+     * Gets a value indicating how much to wait for the service to shut down, before failing it.
+     *
+     * @return The Duration.
+     */
+    @Override
+    protected Duration getShutdownTimeout() {
+        return SHUTDOWN_TIMEOUT;
+    }
+
+    /**
+     * Main execution of the Service. When this Future completes, the service auto-shuts down.
+     *
+     * @return A CompletableFuture that, when completed, indicates the service is terminated. If the Future completed
+     * exceptionally, the Service will shut down with failure, otherwise it will terminate normally.
+     */
+    @Override
+    protected CompletableFuture<Void> doRun() {
+        loopFuture = Futures.loop(
+                this::canRun,
+                () -> delaySupplier.get()
+                        .thenComposeAsync(v -> defragment(config.getBackgroundDefragMaxConcurrency()), executor)
+                        .handleAsync((v, ex) -> {
+                            if (null != ex) {
+                                log.error("{}: Error during doRun.", traceObjectId, ex);
+                            }
+                            return null;
+                        }, executor),
+                executor);
+        return loopFuture;
+    }
+
+    private boolean canRun() {
+        return isRunning() && getStopException() == null && !closed.get();
+    }
+
+    /**
+     * Notifies this instance that the layout of the given segment has changed.
+     * The number of chunks of the segment is recorded and the segment is queued for defrag if it is eligible.
+     * Segments are only queued while the background task is running.
+     *
+     * @param segmentMetadata {@link SegmentMetadata} of the segment after the change.
+     */
+    void onSegmentLayoutChanged(SegmentMetadata segmentMetadata) {
+        SLTS_SEGMENT_CHUNK_COUNT.reportSuccessValue(segmentMetadata.getChunkCount());
+        if (isRunning() && shouldDefrag(segmentMetadata)) {
+            addToQueue(segmentMetadata.getName());
+        }
+    }
+
+    /**
+     * Determines whether the given segment is eligible for defrag.
+     *
+     * @param segmentMetadata {@link SegmentMetadata} of the segment.
+     * @return True if the segment has many small chunks, false otherwise.
+     */
+    boolean shouldDefrag(SegmentMetadata segmentMetadata) {
+        if (segmentMetadata.isStorageSystemSegment() || segmentMetadata.getChunkCount() < Math.max(2, config.getBackgroundDefragMinChunkCount())) {
+            return false;
+        }
+        val averageChunkSize = (segmentMetadata.getLength() - segmentMetadata.getFirstChunkStartOffset()) / segmentMetadata.getChunkCount();
+        return averageChunkSize < config.getBackgroundDefragMaxAverageChunkSize();
+    }
+
+    /**
+     * Adds given segment to the queue of segments to defragment.
+     *
+     * @param segmentName Name of the segment.
+     */
+    void addToQueue(String segmentName) {
+        synchronized (segmentsToDefrag) {
+            if (segmentsToDefrag.size() < config.getBackgroundDefragMaxQueueSize() || segmentsToDefrag.contains(segmentName)) {
+                segmentsToDefrag.add(segmentName);
+            } else {
+                log.debug("{}: addToQueue - Queue full. Could not add segment {}.", traceObjectId, segmentName);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of segments waiting to be defragmented.
+     *
+     * @return Number of segments.
+     */
+    int getQueueSize() {
+        synchronized (segmentsToDefrag) {
+            return segmentsToDefrag.size();
+        }
+    }
+
+    /**
+     * Defragments a few segments from the queue.
+     * Segments that fail to defragment are not queued back. They are queued again on their next layout change.
+     *
+     * @param maxItems Maximum number of segments to defragment at a time.
+     * @return CompletableFuture which is completed when the segments are defragmented. The value indicates whether there
+     * were any segments to defragment.
+     */
+    CompletableFuture<Boolean> defragment(int maxItems) {
+        log.debug("{}: Iteration {} started.", traceObjectId, iterationId.get());
+        val segments = new ArrayList<String>();
+        synchronized (segmentsToDefrag) {
+            val iterator = segmentsToDefrag.iterator();
+            while (iterator.hasNext() && segments.size() < maxItems) {
+                segments.add(iterator.next());
+                iterator.remove();
+            }
+        }
+
+        if (segments.isEmpty()) {
+            log.debug("{}: defragment - no work - sleeping for {}.", traceObjectId, config.getBackgroundDefragSleep());
+            return CompletableFuture.completedFuture(false);
+        }
+
+        val futures = new ArrayList<CompletableFuture<Void>>();
+        for (val segmentName : segments) {
+            futures.add(defragmentSegment.apply(segmentName)
+                    .handleAsync((v, e) -> {
+                        if (null != e) {
+                            val ex = Exceptions.unwrap(e);
+                            if (ex instanceof StreamSegmentNotExistsException) {
+                                log.debug("{}: defragment - segment no longer exists segment={}.", traceObjectId, segmentName);
+                            } else {
+                                log.warn("{}: defragment - Could not defragment segment={}.", traceObjectId, segmentName, ex);
+                            }
+                        }
+                        return null;
+                    }, executor));
+        }
+        return Futures.allOf(futures)
+                .thenApplyAsync(v -> {
+                    log.debug("{}: Iteration {} ended.", traceObjectId, iterationId.getAndIncrement());
+                    return true;
+                }, executor);
+    }
+
+    @Override
+    public void close() {
+        Services.stopAsync(this, executor);
+        if (!this.closed.get()) {
+            if (null != loopFuture) {
+                loopFuture.cancel(true);
+            }
+            closed.set(true);
+            executor.shutdownNow();
+            super.close();
+        }
+    }
+
+    @Override
+    public void report() {
+        ChunkStorageMetrics.DYNAMIC_LOGGER.reportGaugeValue(SLTS_DEFRAG_QUEUE_SIZE, getQueueSize());
+    }
+}
@@ -41,6 +41,9 @@ public class ChunkStorageMetrics {
     static final OpStatsLogger SLTS_SYS_READ_INDEX_SCAN_LATENCY = STATS_LOGGER.createStats(MetricsNames.SLTS_SYS_READ_INDEX_SCAN_LATENCY);
     static final OpStatsLogger SLTS_SYS_READ_INDEX_NUM_SCANNED = STATS_LOGGER.createStats(MetricsNames.SLTS_SYS_READ_INDEX_NUM_SCANNED);
 
+    static final OpStatsLogger SLTS_SEGMENT_CHUNK_COUNT = STATS_LOGGER.createStats(MetricsNames.SLTS_SEGMENT_CHUNK_COUNT);
+    static final OpStatsLogger SLTS_DEFRAG_LATENCY = STATS_LOGGER.createStats(MetricsNames.SLTS_DEFRAG_LATENCY);
+
     static final Counter READ_BYTES = STATS_LOGGER.createCounter(MetricsNames.STORAGE_READ_BYTES);
     static final Counter WRITE_BYTES = STATS_LOGGER.createCounter(MetricsNames.STORAGE_WRITE_BYTES);
     static final Counter CONCAT_BYTES = STATS_LOGGER.createCounter(MetricsNames.STORAGE_CONCAT_BYTES);
@@ -57,6 +60,8 @@ public class ChunkStorageMetrics {
     static final Counter SLTS_DELETE_COUNT = STATS_LOGGER.createCounter(MetricsNames.SLTS_DELETE_COUNT);
     static final Counter SLTS_CONCAT_COUNT = STATS_LOGGER.createCounter(MetricsNames.SLTS_CONCAT_COUNT);
     static final Counter SLTS_TRUNCATE_COUNT = STATS_LOGGER.createCounter(MetricsNames.SLTS_TRUNCATE_COUNT);
+    static final Counter SLTS_DEFRAG_COUNT = STATS_LOGGER.createCounter(MetricsNames.SLTS_DEFRAG_COUNT);
+    static final Counter SLTS_DEFRAG_CHUNKS_REMOVED = STATS_LOGGER.createCounter(MetricsNames.SLTS_DEFRAG_CHUNKS_REMOVED);
 
     static final Counter LARGE_CONCAT_COUNT = STATS_LOGGER.createCounter(MetricsNames.STORAGE_LARGE_CONCAT_COUNT);
 }
@@ -42,6 +42,7 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -58,6 +59,9 @@ import java.util.function.Function;
 
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_CREATE_COUNT;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_CREATE_LATENCY;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_DEFRAG_CHUNKS_REMOVED;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_DEFRAG_COUNT;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_DEFRAG_LATENCY;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_DELETE_COUNT;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_DELETE_LATENCY;
 
@@ -144,6 +148,9 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
     @Getter
     private final GarbageCollector garbageCollector;
 
+    @Getter
+    private final BackgroundDefragmenter backgroundDefragmenter;
+
     private final ScheduledFuture<?> reporter;
 
     /**
@@ -173,6 +180,10 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
                 metadataStore,
                 config,
                 executor);
+        this.backgroundDefragmenter = new BackgroundDefragmenter(containerId,
+                config,
+                this::defragment,
+                executor);
         this.closed = new AtomicBoolean(false);
         this.reporter = executor.scheduleAtFixedRate(this::report, 1000, 1000, TimeUnit.MILLISECONDS);
     }
@@ -190,6 +201,11 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
         log.debug("{} STORAGE BOOT: Started.", logPrefix);
         return this.systemJournal.bootstrap(epoch)
                 .thenRun(() -> garbageCollector.initialize())
+                .thenRun(() -> {
+                    if (shouldDefragInBackground()) {
+                        backgroundDefragmenter.initialize();
+                    }
+                })
                 .thenRun(() -> log.debug("{} STORAGE BOOT: Ended.", logPrefix));
     }
 
@@ -489,6 +505,80 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
         return new DefragmentOperation(this, txn, segmentMetadata, startChunkName, lastChunkName, chunksToDelete, newReadIndexEntries, defragOffset).call();
     }
 
+    /**
+     * Whether segments should be defragmented by {@link BackgroundDefragmenter}.
+     * Defrag requires that the underlying {@link ChunkStorage} supports either appends or concat.
+     */
+    boolean shouldDefragInBackground() {
+        return (shouldAppend() || chunkStorage.supportsConcat()) && config.isBackgroundDefragEnabled();
+    }
+
+    /**
+     * Defragments all the chunks of the given segment in a single transaction.
+     * This operation is serialized with all the other modifications to the segment.
+     * Storage system segments and segments not owned by this instance are skipped.
+     *
+     * @param streamSegmentName Name of the segment to defrag.
+     * @return A CompletableFuture that, when completed, will indicate that the operation completed.
+     */
+    CompletableFuture<Void> defragment(String streamSegmentName) {
+        checkInitialized();
+        return executeSerialized(() -> {
+            val timer = new Timer();
+            return tryWith(metadataStore.beginTransaction(false, streamSegmentName), txn -> txn.get(streamSegmentName)
+                    .thenComposeAsync(storageMetadata -> {
+                        val segmentMetadata = (SegmentMetadata) storageMetadata;
+                        checkSegmentExists(streamSegmentName, segmentMetadata);
+                        if (segmentMetadata.isStorageSystemSegment()
+                                || segmentMetadata.getOwnerEpoch() != this.epoch
+                                || null == segmentMetadata.getFirstChunk()) {
+                            log.debug("{} defragment - skipping segment={}.", logPrefix, streamSegmentName);
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        segmentMetadata.checkInvariants();
+                        val chunkCount = segmentMetadata.getChunkCount();
+                        val chunksToDelete = Collections.synchronizedList(new ArrayList<String>());
+                        val newReadIndexEntries = Collections.synchronizedList(new ArrayList<ChunkNameOffsetPair>());
+                        return defrag(txn, segmentMetadata,
+                                segmentMetadata.getFirstChunk(),
+                                null,
+                                chunksToDelete,
+                                newReadIndexEntries,
+                                segmentMetadata.getFirstChunkStartOffset())
+                                .thenComposeAsync(v -> {
+                                    if (chunksToDelete.isEmpty()) {
+                                        // Nothing was merged. Discard the transaction.
+                                        return CompletableFuture.completedFuture(null);
+                                    }
+                                    segmentMetadata.checkInvariants();
+                                    return txn.commit()
+                                            .thenRunAsync(() -> {
+                                                // Collect garbage.
+                                                garbageCollector.addToGarbage(chunksToDelete);
+
+                                                // Update the read index.
+                                                readIndexCache.remove(streamSegmentName);
+                                                readIndexCache.addIndexEntries(streamSegmentName, newReadIndexEntries);
+
+                                                val elapsed = timer.getElapsed();
+                                                SLTS_DEFRAG_LATENCY.reportSuccessEvent(elapsed);
+                                                SLTS_DEFRAG_COUNT.inc();
+                                                SLTS_DEFRAG_CHUNKS_REMOVED.add(chunksToDelete.size());
+                                                log.debug("{} defragment - segment={}, chunks before={}, chunks after={}, latency={}.",
+                                                        logPrefix, streamSegmentName, chunkCount, segmentMetadata.getChunkCount(), elapsed.toMillis());
+                                            }, executor)
+                                            .exceptionally(e -> {
+                                                val ex = Exceptions.unwrap(e);
+                                                if (ex instanceof StorageMetadataWritesFencedOutException) {
+                                                    throw new CompletionException(new StorageNotPrimaryException(streamSegmentName, ex));
+                                                }
+                                                throw new CompletionException(ex);
+                                            });
+                                }, executor);
+                    }, executor), executor);
+        }, streamSegmentName);
+    }
+
     @Override
     public CompletableFuture<Void> delete(SegmentHandle handle, Duration timeout) {
         checkInitialized();
@@ -668,12 +758,14 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
     @Override
     public void report() {
         garbageCollector.report();
+        backgroundDefragmenter.report();
         metadataStore.report();
         chunkStorage.report();
     }
 
     @Override
     public void close() {
+        close("backgroundDefragmenter", this.backgroundDefragmenter);
         close("metadataStore", this.metadataStore);
         close("garbageCollector", this.garbageCollector);
         close("chunkStorage", this.chunkStorage);
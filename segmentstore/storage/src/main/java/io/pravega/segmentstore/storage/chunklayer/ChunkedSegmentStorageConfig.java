@@ -44,6 +44,13 @@ public class ChunkedSegmentStorageConfig {
     public static final Property<Integer> GARBAGE_COLLECTION_MAX_QUEUE_SIZE = Property.named("garbage.collection.queue.size.max", 16 * 1024);
     public static final Property<Integer> GARBAGE_COLLECTION_SLEEP = Property.named("garbage.collection.sleep.millis", 10);
     public static final Property<Integer> GARBAGE_COLLECTION_MAX_ATTEMPTS = Property.named("garbage.collection.attempts.max", 3);
+    public static final Property<Integer> READ_MAX_CONCURRENCY = Property.named("read.concurrency.max", 8);
+    public static final Property<Boolean> BACKGROUND_DEFRAG_ENABLED = Property.named("defrag.background.enable", false);
+    public static final Property<Integer> BACKGROUND_DEFRAG_MIN_CHUNK_COUNT = Property.named("defrag.background.chunk.count.min", 16);
+    public static final Property<Long> BACKGROUND_DEFRAG_MAX_AVERAGE_CHUNK_SIZE = Property.named("defrag.background.chunk.avg.size.bytes.max", 4 * 1024 * 1024L);
+    public static final Property<Integer> BACKGROUND_DEFRAG_MAX_CONCURRENCY = Property.named("defrag.background.concurrency.max", 1);
+    public static final Property<Integer> BACKGROUND_DEFRAG_MAX_QUEUE_SIZE = Property.named("defrag.background.queue.size.max", 1024);
+    public static final Property<Integer> BACKGROUND_DEFRAG_SLEEP = Property.named("defrag.background.sleep.millis", 1000);
 
 
     /**
@@ -67,6 +74,13 @@ public class ChunkedSegmentStorageConfig {
             .garbageCollectionSleep(Duration.ofMillis(10))
             .garbageCollectionMaxAttempts(3)
             .indexBlockSize(1024 * 1024)
+            .readMaxConcurrency(8)
+            .backgroundDefragEnabled(false)
+            .backgroundDefragMinChunkCount(16)
+            .backgroundDefragMaxAverageChunkSize(4 * 1024 * 1024L)
+            .backgroundDefragMaxConcurrency(1)
+            .backgroundDefragMaxQueueSize(1024)
+            .backgroundDefragSleep(Duration.ofMillis(1000))
             .build();
 
     static final String COMPONENT_CODE = "storage";
@@ -177,6 +191,49 @@ public class ChunkedSegmentStorageConfig {
     @Getter
     final private int garbageCollectionMaxAttempts;
 
+    /**
+     * Max number of chunks read concurrently by a single read request that spans multiple chunks.
+     */
+    @Getter
+    final private int readMaxConcurrency;
+
+    /**
+     * Whether the background defrag functionality is enabled or disabled.
+     */
+    @Getter
+    final private boolean backgroundDefragEnabled;
+
+    /**
+     * Minimum number of chunks a segment must have before it is considered for background defrag.
+     */
+    @Getter
+    final private int backgroundDefragMinChunkCount;
+
+    /**
+     * Average chunk size in bytes below which a segment is considered for background defrag.
+     */
+    @Getter
+    final private long backgroundDefragMaxAverageChunkSize;
+
+    /**
+     * Number of segments defragmented concurrently by background defrag.
+     * This number should be small enough so that it does interfere foreground requests.
+     */
+    @Getter
+    final private int backgroundDefragMaxConcurrency;
+
+    /**
+     * Max size of background defrag queue.
+     */
+    @Getter
+    final private int backgroundDefragMaxQueueSize;
+
+    /**
+     * Duration for which background defrag sleeps between iterations.
+     */
+    @Getter
+    final private Duration backgroundDefragSleep;
+
     /**
      * Creates a new instance of the ChunkedSegmentStorageConfig class.
      *
@@ -202,6 +259,13 @@ public class ChunkedSegmentStorageConfig {
         this.garbageCollectionSleep = Duration.ofMillis(properties.getInt(GARBAGE_COLLECTION_SLEEP));
         this.garbageCollectionMaxAttempts = properties.getInt(GARBAGE_COLLECTION_MAX_ATTEMPTS);
         this.indexBlockSize = properties.getLong(READ_INDEX_BLOCK_SIZE);
+        this.readMaxConcurrency = properties.getInt(READ_MAX_CONCURRENCY);
+        this.backgroundDefragEnabled = properties.getBoolean(BACKGROUND_DEFRAG_ENABLED);
+        this.backgroundDefragMinChunkCount = properties.getInt(BACKGROUND_DEFRAG_MIN_CHUNK_COUNT);
+        this.backgroundDefragMaxAverageChunkSize = properties.getLong(BACKGROUND_DEFRAG_MAX_AVERAGE_CHUNK_SIZE);
+        this.backgroundDefragMaxConcurrency = properties.getInt(BACKGROUND_DEFRAG_MAX_CONCURRENCY);
+        this.backgroundDefragMaxQueueSize = properties.getInt(BACKGROUND_DEFRAG_MAX_QUEUE_SIZE);
+        this.backgroundDefragSleep = Duration.ofMillis(properties.getInt(BACKGROUND_DEFRAG_SLEEP));
     }
 
     /**
@@ -125,6 +125,8 @@ class ConcatOperation implements Callable<CompletableFuture<Void>> {
             // Update the read index.
             chunkedSegmentStorage.getReadIndexCache().remove(sourceSegment);
             chunkedSegmentStorage.getReadIndexCache().addIndexEntries(targetHandle.getSegmentName(), newReadIndexEntries);
+            // Let background defrag know about new chunks.
+            chunkedSegmentStorage.getBackgroundDefragmenter().onSegmentLayoutChanged(targetSegmentMetadata);
             logEnd();
 
     }
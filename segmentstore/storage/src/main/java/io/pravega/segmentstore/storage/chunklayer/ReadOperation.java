@@ -21,12 +21,14 @@ import io.pravega.segmentstore.storage.metadata.MetadataTransaction;
 import io.pravega.segmentstore.storage.metadata.ReadIndexBlockMetadata;
 import io.pravega.segmentstore.storage.metadata.SegmentMetadata;
 import io.pravega.shared.NameUtils;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -60,7 +62,6 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
     private volatile ChunkMetadata chunkToReadFrom = null;
     private volatile boolean isLoopExited;
     private final AtomicInteger cntScanned = new AtomicInteger();
-    private volatile int bytesToRead;
 
     ReadOperation(ChunkedSegmentStorage chunkedSegmentStorage, SegmentHandle handle, long offset, byte[] buffer, int bufferOffset, int length) {
         this.handle = handle;
@@ -127,17 +128,19 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
     }
 
     private CompletableFuture<Void> readData(MetadataTransaction txn) {
-        val chunkReadFutures = Collections.synchronizedList(new ArrayList<CompletableFuture<Void>>());
+        // First resolve all the chunks that overlap the requested range (this only involves metadata), then read them.
+        val chunkReads = Collections.synchronizedList(new ArrayList<ChunkReadRequest>());
         return Futures.loop(
                 () -> bytesRemaining.get() > 0 && null != currentChunkName,
                 () -> {
                     Preconditions.checkState(null != chunkToReadFrom, "chunkToReadFrom is null");
-                    bytesToRead = Math.toIntExact(Math.min(bytesRemaining.get(), chunkToReadFrom.getLength() - (currentOffset.get() - startOffsetForCurrentChunk.get())));
                     if (currentOffset.get() >= startOffsetForCurrentChunk.get() + chunkToReadFrom.getLength()) {
                         // The current chunk is over. Move to the next one.
                         currentChunkName = chunkToReadFrom.getNextChunk();
                         if (null != currentChunkName) {
                             startOffsetForCurrentChunk.addAndGet(chunkToReadFrom.getLength());
+                            // Update read index with newly visited chunk.
+                            chunkedSegmentStorage.getReadIndexCache().addIndexEntry(handle.getSegmentName(), currentChunkName, startOffsetForCurrentChunk.get());
                             return txn.get(currentChunkName)
                                     .thenAcceptAsync(storageMetadata -> {
                                         chunkToReadFrom = (ChunkMetadata) storageMetadata;
@@ -147,39 +150,59 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
                                     }, chunkedSegmentStorage.getExecutor());
                         }
                     } else {
+                        val bytesToRead = Math.toIntExact(Math.min(bytesRemaining.get(), chunkToReadFrom.getLength() - (currentOffset.get() - startOffsetForCurrentChunk.get())));
                         Preconditions.checkState(bytesToRead != 0, "bytesToRead is 0");
-                        // Read data from the chunk.
-                        return CompletableFuture.runAsync(() -> {
-                            // Create parallel requests to read each chunk.
-                            chunkReadFutures.add(readChunk(chunkToReadFrom.getName(),
-                                    currentOffset.get() - startOffsetForCurrentChunk.get(),
-                                    bytesToRead,
-                                    currentBufferOffset.get()));
-                            log.trace("{} read - reading chunk - op={}, segment={}, chunk={} offset={} length={} bufferOffset={}",
-                                    chunkedSegmentStorage.getLogPrefix(),
-                                    System.identityHashCode(this), handle.getSegmentName(),
-                                    chunkToReadFrom.getName(),
-                                    currentOffset.get() - startOffsetForCurrentChunk.get(),
-                                    bytesToRead,
-                                    currentBufferOffset.get());
-                            bytesRemaining.addAndGet(-bytesToRead);
-                            currentOffset.addAndGet(bytesToRead);
-                            currentBufferOffset.addAndGet(bytesToRead);
-                            totalBytesRead.addAndGet(bytesToRead);
-                        }, chunkedSegmentStorage.getExecutor());
+                        val chunkRead = new ChunkReadRequest(chunkToReadFrom.getName(),
+                                currentOffset.get() - startOffsetForCurrentChunk.get(),
+                                bytesToRead,
+                                currentBufferOffset.get());
+                        chunkReads.add(chunkRead);
+                        log.trace("{} read - reading chunk - op={}, segment={}, chunk={} offset={} length={} bufferOffset={}",
+                                chunkedSegmentStorage.getLogPrefix(),
+                                System.identityHashCode(this), handle.getSegmentName(),
+                                chunkRead.chunkName,
+                                chunkRead.fromOffset,
+                                chunkRead.length,
+                                chunkRead.bufferOffset);
+                        bytesRemaining.addAndGet(-bytesToRead);
+                        currentOffset.addAndGet(bytesToRead);
+                        currentBufferOffset.addAndGet(bytesToRead);
+                        totalBytesRead.addAndGet(bytesToRead);
                     }
                     return CompletableFuture.completedFuture(null);
                 }, chunkedSegmentStorage.getExecutor())
-                .thenCompose(v -> Futures.allOf(chunkReadFutures));
+                .thenComposeAsync(v -> readChunks(chunkReads), chunkedSegmentStorage.getExecutor());
+    }
+
+    private CompletableFuture<Void> readChunks(List<ChunkReadRequest> chunkReads) {
+        if (chunkReads.size() == 1) {
+            return readChunk(chunkReads.get(0));
+        }
+
+        // Read the chunks concurrently, with no more than the configured number of reads in progress at any time.
+        // Each read copies its data into its own region of the buffer, so the result is assembled in order regardless
+        // of the order in which the reads complete.
+        val nextIndex = new AtomicInteger();
+        val concurrency = Math.max(1, Math.min(chunkedSegmentStorage.getConfig().getReadMaxConcurrency(), chunkReads.size()));
+        val readers = new ArrayList<CompletableFuture<Void>>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            readers.add(Futures.loop(
+                    () -> nextIndex.get() < chunkReads.size(),
+                    () -> {
+                        val index = nextIndex.getAndIncrement();
+                        return index < chunkReads.size() ? readChunk(chunkReads.get(index)) : CompletableFuture.completedFuture(null);
+                    },
+                    chunkedSegmentStorage.getExecutor()));
+        }
+        return Futures.allOf(readers);
     }
 
-    private CompletableFuture<Void> readChunk(String chunkName,
-                         long fromOffset,
-                         int bytesToRead,
-                         int bufferOffset) {
-        val chunkBytesRemaining = new AtomicInteger(bytesToRead);
+    private CompletableFuture<Void> readChunk(ChunkReadRequest chunkRead) {
+        val chunkName = chunkRead.chunkName;
+        val fromOffset = chunkRead.fromOffset;
+        val chunkBytesRemaining = new AtomicInteger(chunkRead.length);
         val chunkFromOffset = new AtomicLong(fromOffset);
-        val chunkBufferOffset = new AtomicInteger(bufferOffset);
+        val chunkBufferOffset = new AtomicInteger(chunkRead.bufferOffset);
         // Note that technically it is possible that read actually request reads less than requested bytes, requiring additional reads on the same chunk.
         // Hence the for loop below.
         val chunkHandle = ChunkHandle.readHandle(chunkName);
@@ -319,4 +342,15 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
                     offset, bufferOffset, length, buffer.length));
         }
     }
+
+    /**
+     * A contiguous range of a single chunk that needs to be read into the buffer.
+     */
+    @RequiredArgsConstructor
+    private static class ChunkReadRequest {
+        private final String chunkName;
+        private final long fromOffset;
+        private final int length;
+        private final int bufferOffset;
+    }
 }
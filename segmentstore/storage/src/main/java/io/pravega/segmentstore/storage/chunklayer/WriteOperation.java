@@ -142,6 +142,10 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
         // Post commit actions.
         // Update the read index.
         chunkedSegmentStorage.getReadIndexCache().addIndexEntries(handle.getSegmentName(), newReadIndexEntries);
+        // Let background defrag know about new chunks.
+        if (didSegmentLayoutChange && !isSystemSegment) {
+            chunkedSegmentStorage.getBackgroundDefragmenter().onSegmentLayoutChanged(segmentMetadata);
+        }
         return null;
     }
 
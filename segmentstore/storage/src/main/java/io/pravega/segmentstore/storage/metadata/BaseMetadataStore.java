@@ -16,6 +16,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ConcurrentHashMultiset;
+import com.google.common.util.concurrent.Striped;
 import io.pravega.common.ObjectBuilder;
 import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
@@ -30,14 +31,14 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
-import javax.annotation.concurrent.GuardedBy;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,6 +46,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.COMMIT_LATENCY;
@@ -134,6 +136,11 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
      */
     private static final int CACHE_EVICTION_RATIO = 10;
 
+    /**
+     * Number of stripes used for key locks. Keys that hash to different stripes never contend with each other.
+     */
+    private static final int LOCK_STRIPE_COUNT = 64;
+
     /**
      * Indicates whether this instance is fenced or not.
      */
@@ -158,9 +165,15 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
 
     /**
      * Set of keys from commits that are actively being processed. No concurrent commits on the same keys are allowed to proceed.
+     * A key may only be added while holding its stripe from {@link #keyLocks}.
+     */
+    private final Set<String> lockedKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Striped locks used to atomically check and lock the keys of a transaction.
+     * Transactions on unrelated keys (i.e. different segments) only contend if their keys happen to share a stripe.
      */
-    @GuardedBy("lockedKeys")
-    private final HashSet<String> lockedKeys = new HashSet<>();
+    private final Striped<Lock> keyLocks = Striped.lock(LOCK_STRIPE_COUNT);
 
     /**
      * Cache for reading and writing transaction data entries to underlying KV store.
@@ -198,9 +211,10 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
     private final AtomicBoolean isEvictionRunning = new AtomicBoolean();
 
     /**
-     * Lock object to synchronize on during eviction.
+     * Striped locks to synchronize on during eviction.
+     * Eviction of a key only contends with transactions that use keys from the same stripe.
      */
-    private final Object evictionLock = new Object();
+    private final Striped<Lock> evictionLocks = Striped.lock(LOCK_STRIPE_COUNT);
 
     /**
      * Constructs a BaseMetadataStore object.
@@ -210,7 +224,8 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
     public BaseMetadataStore(Executor executor) {
         version = new AtomicLong(System.currentTimeMillis()); // Start with unique number.
         fenced = new AtomicBoolean(false);
-        bufferedTxnData = new ConcurrentHashMap<>(); // Don't think we need anything fancy here. But we'll measure and see.
+        // ConcurrentHashMap already locks per bin, so size it upfront to avoid resizing under load.
+        bufferedTxnData = new ConcurrentHashMap<>(MAX_ENTRIES_IN_TXN_BUFFER);
         activeKeys = ConcurrentHashMultiset.create();
         cache = CacheBuilder.newBuilder()
                 .maximumSize(maxEntriesInCache)
@@ -485,7 +500,9 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
                 int count = 0;
                 for (val key : toEvict) {
                     // synchronize so that we don't accidentally delete a key that becomes active after check here.
-                    synchronized (evictionLock) {
+                    val lock = evictionLocks.get(key);
+                    lock.lock();
+                    try {
                         if (0 == activeKeys.count(key)) {
                             // Synchronization prevents error when key becomes active between the check and remove.
                             // Move the key to cache
@@ -494,6 +511,8 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
                             bufferedTxnData.remove(key);
                             count++;
                         }
+                    } finally {
+                        lock.unlock();
                     }
                 }
                 bufferCount.addAndGet(-1 * count);
@@ -542,6 +561,17 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
             return CompletableFuture.completedFuture(data.getValue());
         }
 
+        // Fast path: the record is in the buffer. Once we hold a reference to it, it does not matter if it is evicted
+        // concurrently, so there is no need to mark the key active or to hop threads.
+        // This is the common case for read only transactions.
+        val bufferedData = bufferedTxnData.get(key);
+        if (null != bufferedData) {
+            METADATA_FOUND_IN_BUFFER.inc();
+            val retValue = bufferedData.getValue();
+            GET_LATENCY.reportSuccessEvent(t.getElapsed());
+            return CompletableFuture.completedFuture(null == retValue ? null : retValue.deepCopy());
+        }
+
         // Prevent the key from getting evicted.
         addToActiveKeySet(key);
 
@@ -586,8 +616,12 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
             // However this is required when eviction is happening in background because eviction code checks the count
             // and should evict key only if the count is zero.
             // These two steps are not atomic hence the use of synchronized in this narrow case to prevent race.
-            synchronized (evictionLock) {
+            val lock = evictionLocks.get(key);
+            lock.lock();
+            try {
                 activeKeys.add(key);
+            } finally {
+                lock.unlock();
             }
         } else {
             activeKeys.add(key);
@@ -601,7 +635,14 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
      * @param txn Transaction which should get exclusive access to the keys.
      */
     private void acquireKeys(MetadataTransaction txn) {
-        synchronized (lockedKeys) {
+        // Striped.bulkGet returns the stripes in a consistent order, which prevents deadlocks between transactions.
+        val locks = keyLocks.bulkGet(Arrays.asList(txn.getKeysToLock()));
+        val acquired = new ArrayList<Lock>();
+        try {
+            for (Lock lock : locks) {
+                lock.lock();
+                acquired.add(lock);
+            }
             for (String key : txn.getKeysToLock()) {
                 if (lockedKeys.contains(key)) {
                     throw new CompletionException(new StorageMetadataVersionMismatchException(
@@ -610,9 +651,9 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
                 }
             }
             // Now that we have validated, mark all keys as "locked".
-            for (String key : txn.getKeysToLock()) {
-                lockedKeys.add(key);
-            }
+            lockedKeys.addAll(Arrays.asList(txn.getKeysToLock()));
+        } finally {
+            acquired.forEach(Lock::unlock);
         }
     }
 
@@ -622,10 +663,9 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
      * @param txn Transaction which should get exclusive access to the keys.
      */
     private void releaseKeys(MetadataTransaction txn) {
-        synchronized (lockedKeys) {
-            for (String key : txn.getKeysToLock()) {
-                lockedKeys.remove(key);
-            }
+        // Only the owning transaction removes its keys, so there is no need to hold the stripes here.
+        for (String key : txn.getKeysToLock()) {
+            lockedKeys.remove(key);
         }
     }
 
@@ -35,4 +35,5 @@ public class StorageMetadataMetrics {
 
     static final OpStatsLogger TABLE_GET_LATENCY = STATS_LOGGER.createStats(MetricsNames.STORAGE_METADATA_TABLE_GET_LATENCY);
     static final OpStatsLogger TABLE_WRITE_LATENCY = STATS_LOGGER.createStats(MetricsNames.STORAGE_METADATA_TABLE_WRITE_LATENCY);
+    static final OpStatsLogger TABLE_WRITE_BATCH_SIZE = STATS_LOGGER.createStats(MetricsNames.STORAGE_METADATA_TABLE_WRITE_BATCH_SIZE);
 }
@@ -14,23 +14,31 @@ import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.Timer;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.SegmentType;
 import io.pravega.segmentstore.contracts.StreamSegmentExistsException;
-import io.pravega.segmentstore.contracts.tables.BadKeyVersionException;
+import io.pravega.segmentstore.contracts.tables.ConditionalTableUpdateException;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
+import io.pravega.segmentstore.contracts.tables.TableKeyTooLongException;
 import io.pravega.segmentstore.contracts.tables.TableStore;
+import io.pravega.segmentstore.contracts.tables.TableValueTooLongException;
 import io.pravega.segmentstore.storage.DataLogWriterNotPrimaryException;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+import javax.annotation.concurrent.GuardedBy;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -39,6 +47,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_FOUND_IN_STORE;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_NOT_FOUND;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.TABLE_GET_LATENCY;
+import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.TABLE_WRITE_BATCH_SIZE;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.TABLE_WRITE_LATENCY;
 
 /**
@@ -48,6 +57,12 @@ import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.TA
 public class TableBasedMetadataStore extends BaseMetadataStore {
     private final static BaseMetadataStore.TransactionData.TransactionDataSerializer SERIALIZER = new BaseMetadataStore.TransactionData.TransactionDataSerializer();
 
+    /**
+     * Maximum number of table entries to write using a single {@link TableStore#put} call when group committing.
+     * A single write may exceed this.
+     */
+    private static final int MAX_ENTRIES_IN_GROUP_COMMIT = 1000;
+
     /**
      * Instance of the {@link TableStore}.
      */
@@ -62,6 +77,14 @@ public class TableBasedMetadataStore extends BaseMetadataStore {
     private final Duration timeout = Duration.ofSeconds(30);
     private final AtomicBoolean isTableInitialized = new AtomicBoolean(false);
 
+    /**
+     * Writes waiting for the {@link TableStore#put} call in progress to complete.
+     */
+    @GuardedBy("pendingWrites")
+    private final ArrayDeque<PendingWrite> pendingWrites = new ArrayDeque<>();
+    @GuardedBy("pendingWrites")
+    private boolean isWriteInProgress;
+
     /**
      * Constructor.
      *
@@ -121,80 +144,161 @@ public class TableBasedMetadataStore extends BaseMetadataStore {
     /**
      * Writes transaction data from a given list to the metadata store.
      *
+     * Concurrent calls are group committed. While a {@link TableStore#put} is in progress, subsequent calls are queued up and
+     * then written together using a single {@link TableStore#put} call (and a single {@link TableStore#remove} call for
+     * deleted keys) once it completes. Each call still completes with its own outcome.
+     *
      * @param dataList List of transaction data to write.
      */
     @Override
     protected CompletableFuture<Void> writeAll(Collection<TransactionData> dataList) {
-        val toUpdate = new ArrayList<TableEntry>();
-        val entryToTxnDataMap = new HashMap<TableEntry, TransactionData>();
-        val deletedKeyToTxnDataMap = new HashMap<TableKey, TransactionData>();
-        val keysToDelete = new ArrayList<TableKey>();
         val t = new Timer();
         return ensureInitialized()
-                .thenRunAsync(() -> {
-                    for (TransactionData txnData : dataList) {
-                        Preconditions.checkState(null != txnData.getDbObject(), "Missing tracking object");
-
-                        val version = (Long) txnData.getDbObject();
-                        if (null == txnData.getValue()) {
-                            val toDelete = TableKey.unversioned(new ByteArraySegment(txnData.getKey().getBytes(Charsets.UTF_8)));
-                            keysToDelete.add(toDelete);
-                            deletedKeyToTxnDataMap.put(toDelete, txnData);
-                        }
-
-                        try {
-                            val arraySegment = SERIALIZER.serialize(txnData);
-                            TableEntry tableEntry = TableEntry.versioned(
-                                    new ByteArraySegment(txnData.getKey().getBytes(Charsets.UTF_8)),
-                                    arraySegment,
-                                    version);
-                            entryToTxnDataMap.put(tableEntry, txnData);
-                            toUpdate.add(tableEntry);
-                        } catch (Exception e) {
-                            throw new CompletionException(handleException(e));
-                        }
-                    }
-                }, getExecutor())
                 .thenComposeAsync(v -> {
-                    // Now put uploaded keys.
-                    // toUpdate includes both modified keys as well updates to deleted keys to mark them as deleted.
-                    return this.tableStore.put(tableName, toUpdate, timeout)
-                            .thenComposeAsync(ret -> {
-                                // Update versions.
-                                int i = 0;
-                                for (TableEntry tableEntry : toUpdate) {
-                                    entryToTxnDataMap.get(tableEntry).setDbObject(ret.get(i));
-                                    i++;
-                                }
-                                // Delete deleted keys. They were already "marked as deleted" in earlier step.
-                                // This next step will just remove them from table store.
-                                return this.tableStore.remove(tableName, keysToDelete, timeout)
-                                        .handleAsync((v1, ex) -> {
-                                            // Ignore any exception. WriteAll should succeed irrespective of whether removal
-                                            // of keys marked for deletion succeeds or fails. This is because all the changed
-                                            // keys are already persisted successfully in earlier step.
-                                            if (ex == null) {
-                                                deletedKeyToTxnDataMap.values().stream().forEach(txnData -> txnData.setDbObject(TableKey.NOT_EXISTS));
-                                            } else {
-                                                log.warn("Error while deleting keys from table segment {}.", tableName, ex);
-                                            }
-                                            TABLE_WRITE_LATENCY.reportSuccessEvent(t.getElapsed());
-                                            return v1;
-                                        }, getExecutor());
-                            }, getExecutor());
+                    val write = new PendingWrite(dataList);
+                    boolean shouldStart;
+                    synchronized (this.pendingWrites) {
+                        this.pendingWrites.add(write);
+                        shouldStart = !this.isWriteInProgress;
+                        this.isWriteInProgress = true;
+                    }
+                    if (shouldStart) {
+                        writePendingBatches();
+                    }
+                    return write.result;
                 }, getExecutor())
+                .thenRunAsync(() -> TABLE_WRITE_LATENCY.reportSuccessEvent(t.getElapsed()), getExecutor())
                 .exceptionally(e -> {
                     val ex = Exceptions.unwrap(e);
                     throw new CompletionException(handleException(ex));
                 });
     }
 
+    /**
+     * Writes all the queued up {@link PendingWrite}s, a group at a time, until there are none left.
+     */
+    private void writePendingBatches() {
+        val group = new ArrayList<PendingWrite>();
+        synchronized (this.pendingWrites) {
+            val keysInGroup = new HashSet<String>();
+            int entryCount = 0;
+            while (!this.pendingWrites.isEmpty()) {
+                val next = this.pendingWrites.peekFirst();
+                // Writes that touch the same key must be applied in order, with the version returned by the previous one.
+                // Stop at the first such write and leave it for the next group.
+                if (!group.isEmpty()
+                        && (entryCount + next.toUpdate.size() > MAX_ENTRIES_IN_GROUP_COMMIT || next.keys.stream().anyMatch(keysInGroup::contains))) {
+                    break;
+                }
+                this.pendingWrites.removeFirst();
+                group.add(next);
+                keysInGroup.addAll(next.keys);
+                entryCount += next.toUpdate.size();
+            }
+            if (group.isEmpty()) {
+                this.isWriteInProgress = false;
+                return;
+            }
+        }
+
+        TABLE_WRITE_BATCH_SIZE.reportSuccessValue(group.size());
+        writeGroup(group).whenCompleteAsync((v, ex) -> writePendingBatches(), getExecutor());
+    }
+
+    /**
+     * Writes the given group of {@link PendingWrite}s using a single {@link TableStore#put} call and completes each of them.
+     *
+     * @param group Writes to make.
+     * @return A CompletableFuture that, when completed, will indicate that all the writes in the group have been completed.
+     * This future never completes exceptionally. Failures are reported via {@link PendingWrite#result}.
+     */
+    private CompletableFuture<Void> writeGroup(List<PendingWrite> group) {
+        // toUpdate includes both modified keys as well updates to deleted keys to mark them as deleted.
+        val toUpdate = new ArrayList<TableEntry>();
+        group.forEach(write -> toUpdate.addAll(write.toUpdate));
+        CompletableFuture<List<Long>> putFuture;
+        try {
+            putFuture = this.tableStore.put(tableName, toUpdate, timeout);
+        } catch (Exception e) {
+            // Make sure the writes in the group are always completed.
+            putFuture = Futures.failedFuture(e);
+        }
+        return putFuture
+                .thenComposeAsync(ret -> {
+                    // Update versions.
+                    int i = 0;
+                    for (val write : group) {
+                        for (TableEntry tableEntry : write.toUpdate) {
+                            write.entryToTxnDataMap.get(tableEntry).setDbObject(ret.get(i));
+                            i++;
+                        }
+                    }
+                    return removeDeletedKeys(group);
+                }, getExecutor())
+                .handleAsync((v, e) -> {
+                    if (null == e) {
+                        group.forEach(write -> write.result.complete(null));
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    val ex = Exceptions.unwrap(e);
+                    if (group.size() > 1 && isEntryFailure(ex)) {
+                        // Updates are applied atomically, so a failure caused by any one entry (such as a version mismatch,
+                        // a missing key or a key or value that is too long) fails the whole group. Retry each write on its
+                        // own so that only the offending ones fail.
+                        log.debug("{} while writing {} batches to table segment {}. Retrying individually.",
+                                ex.getClass().getSimpleName(), group.size(), tableName);
+                        return Futures.loop(group,
+                                write -> writeGroup(Collections.singletonList(write)).thenApply(v1 -> true),
+                                getExecutor());
+                    }
+                    group.forEach(write -> write.result.completeExceptionally(ex));
+                    return CompletableFuture.<Void>completedFuture(null);
+                }, getExecutor())
+                .thenCompose(f -> f);
+    }
+
+    /**
+     * Determines whether the given failure of a {@link TableStore#put} call is caused by one of the entries being written
+     * (as opposed to the Table Segment itself), in which case the other entries may be written successfully on their own.
+     */
+    private static boolean isEntryFailure(Throwable ex) {
+        return ex instanceof ConditionalTableUpdateException
+                || ex instanceof TableKeyTooLongException
+                || ex instanceof TableValueTooLongException;
+    }
+
+    /**
+     * Removes keys that were deleted by the given group of {@link PendingWrite}s from the table segment.
+     */
+    private CompletableFuture<Void> removeDeletedKeys(List<PendingWrite> group) {
+        val keysToDelete = new ArrayList<TableKey>();
+        group.forEach(write -> keysToDelete.addAll(write.deletedKeyToTxnDataMap.keySet()));
+        if (keysToDelete.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // Delete deleted keys. They were already "marked as deleted" in earlier step.
+        // This next step will just remove them from table store.
+        return this.tableStore.remove(tableName, keysToDelete, timeout)
+                .handleAsync((v, ex) -> {
+                    // Ignore any exception. WriteAll should succeed irrespective of whether removal
+                    // of keys marked for deletion succeeds or fails. This is because all the changed
+                    // keys are already persisted successfully in earlier step.
+                    if (ex == null) {
+                        group.forEach(write -> write.deletedKeyToTxnDataMap.values().forEach(txnData -> txnData.setDbObject(TableKey.NOT_EXISTS)));
+                    } else {
+                        log.warn("Error while deleting keys from table segment {}.", tableName, ex);
+                    }
+                    return v;
+                }, getExecutor());
+    }
+
     private StorageMetadataException handleException(Throwable ex) {
         val e = Exceptions.unwrap(ex);
         if (e instanceof DataLogWriterNotPrimaryException) {
             return new StorageMetadataWritesFencedOutException("Transaction failed. Writer fenced off", e);
         }
-        if (e instanceof BadKeyVersionException) {
+        if (e instanceof ConditionalTableUpdateException) {
             return new StorageMetadataVersionMismatchException("Transaction failed. Version Mismatch.", e);
         }
         return new StorageMetadataException("Transaction failed", e);
@@ -224,6 +328,42 @@ public class TableBasedMetadataStore extends BaseMetadataStore {
         return CompletableFuture.completedFuture(null);
     }
 
+    /**
+     * A call to {@link #writeAll(Collection)} that is waiting to be written to the table segment.
+     */
+    private static class PendingWrite {
+        final ArrayList<TableEntry> toUpdate = new ArrayList<>();
+        final HashMap<TableEntry, TransactionData> entryToTxnDataMap = new HashMap<>();
+        final HashMap<TableKey, TransactionData> deletedKeyToTxnDataMap = new HashMap<>();
+        final HashSet<String> keys = new HashSet<>();
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        PendingWrite(Collection<TransactionData> dataList) {
+            for (TransactionData txnData : dataList) {
+                Preconditions.checkState(null != txnData.getDbObject(), "Missing tracking object");
+
+                val version = (Long) txnData.getDbObject();
+                if (null == txnData.getValue()) {
+                    val toDelete = TableKey.unversioned(new ByteArraySegment(txnData.getKey().getBytes(Charsets.UTF_8)));
+                    deletedKeyToTxnDataMap.put(toDelete, txnData);
+                }
+
+                try {
+                    val arraySegment = SERIALIZER.serialize(txnData);
+                    TableEntry tableEntry = TableEntry.versioned(
+                            new ByteArraySegment(txnData.getKey().getBytes(Charsets.UTF_8)),
+                            arraySegment,
+                            version);
+                    entryToTxnDataMap.put(tableEntry, txnData);
+                    toUpdate.add(tableEntry);
+                    keys.add(txnData.getKey());
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }
+        }
+    }
+
     /**
      * Copy the version of one instance to other.
      * This only for test purposes.
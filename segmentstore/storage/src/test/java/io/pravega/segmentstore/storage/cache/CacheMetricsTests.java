@@ -18,6 +18,7 @@ import lombok.val;
 import org.junit.Before;
 import org.junit.Test;
 
+import static io.pravega.shared.MetricsTags.cacheTierTag;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
@@ -54,4 +55,32 @@ public class CacheMetricsTests {
         assertNull(MetricRegistryUtils.getCounter(MetricsNames.CACHE_READ_BYTES));
 
     }
+
+    @Test
+    public void testTieredMetrics() {
+        @Cleanup
+        val c = new CacheMetrics.Tiered();
+        c.memoryHit();
+        c.memoryHit();
+        c.memoryHit();
+        c.diskHit();
+        c.diskHit();
+        c.miss();
+        c.spill(4, 100);
+
+        val memoryTag = cacheTierTag(TieredCache.MEMORY_TIER);
+        val diskTag = cacheTierTag(TieredCache.DISK_TIER);
+        assertEquals(3, (long) MetricRegistryUtils.getCounter(MetricsNames.CACHE_TIER_HIT_COUNT, memoryTag).count());
+        assertEquals(3, (long) MetricRegistryUtils.getCounter(MetricsNames.CACHE_TIER_MISS_COUNT, memoryTag).count());
+        assertEquals(2, (long) MetricRegistryUtils.getCounter(MetricsNames.CACHE_TIER_HIT_COUNT, diskTag).count());
+        assertEquals(1, (long) MetricRegistryUtils.getCounter(MetricsNames.CACHE_TIER_MISS_COUNT, diskTag).count());
+        assertEquals(4, (long) MetricRegistryUtils.getCounter(MetricsNames.CACHE_SPILL_COUNT).count());
+        assertEquals(100, (long) MetricRegistryUtils.getCounter(MetricsNames.CACHE_SPILL_BYTES).count());
+
+        c.close();
+        assertNull(MetricRegistryUtils.getCounter(MetricsNames.CACHE_TIER_HIT_COUNT));
+        assertNull(MetricRegistryUtils.getCounter(MetricsNames.CACHE_TIER_MISS_COUNT));
+        assertNull(MetricRegistryUtils.getCounter(MetricsNames.CACHE_SPILL_COUNT));
+        assertNull(MetricRegistryUtils.getCounter(MetricsNames.CACHE_SPILL_BYTES));
+    }
 }
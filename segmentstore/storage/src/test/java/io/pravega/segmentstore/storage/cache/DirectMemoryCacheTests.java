@@ -341,6 +341,66 @@ public class DirectMemoryCacheTests {
         checkData(c, address, firstWrite, 0, firstWrite.length);
     }
 
+    /**
+     * Tests {@link DirectMemoryCache#getPinned}, including deleting and replacing entries while they are pinned.
+     */
+    @Test
+    public void testGetPinned() {
+        final int entrySize = LAYOUT.blockSize() * 3 + 123; // Spans multiple blocks.
+        @Cleanup
+        val c = new TestCache();
+        Assert.assertNull("Not expecting anything for an unused address.", c.getPinned(CacheLayout.NO_ADDRESS + 1));
+        Assert.assertEquals("Not expecting anything to be pinned.", 0, c.getPinnedEntryCount());
+
+        val data1 = new byte[entrySize];
+        rnd.nextBytes(data1);
+        val address1 = c.insert(new ByteArraySegment(data1));
+        val storedBytes = c.getState().getStoredBytes();
+
+        // Pin the same entry twice.
+        val pinned1 = c.getPinned(address1);
+        val pinned2 = c.getPinned(address1);
+        Assert.assertEquals(1, c.getPinnedEntryCount());
+        Assert.assertArrayEquals("Unexpected pinned contents.", data1, pinned1.getCopy());
+
+        // Replace the entry. The new entry must not reuse the old entry's blocks and the pinned views must be unaffected.
+        val data2 = new byte[entrySize];
+        rnd.nextBytes(data2);
+        val address2 = c.replace(address1, new ByteArraySegment(data2));
+        Assert.assertNotEquals(address1, address2);
+        Assert.assertEquals("Not expecting pinned entry to be freed.", storedBytes * 2, c.getState().getStoredBytes());
+
+        // Overwrite the cache contents with other data; this should not affect the pinned views.
+        val data3 = new byte[entrySize];
+        rnd.nextBytes(data3);
+        val address3 = c.insert(new ByteArraySegment(data3));
+        checkData(c, address2, data2, 0, entrySize);
+        checkData(c, address3, data3, 0, entrySize);
+        Assert.assertArrayEquals("Pinned contents changed after replace.", data1, pinned1.getCopy());
+        Assert.assertArrayEquals("Pinned contents changed after replace.", data1, pinned2.getCopy());
+
+        // Release the pinned views (one via a slice). The entry should only be freed after the last one is released.
+        pinned1.release();
+        Assert.assertEquals(1, c.getPinnedEntryCount());
+        Assert.assertEquals(storedBytes * 3, c.getState().getStoredBytes());
+        pinned2.slice(1, 10).release();
+        Assert.assertEquals(0, c.getPinnedEntryCount());
+        Assert.assertEquals(storedBytes * 2, c.getState().getStoredBytes());
+
+        // Deleting a pinned entry should be deferred until released.
+        val pinned3 = c.getPinned(address3);
+        c.delete(address3);
+        Assert.assertEquals(storedBytes * 2, c.getState().getStoredBytes());
+        Assert.assertArrayEquals("Pinned contents changed after delete.", data3, pinned3.getCopy());
+        pinned3.release();
+        Assert.assertEquals(storedBytes, c.getState().getStoredBytes());
+
+        // Unpinned entries can be deleted right away.
+        c.getPinned(address2).release();
+        c.delete(address2);
+        checkSnapshot(c, 0L, null, null, null, null);
+    }
+
     private void checkData(TestCache c, HashMap<Integer, Map.Entry<Integer, Integer>> entryData, byte[] data) {
         for (val e : entryData.entrySet()) {
             int address = e.getKey();
@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.io.FileHelpers;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.test.common.AssertExtensions;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link TieredCache} class.
+ */
+public class TieredCacheTests {
+    private static final CacheLayout LAYOUT = new CacheLayout.DefaultLayout();
+    private static final int BLOCKS_PER_BUFFER = LAYOUT.blocksPerBuffer() - 1; // The first block is reserved.
+    private static final long MEMORY_SIZE = LAYOUT.bufferSize();
+    private static final long DISK_SIZE = 2L * LAYOUT.bufferSize();
+    private static final int SPILL_BATCH_BLOCKS = (int) Math.ceil(MEMORY_SIZE * TieredCache.SPILL_BATCH_RATIO / LAYOUT.blockSize());
+    private final Random rnd = new Random(0);
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        this.directory = Files.createTempDirectory("tiered-cache").toFile().getAbsoluteFile();
+    }
+
+    @After
+    public void tearDown() {
+        if (this.directory != null) {
+            FileHelpers.deleteFileOrDirectory(this.directory);
+        }
+    }
+
+    /**
+     * Tests the basic operations ({@link TieredCache#insert}, {@link TieredCache#get}, {@link TieredCache#append},
+     * {@link TieredCache#replace} and {@link TieredCache#delete}) while all the data fits in the memory tier.
+     */
+    @Test
+    public void testBasicOperations() throws Exception {
+        @Cleanup
+        val c = new TieredCache(MEMORY_SIZE, DISK_SIZE, this.directory.toPath());
+        val contents = new HashMap<Integer, byte[]>();
+        for (int i = 0; i < 10; i++) {
+            val data = newData(LAYOUT.blockSize() * i + i);
+            contents.put(c.insert(new ByteArraySegment(data)), data);
+        }
+
+        checkContents(c, contents);
+        Assert.assertEquals(0, c.getDiskTierState().getStoredBytes());
+        Assert.assertEquals(c.getMemoryTierState().getStoredBytes(), c.getState().getStoredBytes());
+        Assert.assertEquals(c.getMemoryTierState().getMaxBytes() + c.getDiskTierState().getMaxBytes(), c.getState().getMaxBytes());
+
+        // Append.
+        for (val e : contents.entrySet()) {
+            val appendData = newData(c.getAppendableLength(e.getValue().length));
+            int appended = c.append(e.getKey(), e.getValue().length, new ByteArraySegment(appendData));
+            Assert.assertEquals(appendData.length, appended);
+            e.setValue(concat(e.getValue(), appendData));
+        }
+
+        checkContents(c, contents);
+
+        // Replace.
+        val replaced = new HashMap<Integer, byte[]>();
+        for (val e : contents.entrySet()) {
+            val data = newData(e.getValue().length / 2);
+            replaced.put(c.replace(e.getKey(), new ByteArraySegment(data)), data);
+        }
+
+        checkContents(c, replaced);
+        Assert.assertEquals(replaced.values().stream().mapToLong(d -> d.length).sum(), c.getState().getStoredBytes());
+
+        // Delete.
+        for (int address : replaced.keySet()) {
+            c.delete(address);
+            Assert.assertNull(c.get(address));
+        }
+
+        Assert.assertEquals(0, c.getState().getStoredBytes());
+        Assert.assertNull(c.get(CacheStorage.NO_ADDRESS));
+        Assert.assertNull(c.get(Integer.MAX_VALUE));
+        c.delete(Integer.MAX_VALUE); // This should have no effect.
+        AssertExtensions.assertThrows(
+                "append() worked with an invalid address.",
+                () -> c.append(Integer.MAX_VALUE, 0, new ByteArraySegment(new byte[1])),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests the spilling of entries to the disk tier using the CLOCK policy.
+     */
+    @Test
+    public void testSpill() throws Exception {
+        @Cleanup
+        val c = new TieredCache(MEMORY_SIZE, DISK_SIZE, this.directory.toPath());
+        val contents = new HashMap<Integer, byte[]>();
+        for (int i = 0; i < BLOCKS_PER_BUFFER; i++) {
+            val data = newData(LAYOUT.blockSize());
+            contents.put(c.insert(new ByteArraySegment(data)), data);
+        }
+
+        // All entries are referenced upon insertion, so the first sweep will only clear their referenced flags.
+        // Addresses are allocated sequentially, starting at 1.
+        Assert.assertEquals(0, c.spill());
+        Assert.assertEquals(SPILL_BATCH_BLOCKS, c.spill());
+        for (int address = 1; address <= SPILL_BATCH_BLOCKS; address++) {
+            Assert.assertTrue("Expected entry to be spilled: " + address, c.isSpilled(address));
+        }
+
+        // Access the next batch of entries; these should be skipped by the next spill.
+        for (int address = SPILL_BATCH_BLOCKS + 1; address <= 2 * SPILL_BATCH_BLOCKS; address++) {
+            Assert.assertNotNull(c.get(address));
+        }
+
+        Assert.assertEquals(SPILL_BATCH_BLOCKS, c.spill());
+        for (int address = SPILL_BATCH_BLOCKS + 1; address <= 3 * SPILL_BATCH_BLOCKS; address++) {
+            boolean expectedSpilled = address > 2 * SPILL_BATCH_BLOCKS;
+            Assert.assertEquals("Unexpected spill status for " + address, expectedSpilled, c.isSpilled(address));
+        }
+
+        Assert.assertEquals(2L * SPILL_BATCH_BLOCKS * LAYOUT.blockSize(), c.getDiskTierState().getStoredBytes());
+        checkContents(c, contents);
+
+        // Appends and deletes must work on spilled entries too.
+        val spilledAddress = 1;
+        c.delete(spilledAddress);
+        Assert.assertNull(c.get(spilledAddress));
+        contents.remove(spilledAddress);
+
+        val smallData = newData(LAYOUT.blockSize() / 2);
+        int smallAddress = c.insert(new ByteArraySegment(smallData));
+        while (!c.isSpilled(smallAddress)) {
+            c.spill();
+        }
+
+        val appendData = newData(c.getAppendableLength(smallData.length));
+        c.append(smallAddress, smallData.length, new ByteArraySegment(appendData));
+        contents.put(smallAddress, concat(smallData, appendData));
+        checkContents(c, contents);
+    }
+
+    /**
+     * Tests that a view returned by {@link TieredCache#get} remains valid after its entry is spilled and new entries are
+     * inserted, until the next spill.
+     */
+    @Test
+    public void testGetViewAcrossSpill() throws Exception {
+        @Cleanup
+        val c = new TieredCache(MEMORY_SIZE, DISK_SIZE, this.directory.toPath());
+        val data = newData(LAYOUT.blockSize());
+        int address = c.insert(new ByteArraySegment(data));
+        BufferView view = c.get(address);
+
+        // The entry has been accessed, so the first spill must not spill it, even if there is nothing else to spill.
+        Assert.assertEquals(0, c.spill());
+        Assert.assertFalse(c.isSpilled(address));
+        Assert.assertEquals(1, c.spill());
+        Assert.assertTrue(c.isSpilled(address));
+
+        // Insert new data. It must not reuse the spilled entry's memory tier Blocks while we may still have a view on them.
+        val otherData = newData(LAYOUT.blockSize());
+        int newAddress = c.insert(new ByteArraySegment(otherData));
+        Assert.assertArrayEquals("Unexpected contents of view held across spill.", data, view.getCopy());
+        Assert.assertEquals(2L * LAYOUT.blockSize(), c.getMemoryTierState().getStoredBytes());
+
+        // The next spill releases the spilled entry's memory tier Blocks.
+        Assert.assertEquals(0, c.spill());
+        Assert.assertEquals(otherData.length, c.getMemoryTierState().getStoredBytes());
+        val contents = new HashMap<Integer, byte[]>();
+        contents.put(address, data);
+        contents.put(newAddress, otherData);
+        checkContents(c, contents);
+    }
+
+    /**
+     * Tests the behavior of {@link TieredCache#insert} when the memory tier is full (which should spill to disk) and
+     * when both tiers are full (which should invoke the upstream cache full callback).
+     */
+    @Test
+    public void testCacheFull() throws Exception {
+        @Cleanup
+        val c = new TieredCache(MEMORY_SIZE, DISK_SIZE, this.directory.toPath());
+        val callbackCount = new AtomicInteger();
+        c.setCacheFullCallback(() -> {
+            callbackCount.incrementAndGet();
+            return false;
+        }, 0);
+
+        // Fill up both tiers. Nobody should have asked the upstream code to clean up.
+        val contents = new HashMap<Integer, byte[]>();
+        for (int i = 0; i < 3 * BLOCKS_PER_BUFFER; i++) {
+            val data = newData(LAYOUT.blockSize());
+            contents.put(c.insert(new ByteArraySegment(data)), data);
+        }
+
+        Assert.assertEquals("Not expecting the upstream callback to be invoked.", 0, callbackCount.get());
+        Assert.assertEquals(BLOCKS_PER_BUFFER * LAYOUT.blockSize(), c.getMemoryTierState().getStoredBytes());
+        Assert.assertEquals(2 * BLOCKS_PER_BUFFER * LAYOUT.blockSize(), c.getDiskTierState().getStoredBytes());
+        checkContents(c, contents);
+
+        AssertExtensions.assertThrows(
+                "insert() worked when the cache was full.",
+                () -> c.insert(new ByteArraySegment(newData(1))),
+                ex -> ex instanceof CacheFullException);
+        Assert.assertEquals("Expected the upstream callback to be invoked.", DirectMemoryCache.MAX_CLEANUP_ATTEMPTS, callbackCount.get());
+
+        // Free up something and verify we can insert again.
+        c.delete(contents.keySet().iterator().next());
+        c.insert(new ByteArraySegment(newData(1)));
+    }
+
+    private void checkContents(TieredCache c, Map<Integer, byte[]> contents) {
+        for (val e : contents.entrySet()) {
+            BufferView data = c.get(e.getKey());
+            Assert.assertNotNull("No data for address " + e.getKey(), data);
+            Assert.assertArrayEquals("Unexpected data for address " + e.getKey(), e.getValue(), data.getCopy());
+        }
+    }
+
+    private byte[] newData(int length) {
+        byte[] data = new byte[length];
+        this.rnd.nextBytes(data);
+        return data;
+    }
+
+    private byte[] concat(byte[] a, byte[] b) {
+        byte[] result = new byte[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.pravega.segmentstore.storage.chunklayer;
+
+import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
+import io.pravega.segmentstore.storage.metadata.SegmentMetadata;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.IntentionalException;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Tests for {@link BackgroundDefragmenter}.
+ */
+public class BackgroundDefragmenterTests extends ThreadPooledTestSuite {
+    public static final int CONTAINER_ID = 42;
+    protected static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(TIMEOUT.getSeconds());
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 3;
+    }
+
+    /**
+     * Test initialization with invalid arguments.
+     */
+    @Test
+    public void testInitializationInvalidArgs() {
+        AssertExtensions.assertThrows("Should not allow null config",
+                () -> new BackgroundDefragmenter(CONTAINER_ID, null, name -> null, CompletableFuture::new),
+                ex -> ex instanceof NullPointerException);
+        AssertExtensions.assertThrows("Should not allow null defragmentSegment",
+                () -> new BackgroundDefragmenter(CONTAINER_ID, ChunkedSegmentStorageConfig.DEFAULT_CONFIG, null, CompletableFuture::new),
+                ex -> ex instanceof NullPointerException);
+    }
+
+    /**
+     * Test which segments are considered eligible for defrag.
+     */
+    @Test
+    public void testShouldDefrag() {
+        val config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .backgroundDefragMinChunkCount(10)
+                .backgroundDefragMaxAverageChunkSize(100)
+                .build();
+        @Cleanup
+        val defragmenter = new BackgroundDefragmenter(CONTAINER_ID, config, name -> null, CompletableFuture::new);
+
+        Assert.assertTrue(defragmenter.shouldDefrag(segment("s", 10, 999, 0)));
+        Assert.assertTrue(defragmenter.shouldDefrag(segment("s", 10, 1099, 100)));
+        // Too few chunks.
+        Assert.assertFalse(defragmenter.shouldDefrag(segment("s", 9, 9, 0)));
+        // Chunks are large enough.
+        Assert.assertFalse(defragmenter.shouldDefrag(segment("s", 10, 1000, 0)));
+        // System segments are never defragmented.
+        val systemSegment = segment("s", 10, 10, 0);
+        systemSegment.setStorageSystemSegment(true);
+        Assert.assertFalse(defragmenter.shouldDefrag(systemSegment));
+    }
+
+    /**
+     * Test that segments are only queued while the background task is running, and that the queue is bounded.
+     */
+    @Test
+    public void testQueue() throws Exception {
+        val config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .backgroundDefragMinChunkCount(2)
+                .backgroundDefragMaxQueueSize(3)
+                .build();
+        @Cleanup
+        val defragmenter = new BackgroundDefragmenter(CONTAINER_ID, config, name -> null, CompletableFuture::new);
+
+        // Not running yet.
+        defragmenter.onSegmentLayoutChanged(segment("s1", 2, 2, 0));
+        Assert.assertEquals(0, defragmenter.getQueueSize());
+
+        defragmenter.initialize();
+        defragmenter.awaitRunning();
+        defragmenter.onSegmentLayoutChanged(segment("s1", 2, 2, 0));
+        defragmenter.onSegmentLayoutChanged(segment("s1", 3, 3, 0));
+        Assert.assertEquals("Segments must not be queued more than once.", 1, defragmenter.getQueueSize());
+
+        // Not eligible.
+        defragmenter.onSegmentLayoutChanged(segment("s2", 1, 1, 0));
+        Assert.assertEquals(1, defragmenter.getQueueSize());
+
+        defragmenter.onSegmentLayoutChanged(segment("s3", 2, 2, 0));
+        defragmenter.onSegmentLayoutChanged(segment("s4", 2, 2, 0));
+        defragmenter.onSegmentLayoutChanged(segment("s5", 2, 2, 0));
+        Assert.assertEquals("Queue must be bounded.", 3, defragmenter.getQueueSize());
+    }
+
+    /**
+     * Test that segments are defragmented in the order they were queued, a few at a time, and that failures are tolerated.
+     */
+    @Test
+    public void testDefragment() {
+        val defragmented = Collections.synchronizedList(new ArrayList<String>());
+        Function<String, CompletableFuture<Void>> defragmentSegment = name -> {
+            defragmented.add(name);
+            if (name.equals("s2")) {
+                return CompletableFuture.failedFuture(new IntentionalException());
+            } else if (name.equals("s3")) {
+                return CompletableFuture.failedFuture(new StreamSegmentNotExistsException(name));
+            }
+            return CompletableFuture.completedFuture(null);
+        };
+        @Cleanup
+        val defragmenter = new BackgroundDefragmenter(CONTAINER_ID, ChunkedSegmentStorageConfig.DEFAULT_CONFIG,
+                defragmentSegment, CompletableFuture::new);
+
+        Assert.assertFalse("Expected no work.", defragmenter.defragment(2).join());
+
+        List<String> expected = Arrays.asList("s1", "s2", "s3", "s4", "s5");
+        expected.forEach(defragmenter::addToQueue);
+        Assert.assertTrue(defragmenter.defragment(2).join());
+        Assert.assertEquals(Arrays.asList("s1", "s2"), defragmented);
+        Assert.assertEquals(3, defragmenter.getQueueSize());
+
+        Assert.assertTrue(defragmenter.defragment(2).join());
+        Assert.assertTrue(defragmenter.defragment(2).join());
+        Assert.assertEquals(expected, defragmented);
+        Assert.assertEquals(0, defragmenter.getQueueSize());
+        Assert.assertFalse("Expected no work.", defragmenter.defragment(2).join());
+    }
+
+    private SegmentMetadata segment(String name, int chunkCount, long length, long firstChunkStartOffset) {
+        val segmentMetadata = SegmentMetadata.builder()
+                .name(name)
+                .length(length)
+                .firstChunkStartOffset(firstChunkStartOffset)
+                .build();
+        segmentMetadata.setActive(true);
+        segmentMetadata.setChunkCount(chunkCount);
+        return segmentMetadata;
+    }
+}
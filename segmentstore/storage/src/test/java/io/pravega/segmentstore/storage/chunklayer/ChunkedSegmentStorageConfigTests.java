@@ -39,6 +39,13 @@ public class ChunkedSegmentStorageConfigTests {
         props.setProperty(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_SLEEP.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "12");
         props.setProperty(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_MAX_ATTEMPTS.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "13");
         props.setProperty(ChunkedSegmentStorageConfig.READ_INDEX_BLOCK_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "14");
+        props.setProperty(ChunkedSegmentStorageConfig.READ_MAX_CONCURRENCY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "15");
+        props.setProperty(ChunkedSegmentStorageConfig.BACKGROUND_DEFRAG_ENABLED.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "true");
+        props.setProperty(ChunkedSegmentStorageConfig.BACKGROUND_DEFRAG_MIN_CHUNK_COUNT.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "16");
+        props.setProperty(ChunkedSegmentStorageConfig.BACKGROUND_DEFRAG_MAX_AVERAGE_CHUNK_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "17");
+        props.setProperty(ChunkedSegmentStorageConfig.BACKGROUND_DEFRAG_MAX_CONCURRENCY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "18");
+        props.setProperty(ChunkedSegmentStorageConfig.BACKGROUND_DEFRAG_MAX_QUEUE_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "19");
+        props.setProperty(ChunkedSegmentStorageConfig.BACKGROUND_DEFRAG_SLEEP.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "20");
 
         TypedProperties typedProperties = new TypedProperties(props, "storage");
         ChunkedSegmentStorageConfig config = new ChunkedSegmentStorageConfig(typedProperties);
@@ -59,6 +66,13 @@ public class ChunkedSegmentStorageConfigTests {
         Assert.assertEquals(config.getGarbageCollectionSleep().toMillis(), 12);
         Assert.assertEquals(config.getGarbageCollectionMaxAttempts(), 13);
         Assert.assertEquals(config.getIndexBlockSize(), 14);
+        Assert.assertEquals(config.getReadMaxConcurrency(), 15);
+        Assert.assertTrue(config.isBackgroundDefragEnabled());
+        Assert.assertEquals(config.getBackgroundDefragMinChunkCount(), 16);
+        Assert.assertEquals(config.getBackgroundDefragMaxAverageChunkSize(), 17);
+        Assert.assertEquals(config.getBackgroundDefragMaxConcurrency(), 18);
+        Assert.assertEquals(config.getBackgroundDefragMaxQueueSize(), 19);
+        Assert.assertEquals(config.getBackgroundDefragSleep().toMillis(), 20);
     }
 
     @Test
@@ -84,5 +98,12 @@ public class ChunkedSegmentStorageConfigTests {
         Assert.assertEquals(config.getGarbageCollectionSleep(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getGarbageCollectionSleep());
         Assert.assertEquals(config.getGarbageCollectionMaxAttempts(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getGarbageCollectionMaxAttempts());
         Assert.assertEquals(config.getIndexBlockSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getIndexBlockSize());
+        Assert.assertEquals(config.getReadMaxConcurrency(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getReadMaxConcurrency());
+        Assert.assertEquals(config.isBackgroundDefragEnabled(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.isBackgroundDefragEnabled());
+        Assert.assertEquals(config.getBackgroundDefragMinChunkCount(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getBackgroundDefragMinChunkCount());
+        Assert.assertEquals(config.getBackgroundDefragMaxAverageChunkSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getBackgroundDefragMaxAverageChunkSize());
+        Assert.assertEquals(config.getBackgroundDefragMaxConcurrency(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getBackgroundDefragMaxConcurrency());
+        Assert.assertEquals(config.getBackgroundDefragMaxQueueSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getBackgroundDefragMaxQueueSize());
+        Assert.assertEquals(config.getBackgroundDefragSleep(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getBackgroundDefragSleep());
     }
 }
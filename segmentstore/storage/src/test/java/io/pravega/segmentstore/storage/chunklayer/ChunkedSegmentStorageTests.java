@@ -1262,6 +1262,48 @@ public class ChunkedSegmentStorageTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Test defragmentation of existing segments done by {@link BackgroundDefragmenter}.
+     *
+     * @throws Exception Exception if any.
+     */
+    @Test
+    public void testBackgroundDefrag() throws Exception {
+        testBackgroundDefrag(true, false);
+        testBackgroundDefrag(false, true);
+        testBackgroundDefrag(true, true);
+    }
+
+    private void testBackgroundDefrag(boolean supportsAppend, boolean supportsConcat) throws Exception {
+        @Cleanup
+        TestContext testContext = getTestContext(ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .backgroundDefragMinChunkCount(2)
+                .build());
+        ((AbstractInMemoryChunkStorage) testContext.chunkStorage).setShouldSupportAppend(supportsAppend);
+        ((AbstractInMemoryChunkStorage) testContext.chunkStorage).setShouldSupportConcat(supportsConcat);
+        val testSegmentName = "foo";
+        testContext.insertMetadata(testSegmentName, 10, 1, new long[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1});
+        Assert.assertTrue(testContext.chunkedSegmentStorage.getBackgroundDefragmenter()
+                .shouldDefrag(TestUtils.getSegmentMetadata(testContext.metadataStore, testSegmentName)));
+
+        // Defrag must respect max rolling length.
+        testContext.chunkedSegmentStorage.defragment(testSegmentName).join();
+        TestUtils.checkSegmentLayout(testContext.metadataStore, testSegmentName, new long[]{10, 4});
+        TestUtils.checkSegmentBounds(testContext.metadataStore, testSegmentName, 0, 14);
+        TestUtils.checkChunksExistInStorage(testContext.chunkStorage, testContext.metadataStore, testSegmentName);
+        TestUtils.checkReadIndexEntries(testContext.chunkedSegmentStorage, testContext.metadataStore, testSegmentName, 0, 14, true);
+
+        // Nothing else to merge.
+        testContext.chunkedSegmentStorage.defragment(testSegmentName).join();
+        TestUtils.checkSegmentLayout(testContext.metadataStore, testSegmentName, new long[]{10, 4});
+
+        // Segments that do not exist must fail.
+        AssertExtensions.assertFutureThrows(
+                "defragment succeeded on missing segment.",
+                testContext.chunkedSegmentStorage.defragment("missing"),
+                ex -> ex instanceof StreamSegmentNotExistsException);
+    }
+
     private void testBaseConcat(TestContext testContext, long maxRollingLength, long[] targetLayout, long[] sourceLayout, long[] resultLayout) throws Exception {
         val source = testContext.insertMetadata("source", maxRollingLength, 1, sourceLayout);
         val target = testContext.insertMetadata("target", maxRollingLength, 1, targetLayout);
@@ -2393,6 +2435,23 @@ public class ChunkedSegmentStorageTests extends ThreadPooledTestSuite {
         testReadWriteWithFixedSize(testSegmentName, testContext);
     }
 
+    /**
+     * Test reads spanning multiple chunks with the number of concurrent chunk reads limited.
+     *
+     * @throws Exception Exception if any.
+     */
+    @Test
+    public void testReadWriteWithLimitedReadConcurrency() throws Exception {
+        for (int readMaxConcurrency = 1; readMaxConcurrency <= 3; readMaxConcurrency++) {
+            String testSegmentName = "foo" + readMaxConcurrency;
+            @Cleanup
+            TestContext testContext = getTestContext(ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                    .readMaxConcurrency(readMaxConcurrency)
+                    .build());
+            testReadWriteWithFixedSize(testSegmentName, testContext);
+        }
+    }
+
     private void testReadWriteWithFixedSize(String testSegmentName, TestContext testContext) throws Exception {
         SegmentRollingPolicy policy = new SegmentRollingPolicy(2); // Force rollover after every 2 byte.
         val total = 28;
@@ -9,10 +9,12 @@
  */
 package io.pravega.segmentstore.storage.metadata;
 
+import io.pravega.common.concurrent.Futures;
 import io.pravega.segmentstore.storage.mocks.InMemoryMetadataStore;
 import io.pravega.segmentstore.storage.mocks.MockStorageMetadata;
 import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.ThreadPooledTestSuite;
+import lombok.val;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -20,6 +22,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.Timeout;
 
+import java.util.ArrayList;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
@@ -922,6 +925,39 @@ public class ChunkMetadataStoreTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Test that concurrent commits on unrelated keys all succeed and that their results are visible to read only transactions.
+     *
+     * @throws Exception Exception if any.
+     */
+    @Test
+    public void testConcurrentCommitsOnDifferentKeys() throws Exception {
+        final int count = 100;
+        val futures = new ArrayList<CompletableFuture<Void>>();
+        for (int i = 0; i < count; i++) {
+            val key = "Key" + i;
+            val createTxn = metadataStore.beginTransaction(false, key);
+            createTxn.create(new MockStorageMetadata(key, "Value0"));
+            futures.add(createTxn.commit()
+                    .thenComposeAsync(v -> {
+                        val updateTxn = metadataStore.beginTransaction(false, key);
+                        return updateTxn.get(key)
+                                .thenComposeAsync(metadata -> {
+                                    updateTxn.update(new MockStorageMetadata(key, ((MockStorageMetadata) metadata).getValue() + "1"));
+                                    return updateTxn.commit();
+                                }, executorService());
+                    }, executorService()));
+        }
+        Futures.allOf(futures).get();
+
+        for (int i = 0; i < count; i++) {
+            val key = "Key" + i;
+            try (MetadataTransaction txn = metadataStore.beginTransaction(true, key)) {
+                assertEquals(txn.get(key), key, "Value01");
+            }
+        }
+    }
+
     @Test
     public void testEvictionFromBuffer() throws Exception {
         if (metadataStore instanceof InMemoryMetadataStore) {
@@ -9,9 +9,11 @@
  */
 package io.pravega.segmentstore.storage.metadata;
 
+import com.google.common.base.Charsets;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.segmentstore.contracts.StreamSegmentExistsException;
 import io.pravega.segmentstore.contracts.tables.BadKeyVersionException;
+import io.pravega.segmentstore.contracts.tables.KeyNotExistsException;
 import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableStore;
 import io.pravega.segmentstore.storage.DataLogWriterNotPrimaryException;
@@ -24,6 +26,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -208,6 +211,150 @@ public class TableBasedMetadataStoreMockTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Test that writes issued while another write is in progress are written together.
+     */
+    @Test
+    public void testGroupCommit() throws Exception {
+        TableStore mockTableStore = mock(TableStore.class);
+        TableBasedMetadataStore tableBasedMetadataStore = new TableBasedMetadataStore("test", mockTableStore, executorService());
+
+        when(mockTableStore.createSegment(any(), any(), any())).thenReturn(Futures.failedFuture(new CompletionException(new StreamSegmentExistsException("test"))));
+
+        // Block the first put so that other writes get queued up.
+        val blockingFuture = new CompletableFuture<List<Long>>();
+        val putCalls = new ArrayList<List<TableEntry>>();
+        when(mockTableStore.put(anyString(), any(), any())).thenAnswer(invocation -> {
+            List<TableEntry> entries = invocation.getArgument(1);
+            putCalls.add(entries);
+            if (putCalls.size() == 1) {
+                return blockingFuture;
+            }
+            return CompletableFuture.completedFuture(versions(entries.size(), 10L));
+        });
+
+        val td1 = BaseMetadataStore.TransactionData.builder().key("key1").version(1L).dbObject(2L).value(new MockStorageMetadata("key1", "A")).build();
+        val td2 = BaseMetadataStore.TransactionData.builder().key("key2").version(1L).dbObject(2L).value(new MockStorageMetadata("key2", "B")).build();
+        val td3 = BaseMetadataStore.TransactionData.builder().key("key3").version(1L).dbObject(2L).value(new MockStorageMetadata("key3", "C")).build();
+        val td4 = BaseMetadataStore.TransactionData.builder().key("key4").version(1L).dbObject(2L).value(new MockStorageMetadata("key4", "D")).build();
+        val f1 = tableBasedMetadataStore.writeAll(Collections.singleton(td1));
+        val f2 = tableBasedMetadataStore.writeAll(Collections.singleton(td2));
+        val f3 = tableBasedMetadataStore.writeAll(Arrays.asList(td3, td4));
+        Assert.assertEquals(1, putCalls.size());
+        Assert.assertFalse(f2.isDone());
+        Assert.assertFalse(f3.isDone());
+
+        blockingFuture.complete(versions(1, 5L));
+        CompletableFuture.allOf(f1, f2, f3).get();
+
+        Assert.assertEquals("Queued writes should be written together.", 2, putCalls.size());
+        Assert.assertEquals(3, putCalls.get(1).size());
+        Assert.assertEquals(5L, td1.getDbObject());
+        Assert.assertEquals(10L, td2.getDbObject());
+        Assert.assertEquals(11L, td3.getDbObject());
+        Assert.assertEquals(12L, td4.getDbObject());
+    }
+
+    /**
+     * Test that a version mismatch in one of the group committed writes only fails that write.
+     */
+    @Test
+    public void testGroupCommitWithBadKeyVersion() throws Exception {
+        TableStore mockTableStore = mock(TableStore.class);
+        TableBasedMetadataStore tableBasedMetadataStore = new TableBasedMetadataStore("test", mockTableStore, executorService());
+
+        when(mockTableStore.createSegment(any(), any(), any())).thenReturn(Futures.failedFuture(new CompletionException(new StreamSegmentExistsException("test"))));
+
+        // Block the first put so that other writes get queued up. Fail any put that includes "bad" key.
+        val blockingFuture = new CompletableFuture<List<Long>>();
+        val putCalls = new ArrayList<List<TableEntry>>();
+        when(mockTableStore.put(anyString(), any(), any())).thenAnswer(invocation -> {
+            List<TableEntry> entries = invocation.getArgument(1);
+            putCalls.add(entries);
+            if (putCalls.size() == 1) {
+                return blockingFuture;
+            }
+            if (entries.stream().anyMatch(e -> new String(e.getKey().getKey().getCopy(), Charsets.UTF_8).equals("bad"))) {
+                return Futures.failedFuture(new BadKeyVersionException("test", new HashMap<>()));
+            }
+            return CompletableFuture.completedFuture(versions(entries.size(), 10L));
+        });
+
+        val td1 = BaseMetadataStore.TransactionData.builder().key("key1").version(1L).dbObject(2L).value(new MockStorageMetadata("key1", "A")).build();
+        val tdBad = BaseMetadataStore.TransactionData.builder().key("bad").version(1L).dbObject(2L).value(new MockStorageMetadata("bad", "B")).build();
+        val td3 = BaseMetadataStore.TransactionData.builder().key("key3").version(1L).dbObject(2L).value(new MockStorageMetadata("key3", "C")).build();
+        val f1 = tableBasedMetadataStore.writeAll(Collections.singleton(td1));
+        val f2 = tableBasedMetadataStore.writeAll(Collections.singleton(tdBad));
+        val f3 = tableBasedMetadataStore.writeAll(Collections.singleton(td3));
+
+        blockingFuture.complete(versions(1, 5L));
+        f1.get();
+        AssertExtensions.assertFutureThrows(
+                "write should throw an exception",
+                f2,
+                ex -> ex instanceof StorageMetadataVersionMismatchException);
+        f3.get();
+
+        // Initial put, the group put and then one put for each write in the group.
+        Assert.assertEquals(4, putCalls.size());
+        Assert.assertEquals(2L, tdBad.getDbObject());
+        Assert.assertEquals(10L, td3.getDbObject());
+    }
+
+    /**
+     * Test that a missing key in one of the group committed writes only fails that write.
+     */
+    @Test
+    public void testGroupCommitWithKeyNotExists() throws Exception {
+        TableStore mockTableStore = mock(TableStore.class);
+        TableBasedMetadataStore tableBasedMetadataStore = new TableBasedMetadataStore("test", mockTableStore, executorService());
+
+        when(mockTableStore.createSegment(any(), any(), any())).thenReturn(Futures.failedFuture(new CompletionException(new StreamSegmentExistsException("test"))));
+
+        // Block the first put so that other writes get queued up. Fail any put that includes "missing" key.
+        val blockingFuture = new CompletableFuture<List<Long>>();
+        val putCalls = new ArrayList<List<TableEntry>>();
+        when(mockTableStore.put(anyString(), any(), any())).thenAnswer(invocation -> {
+            List<TableEntry> entries = invocation.getArgument(1);
+            putCalls.add(entries);
+            if (putCalls.size() == 1) {
+                return blockingFuture;
+            }
+            val missing = entries.stream()
+                    .filter(e -> new String(e.getKey().getKey().getCopy(), Charsets.UTF_8).equals("missing"))
+                    .findFirst();
+            if (missing.isPresent()) {
+                return Futures.failedFuture(new KeyNotExistsException("test", missing.get().getKey().getKey()));
+            }
+            return CompletableFuture.completedFuture(versions(entries.size(), 10L));
+        });
+
+        val td1 = BaseMetadataStore.TransactionData.builder().key("key1").version(1L).dbObject(2L).value(new MockStorageMetadata("key1", "A")).build();
+        val td2 = BaseMetadataStore.TransactionData.builder().key("key2").version(1L).dbObject(2L).value(new MockStorageMetadata("key2", "B")).build();
+        val tdMissing = BaseMetadataStore.TransactionData.builder().key("missing").version(1L).dbObject(2L).value(new MockStorageMetadata("missing", "C")).build();
+        val td4 = BaseMetadataStore.TransactionData.builder().key("key4").version(1L).dbObject(2L).value(new MockStorageMetadata("key4", "D")).build();
+        val f1 = tableBasedMetadataStore.writeAll(Collections.singleton(td1));
+        val f2 = tableBasedMetadataStore.writeAll(Collections.singleton(td2));
+        val f3 = tableBasedMetadataStore.writeAll(Collections.singleton(tdMissing));
+        val f4 = tableBasedMetadataStore.writeAll(Collections.singleton(td4));
+
+        blockingFuture.complete(versions(1, 5L));
+        f1.get();
+        f2.get();
+        AssertExtensions.assertFutureThrows(
+                "write should throw an exception",
+                f3,
+                ex -> ex instanceof StorageMetadataVersionMismatchException && ex.getCause() instanceof KeyNotExistsException);
+        f4.get();
+
+        // Initial put, the group put and then one put for each write in the group.
+        Assert.assertEquals(5, putCalls.size());
+        Assert.assertEquals(3, putCalls.get(1).size());
+        Assert.assertEquals(10L, td2.getDbObject());
+        Assert.assertEquals(2L, tdMissing.getDbObject());
+        Assert.assertEquals(10L, td4.getDbObject());
+    }
+
     @Test
     public void testRandomExceptionDuringWrite() {
         TableStore mockTableStore = mock(TableStore.class);
@@ -223,4 +370,12 @@ public class TableBasedMetadataStoreMockTests extends ThreadPooledTestSuite {
                 tableBasedMetadataStore.writeAll(Collections.singleton(td)),
                 ex -> ex instanceof StorageMetadataException && ex.getCause() instanceof IllegalStateException);
     }
+
+    private static List<Long> versions(int count, long firstVersion) {
+        val result = new ArrayList<Long>();
+        for (int i = 0; i < count; i++) {
+            result.add(firstVersion + i);
+        }
+        return result;
+    }
 }
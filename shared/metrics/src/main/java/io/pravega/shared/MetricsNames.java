@@ -96,6 +96,10 @@ public final class MetricsNames {
     public static final String TABLE_SEGMENT_GET = PREFIX + "segmentstore.tablesegment.get";                               // Counter and Per-segment Counter
     public static final String TABLE_SEGMENT_ITERATE_KEYS = PREFIX + "segmentstore.tablesegment.iterate_keys";             // Counter and Per-segment Counter
     public static final String TABLE_SEGMENT_ITERATE_ENTRIES = PREFIX + "segmentstore.tablesegment.iterate_entries";       // Counter and Per-segment Counter
+    public static final String TABLE_SEGMENT_KEY_FILTER_NEGATIVE = PREFIX + "segmentstore.tablesegment.key_filter_negative";             // Lookups answered by the Key Filter. Per-container Counter
+    public static final String TABLE_SEGMENT_KEY_FILTER_FALSE_POSITIVE = PREFIX + "segmentstore.tablesegment.key_filter_false_positive"; // Per-container Counter
+    public static final String TABLE_SEGMENT_COMPACTION_BYTES = PREFIX + "segmentstore.tablesegment.compaction_bytes";                 // Bytes processed by background compaction. Per-container Counter
+    public static final String TABLE_SEGMENT_RECLAIMABLE_BYTES = PREFIX + "segmentstore.tablesegment.reclaimable_bytes";               // Estimated. Per-container Gauge
 
     // Storage stats
     public static final String STORAGE_READ_LATENCY = PREFIX + "segmentstore.storage.read_latency_ms";     // Histogram
@@ -139,11 +143,18 @@ public final class MetricsNames {
 
     public static final String SLTS_GC_QUEUE_SIZE = PREFIX + "segmentstore.storage.slts.GC_queue_record_count";  // Counter
 
+    public static final String SLTS_SEGMENT_CHUNK_COUNT = PREFIX + "segmentstore.storage.slts.segment_chunk_count";              // Histogram
+    public static final String SLTS_DEFRAG_LATENCY = PREFIX + "segmentstore.storage.slts.defrag_latency_ms";                      // Histogram
+    public static final String SLTS_DEFRAG_COUNT = PREFIX + "segmentstore.storage.slts.defrag_count";                            // Counter
+    public static final String SLTS_DEFRAG_CHUNKS_REMOVED = PREFIX + "segmentstore.storage.slts.defrag_removed_chunk_count";     // Counter
+    public static final String SLTS_DEFRAG_QUEUE_SIZE = PREFIX + "segmentstore.storage.slts.defrag_queue_record_count";          // Gauge
+
     // SLTS Metadata stats
     public static final String STORAGE_METADATA_GET_LATENCY = PREFIX + "segmentstore.storage.metadata_get_latency_ms";                  // Histogram
     public static final String STORAGE_METADATA_COMMIT_LATENCY = PREFIX + "segmentstore.storage.metadata_commit_latency_ms";            // Histogram
     public static final String STORAGE_METADATA_TABLE_GET_LATENCY = PREFIX + "segmentstore.storage.metadata_table_get_latency_ms";      // Histogram
     public static final String STORAGE_METADATA_TABLE_WRITE_LATENCY = PREFIX + "segmentstore.storage.metadata_table_write_latency_ms";  // Histogram
+    public static final String STORAGE_METADATA_TABLE_WRITE_BATCH_SIZE = PREFIX + "segmentstore.storage.metadata_table_write_batch_size"; // Histogram
 
     public static final String STORAGE_METADATA_TXN_HIT_COUNT = PREFIX + "segmentstore.storage.metadata_txn_hit_count";       // Counter
     public static final String STORAGE_METADATA_BUFFER_HIT_COUNT = PREFIX + "segmentstore.storage.metadata_buffer_hit_count"; // Counter
@@ -161,12 +172,24 @@ public final class MetricsNames {
     public static final String CACHE_APPEND_BYTES = PREFIX + "segmentstore.cache.append_bytes";                                   // Counter
     public static final String CACHE_READ_BYTES = PREFIX + "segmentstore.cache.read_bytes";                                       // Counter
     public static final String CACHE_DELETE_BYTES = PREFIX + "segmentstore.cache.delete_bytes";                                   // Counter
+    public static final String CACHE_TIER_HIT_COUNT = PREFIX + "segmentstore.cache.tier_hit_count";                               // Counter
+    public static final String CACHE_TIER_MISS_COUNT = PREFIX + "segmentstore.cache.tier_miss_count";                             // Counter
+    public static final String CACHE_SPILL_COUNT = PREFIX + "segmentstore.cache.spill_count";                                     // Counter
+    public static final String CACHE_SPILL_BYTES = PREFIX + "segmentstore.cache.spill_bytes";                                     // Counter
+    public static final String CACHE_ADMIT_COUNT = PREFIX + "segmentstore.cache.admit_count";                                     // Counter
+    public static final String CACHE_PROBATION_COUNT = PREFIX + "segmentstore.cache.probation_count";                             // Counter
+    public static final String CACHE_REJECT_COUNT = PREFIX + "segmentstore.cache.reject_count";                                   // Counter
     public static final String CACHE_STORED_SIZE_BYTES = PREFIX + "segmentstore.cache.stored_size_bytes";                         // Gauge
     public static final String CACHE_USED_SIZE_BYTES = PREFIX + "segmentstore.cache.used_size_bytes";                             // Gauge
     public static final String CACHE_ALLOC_SIZE_BYTES = PREFIX + "segmentstore.cache.allocated_size_bytes";                       // Gauge
     public static final String CACHE_GENERATION_SPREAD = PREFIX + "segmentstore.cache.gen";                                       // Histogram
     public static final String CACHE_MANAGER_ITERATION_DURATION = PREFIX + "segmentstore.cache.manager_iteration_duration_ms";    // Timer
 
+    // Read Index stats
+    public static final String READ_INDEX_FUTURE_READ_COUNT = PREFIX + "segmentstore.readindex.future_read_count";                      // Future Reads completed. Per-container Counter
+    public static final String READ_INDEX_FUTURE_READ_MATERIALIZED = PREFIX + "segmentstore.readindex.future_read_materialized";        // Distinct reads performed for them. Per-container Counter
+    public static final String READ_INDEX_FUTURE_READ_COALESCED = PREFIX + "segmentstore.readindex.future_read_coalesced";              // Future Reads served per distinct read. Per-container Histogram
+
     // DurableDataLog (Tier1) stats
     public static final String BK_TOTAL_WRITE_LATENCY = PREFIX + "segmentstore.bookkeeper.total_write_latency_ms";   // Including Queue. Per-container Histogram
     public static final String BK_WRITE_LATENCY = PREFIX + "segmentstore.bookkeeper.write_latency_ms";               // Exclusively the write to BK. Per-container Histogram
@@ -174,6 +197,7 @@ public final class MetricsNames {
     public static final String BK_WRITE_QUEUE_SIZE = PREFIX + "segmentstore.bookkeeper.write_queue_size";            // Per-container Histogram
     public static final String BK_WRITE_QUEUE_FILL_RATE = PREFIX + "segmentstore.bookkeeper.write_queue_fill";       // Per-container Histogram
     public static final String BK_LEDGER_COUNT = PREFIX + "segmentstore.bookkeeper.ledger_count";                    // Per-container Gauge
+    public static final String BK_WRITE_FLUSH_LOG_COUNT = PREFIX + "segmentstore.bookkeeper.write_flush_log_count";  // Logs flushed per aligned flush tick. Histogram
 
     // StorageWriter stats
     public static final String STORAGE_WRITER_FLUSH_ELAPSED = PREFIX + "segmentstore.storagewriter.flush_elapsed_ms";         // Time to flush all processors. Per-container Histogram.
@@ -196,6 +220,11 @@ public final class MetricsNames {
     public static final String CONTAINER_SEAL_COUNT = PREFIX + "segmentstore.container.seal_count";                              // Per-container Event Counter
     public static final String CONTAINER_TRUNCATE_COUNT = PREFIX + "segmentstore.container.truncate_count";                      // Per-container Event Counter
     public static final String CONTAINER_RECOVERY_TIME = PREFIX + "segmentstore.container.recovery_time";                        // Per-container Gauge
+    public static final String CONTAINER_RECOVERY_LOG_INIT_TIME = PREFIX + "segmentstore.container.recovery.log_init_time";      // Per-container Gauge
+    public static final String CONTAINER_RECOVERY_CHECKPOINT_SEARCH_TIME = PREFIX + "segmentstore.container.recovery.checkpoint_search_time"; // Per-container Gauge
+    public static final String CONTAINER_RECOVERY_REPLAY_TIME = PREFIX + "segmentstore.container.recovery.replay_time";          // Per-container Gauge
+    public static final String CONTAINER_START_QUEUE_TIME = PREFIX + "segmentstore.container.start.queue_time";                  // Per-container Gauge
+    public static final String CONTAINER_START_TIME = PREFIX + "segmentstore.container.start.total_time";                        // Per-container Gauge
 
     // Operation processor metrics
     public static final String PROCESS_OPERATIONS_LATENCY = PREFIX + "segmentstore.container.process_operations.latency_ms";                 // Per-container Histogram
@@ -209,6 +238,8 @@ public final class MetricsNames {
     public static final String OPERATION_COMMIT_MEMORY_COUNT = PREFIX + "segmentstore.container.operation_commit.memory_count";              // Per-container Histogram
     public static final String OPERATION_COMMIT_MEMORY_LATENCY = PREFIX + "segmentstore.container.operation_commit.memory_latency_ms";       // Per-container Histogram
     public static final String OPERATION_LOG_SIZE = PREFIX + "segmentstore.container.operation.log_size";                                    // Per-container Counter
+    public static final String OPERATION_PROCESSOR_FRAME_TARGET_SIZE = PREFIX + "segmentstore.container.operation_processor.frame_target_size";  // Per-container Gauge
+    public static final String OPERATION_PROCESSOR_FRAME_LINGER_MILLIS = PREFIX + "segmentstore.container.operation_processor.frame_linger_ms";  // Per-container Gauge
 
     // Segment container metadata
     public static final String ACTIVE_SEGMENT_COUNT = PREFIX + "segmentstore.container.active_segments";   // Per-container Gauge
@@ -31,6 +31,7 @@ public final class MetricsTags {
     public static final String TAG_CLASS = "class";
     public static final String TAG_EXCEPTION = "exception";
     public static final String TAG_THROTTLER = "throttler";
+    public static final String TAG_CACHE_TIER = "cacheTier";
 
     private static final String TRANSACTION_DELIMITER = "#transaction.";
     private static final String EPOCH_DELIMITER = ".#epoch.";
@@ -66,6 +67,15 @@ public final class MetricsTags {
         return new String[] {TAG_CONTAINER, String.valueOf(containerId), TAG_THROTTLER, throttler};
     }
 
+    /**
+     * Generate a cache tier tag (string array) on the input cache tier name to be associated with a metric.
+     * @param cacheTier name of the cache tier.
+     * @return string array as the cache tier tag of metric.
+     */
+    public static String[] cacheTierTag(String cacheTier) {
+        return new String[] {TAG_CACHE_TIER, cacheTier};
+    }
+
     /**
      * Generate a host tag (string array) on the input hostname to be associated with a metric.
      * @param hostname hostname of the metric.
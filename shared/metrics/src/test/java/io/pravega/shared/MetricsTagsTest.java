@@ -128,6 +128,13 @@ public class MetricsTagsTest {
         assertEquals("Cache", tags[3]);
     }
 
+    @Test
+    public void testCacheTierTag() {
+        String[] tag = cacheTierTag("disk");
+        assertEquals(MetricsTags.TAG_CACHE_TIER, tag[0]);
+        assertEquals("disk", tag[1]);
+    }
+
     @Test
     public void testTableSegmentTags() {
         String[] tags = segmentTags("_system/_tables/commonTables");
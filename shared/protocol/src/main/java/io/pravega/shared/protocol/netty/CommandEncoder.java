@@ -13,6 +13,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.pravega.shared.metrics.MetricNotifier;
@@ -20,6 +21,7 @@ import io.pravega.shared.protocol.netty.WireCommands.AppendBlock;
 import io.pravega.shared.protocol.netty.WireCommands.AppendBlockEnd;
 import io.pravega.shared.protocol.netty.WireCommands.Hello;
 import io.pravega.shared.protocol.netty.WireCommands.PartialEvent;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
 import java.io.IOException;
 import java.util.AbstractMap.SimpleImmutableEntry;
@@ -254,6 +256,17 @@ public class CommandEncoder extends FlushingMessageToByteEncoder<Object> {
             Preconditions.checkState(pendingWrites.isEmpty());
             writeMessage((WireCommand) msg, out);
             flushRequired();
+        } else if (msg instanceof SegmentRead && !((SegmentRead) msg).isReleased()) {
+            // This SegmentRead owns its data. Hand it over to the channel instead of copying it.
+            SegmentRead segmentRead = (SegmentRead) msg;
+            try {
+                breakCurrentAppend(out);
+                flushAll(out);
+                writeMessage(ctx, segmentRead, out);
+                flushRequired();
+            } finally {
+                segmentRead.release();
+            }
         } else if (msg instanceof WireCommand) {
             breakCurrentAppend(out);
             flushAll(out);
@@ -431,6 +444,33 @@ public class CommandEncoder extends FlushingMessageToByteEncoder<Object> {
         return endIdx - startIdx;
     }
 
+    /**
+     * Writes the given {@link SegmentRead} without copying its data. The contents of the given {@link ByteBuf} (which
+     * include the header of the {@link SegmentRead}) are written to the channel along with a retained slice of the
+     * {@link SegmentRead}'s data, so that the data is released only after it has been written to the wire.
+     */
+    @SneakyThrows(IOException.class)
+    private void writeMessage(ChannelHandlerContext ctx, SegmentRead msg, ByteBuf out) {
+        int startIdx = out.writerIndex();
+        ByteBufOutputStream bout = new ByteBufOutputStream(out);
+        bout.writeInt(msg.getType().getCode());
+        bout.write(LENGTH_PLACEHOLDER);
+        msg.writeHeader(bout);
+        bout.flush();
+        bout.close();
+
+        ByteBuf trailer = ctx.alloc().buffer(Long.BYTES);
+        msg.writeTrailer(new ByteBufOutputStream(trailer));
+        ByteBuf data = msg.getData();
+        int fieldsSize = out.writerIndex() - startIdx - TYPE_PLUS_LENGTH_SIZE + data.readableBytes() + trailer.readableBytes();
+        out.setInt(startIdx + TYPE_SIZE, fieldsSize);
+
+        // Consume everything in "out" (including any appends we may have flushed before), so that it is not written again
+        // once we return.
+        ByteBuf header = out.readRetainedSlice(out.readableBytes());
+        ctx.write(Unpooled.wrappedBuffer(header, data.retainedSlice(), trailer), ctx.voidPromise());
+    }
+
     @RequiredArgsConstructor
     private static final class BlockTimeout {
         private final long token;
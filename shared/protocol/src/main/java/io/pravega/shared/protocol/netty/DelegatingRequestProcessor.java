@@ -120,11 +120,21 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().updateTableEntries(tableEntries);
     }
 
+    @Override
+    public void updateTableEntriesBatch(WireCommands.UpdateTableEntriesBatch tableEntriesBatch) {
+        getNextRequestProcessor().updateTableEntriesBatch(tableEntriesBatch);
+    }
+
     @Override
     public void removeTableKeys(WireCommands.RemoveTableKeys tableKeys) {
         getNextRequestProcessor().removeTableKeys(tableKeys);
     }
 
+    @Override
+    public void updateAndRemoveTableKeys(WireCommands.UpdateAndRemoveTableKeys updateAndRemoveTableKeys) {
+        getNextRequestProcessor().updateAndRemoveTableKeys(updateAndRemoveTableKeys);
+    }
+
     @Override
     public void readTable(WireCommands.ReadTable readTable) {
         getNextRequestProcessor().readTable(readTable);
@@ -155,6 +155,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
         throw new IllegalStateException("Unexpected operation: " + tableEntriesUpdated);
     }
 
+    @Override
+    public void tableEntriesBatchUpdated(WireCommands.TableEntriesBatchUpdated tableEntriesBatchUpdated) {
+        throw new IllegalStateException("Unexpected operation: " + tableEntriesBatchUpdated);
+    }
+
     @Override
     public void tableKeysRemoved(WireCommands.TableKeysRemoved tableKeysRemoved) {
         throw new IllegalStateException("Unexpected operation: " + tableKeysRemoved);
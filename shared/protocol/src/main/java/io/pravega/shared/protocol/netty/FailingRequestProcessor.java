@@ -89,11 +89,21 @@ public class FailingRequestProcessor implements RequestProcessor {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void updateTableEntriesBatch(WireCommands.UpdateTableEntriesBatch tableEntriesBatch) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void removeTableKeys(WireCommands.RemoveTableKeys tableKeys) {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void updateAndRemoveTableKeys(WireCommands.UpdateAndRemoveTableKeys updateAndRemoveTableKeys) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void readTable(WireCommands.ReadTable readTable) {
         throw new IllegalStateException("Unexpected operation");
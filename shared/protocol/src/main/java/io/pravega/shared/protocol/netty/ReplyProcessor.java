@@ -74,6 +74,8 @@ public interface ReplyProcessor {
 
     void tableEntriesUpdated(WireCommands.TableEntriesUpdated tableEntriesUpdated);
 
+    void tableEntriesBatchUpdated(WireCommands.TableEntriesBatchUpdated tableEntriesBatchUpdated);
+
     void tableKeysRemoved(WireCommands.TableKeysRemoved tableKeysRemoved);
 
     void tableRead(WireCommands.TableRead tableRead);
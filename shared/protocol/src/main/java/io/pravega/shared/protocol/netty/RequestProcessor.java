@@ -71,8 +71,12 @@ public interface RequestProcessor {
 
     void updateTableEntries(UpdateTableEntries tableEntries);
 
+    void updateTableEntriesBatch(WireCommands.UpdateTableEntriesBatch tableEntriesBatch);
+
     void removeTableKeys(RemoveTableKeys tableKeys);
 
+    void updateAndRemoveTableKeys(WireCommands.UpdateAndRemoveTableKeys updateAndRemoveTableKeys);
+
     void readTable(WireCommands.ReadTable readTable);
 
     void readTableKeys(WireCommands.ReadTableKeys readTableKeys);
@@ -108,6 +108,11 @@ public enum WireCommandType {
 
     CONDITIONAL_BLOCK_END(89, WireCommands.ConditionalBlockEnd::readFrom),
 
+    UPDATE_TABLE_ENTRIES_BATCH(90, WireCommands.UpdateTableEntriesBatch::readFrom),
+    TABLE_ENTRIES_BATCH_UPDATED(91, WireCommands.TableEntriesBatchUpdated::readFrom),
+
+    UPDATE_AND_REMOVE_TABLE_KEYS(92, WireCommands.UpdateAndRemoveTableKeys::readFrom),
+
     KEEP_ALIVE(100, WireCommands.KeepAlive::readFrom);
 
     private final int code;
@@ -26,6 +26,7 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -55,7 +56,7 @@ import static io.netty.buffer.Unpooled.wrappedBuffer;
  * Incompatible changes should instead create a new WireCommand object.
  */
 public final class WireCommands {
-    public static final int WIRE_VERSION = 11;
+    public static final int WIRE_VERSION = 12;
     public static final int OLDEST_COMPATIBLE_VERSION = 5;
     public static final int TYPE_SIZE = 4;
     public static final int TYPE_PLUS_LENGTH_SIZE = 8;
@@ -838,13 +839,32 @@ public final class WireCommands {
 
         @Override
         public void writeFields(DataOutput out) throws IOException {
+            writeHeader(out);
+            this.data.getBytes(this.data.readerIndex(), (OutputStream) out, this.data.readableBytes());
+            writeTrailer(out);
+        }
+
+        /**
+         * Writes the fields that precede {@link #getData()}, including its length.
+         *
+         * @param out The {@link DataOutput} to write to.
+         * @throws IOException If an exception occurred.
+         */
+        void writeHeader(DataOutput out) throws IOException {
             out.writeUTF(segment);
             out.writeLong(offset);
             out.writeBoolean(atTail);
             out.writeBoolean(endOfSegment);
-            int dataLength = data.readableBytes();
-            out.writeInt(dataLength);
-            this.data.getBytes(this.data.readerIndex(), (OutputStream) out, dataLength);
+            out.writeInt(data.readableBytes());
+        }
+
+        /**
+         * Writes the fields that follow {@link #getData()}.
+         *
+         * @param out The {@link DataOutput} to write to.
+         * @throws IOException If an exception occurred.
+         */
+        void writeTrailer(DataOutput out) throws IOException {
             out.writeLong(requestId);
         }
 
@@ -1802,6 +1822,142 @@ public final class WireCommands {
         }
     }
 
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static final class UpdateTableEntriesBatch extends ReleasableCommand implements Request, WireCommand {
+
+        final WireCommandType type = WireCommandType.UPDATE_TABLE_ENTRIES_BATCH;
+        final long requestId;
+        @ToString.Exclude
+        final String delegationToken;
+        final Map<String, TableEntries> tableEntries;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.updateTableEntriesBatch(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+            out.writeInt(tableEntries.size());
+            for (Map.Entry<String, TableEntries> e : tableEntries.entrySet()) {
+                out.writeUTF(e.getKey());
+                e.getValue().writeFields(out);
+            }
+        }
+
+        public static WireCommand readFrom(EnhancedByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            String delegationToken = in.readUTF();
+            int numberOfSegments = in.readInt();
+            Map<String, TableEntries> tableEntries = new LinkedHashMap<>();
+            for (int i = 0; i < numberOfSegments; i++) {
+                String segment = in.readUTF();
+                tableEntries.put(segment, TableEntries.readFrom(in, in.available()));
+            }
+
+            return new UpdateTableEntriesBatch(requestId, delegationToken, tableEntries).requireRelease();
+        }
+
+        @Override
+        void releaseInternal() {
+            this.tableEntries.values().forEach(TableEntries::release);
+        }
+    }
+
+    /**
+     * Reply to {@link UpdateTableEntriesBatch}. Since each Table Segment in the batch is updated independently, this
+     * contains the new key versions for every Table Segment that was successfully updated and the reason of the failure
+     * for every Table Segment that was not.
+     */
+    @Data
+    public static final class TableEntriesBatchUpdated implements Reply, WireCommand {
+        final WireCommandType type = WireCommandType.TABLE_ENTRIES_BATCH_UPDATED;
+        final long requestId;
+        final Map<String, List<Long>> updatedVersions;
+        final Map<String, ErrorCode> failedSegments;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.tableEntriesBatchUpdated(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(updatedVersions.size());
+            for (Map.Entry<String, List<Long>> e : updatedVersions.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeInt(e.getValue().size());
+                for (long version : e.getValue()) {
+                    out.writeLong(version);
+                }
+            }
+
+            out.writeInt(failedSegments.size());
+            for (Map.Entry<String, ErrorCode> e : failedSegments.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeInt(e.getValue().getCode());
+            }
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            int numberOfSegments = in.readInt();
+            Map<String, List<Long>> updatedVersions = new LinkedHashMap<>();
+            for (int i = 0; i < numberOfSegments; i++) {
+                String segment = in.readUTF();
+                int numberOfEntries = in.readInt();
+                List<Long> versions = new ArrayList<>(numberOfEntries);
+                for (int j = 0; j < numberOfEntries; j++) {
+                    versions.add(in.readLong());
+                }
+
+                updatedVersions.put(segment, versions);
+            }
+
+            int numberOfFailedSegments = in.readInt();
+            Map<String, ErrorCode> failedSegments = new LinkedHashMap<>();
+            for (int i = 0; i < numberOfFailedSegments; i++) {
+                String segment = in.readUTF();
+                failedSegments.put(segment, ErrorCode.valueOf(in.readInt()));
+            }
+
+            return new TableEntriesBatchUpdated(requestId, updatedVersions, failedSegments);
+        }
+
+        public enum ErrorCode {
+            UNSPECIFIED(-1),             // indicates an error that has no specific code
+            TABLE_KEY_BAD_VERSION(0),    // indicates a conditional update failed due to a key version mismatch
+            TABLE_KEY_DOES_NOT_EXIST(1), // indicates a conditional update failed because a key does not exist
+            NO_SUCH_SEGMENT(2);          // indicates the Table Segment does not exist
+
+            private static final Map<Integer, ErrorCode> OBJECTS_BY_CODE = new HashMap<>();
+
+            static {
+                for (ErrorCode errorCode : ErrorCode.values()) {
+                    OBJECTS_BY_CODE.put(errorCode.code, errorCode);
+                }
+            }
+
+            private final int code;
+
+            private ErrorCode(int code) {
+                this.code = code;
+            }
+
+            public static ErrorCode valueOf(int code) {
+                return OBJECTS_BY_CODE.getOrDefault(code, ErrorCode.UNSPECIFIED);
+            }
+
+            public int getCode() {
+                return this.code;
+            }
+        }
+    }
+
     @Data
     @EqualsAndHashCode(callSuper = false)
     public static final class RemoveTableKeys extends ReleasableCommand implements Request, WireCommand {
@@ -1875,6 +2031,59 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Atomically updates and removes Table Keys in a single Table Segment. The server replies with {@link TableEntriesUpdated},
+     * which contains the versions of the updated Table Entries.
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static final class UpdateAndRemoveTableKeys extends ReleasableCommand implements Request, WireCommand {
+
+        final WireCommandType type = WireCommandType.UPDATE_AND_REMOVE_TABLE_KEYS;
+        final long requestId;
+        final String segment;
+        @ToString.Exclude
+        final String delegationToken;
+        final TableEntries tableEntries;
+        final List<TableKey> keys;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.updateAndRemoveTableKeys(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeUTF(segment);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+            tableEntries.writeFields(out);
+            out.writeInt(keys.size());
+            for (TableKey key : keys) {
+                key.writeFields(out);
+            }
+        }
+
+        public static WireCommand readFrom(EnhancedByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            String segment = in.readUTF();
+            String delegationToken = in.readUTF();
+            TableEntries entries = TableEntries.readFrom(in, in.available());
+            int numberOfKeys = in.readInt();
+            List<TableKey> keys = new ArrayList<>(numberOfKeys);
+            for (int i = 0; i < numberOfKeys; i++) {
+                keys.add(TableKey.readFrom(in, in.available()));
+            }
+
+            return new UpdateAndRemoveTableKeys(requestId, segment, delegationToken, entries, keys).requireRelease();
+        }
+
+        @Override
+        void releaseInternal() {
+            this.tableEntries.release();
+            this.keys.forEach(TableKey::release);
+        }
+    }
 
     @Data
     @EqualsAndHashCode(callSuper = false)
@@ -1965,6 +2174,25 @@ public final class WireCommands {
         final int suggestedKeyCount;
         final ByteBuf continuationToken; // this is used to indicate the point from which the next keys should be fetched.
         final ByteBuf prefixFilter;      // this is used to indicate any prefix filters to apply to keys.
+        final ByteBuf fromKey;           // this is used to indicate the lower bound (inclusive) of the keys to return.
+        final ByteBuf toKey;             // this is used to indicate the upper bound (exclusive) of the keys to return.
+
+        public ReadTableKeys(long requestId, String segment, String delegationToken, int suggestedKeyCount, ByteBuf continuationToken,
+                ByteBuf prefixFilter) {
+            this(requestId, segment, delegationToken, suggestedKeyCount, continuationToken, prefixFilter, EMPTY_BUFFER, EMPTY_BUFFER);
+        }
+
+        public ReadTableKeys(long requestId, String segment, String delegationToken, int suggestedKeyCount, ByteBuf continuationToken,
+                ByteBuf prefixFilter, ByteBuf fromKey, ByteBuf toKey) {
+            this.requestId = requestId;
+            this.segment = segment;
+            this.delegationToken = delegationToken;
+            this.suggestedKeyCount = suggestedKeyCount;
+            this.continuationToken = continuationToken;
+            this.prefixFilter = prefixFilter;
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+        }
 
         @Override
         public void process(RequestProcessor cp) {
@@ -1986,6 +2214,16 @@ public final class WireCommands {
             if (prefixFilter.readableBytes() != 0) {
                 prefixFilter.getBytes(prefixFilter.readerIndex(), (OutputStream) out, prefixFilter.readableBytes());
             }
+
+            out.writeInt(fromKey.readableBytes());
+            if (fromKey.readableBytes() != 0) {
+                fromKey.getBytes(fromKey.readerIndex(), (OutputStream) out, fromKey.readableBytes());
+            }
+
+            out.writeInt(toKey.readableBytes());
+            if (toKey.readableBytes() != 0) {
+                toKey.getBytes(toKey.readerIndex(), (OutputStream) out, toKey.readableBytes());
+            }
         }
 
         public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
@@ -2004,8 +2242,20 @@ public final class WireCommands {
                 in.readFully(prefixFilter);
             }
 
+            int fromKeyLength = in.available() >= Integer.BYTES ? in.readInt() : 0;
+            byte[] fromKey = new byte[fromKeyLength];
+            if (fromKeyLength > 0) {
+                in.readFully(fromKey);
+            }
+
+            int toKeyLength = in.available() >= Integer.BYTES ? in.readInt() : 0;
+            byte[] toKey = new byte[toKeyLength];
+            if (toKeyLength > 0) {
+                in.readFully(toKey);
+            }
+
             return new ReadTableKeys(requestId, segment, delegationToken, suggestedKeyCount, wrappedBuffer(continuationToken),
-                    wrappedBuffer(prefixFilter));
+                    wrappedBuffer(prefixFilter), wrappedBuffer(fromKey), wrappedBuffer(toKey));
         }
     }
 
@@ -2072,6 +2322,25 @@ public final class WireCommands {
         final int suggestedEntryCount;
         final ByteBuf continuationToken; // this is used to indicate the point from which the next entry should be fetched.
         final ByteBuf prefixFilter;      // this is used to indicate any prefix filters to apply to keys.
+        final ByteBuf fromKey;           // this is used to indicate the lower bound (inclusive) of the keys to return.
+        final ByteBuf toKey;             // this is used to indicate the upper bound (exclusive) of the keys to return.
+
+        public ReadTableEntries(long requestId, String segment, String delegationToken, int suggestedEntryCount, ByteBuf continuationToken,
+                ByteBuf prefixFilter) {
+            this(requestId, segment, delegationToken, suggestedEntryCount, continuationToken, prefixFilter, EMPTY_BUFFER, EMPTY_BUFFER);
+        }
+
+        public ReadTableEntries(long requestId, String segment, String delegationToken, int suggestedEntryCount, ByteBuf continuationToken,
+                ByteBuf prefixFilter, ByteBuf fromKey, ByteBuf toKey) {
+            this.requestId = requestId;
+            this.segment = segment;
+            this.delegationToken = delegationToken;
+            this.suggestedEntryCount = suggestedEntryCount;
+            this.continuationToken = continuationToken;
+            this.prefixFilter = prefixFilter;
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+        }
 
         @Override
         public void process(RequestProcessor cp) {
@@ -2092,6 +2361,16 @@ public final class WireCommands {
             if (prefixFilter.readableBytes() != 0) {
                 prefixFilter.getBytes(prefixFilter.readerIndex(), (OutputStream) out, prefixFilter.readableBytes());
             }
+
+            out.writeInt(fromKey.readableBytes());
+            if (fromKey.readableBytes() != 0) {
+                fromKey.getBytes(fromKey.readerIndex(), (OutputStream) out, fromKey.readableBytes());
+            }
+
+            out.writeInt(toKey.readableBytes());
+            if (toKey.readableBytes() != 0) {
+                toKey.getBytes(toKey.readerIndex(), (OutputStream) out, toKey.readableBytes());
+            }
         }
 
         public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
@@ -2110,8 +2389,20 @@ public final class WireCommands {
                 in.readFully(prefixFilter);
             }
 
+            int fromKeyLength = in.available() >= Integer.BYTES ? in.readInt() : 0;
+            byte[] fromKey = new byte[fromKeyLength];
+            if (fromKeyLength > 0) {
+                in.readFully(fromKey);
+            }
+
+            int toKeyLength = in.available() >= Integer.BYTES ? in.readInt() : 0;
+            byte[] toKey = new byte[toKeyLength];
+            if (toKeyLength > 0) {
+                in.readFully(toKey);
+            }
+
             return new ReadTableEntries(requestId, segment, delegationToken, suggestedEntryCount, wrappedBuffer(continuationToken),
-                    wrappedBuffer(prefixFilter));
+                    wrappedBuffer(prefixFilter), wrappedBuffer(fromKey), wrappedBuffer(toKey));
         }
     }
 
@@ -2491,10 +2782,11 @@ public final class WireCommands {
 
         /**
          * Marks the fact that this instance requires {@link #release()} to be invoked in order to free up resources.
+         * Commands that are sent over the wire (and marked so) are released once they have been encoded.
          *
          * @return This instance.
          */
-        WireCommand requireRelease() {
+        public WireCommand requireRelease() {
             this.released = false;
             return this;
         }
@@ -18,14 +18,18 @@ import io.pravega.shared.protocol.netty.WireCommands.Event;
 import io.pravega.shared.protocol.netty.WireCommands.Hello;
 import io.pravega.shared.protocol.netty.WireCommands.KeepAlive;
 import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.internal.verification.AtMost;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -88,6 +92,46 @@ public class CommandEncoderTest {
         verifyFlush(commandEncoder, allocator, new ReadSegment("segment", 0, 1000, "", 2L));
     }
 
+    /**
+     * Verifies that a {@link SegmentRead} that owns its data is written to the channel without copying that data and
+     * that the data is released only after the channel is done with it.
+     */
+    @Test
+    public void testSegmentReadOwnedData() throws Exception {
+        UnpooledByteBufAllocator allocator = new UnpooledByteBufAllocator(false, false);
+        CommandEncoder commandEncoder = new CommandEncoder(null, new TestMetricNotifier());
+        ByteBuf data = allocator.directBuffer(100).writeBytes(new byte[100]);
+        SegmentRead segmentRead = new SegmentRead("segment", 123L, true, false, data, 3L);
+        segmentRead.requireRelease();
+
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        Mockito.when(context.alloc()).thenReturn(allocator);
+        Mockito.when(context.executor()).thenReturn(Mockito.mock(EventExecutor.class));
+        ArgumentCaptor<Object> written = ArgumentCaptor.forClass(Object.class);
+        commandEncoder.write(context, segmentRead, null);
+        verify(context, Mockito.times(2)).write(written.capture(), Mockito.any());
+        verify(context).flush();
+        assertTrue(segmentRead.isReleased());
+
+        // The first write contains the whole command (sharing the data buffer), the second one is an empty one.
+        ByteBuf actual = (ByteBuf) written.getAllValues().get(0);
+        assertEquals(0, ((ByteBuf) written.getAllValues().get(1)).readableBytes());
+        assertEquals("Not expecting data to be released while the channel is using it.", 1, data.refCnt());
+        ByteBuf expected = allocator.buffer();
+        CommandEncoder.writeMessage(new SegmentRead("segment", 123L, true, false, data, 3L), expected);
+        assertEquals(expected, actual);
+
+        // Verify that the data has not been copied.
+        data.setByte(2, 2);
+        int dataIndex = actual.readableBytes() - Long.BYTES - data.readableBytes();
+        assertEquals(2, actual.getByte(dataIndex + 2));
+
+        // Once the channel is done with it, the data should be released.
+        actual.release();
+        assertEquals(0, data.refCnt());
+        expected.release();
+    }
+
     public void verifyFlush(CommandEncoder commandEncoder, UnpooledByteBufAllocator allocator,
                             Object command) throws Exception {
         ChannelHandlerContext context = mock(ChannelHandlerContext.class);
@@ -23,6 +23,8 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -739,6 +741,44 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.TableEntriesUpdated(l, Arrays.asList(1L, 2L, 3L)));
     }
 
+    @Test
+    public void testUpdateTableEntriesBatch() throws IOException {
+        List<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>> entries1 = Arrays.asList(
+                new SimpleImmutableEntry<>(new WireCommands.TableKey(buf, l), new WireCommands.TableValue(buf)),
+                new SimpleImmutableEntry<>(WireCommands.TableKey.EMPTY, WireCommands.TableValue.EMPTY));
+        List<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>> entries2 = Collections.singletonList(
+                new SimpleImmutableEntry<>(new WireCommands.TableKey(buf, l), WireCommands.TableValue.EMPTY));
+        Supplier<Map<String, WireCommands.TableEntries>> tableEntries = () -> {
+            Map<String, WireCommands.TableEntries> result = new LinkedHashMap<>();
+            result.put(testString1, new WireCommands.TableEntries(entries1));
+            result.put(testString2, new WireCommands.TableEntries(entries2));
+            return result;
+        };
+        testCommand(new WireCommands.UpdateTableEntriesBatch(l, "", tableEntries.get()));
+
+        // Each non-empty Key and Value will retain the buffer once.
+        testReleasableCommand(
+                () -> new WireCommands.UpdateTableEntriesBatch(l, "", tableEntries.get()),
+                WireCommands.UpdateTableEntriesBatch::readFrom,
+                ce -> ce.tableEntries.get(testString1).getEntries().get(0).getValue().getData().refCnt(),
+                3);
+    }
+
+    @Test
+    public void testTableEntriesBatchUpdated() throws IOException {
+        Map<String, List<Long>> versions = new LinkedHashMap<>();
+        versions.put(testString1, Arrays.asList(1L, 2L, 3L));
+        versions.put(testString2, Collections.emptyList());
+        testCommand(new WireCommands.TableEntriesBatchUpdated(l, versions, Collections.emptyMap()));
+        Map<String, WireCommands.TableEntriesBatchUpdated.ErrorCode> failures = new LinkedHashMap<>();
+        failures.put("failed1", WireCommands.TableEntriesBatchUpdated.ErrorCode.TABLE_KEY_BAD_VERSION);
+        failures.put("failed2", WireCommands.TableEntriesBatchUpdated.ErrorCode.TABLE_KEY_DOES_NOT_EXIST);
+        failures.put("failed3", WireCommands.TableEntriesBatchUpdated.ErrorCode.NO_SUCH_SEGMENT);
+        testCommand(new WireCommands.TableEntriesBatchUpdated(l, versions, failures));
+        assertEquals(WireCommands.TableEntriesBatchUpdated.ErrorCode.UNSPECIFIED,
+                WireCommands.TableEntriesBatchUpdated.ErrorCode.valueOf(Integer.MAX_VALUE));
+    }
+
     @Test
     public void testRemoveTableKeys() throws IOException {
         testCommand(new WireCommands.RemoveTableKeys(l, testString1, "", Arrays.asList(new WireCommands.TableKey(buf, 1L),
@@ -751,6 +791,23 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
                 2);
     }
 
+    @Test
+    public void testUpdateAndRemoveTableKeys() throws IOException {
+        List<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>> entries = Arrays.asList(
+                new SimpleImmutableEntry<>(new WireCommands.TableKey(buf, l), new WireCommands.TableValue(buf)),
+                new SimpleImmutableEntry<>(WireCommands.TableKey.EMPTY, WireCommands.TableValue.EMPTY));
+        testCommand(new WireCommands.UpdateAndRemoveTableKeys(l, testString1, "", new WireCommands.TableEntries(entries),
+                Collections.singletonList(new WireCommands.TableKey(buf, 2L))));
+
+        // Each non-empty Key and Value will retain the buffer once.
+        testReleasableCommand(
+                () -> new WireCommands.UpdateAndRemoveTableKeys(l, testString1, "", new WireCommands.TableEntries(entries),
+                        Collections.singletonList(new WireCommands.TableKey(buf, 2L))),
+                WireCommands.UpdateAndRemoveTableKeys::readFrom,
+                ce -> ce.getKeys().get(0).getData().refCnt(),
+                3);
+    }
+
     @Test
     public void testTableKeysRemoved() throws IOException {
         testCommand(new WireCommands.TableKeysRemoved(l, testString1));
@@ -807,11 +864,21 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         cmd = new WireCommands.ReadTableKeys(l, testString1, "", 100, wrappedBuffer(new byte[0]), wrappedBuffer(new byte[0]));
         testCommand(cmd);
 
-        // Test that we are able to read fields from an older version.
+        // Range bounds.
+        cmd = new WireCommands.ReadTableKeys(l, testString1, "", 100, buf, buf2, wrappedBuffer(new byte[]{1, 2}), wrappedBuffer(new byte[]{1, 3}));
+        testCommand(cmd);
+
+        // Test that we are able to read fields from an older version (no prefix filter and no range bounds).
         cmd = new WireCommands.ReadTableKeys(l, testString1, "", 100, buf, Unpooled.EMPTY_BUFFER);
         ByteBufferOutputStream bout = new ByteBufferOutputStream();
         cmd.writeFields(new DataOutputStream(bout));
-        testCommandFromByteArray(bout.getData().slice(0, bout.size() - Integer.BYTES).getCopy(), cmd);
+        testCommandFromByteArray(bout.getData().slice(0, bout.size() - 3 * Integer.BYTES).getCopy(), cmd);
+
+        // Test that we are able to read fields from an older version (prefix filter, but no range bounds).
+        cmd = new WireCommands.ReadTableKeys(l, testString1, "", 100, buf, buf2);
+        bout = new ByteBufferOutputStream();
+        cmd.writeFields(new DataOutputStream(bout));
+        testCommandFromByteArray(bout.getData().slice(0, bout.size() - 2 * Integer.BYTES).getCopy(), cmd);
     }
 
     @Test
@@ -823,11 +890,21 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         cmd = new WireCommands.ReadTableEntries(l, testString1, "", 10, wrappedBuffer(new byte[0]), wrappedBuffer(new byte[0]));
         testCommand(cmd);
 
-        // Test that we are able to read fields from an older version.
+        // Range bounds.
+        cmd = new WireCommands.ReadTableEntries(l, testString1, "", 10, buf, buf2, wrappedBuffer(new byte[]{1, 2}), wrappedBuffer(new byte[]{1, 3}));
+        testCommand(cmd);
+
+        // Test that we are able to read fields from an older version (no prefix filter and no range bounds).
         cmd = new WireCommands.ReadTableEntries(l, testString1, "", 10, buf, Unpooled.EMPTY_BUFFER);
         ByteBufferOutputStream bout = new ByteBufferOutputStream();
         cmd.writeFields(new DataOutputStream(bout));
-        testCommandFromByteArray(bout.getData().slice(0, bout.size() - Integer.BYTES).getCopy(), cmd);
+        testCommandFromByteArray(bout.getData().slice(0, bout.size() - 3 * Integer.BYTES).getCopy(), cmd);
+
+        // Test that we are able to read fields from an older version (prefix filter, but no range bounds).
+        cmd = new WireCommands.ReadTableEntries(l, testString1, "", 10, buf, buf2);
+        bout = new ByteBufferOutputStream();
+        cmd.writeFields(new DataOutputStream(bout));
+        testCommandFromByteArray(bout.getData().slice(0, bout.size() - 2 * Integer.BYTES).getCopy(), cmd);
     }
 
     @Test
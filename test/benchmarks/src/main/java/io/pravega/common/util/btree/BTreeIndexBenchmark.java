@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.common.util.btree;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link BTreeIndex#get} and {@link BTreeIndex#update} against an in-memory data source. Keys
+ * and values have the same lengths as the ones used by the Segment Attribute Index.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BTreeIndexBenchmark {
+    private static final int KEY_LENGTH = 16;
+    private static final int VALUE_LENGTH = 8;
+    private static final int MAX_PAGE_SIZE = 8 * 1024;
+    private static final int UPDATE_BATCH_SIZE = 100;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"100000", "1000000"})
+    private int keyCount;
+
+    private ScheduledExecutorService executor;
+    private BTreeIndex index;
+    private ByteArraySegment[] keys;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "btree-benchmark");
+        val dataSource = new DataSource();
+        this.index = BTreeIndex.builder()
+                .maxPageSize(MAX_PAGE_SIZE)
+                .keyLength(KEY_LENGTH)
+                .valueLength(VALUE_LENGTH)
+                .readPage(dataSource::read)
+                .writePages(dataSource::write)
+                .getLength(dataSource::getLength)
+                .executor(this.executor)
+                .build();
+        this.index.initialize(TIMEOUT).join();
+
+        this.random = new Random(0);
+        this.keys = new ByteArraySegment[this.keyCount];
+        val batch = new ArrayList<PageEntry>();
+        for (int i = 0; i < this.keys.length; i++) {
+            byte[] key = new byte[KEY_LENGTH];
+            this.random.nextBytes(key);
+            this.keys[i] = new ByteArraySegment(key);
+            batch.add(new PageEntry(this.keys[i], newValue(i)));
+            if (batch.size() >= 10000 || i == this.keys.length - 1) {
+                this.index.update(batch, TIMEOUT).join();
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Looks up a single, existing Key.
+     *
+     * @return The value associated with the key.
+     */
+    @Benchmark
+    public ByteArraySegment get() {
+        return this.index.get(this.keys[this.random.nextInt(this.keys.length)], TIMEOUT).join();
+    }
+
+    /**
+     * Updates the values of a batch of distinct, existing Keys.
+     *
+     * @return The index version after the update.
+     */
+    @Benchmark
+    @OperationsPerInvocation(UPDATE_BATCH_SIZE)
+    public long update() {
+        val batch = new ArrayList<PageEntry>(UPDATE_BATCH_SIZE);
+        int startIndex = this.random.nextInt(this.keys.length - UPDATE_BATCH_SIZE);
+        for (int i = 0; i < UPDATE_BATCH_SIZE; i++) {
+            batch.add(new PageEntry(this.keys[startIndex + i], newValue(this.random.nextLong())));
+        }
+
+        return this.index.update(batch, TIMEOUT).join();
+    }
+
+    private ByteArraySegment newValue(long value) {
+        val result = new ByteArraySegment(new byte[VALUE_LENGTH]);
+        result.setLong(0, value);
+        return result;
+    }
+
+    /**
+     * In-memory data source for the {@link BTreeIndex}. Obsolete pages are discarded so that memory usage does not grow
+     * with the number of updates. Page contents are copied both on read and write, which is what a real data source would do.
+     */
+    private static class DataSource {
+        @GuardedBy("pages")
+        private final Map<Long, ByteArraySegment> pages = new HashMap<>();
+        @GuardedBy("pages")
+        private long length = 0;
+        @GuardedBy("pages")
+        private long rootPointer = BTreeIndex.IndexInfo.EMPTY.getRootPointer();
+
+        CompletableFuture<BTreeIndex.IndexInfo> getLength(Duration timeout) {
+            synchronized (this.pages) {
+                return CompletableFuture.completedFuture(new BTreeIndex.IndexInfo(this.length, this.rootPointer));
+            }
+        }
+
+        CompletableFuture<ByteArraySegment> read(long offset, int length, Duration timeout) {
+            synchronized (this.pages) {
+                val page = this.pages.get(offset);
+                assert page != null && page.getLength() == length : "unexpected page read at offset " + offset;
+                // BTreeIndex may modify the pages it reads, so we must hand out copies.
+                return CompletableFuture.completedFuture(new ByteArraySegment(page.getCopy()));
+            }
+        }
+
+        CompletableFuture<Long> write(List<Map.Entry<Long, ByteArraySegment>> toWrite, Collection<Long> obsoleteOffsets,
+                                      long truncateOffset, Duration timeout) {
+            synchronized (this.pages) {
+                for (val e : toWrite) {
+                    this.pages.put(e.getKey(), new ByteArraySegment(e.getValue().getCopy()));
+                    this.length = e.getKey() + e.getValue().getLength();
+                }
+
+                obsoleteOffsets.forEach(this.pages::remove);
+                if (!toWrite.isEmpty()) {
+                    // The last page written is always the footer.
+                    this.rootPointer = toWrite.get(toWrite.size() - 1).getKey();
+                }
+
+                return CompletableFuture.completedFuture(this.length);
+            }
+        }
+    }
+}
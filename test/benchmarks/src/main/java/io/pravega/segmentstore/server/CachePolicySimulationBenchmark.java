@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server;
+
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.storage.cache.CacheFullException;
+import io.pravega.segmentstore.storage.cache.CacheStorage;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simulates a mixed read workload against a {@link CacheManager} using each {@link CachePolicy.Mode} and reports the
+ * cache hit/miss counts for the tail readers (see {@link Counters}).
+ *
+ * The read trace consists of:
+ * - Tail reads: skewed random reads over a fixed set of hot blocks, which fits in the cache. These model the many
+ * readers that are (nearly) caught up and repeatedly read recently written data.
+ * - Scan reads: sequential reads over a range of blocks that is much larger than the cache, each block being read
+ * exactly once. These model a catch-up reader that is replaying the Segment from the beginning.
+ *
+ * Each block read is recorded with the {@link CacheAdmissionPolicy} and, on a miss, inserted into the cache as decided
+ * by it, mimicking what the Read Index does for Storage reads. The cache policy is applied every
+ * {@link #READS_PER_GENERATION} tail reads. The throughput of the benchmark is not that relevant; compare the
+ * tailHits/tailMisses ratio between the two modes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CachePolicySimulationBenchmark {
+    private static final int BLOCK_SIZE = 4096;
+    private static final long CACHE_SIZE = 16 * 1024 * 1024;
+    private static final int HOT_BLOCK_COUNT = 2048;
+    private static final int READS_PER_GENERATION = 1000;
+    private static final long SCAN_KEY_BASE = 1L << 40;
+
+    @Param({"GENERATIONAL", "SCAN_RESISTANT"})
+    private CachePolicy.Mode mode;
+
+    /**
+     * The number of scan reads for each tail read.
+     */
+    @Param({"1", "4"})
+    private int scanRatio;
+
+    private ScheduledExecutorService executor;
+    private CacheManager cacheManager;
+    private SimulatedClient client;
+    private Random random;
+    private long nextScanKey;
+    private int readCount;
+
+    /**
+     * Tail reader hit/miss counters.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long tailHits;
+        public long tailMisses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.tailHits = 0;
+            this.tailMisses = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.executor = Executors.newSingleThreadScheduledExecutor();
+        CachePolicy policy = new CachePolicy(CACHE_SIZE, CachePolicy.DEFAULT_TARGET_UTILIZATION, CachePolicy.DEFAULT_MAX_UTILIZATION,
+                Duration.ofHours(1), Duration.ofSeconds(1), this.mode);
+        this.cacheManager = new CacheManager(policy, new DirectMemoryCache(CACHE_SIZE), this.executor);
+        this.client = new SimulatedClient(this.cacheManager.getCacheStorage(), this.cacheManager.getAdmissionPolicy());
+        this.cacheManager.register(this.client);
+        this.random = new Random(0);
+        this.nextScanKey = SCAN_KEY_BASE;
+        this.readCount = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.cacheManager.unregister(this.client);
+        this.client.clear();
+        this.cacheManager.close();
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Executes one tail read and {@link #scanRatio} scan reads.
+     *
+     * @param counters The {@link Counters} to record tail read hits and misses to.
+     */
+    @Benchmark
+    public void replay(Counters counters) {
+        // Skew the tail reads towards the lower keys.
+        double r = this.random.nextDouble();
+        long tailKey = (long) (HOT_BLOCK_COUNT * r * r);
+        if (this.client.read(tailKey)) {
+            counters.tailHits++;
+        } else {
+            counters.tailMisses++;
+        }
+
+        for (int i = 0; i < this.scanRatio; i++) {
+            this.client.read(this.nextScanKey++);
+        }
+
+        if (++this.readCount % READS_PER_GENERATION == 0) {
+            this.cacheManager.applyCachePolicy();
+        }
+    }
+
+    //region SimulatedClient
+
+    /**
+     * {@link CacheManager.Client} that stores one cache entry per block, similarly to the Read Index.
+     */
+    private static class SimulatedClient implements CacheManager.Client {
+        private final CacheStorage cacheStorage;
+        private final CacheAdmissionPolicy admissionPolicy;
+        private final ByteArraySegment blockData;
+        private final HashMap<Long, Entry> entries;
+        private int currentGeneration;
+        private int oldestGeneration;
+
+        SimulatedClient(CacheStorage cacheStorage, CacheAdmissionPolicy admissionPolicy) {
+            this.cacheStorage = cacheStorage;
+            this.admissionPolicy = admissionPolicy;
+            this.blockData = new ByteArraySegment(new byte[BLOCK_SIZE]);
+            this.entries = new HashMap<>();
+        }
+
+        /**
+         * Reads the given block.
+         *
+         * @param key The block to read.
+         * @return True if this was a cache hit, false otherwise.
+         */
+        boolean read(long key) {
+            this.admissionPolicy.recordAccess(key);
+            Entry e = this.entries.get(key);
+            if (e != null) {
+                e.generation = this.currentGeneration;
+                return true;
+            }
+
+            switch (this.admissionPolicy.admit(key)) {
+                case ADMIT:
+                    insert(key, this.currentGeneration);
+                    break;
+                case PROBATION:
+                    insert(key, this.oldestGeneration);
+                    break;
+                default:
+                    break;
+            }
+
+            return false;
+        }
+
+        void clear() {
+            this.entries.values().forEach(e -> this.cacheStorage.delete(e.address));
+            this.entries.clear();
+        }
+
+        private void insert(long key, int generation) {
+            try {
+                int address = this.cacheStorage.insert(this.blockData);
+                this.entries.put(key, new Entry(address, generation));
+            } catch (CacheFullException ex) {
+                // Same as the Read Index: nothing to do if we can't insert Storage read data into the cache.
+            }
+        }
+
+        @Override
+        public CacheManager.CacheStatus getCacheStatus() {
+            return CacheManager.CacheStatus.fromGenerations(this.entries.values().stream().map(e -> e.generation).iterator());
+        }
+
+        @Override
+        public boolean updateGenerations(int currentGeneration, int oldestGeneration) {
+            this.currentGeneration = currentGeneration;
+            this.oldestGeneration = oldestGeneration;
+            ArrayList<Long> toRemove = new ArrayList<>();
+            this.entries.forEach((key, e) -> {
+                if (e.generation < oldestGeneration) {
+                    toRemove.add(key);
+                }
+            });
+
+            toRemove.forEach(key -> this.cacheStorage.delete(this.entries.remove(key).address));
+            return !toRemove.isEmpty();
+        }
+
+        private static class Entry {
+            final int address;
+            int generation;
+
+            Entry(int address, int generation) {
+                this.address = address;
+                this.generation = generation;
+            }
+        }
+    }
+
+    //endregion
+}
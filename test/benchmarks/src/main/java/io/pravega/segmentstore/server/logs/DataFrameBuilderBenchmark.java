@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.server.logs.operations.Operation;
+import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
+import io.pravega.segmentstore.storage.DurableDataLog;
+import io.pravega.segmentstore.storage.LogAddress;
+import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of serializing {@link StreamSegmentAppendOperation}s into DataFrames using a {@link DataFrameBuilder}
+ * and committing them to an in-memory {@link DurableDataLog}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DataFrameBuilderBenchmark {
+    private static final int CONTAINER_ID = 1;
+    private static final long SEGMENT_ID = 1;
+    private static final int OPERATIONS_PER_INVOCATION = 1000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"100", "1024", "10240"})
+    private int appendLength;
+
+    private final Object commitLock = new Object();
+    @GuardedBy("commitLock")
+    private long lastCommittedSequenceNumber;
+    @GuardedBy("commitLock")
+    private LogAddress lastCommittedAddress;
+    @GuardedBy("commitLock")
+    private Throwable commitFailure;
+    private ScheduledExecutorService executor;
+    private InMemoryDurableDataLogFactory dataLogFactory;
+    private DurableDataLog dataLog;
+    private DataFrameBuilder<Operation> builder;
+    private ByteArraySegment appendData;
+    private long sequenceNumber;
+    private long segmentOffset;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "dataframe-benchmark");
+        this.dataLogFactory = new InMemoryDurableDataLogFactory(this.executor);
+        this.dataLog = this.dataLogFactory.createDurableDataLog(CONTAINER_ID);
+        this.dataLog.initialize(TIMEOUT);
+
+        byte[] data = new byte[this.appendLength];
+        new Random(0).nextBytes(data);
+        this.appendData = new ByteArraySegment(data);
+
+        val args = new DataFrameBuilder.Args(a -> { }, this::commitSuccess, this::commitFailure, this.executor);
+        this.builder = new DataFrameBuilder<>(this.dataLog, OperationSerializer.DEFAULT, args);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.builder.close();
+        this.dataLog.close();
+        this.dataLogFactory.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Serializes a batch of appends, flushes the builder and waits for all resulting DataFrames to be committed. The
+     * DurableDataLog is truncated afterwards so that memory usage does not grow with the number of invocations.
+     *
+     * @throws Exception If an exception occurred.
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+    public void append() throws Exception {
+        for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+            val op = new StreamSegmentAppendOperation(SEGMENT_ID, this.segmentOffset, this.appendData, null);
+            op.setSequenceNumber(++this.sequenceNumber);
+            this.segmentOffset += this.appendLength;
+            this.builder.append(op);
+        }
+
+        this.builder.flush();
+        LogAddress truncationAddress = awaitCommit(this.sequenceNumber);
+        this.dataLog.truncate(truncationAddress, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private LogAddress awaitCommit(long sequenceNumber) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        synchronized (this.commitLock) {
+            while (this.lastCommittedSequenceNumber < sequenceNumber) {
+                if (this.commitFailure != null) {
+                    throw new Exception("DataFrame commit failed.", this.commitFailure);
+                }
+
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    throw new TimeoutException("Timed out waiting for DataFrame commit.");
+                }
+
+                this.commitLock.wait(remainingMillis);
+            }
+
+            return this.lastCommittedAddress;
+        }
+    }
+
+    private void commitSuccess(DataFrameBuilder.CommitArgs commitArgs) {
+        synchronized (this.commitLock) {
+            // Commit callbacks are invoked asynchronously, so they may arrive out of order.
+            if (commitArgs.getLastFullySerializedSequenceNumber() > this.lastCommittedSequenceNumber) {
+                this.lastCommittedSequenceNumber = commitArgs.getLastFullySerializedSequenceNumber();
+                this.lastCommittedAddress = commitArgs.getLogAddress();
+            }
+
+            this.commitLock.notifyAll();
+        }
+    }
+
+    private void commitFailure(Throwable ex, DataFrameBuilder.CommitArgs commitArgs) {
+        synchronized (this.commitLock) {
+            this.commitFailure = ex;
+            this.commitLock.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.server.logs.operations.Operation;
+import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
+import io.pravega.segmentstore.storage.DurableDataLog;
+import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of deserializing {@link Operation}s from DataFrames using a {@link DataFrameReader}. This is
+ * the same code path that is exercised during container recovery.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DataFrameReaderBenchmark {
+    private static final int CONTAINER_ID = 1;
+    private static final long SEGMENT_ID = 1;
+    private static final int OPERATION_COUNT = 10000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"100", "1024", "10240"})
+    private int appendLength;
+
+    private ScheduledExecutorService executor;
+    private InMemoryDurableDataLogFactory dataLogFactory;
+    private DurableDataLog dataLog;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "dataframe-benchmark");
+        this.dataLogFactory = new InMemoryDurableDataLogFactory(this.executor);
+        this.dataLog = this.dataLogFactory.createDurableDataLog(CONTAINER_ID);
+        this.dataLog.initialize(TIMEOUT);
+
+        byte[] data = new byte[this.appendLength];
+        new Random(0).nextBytes(data);
+        val appendData = new ByteArraySegment(data);
+
+        // Populate the DurableDataLog with DataFrames. We only need to wait for the last one to be committed.
+        val lastCommit = new CompletableFuture<Void>();
+        val args = new DataFrameBuilder.Args(a -> { },
+                a -> {
+                    if (a.getLastFullySerializedSequenceNumber() >= OPERATION_COUNT) {
+                        lastCommit.complete(null);
+                    }
+                },
+                (ex, a) -> lastCommit.completeExceptionally(ex),
+                this.executor);
+        try (val builder = new DataFrameBuilder<Operation>(this.dataLog, OperationSerializer.DEFAULT, args)) {
+            for (int i = 1; i <= OPERATION_COUNT; i++) {
+                val op = new StreamSegmentAppendOperation(SEGMENT_ID, (long) (i - 1) * this.appendLength, appendData, null);
+                op.setSequenceNumber(i);
+                builder.append(op);
+            }
+
+            builder.flush();
+            lastCommit.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.dataLog.close();
+        this.dataLogFactory.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Reads and deserializes all the Operations in the DurableDataLog.
+     *
+     * @param blackhole A {@link Blackhole} to consume the deserialized Operations.
+     * @throws Exception If an exception occurred.
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPERATION_COUNT)
+    public void read(Blackhole blackhole) throws Exception {
+        try (val reader = new DataFrameReader<Operation>(this.dataLog, OperationSerializer.DEFAULT, CONTAINER_ID)) {
+            DataFrameRecord<Operation> record;
+            while ((record = reader.getNext()) != null) {
+                blackhole.consume(record.getItem());
+            }
+        }
+    }
+}
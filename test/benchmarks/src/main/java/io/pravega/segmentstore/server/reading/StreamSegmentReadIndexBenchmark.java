@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.reading;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.ReadResult;
+import io.pravega.segmentstore.server.UpdateableSegmentMetadata;
+import io.pravega.segmentstore.server.containers.StreamSegmentMetadata;
+import io.pravega.segmentstore.storage.Storage;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.mocks.InMemoryMetadataStore;
+import io.pravega.segmentstore.storage.mocks.InMemorySimpleStorageFactory;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link StreamSegmentReadIndex#read}, both for data that is already cached (tail reads) and
+ * for data that needs to be fetched from Storage (catch-up reads). Storage is backed by an in-memory ChunkStorage.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StreamSegmentReadIndexBenchmark {
+    private static final int CONTAINER_ID = 1;
+    private static final long SEGMENT_ID = 1;
+    private static final String SEGMENT_NAME = "Segment";
+    private static final int SEGMENT_LENGTH = 64 * 1024 * 1024;
+    private static final int APPEND_LENGTH = 1024;
+    private static final long MAX_CACHE_SIZE = 1024 * 1024 * 1024;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"1024", "65536", "1048576"})
+    private int readLength;
+
+    @Param({"AVL_TREE", "SLAB"})
+    private ReadIndexConfig.IndexType indexType;
+
+    private ReadIndexConfig config;
+    private ScheduledExecutorService executor;
+    private DirectMemoryCache cache;
+    private Storage storage;
+    private UpdateableSegmentMetadata metadata;
+    private StreamSegmentReadIndex cachedIndex;
+    private ByteBuffer readBuffer;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.config = ReadIndexConfig.builder().with(ReadIndexConfig.INDEX_TYPE, this.indexType).build();
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(4, "readindex-benchmark");
+        this.cache = new DirectMemoryCache(MAX_CACHE_SIZE);
+        this.storage = new InMemorySimpleStorageFactory(this.executor, false)
+                .createStorageAdapter(CONTAINER_ID, new InMemoryMetadataStore(this.executor));
+        this.metadata = new StreamSegmentMetadata(SEGMENT_NAME, SEGMENT_ID, CONTAINER_ID);
+        this.metadata.setLength(SEGMENT_LENGTH);
+        this.metadata.setStorageLength(SEGMENT_LENGTH);
+        this.readBuffer = ByteBuffer.allocate(this.readLength);
+        this.random = new Random(0);
+
+        // Write the same data both to Storage and to the cached Read Index.
+        byte[] contents = new byte[SEGMENT_LENGTH];
+        this.random.nextBytes(contents);
+        val handle = this.storage.create(SEGMENT_NAME, TIMEOUT).join();
+        this.storage.write(handle, 0, new ByteArraySegment(contents).getReader(), contents.length, TIMEOUT).join();
+
+        this.cachedIndex = new StreamSegmentReadIndex(this.config, this.metadata, this.cache, this.storage, this.executor, false);
+        for (int offset = 0; offset < SEGMENT_LENGTH; offset += APPEND_LENGTH) {
+            this.cachedIndex.append(offset, new ByteArraySegment(contents, offset, APPEND_LENGTH));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.cachedIndex.close();
+        this.storage.close();
+        this.cache.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Reads data that is entirely cached.
+     *
+     * @return The number of bytes read.
+     */
+    @Benchmark
+    public int readFromCache() {
+        return readFully(this.cachedIndex);
+    }
+
+    /**
+     * Reads data that is not cached using a new (empty) Read Index, which requires the data to be fetched from Storage
+     * and inserted into the cache.
+     *
+     * @return The number of bytes read.
+     */
+    @Benchmark
+    public int readFromStorage() {
+        val index = new StreamSegmentReadIndex(this.config, this.metadata, this.cache, this.storage, this.executor, false);
+        try {
+            return readFully(index);
+        } finally {
+            // Clean up the cache entries this index created.
+            index.close();
+        }
+    }
+
+    private int readFully(StreamSegmentReadIndex index) {
+        long offset = (long) this.random.nextInt(SEGMENT_LENGTH / this.readLength) * this.readLength;
+        this.readBuffer.clear();
+        int bytesRead = 0;
+        try (ReadResult readResult = index.read(offset, this.readLength, TIMEOUT)) {
+            while (readResult.hasNext()) {
+                val entry = readResult.next();
+                entry.requestContent(TIMEOUT);
+                BufferView content = entry.getContent().join();
+                bytesRead += content.copyTo(this.readBuffer);
+            }
+        }
+
+        return bytesRead;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.TimeoutTimer;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.SegmentType;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
+import io.pravega.segmentstore.contracts.tables.TableKey;
+import io.pravega.segmentstore.server.CacheManager;
+import io.pravega.segmentstore.server.CachePolicy;
+import io.pravega.segmentstore.server.TableStoreMock;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link ContainerKeyIndex#getBucketOffsets} lookups, both for Keys that have been recently
+ * updated (and are cached) and for Keys that do not exist (which require an index lookup).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ContainerKeyIndexBenchmark {
+    private static final int CONTAINER_ID = 1;
+    private static final int KEY_LENGTH = 64;
+    private static final int UPDATE_BATCH_SIZE = 1000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final KeyHasher HASHER = KeyHasher.sha256();
+
+    @Param({"10000", "1000000"})
+    private int keyCount;
+
+    private ScheduledExecutorService executor;
+    private DirectMemoryCache cacheStorage;
+    private CacheManager cacheManager;
+    private SegmentMock segment;
+    private ContainerKeyIndex keyIndex;
+    private UUID[] existingHashes;
+    private UUID[] missingHashes;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "keyindex-benchmark");
+        this.cacheStorage = new DirectMemoryCache(Integer.MAX_VALUE);
+        this.cacheManager = new CacheManager(CachePolicy.INFINITE, this.cacheStorage, this.executor);
+        this.segment = new SegmentMock(this.executor);
+        this.segment.updateAttributes(TableAttributes.DEFAULT_VALUES);
+        val sortedKeyStorage = new TableStoreMock(this.executor);
+        sortedKeyStorage.createSegment(this.segment.getInfo().getName(), SegmentType.TABLE_SEGMENT_HASH, TIMEOUT).join();
+        val ds = new SortedKeyIndexDataSource(sortedKeyStorage::put, sortedKeyStorage::remove, sortedKeyStorage::get);
+        this.keyIndex = new ContainerKeyIndex(CONTAINER_ID, this.cacheManager, new ContainerSortedKeyIndex(ds, this.executor),
+                segmentInfo -> HASHER, this.executor);
+
+        this.random = new Random(0);
+        this.existingHashes = new UUID[this.keyCount];
+        this.missingHashes = new UUID[this.keyCount];
+        long offset = 0;
+        TableKeyBatch batch = TableKeyBatch.update();
+        for (int i = 0; i < this.keyCount; i++) {
+            val key = TableKey.unversioned(randomKey());
+            this.existingHashes[i] = HASHER.hash(key.getKey());
+            this.missingHashes[i] = HASHER.hash(randomKey());
+            batch.add(key, this.existingHashes[i], KEY_LENGTH);
+            if (batch.getItems().size() >= UPDATE_BATCH_SIZE || i == this.keyCount - 1) {
+                long batchOffset = offset;
+                this.keyIndex.update(this.segment, batch, () -> CompletableFuture.completedFuture(batchOffset), new TimeoutTimer(TIMEOUT)).join();
+                offset += batch.getLength();
+                batch = TableKeyBatch.update();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.keyIndex.close();
+        this.cacheManager.close();
+        this.cacheStorage.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Looks up the Bucket Offset for a Key that exists.
+     *
+     * @return The lookup result.
+     */
+    @Benchmark
+    public Map<UUID, Long> getExisting() {
+        return getBucketOffset(this.existingHashes);
+    }
+
+    /**
+     * Looks up the Bucket Offset for a Key that does not exist.
+     *
+     * @return The lookup result.
+     */
+    @Benchmark
+    public Map<UUID, Long> getMissing() {
+        return getBucketOffset(this.missingHashes);
+    }
+
+    private Map<UUID, Long> getBucketOffset(UUID[] hashes) {
+        val hash = hashes[this.random.nextInt(hashes.length)];
+        return this.keyIndex.getBucketOffsets(this.segment, Collections.singleton(hash), new TimeoutTimer(TIMEOUT)).join();
+    }
+
+    private ByteArraySegment randomKey() {
+        byte[] key = new byte[KEY_LENGTH];
+        this.random.nextBytes(key);
+        return new ByteArraySegment(key);
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.tables.TableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of serializing and parsing batches of Table Entries using {@link EntrySerializer}.
+ *
+ * The serialization benchmarks compare {@link EntrySerializer#serializeUpdate} (which does not copy Keys or Values) with
+ * copying the whole serialization into a single buffer. The cost of the latter grows with the size of the Values.
+ *
+ * The parsing benchmarks compare {@link EntrySerializer.EntryCursor} with {@link AsyncTableEntryReader#readEntryComponents}
+ * (which allocates a Header and a DeserializedEntry for every Table Entry). Run with "-prof gc" to get the number of
+ * bytes allocated per operation ("gc.alloc.rate.norm").
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EntrySerializerBenchmark {
+    @Param({"100"})
+    private int entryCount;
+    @Param({"64"})
+    private int keyLength;
+    @Param({"256", "8192"})
+    private int valueLength;
+
+    private EntrySerializer serializer;
+    private List<TableEntry> entries;
+    private BufferView serialization;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        val random = new Random(0);
+        this.serializer = new EntrySerializer();
+        this.entries = new ArrayList<>(this.entryCount);
+        for (int i = 0; i < this.entryCount; i++) {
+            val key = new byte[this.keyLength];
+            val value = new byte[this.valueLength];
+            random.nextBytes(key);
+            random.nextBytes(value);
+            this.entries.add(TableEntry.unversioned(new ByteArraySegment(key), new ByteArraySegment(value)));
+        }
+
+        this.serialization = this.serializer.serializeUpdate(this.entries);
+    }
+
+    /**
+     * Serializes a batch of Table Entries.
+     *
+     * @return The serialization.
+     */
+    @Benchmark
+    public BufferView serializeUpdate() {
+        return this.serializer.serializeUpdate(this.entries);
+    }
+
+    /**
+     * Serializes a batch of Table Entries and copies the result into a single buffer. This is equivalent to writing all
+     * headers, Keys and Values directly into a pre-sized buffer.
+     *
+     * @return The serialization.
+     */
+    @Benchmark
+    public BufferView serializeUpdateWithCopy() {
+        return new ByteArraySegment(this.serializer.serializeUpdate(this.entries).getCopy());
+    }
+
+    /**
+     * Parses the Keys out of a batch of serialized Table Entries using {@link AsyncTableEntryReader#readEntryComponents}.
+     *
+     * @return The sum of all Key versions.
+     */
+    @Benchmark
+    @SneakyThrows
+    public long readKeysWithEntryComponents() {
+        long result = 0;
+        long offset = 0;
+        val input = this.serialization.getBufferViewReader();
+        while (offset < this.serialization.getLength()) {
+            val e = AsyncTableEntryReader.readEntryComponents(input, offset, this.serializer);
+            result += e.getVersion();
+            offset += e.getHeader().getTotalLength();
+        }
+        return result;
+    }
+
+    /**
+     * Parses the Keys out of a batch of serialized Table Entries using {@link EntrySerializer.EntryCursor}.
+     *
+     * @return The sum of all Key versions.
+     */
+    @Benchmark
+    @SneakyThrows
+    public long readKeysWithCursor() {
+        return readWithCursor(false);
+    }
+
+    /**
+     * Parses the Keys and Values out of a batch of serialized Table Entries using {@link EntrySerializer.EntryCursor}.
+     *
+     * @return The sum of all Key versions.
+     */
+    @Benchmark
+    @SneakyThrows
+    public long readEntriesWithCursor() {
+        return readWithCursor(true);
+    }
+
+    private long readWithCursor(boolean readValues) throws Exception {
+        long result = 0;
+        val cursor = new EntrySerializer.EntryCursor(this.serialization.getBufferViewReader(), 0, readValues);
+        while (cursor.getNextOffset() < this.serialization.getLength()) {
+            cursor.readNext();
+            result += cursor.getVersion();
+        }
+        return result;
+    }
+}
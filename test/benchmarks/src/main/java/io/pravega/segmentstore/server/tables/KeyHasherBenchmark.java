@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.util.ByteArraySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-key cost of each {@link KeyHasher}.
+ *
+ * The Keys are similar to each other (a common prefix followed by a sequence number), which is what Table Segments
+ * used for metadata storage usually contain. When setting up each trial, the bucket distribution of the generated
+ * Key Hashes is logged: the Key Hashes are split into {@link #BUCKET_COUNT} buckets (based on their most significant
+ * bits) and the chi-squared statistic of the bucket sizes is reported (for a uniform distribution, this should be close
+ * to {@link #BUCKET_COUNT} - 1).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Slf4j
+public class KeyHasherBenchmark {
+    private static final int KEY_COUNT = 1024 * 1024;
+    private static final int BUCKET_COUNT = 1024;
+    private static final int BUCKET_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(BUCKET_COUNT);
+
+    @Param({"sha256", "murmur3"})
+    private String hasherName;
+
+    @Param({"16", "128", "1024"})
+    private int keyLength;
+
+    private KeyHasher hasher;
+    private ByteArraySegment[] keys;
+    private int nextKey;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.hasher = "murmur3".equals(this.hasherName) ? KeyHasher.murmur3() : KeyHasher.sha256();
+        this.keys = new ByteArraySegment[KEY_COUNT];
+        for (int i = 0; i < this.keys.length; i++) {
+            this.keys[i] = generateKey(i);
+        }
+
+        this.nextKey = 0;
+        reportDistribution();
+    }
+
+    /**
+     * Hashes a single Key.
+     *
+     * @return The Key Hash.
+     */
+    @Benchmark
+    public UUID hash() {
+        UUID result = this.hasher.hash(this.keys[this.nextKey]);
+        this.nextKey = (this.nextKey + 1) % this.keys.length;
+        return result;
+    }
+
+    private ByteArraySegment generateKey(int index) {
+        byte[] key = new byte[this.keyLength];
+        Arrays.fill(key, (byte) 'k');
+        byte[] suffix = Integer.toString(index).getBytes(StandardCharsets.US_ASCII);
+        int suffixLength = Math.min(suffix.length, key.length);
+        System.arraycopy(suffix, suffix.length - suffixLength, key, key.length - suffixLength, suffixLength);
+        return new ByteArraySegment(key);
+    }
+
+    private void reportDistribution() {
+        int[] buckets = new int[BUCKET_COUNT];
+        for (ByteArraySegment key : this.keys) {
+            buckets[(int) (this.hasher.hash(key).getMostSignificantBits() >>> BUCKET_SHIFT)]++;
+        }
+
+        double expected = (double) KEY_COUNT / BUCKET_COUNT;
+        double chiSquared = 0;
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (int count : buckets) {
+            chiSquared += (count - expected) * (count - expected) / expected;
+            min = Math.min(min, count);
+            max = Math.max(max, count);
+        }
+
+        log.info("{} (KeyLength={}): Buckets={}, Expected={}, Min={}, Max={}, ChiSquared={}.", this.hasherName, this.keyLength,
+                BUCKET_COUNT, String.format("%.1f", expected), min, max, String.format("%.1f", chiSquared));
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.BufferViewComparator;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.Attributes;
+import io.pravega.segmentstore.contracts.SegmentProperties;
+import io.pravega.segmentstore.contracts.SegmentType;
+import io.pravega.segmentstore.contracts.StreamSegmentInformation;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
+import io.pravega.segmentstore.server.TableStoreMock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of scanning a contiguous range of keys (by default 1% of a 10M-key Sorted Table Segment) when the
+ * range is pushed down to the {@link SegmentSortedKeyIndex} versus iterating over all keys and filtering them afterwards
+ * (which is what clients had to do before range iterators were available).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class SortedKeyIndexScanBenchmark {
+    private static final long SEGMENT_ID = 1L;
+    private static final SegmentProperties SORTED_INFO = StreamSegmentInformation.builder().name("SortedKeyIndexScanBenchmark")
+            .attributes(Collections.singletonMap(TableAttributes.SORTED, Attributes.BOOLEAN_TRUE)).build();
+    private static final int UPDATE_BATCH_SIZE = 10000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(120);
+    private static final BufferViewComparator COMPARATOR = BufferViewComparator.create();
+
+    @Param({"10000000"})
+    private int keyCount;
+    @Param({"0.01"})
+    private double scanFraction;
+
+    private ScheduledExecutorService executor;
+    private SegmentSortedKeyIndex index;
+    private Random random;
+    private int scanKeyCount;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "sorted-scan-benchmark");
+        val store = new TableStoreMock(this.executor);
+        store.createSegment(SORTED_INFO.getName(), SegmentType.TABLE_SEGMENT_HASH, TIMEOUT).join();
+        val ds = new SortedKeyIndexDataSource(store::put, store::remove, store::get);
+        this.index = new ContainerSortedKeyIndex(ds, this.executor).getSortedKeyIndex(SEGMENT_ID, SORTED_INFO);
+        this.random = new Random(0);
+        this.scanKeyCount = Math.max(1, (int) (this.keyCount * this.scanFraction));
+
+        // Keys are the big-endian representations of consecutive integers, so their bitwise order matches their numeric
+        // order and we can easily compute the bounds of a range. ContainerTableExtensionImpl translates all keys before
+        // passing them to the index, so we do the same here.
+        long offset = 0;
+        BucketUpdate.Builder update = BucketUpdate.forBucket(new TableBucket(UUID.randomUUID(), offset));
+        int batchCount = 0;
+        for (int i = 0; i < this.keyCount; i++) {
+            update.withKeyUpdate(new BucketUpdate.KeyUpdate(getKey(i), offset, offset, false));
+            offset += Integer.BYTES;
+            if (++batchCount >= UPDATE_BATCH_SIZE || i == this.keyCount - 1) {
+                this.index.persistUpdate(Collections.singleton(update.build()), TIMEOUT).join();
+                update = BucketUpdate.forBucket(new TableBucket(UUID.randomUUID(), offset));
+                batchCount = 0;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Scans a random range of keys by pushing the range bounds down to the {@link SegmentSortedKeyIndex}.
+     *
+     * @return The number of keys scanned.
+     */
+    @Benchmark
+    public int rangeScan() {
+        int fromId = this.random.nextInt(this.keyCount - this.scanKeyCount + 1);
+        val range = this.index.getIteratorRange(getKey(fromId), true, getKey(fromId + this.scanKeyCount), null);
+        return count(range, null, null);
+    }
+
+    /**
+     * Scans a random range of keys by iterating through all the keys in the index and discarding those outside of it.
+     *
+     * @return The number of keys scanned.
+     */
+    @Benchmark
+    public int fullScanAndFilter() {
+        int fromId = this.random.nextInt(this.keyCount - this.scanKeyCount + 1);
+        return count(this.index.getIteratorRange(null, null), getKey(fromId), getKey(fromId + this.scanKeyCount));
+    }
+
+    private int count(SegmentSortedKeyIndex.IteratorRange range, BufferView filterFrom, BufferView filterTo) {
+        val count = new AtomicInteger();
+        this.index.iterator(range, TIMEOUT)
+                .forEachRemaining(keys -> count.addAndGet(countInRange(keys, filterFrom, filterTo)), this.executor)
+                .join();
+        return count.get();
+    }
+
+    private int countInRange(List<BufferView> keys, BufferView filterFrom, BufferView filterTo) {
+        if (filterFrom == null) {
+            return keys.size();
+        }
+
+        int result = 0;
+        for (val key : keys) {
+            if (COMPARATOR.compare(key, filterFrom) >= 0 && COMPARATOR.compare(key, filterTo) < 0) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private static BufferView getKey(int id) {
+        val key = new ByteArraySegment(new byte[Integer.BYTES]);
+        key.setInt(0, id);
+        return SortedKeyIndexDataSource.EXTERNAL_TRANSLATOR.inbound(key);
+    }
+}
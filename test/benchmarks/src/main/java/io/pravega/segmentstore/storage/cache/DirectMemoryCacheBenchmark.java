@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.util.ByteArraySegment;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link DirectMemoryCache#insert}, {@link DirectMemoryCache#get} and
+ * {@link DirectMemoryCache#append}. A fixed number of live entries is maintained at all times (older entries are deleted
+ * as new ones are inserted) so that the cache utilization remains stable throughout the benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DirectMemoryCacheBenchmark {
+    private static final long MAX_CACHE_SIZE = 1024 * 1024 * 1024;
+    private static final int LIVE_ENTRY_COUNT = 4096;
+
+    @Param({"100", "1024", "32768"})
+    private int entryLength;
+
+    private DirectMemoryCache cache;
+    private ByteArraySegment data;
+    private ByteBuffer readBuffer;
+    private int[] addresses;
+    private int nextIndex;
+    private int tailAddress;
+    private int tailLength;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.cache = new DirectMemoryCache(MAX_CACHE_SIZE);
+        byte[] contents = new byte[this.entryLength];
+        new Random(0).nextBytes(contents);
+        this.data = new ByteArraySegment(contents);
+        this.readBuffer = ByteBuffer.allocate(this.entryLength);
+        this.addresses = new int[LIVE_ENTRY_COUNT];
+        for (int i = 0; i < this.addresses.length; i++) {
+            this.addresses[i] = this.cache.insert(this.data);
+        }
+
+        this.tailAddress = this.cache.insert(this.data);
+        this.tailLength = this.entryLength;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.cache.close();
+    }
+
+    /**
+     * Inserts a new entry, replacing (deleting) the oldest live entry.
+     *
+     * @return The address of the new entry.
+     */
+    @Benchmark
+    public int insert() {
+        int index = nextIndex();
+        this.cache.delete(this.addresses[index]);
+        this.addresses[index] = this.cache.insert(this.data);
+        return this.addresses[index];
+    }
+
+    /**
+     * Reads a live entry and copies its contents out of the cache.
+     *
+     * @return The number of bytes read.
+     */
+    @Benchmark
+    public int get() {
+        this.readBuffer.clear();
+        return this.cache.get(this.addresses[nextIndex()]).copyTo(this.readBuffer);
+    }
+
+    /**
+     * Appends to the current tail entry, similarly to how the Read Index appends to its last cache entry. If the tail
+     * entry cannot accommodate the append, a new entry is inserted to replace it.
+     *
+     * @return The length of the tail entry after the append.
+     */
+    @Benchmark
+    public int append() {
+        if (this.cache.getAppendableLength(this.tailLength) >= this.entryLength) {
+            this.tailLength += this.cache.append(this.tailAddress, this.tailLength, this.data);
+        } else {
+            this.cache.delete(this.tailAddress);
+            this.tailAddress = this.cache.insert(this.data);
+            this.tailLength = this.entryLength;
+        }
+
+        return this.tailLength;
+    }
+
+    private int nextIndex() {
+        int index = this.nextIndex;
+        this.nextIndex = (this.nextIndex + 1) % this.addresses.length;
+        return index;
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.metadata;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.segmentstore.storage.mocks.InMemoryMetadataStore;
+import io.pravega.segmentstore.storage.mocks.MockStorageMetadata;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of concurrent {@link MetadataTransaction} commits and reads against a shared
+ * {@link BaseMetadataStore}. Every benchmark thread uses its own key, which mimics many Segments being flushed in parallel
+ * by the same Segment Container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class MetadataTransactionBenchmark {
+    private final AtomicInteger nextKeyId = new AtomicInteger();
+    private ScheduledExecutorService executor;
+    private BaseMetadataStore metadataStore;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(), "metadata-benchmark");
+        this.metadataStore = new InMemoryMetadataStore(this.executor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.metadataStore.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Updates the key owned by the current thread and commits the transaction.
+     *
+     * @param key The key owned by the current thread.
+     */
+    @Benchmark
+    public void commit(ThreadKey key) {
+        try (val txn = this.metadataStore.beginTransaction(false, key.name)) {
+            txn.update(new MockStorageMetadata(key.name, Integer.toString(key.nextValue++)));
+            txn.commit().join();
+        }
+    }
+
+    /**
+     * Reads the key owned by the current thread using a read only transaction.
+     *
+     * @param key The key owned by the current thread.
+     * @return The metadata that was read.
+     */
+    @Benchmark
+    public StorageMetadata readOnlyGet(ThreadKey key) {
+        try (val txn = this.metadataStore.beginTransaction(true, key.name)) {
+            return txn.get(key.name).join();
+        }
+    }
+
+    /**
+     * Key owned by a single benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadKey {
+        private String name;
+        private int nextValue;
+
+        @Setup(Level.Trial)
+        public void setup(MetadataTransactionBenchmark benchmark) {
+            this.name = "segment" + benchmark.nextKeyId.getAndIncrement();
+            try (val txn = benchmark.metadataStore.beginTransaction(false, this.name)) {
+                txn.create(new MockStorageMetadata(this.name, Integer.toString(this.nextValue++)));
+                txn.commit().join();
+            }
+        }
+    }
+}
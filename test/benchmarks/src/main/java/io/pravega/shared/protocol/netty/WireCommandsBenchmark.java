@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.shared.protocol.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of encoding and decoding {@link WireCommands} that are on the Segment Store's hot paths:
+ * {@link WireCommands.SegmentRead} (read replies) and {@link WireCommands.UpdateTableEntries} (table updates).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WireCommandsBenchmark {
+    private static final String SEGMENT_NAME = "scope/stream/0.#epoch.0";
+    private static final int TABLE_ENTRY_COUNT = 10;
+    private static final int TABLE_KEY_LENGTH = 64;
+
+    @Param({"1024", "65536"})
+    private int payloadLength;
+
+    private WireCommands.SegmentRead segmentRead;
+    private WireCommands.UpdateTableEntries updateTableEntries;
+    private ByteBuf encodedSegmentRead;
+    private ByteBuf encodedUpdateTableEntries;
+    private ByteBuf target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        val random = new Random(0);
+        this.segmentRead = new WireCommands.SegmentRead(SEGMENT_NAME, 0, true, false, randomBuffer(this.payloadLength, random), 1L);
+
+        val entries = new ArrayList<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>>();
+        int valueLength = Math.max(1, this.payloadLength / TABLE_ENTRY_COUNT);
+        for (int i = 0; i < TABLE_ENTRY_COUNT; i++) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(
+                    new WireCommands.TableKey(randomBuffer(TABLE_KEY_LENGTH, random), WireCommands.TableKey.NO_VERSION),
+                    new WireCommands.TableValue(randomBuffer(valueLength, random))));
+        }
+        this.updateTableEntries = new WireCommands.UpdateTableEntries(1L, SEGMENT_NAME, "", new WireCommands.TableEntries(entries), -1L);
+
+        this.encodedSegmentRead = Unpooled.buffer();
+        CommandEncoder.writeMessage(this.segmentRead, this.encodedSegmentRead);
+        this.encodedUpdateTableEntries = Unpooled.buffer();
+        CommandEncoder.writeMessage(this.updateTableEntries, this.encodedUpdateTableEntries);
+        this.target = PooledByteBufAllocator.DEFAULT.buffer(2 * this.payloadLength + 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.target.release();
+    }
+
+    @Benchmark
+    public int encodeSegmentRead() {
+        return encode(this.segmentRead);
+    }
+
+    @Benchmark
+    public WireCommand decodeSegmentRead() throws IOException {
+        return decode(this.encodedSegmentRead);
+    }
+
+    @Benchmark
+    public int encodeUpdateTableEntries() {
+        return encode(this.updateTableEntries);
+    }
+
+    @Benchmark
+    public WireCommand decodeUpdateTableEntries() throws IOException {
+        return decode(this.encodedUpdateTableEntries);
+    }
+
+    private int encode(WireCommand command) {
+        this.target.clear();
+        return CommandEncoder.writeMessage(command, this.target);
+    }
+
+    private WireCommand decode(ByteBuf encoded) throws IOException {
+        encoded.readerIndex(0);
+        WireCommand command = CommandDecoder.parseCommand(encoded);
+        if (command instanceof WireCommands.ReleasableCommand) {
+            ((WireCommands.ReleasableCommand) command).release();
+        }
+
+        return command;
+    }
+
+    private ByteBuf randomBuffer(int length, Random random) {
+        byte[] data = new byte[length];
+        random.nextBytes(data);
+        return Unpooled.wrappedBuffer(data);
+    }
+}
@@ -300,6 +300,11 @@ public class AppendProcessorAdapter extends StoreAdapter {
 
         @Override
         public void send(WireCommand cmd) {
+            if (cmd instanceof WireCommands.ReleasableCommand) {
+                // We do not send anything over the wire, so we are done with this command. Release it right away.
+                ((WireCommands.ReleasableCommand) cmd).release();
+            }
+
             testExecutor.execute(() -> {
                 if (cmd instanceof WireCommands.DataAppended) {
                     val ack = (WireCommands.DataAppended) cmd;
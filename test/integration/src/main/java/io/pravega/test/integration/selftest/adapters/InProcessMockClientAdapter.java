@@ -307,6 +307,11 @@ class InProcessMockClientAdapter extends ClientAdapterBase {
             throw new UnsupportedOperationException("remove");
         }
 
+        @Override
+        public CompletableFuture<List<Long>> update(String segmentName, List<TableEntry> entries, Collection<TableKey> keys, Duration timeout) {
+            throw new UnsupportedOperationException("update");
+        }
+
         @Override
         public CompletableFuture<List<TableEntry>> get(String segmentName, List<BufferView> keys, Duration timeout) {
             throw new UnsupportedOperationException("get");